@@ -0,0 +1,11 @@
+package com.devmode.shop.domain.product.application.dto.response;
+
+/**
+ * 기간 내 최저가 응답
+ */
+public record LowestPriceResponse(
+    String productId,
+    Integer days,
+    Long lowestPrice
+) {
+}
@@ -0,0 +1,37 @@
+package com.devmode.shop.domain.product.application.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품 가격 이력 응답
+ * resolution 이 raw 이면 관측값 그대로, hourly/daily 이면 버킷별 min/max/avg 를 담는다.
+ */
+public record PriceHistoryResponse(
+    String productId,
+    String resolution,
+    LocalDateTime from,
+    LocalDateTime to,
+    Long lowestPrice,
+    Long highestPrice,
+    List<PricePoint> points
+) {
+    public record PricePoint(
+        LocalDateTime time,
+        Long minPrice,
+        Long maxPrice,
+        Long avgPrice,
+        Long sampleCount
+    ) {
+        public static PricePoint ofSample(LocalDateTime time, long price) {
+            return new PricePoint(time, price, price, price, 1L);
+        }
+    }
+
+    public static PriceHistoryResponse of(String productId, String resolution,
+                                          LocalDateTime from, LocalDateTime to, List<PricePoint> points) {
+        Long lowest = points.stream().map(PricePoint::minPrice).min(Long::compare).orElse(null);
+        Long highest = points.stream().map(PricePoint::maxPrice).max(Long::compare).orElse(null);
+        return new PriceHistoryResponse(productId, resolution, from, to, lowest, highest, points);
+    }
+}
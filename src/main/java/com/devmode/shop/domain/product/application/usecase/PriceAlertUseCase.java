@@ -0,0 +1,119 @@
+package com.devmode.shop.domain.product.application.usecase;
+
+import com.devmode.shop.domain.product.domain.entity.Product;
+import com.devmode.shop.domain.product.domain.service.PriceAlertCursorService;
+import com.devmode.shop.domain.product.domain.service.PriceAlertService;
+import com.devmode.shop.domain.product.domain.service.ProductPriceRefreshService;
+import com.devmode.shop.domain.product.domain.service.ProductPriceRefreshService.PriceRefreshResult;
+import com.devmode.shop.global.config.properties.PriceAlertProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 즐겨찾기 가격 알림 배치
+ * 알림 대상 상품을 ID 순으로 나누어 가격을 갱신하므로, 작업량은 즐겨찾기 수가 아닌 상품 수에 비례한다.
+ * 예산 소진으로 멈추면 가격을 갱신하지 못한 첫 상품 바로 앞 ID를 저장해 두고 다음 실행에서 그 상품부터 이어서 평가하며, 끝에 도달하면 처음으로 돌아가
+ * 시작 위치까지 한 바퀴를 채운다. 따라서 상품 수가 예산보다 많아도 뒤쪽 상품이 매번 빠지지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceAlertUseCase {
+
+    private final PriceAlertService priceAlertService;
+    private final PriceAlertCursorService priceAlertCursorService;
+    private final ProductPriceRefreshService priceRefreshService;
+    private final PriceAlertProperties priceAlertProperties;
+
+    @Scheduled(cron = "${price-alert.cron:0 0 */3 * * *}")
+    public void runScheduledEvaluation() {
+        if (!priceAlertProperties.isEnabled()) {
+            return;
+        }
+        evaluateAll();
+    }
+
+    public PriceAlertRunResult evaluateAll() {
+        long startTime = System.currentTimeMillis();
+        int remainingCalls = priceAlertProperties.getMaxApiCallsPerRun();
+        int productCount = 0;
+        int apiCallCount = 0;
+        int alertCount = 0;
+        long startProductId = priceAlertCursorService.getLastProductId();
+        long lastProductId = startProductId;
+        boolean wrapped = startProductId == 0L;
+        boolean finished = false;
+
+        while (remainingCalls > 0) {
+            List<Long> productIds = priceAlertService.findAlertTargetProductIds(lastProductId, priceAlertProperties.getProductBatchSize());
+            if (wrapped && startProductId > 0L) {
+                productIds = productIds.stream().filter(id -> id <= startProductId).toList();
+            }
+            if (productIds.isEmpty()) {
+                if (wrapped) {
+                    finished = true;
+                    break;
+                }
+                wrapped = true;
+                lastProductId = 0L;
+                continue;
+            }
+            List<Product> products = priceAlertService.findProducts(productIds);
+            PriceRefreshResult refreshResult = priceRefreshService.refreshPrices(products, remainingCalls);
+            alertCount += priceAlertService.applyPriceChanges(refreshResult.prices());
+
+            Set<Long> pendingProductIds = products.stream()
+                .map(Product::getId)
+                .filter(id -> !refreshResult.refreshedProductIds().contains(id))
+                .collect(Collectors.toSet());
+            productCount += products.size() - pendingProductIds.size();
+            apiCallCount += refreshResult.apiCallCount();
+            remainingCalls -= refreshResult.apiCallCount();
+            lastProductId = resumeCursor(productIds, pendingProductIds, lastProductId);
+
+            if (refreshResult.budgetExhausted()) {
+                log.warn("[PriceAlert] API budget exhausted. Stopped after product id: {}", lastProductId);
+                break;
+            }
+        }
+
+        if (finished) {
+            priceAlertCursorService.reset();
+        } else {
+            priceAlertCursorService.saveLastProductId(lastProductId);
+        }
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        log.info("[PriceAlert] Evaluation finished. products: {}, apiCalls: {}, alerts: {}, elapsed: {}ms",
+                productCount, apiCallCount, alertCount, elapsed);
+        return new PriceAlertRunResult(productCount, apiCallCount, alertCount, elapsed);
+    }
+
+    /**
+     * 갱신하지 못한 첫 상품 바로 앞 ID까지만 진행한 것으로 본다 (다음 실행에서 그 상품부터 다시 평가)
+     * 모두 갱신했으면 배치의 마지막 ID, 첫 상품부터 갱신하지 못했으면 이전 위치를 그대로 유지
+     */
+    private static long resumeCursor(List<Long> productIds, Set<Long> pendingProductIds, long previousCursor) {
+        long cursor = previousCursor;
+        for (Long productId : productIds) {
+            if (pendingProductIds.contains(productId)) {
+                break;
+            }
+            cursor = productId;
+        }
+        return cursor;
+    }
+
+    public record PriceAlertRunResult(
+        int productCount,
+        int apiCallCount,
+        int alertCount,
+        long elapsedMillis
+    ) {}
+}
@@ -0,0 +1,66 @@
+package com.devmode.shop.domain.product.application.usecase;
+
+import com.devmode.shop.domain.product.application.dto.response.LowestPriceResponse;
+import com.devmode.shop.domain.product.application.dto.response.PriceHistoryResponse;
+import com.devmode.shop.domain.product.application.dto.response.PriceHistoryResponse.PricePoint;
+import com.devmode.shop.domain.product.domain.entity.ProductPriceRollup.Resolution;
+import com.devmode.shop.domain.product.domain.service.PriceHistoryService;
+import com.devmode.shop.global.config.properties.PriceHistoryProperties;
+import com.devmode.shop.global.exception.RestApiException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+
+import static com.devmode.shop.global.exception.code.status.GlobalErrorStatus.INVALID_PRICE_HISTORY_REQUEST;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class PriceHistoryUseCase {
+
+    private static final Duration MAX_RAW_RANGE = Duration.ofDays(7);
+    private static final int MAX_DAYS = 365;
+
+    private final PriceHistoryService priceHistoryService;
+    private final PriceHistoryProperties properties;
+
+    public PriceHistoryResponse getPriceHistory(String productId, String resolution,
+                                                LocalDateTime from, LocalDateTime to) {
+        LocalDateTime end = to != null ? to : LocalDateTime.now();
+        LocalDateTime start = from != null ? from : end.minusDays(properties.getLowestPriceDays());
+        if (start.isAfter(end)) {
+            throw new RestApiException(INVALID_PRICE_HISTORY_REQUEST);
+        }
+
+        String normalized = resolution != null ? resolution.toLowerCase(Locale.ROOT) : "daily";
+        List<PricePoint> points = switch (normalized) {
+            case "raw" -> {
+                // 원본 관측값은 범위가 넓으면 청크 디코딩 비용이 커지므로 기간을 제한한다
+                if (Duration.between(start, end).compareTo(MAX_RAW_RANGE) > 0) {
+                    throw new RestApiException(INVALID_PRICE_HISTORY_REQUEST);
+                }
+                yield priceHistoryService.getSamples(productId, start, end);
+            }
+            case "hourly" -> priceHistoryService.getRollups(productId, Resolution.HOURLY, start, end);
+            case "daily" -> priceHistoryService.getRollups(productId, Resolution.DAILY, start, end);
+            default -> throw new RestApiException(INVALID_PRICE_HISTORY_REQUEST);
+        };
+
+        return PriceHistoryResponse.of(productId, normalized, start, end, points);
+    }
+
+    public LowestPriceResponse getLowestPrice(String productId, Integer days) {
+        int period = days != null ? days : properties.getLowestPriceDays();
+        if (period < 1 || period > MAX_DAYS) {
+            throw new RestApiException(INVALID_PRICE_HISTORY_REQUEST);
+        }
+
+        Long lowestPrice = priceHistoryService.findLowestPrice(productId, period).orElse(null);
+        return new LowestPriceResponse(productId, period, lowestPrice);
+    }
+}
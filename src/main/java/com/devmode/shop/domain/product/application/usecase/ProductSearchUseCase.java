@@ -2,18 +2,31 @@ package com.devmode.shop.domain.product.application.usecase;
 
 import com.devmode.shop.domain.product.application.dto.request.ProductSearchRequest;
 import com.devmode.shop.domain.product.application.dto.response.NaverShoppingResponse;
+import com.devmode.shop.domain.product.application.dto.response.ProductItem;
 import com.devmode.shop.domain.product.application.dto.response.ProductSearchResponse;
+import com.devmode.shop.domain.product.domain.repository.ProductLocalSearchRepository.LocalSearchResult;
 import com.devmode.shop.domain.product.domain.service.NaverApiQuotaService;
 import com.devmode.shop.domain.product.domain.service.NaverShoppingApiService;
+import com.devmode.shop.domain.product.domain.service.PriceHistoryRecorder;
+import com.devmode.shop.domain.product.domain.service.ProductIngestionService;
 import com.devmode.shop.domain.product.domain.service.ProductCacheService;
+import com.devmode.shop.domain.product.domain.service.ProductLocalSearchService;
 import com.devmode.shop.domain.product.domain.service.ProductTransformService;
+import com.devmode.shop.global.config.properties.ProductSearchProperties;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
@@ -23,6 +36,10 @@ public class ProductSearchUseCase {
     private final ProductCacheService productCacheService;
     private final NaverApiQuotaService quotaService;
     private final ProductTransformService transformService;
+    private final PriceHistoryRecorder priceHistoryRecorder;
+    private final ProductIngestionService productIngestionService;
+    private final ProductLocalSearchService localSearchService;
+    private final ProductSearchProperties searchProperties;
     
     public ProductSearchResponse searchProducts(ProductSearchRequest request) {
         long startTime = System.currentTimeMillis();
@@ -33,46 +50,169 @@ public class ProductSearchUseCase {
                     .orElseThrow(() -> new RuntimeException("Failed to retrieve cached result"));
         }
         
+        // 로컬 카탈로그 우선 검색
+        if (searchProperties.isHybridEnabled()) {
+            return searchHybrid(request, startTime);
+        }
+        
         // 2. 쿼터 확인
         if (quotaService.isQuotaExceeded()) {
             throw new RuntimeException("API quota exceeded for today");
         }
         
         try {
-            // 3. 네이버 API 호출
-            NaverShoppingResponse naverResponse = naverShoppingApiService.searchProducts(request);
-            
-            // 4. 쿼터 증가
-            quotaService.incrementApiCallCount();
-            
-            // 5. 응답 변환
-            List<String> appliedFilters = buildAppliedFilters(request);
-            ProductSearchResponse response = transformService.transformToProductSearchResponse(
-                    naverResponse,
-                    request.keyword(),
-                    request.page(),
-                    request.size(),
-                    request.sort(),
-                    appliedFilters,
-                    "fresh",
-                    System.currentTimeMillis() - startTime,
-                    quotaService.getCurrentDailyCount(),
-                    quotaService.getQuotaStatus()
-            );
+            ProductSearchResponse response = fetchFromNaver(request, buildAppliedFilters(request), startTime);
             
-            // 6. 캐시 저장
+            // 7. 캐시 저장
             productCacheService.cacheSearchResult(request, response);
             
             return response;
             
         } catch (Exception e) {
-            // 7. 캐시 폴백 시도
-            try {
-                return productCacheService.getCachedResult(request)
-                        .orElseThrow(() -> new RuntimeException("No cached result available for fallback"));
-            } catch (Exception fallbackException) {
-                throw new RuntimeException("Product search failed and no fallback available", e);
+            // 8. 캐시 폴백 시도
+            return fallbackToCache(request, e);
+        }
+    }
+    
+    /**
+     * 로컬 결과가 충분하고 신선하면 네이버 호출 없이 응답하고,
+     * 부족하거나 오래되었거나 로컬에서 처리할 수 없는 조건이면 네이버 결과와 병합한다.
+     */
+    private ProductSearchResponse searchHybrid(ProductSearchRequest request, long startTime) {
+        List<String> appliedFilters = buildAppliedFilters(request);
+        
+        LocalSearchResult local;
+        try {
+            local = localSearchService.searchProducts(request);
+        } catch (Exception e) {
+            log.warn("[ProductSearch] 로컬 검색 실패 - keyword: {}, error: {}", request.keyword(), e.getMessage());
+            local = new LocalSearchResult(List.of(), 0);
+        }
+        
+        String upstreamReason = findUpstreamReason(request, local);
+        if (upstreamReason == null) {
+            ProductSearchResponse response = localSearchService.toResponse(request, appliedFilters, local, startTime);
+            productCacheService.cacheSearchResult(request, response);
+            return response;
+        }
+        log.debug("[ProductSearch] 네이버 조회 필요 - keyword: {}, reason: {}", request.keyword(), upstreamReason);
+        
+        if (quotaService.isQuotaExceeded()) {
+            if (!local.products().isEmpty()) {
+                return localSearchService.toResponse(request, appliedFilters, local, startTime);
+            }
+            throw new RuntimeException("API quota exceeded for today");
+        }
+        
+        try {
+            ProductSearchResponse fresh = fetchFromNaver(request, appliedFilters, startTime);
+            productCacheService.markKeywordRefreshed(request.keyword(),
+                    Duration.ofMinutes(searchProperties.getMaxStalenessMinutes()));
+            ProductSearchResponse merged = mergeResults(request, appliedFilters, fresh,
+                    localSearchService.toProductItems(local.products(), request, appliedFilters), local.totalCount());
+            productCacheService.cacheSearchResult(request, merged);
+            return merged;
+        } catch (Exception e) {
+            if (!local.products().isEmpty()) {
+                return localSearchService.toResponse(request, appliedFilters, local, startTime);
             }
+            return fallbackToCache(request, e);
+        }
+    }
+    
+    private String findUpstreamReason(ProductSearchRequest request, LocalSearchResult local) {
+        // 등록일 정렬과 NPay 여부는 로컬 카탈로그에 신뢰할 수 있는 값이 없다
+        if ("date".equals(request.sort()) || Boolean.TRUE.equals(request.onlyNPay())) {
+            return "unsupported-filter";
+        }
+        
+        int minResults = searchProperties.getMinLocalResults() != null && searchProperties.getMinLocalResults() > 0
+                ? Math.min(searchProperties.getMinLocalResults(), request.size())
+                : request.size();
+        if (local.products().size() < minResults) {
+            return "insufficient";
+        }
+        
+        // upsert 는 변경된 행만 갱신하므로, 최근에 같은 키워드로 네이버 결과를 반영했다면 신선한 것으로 본다
+        LocalDateTime freshAfter = LocalDateTime.now().minusMinutes(searchProperties.getMaxStalenessMinutes());
+        boolean stale = local.products().stream()
+                .anyMatch(product -> product.getUpdatedAt() == null || product.getUpdatedAt().isBefore(freshAfter));
+        return stale && !productCacheService.isKeywordRefreshed(request.keyword()) ? "stale" : null;
+    }
+    
+    private ProductSearchResponse mergeResults(ProductSearchRequest request, List<String> appliedFilters,
+                                               ProductSearchResponse fresh, List<ProductItem> localItems,
+                                               long localTotal) {
+        // 네이버 결과를 우선하고, 로컬에만 있는 상품으로 페이지를 채운다
+        Map<String, ProductItem> merged = new LinkedHashMap<>();
+        fresh.products().forEach(item -> merged.putIfAbsent(item.id(), item));
+        int naverCount = merged.size();
+        localItems.forEach(item -> merged.putIfAbsent(item.id(), item));
+        
+        List<ProductItem> items = new ArrayList<>(merged.values());
+        if ("asc".equals(request.sort())) {
+            items.sort(Comparator.comparing(ProductItem::price, Comparator.nullsLast(Comparator.naturalOrder())));
+        } else if ("dsc".equals(request.sort())) {
+            items.sort(Comparator.comparing(ProductItem::price, Comparator.nullsLast(Comparator.reverseOrder())));
+        }
+        if (items.size() > request.size()) {
+            items = new ArrayList<>(items.subList(0, request.size()));
+        }
+        
+        boolean hasLocal = items.stream().anyMatch(item -> "local".equals(item.source()));
+        String source = !hasLocal ? fresh.source() : naverCount == 0 ? "local" : "hybrid";
+        int totalResults = (int) Math.max(fresh.totalResults() != null ? fresh.totalResults() : 0, localTotal);
+        
+        return new ProductSearchResponse(
+                request.keyword(), request.page(), request.size(), totalResults, request.page(), request.size(),
+                null, request.sort(), source, appliedFilters, items, fresh.metadata()
+        );
+    }
+    
+    private ProductSearchResponse fetchFromNaver(ProductSearchRequest request, List<String> appliedFilters,
+                                                 long startTime) {
+        // 3. 네이버 API 호출
+        NaverShoppingResponse naverResponse = naverShoppingApiService.searchProducts(request);
+        
+        // 4. 쿼터 증가
+        quotaService.incrementApiCallCount();
+        
+        // 5. 응답 변환
+        ProductSearchResponse response = transformService.transformToProductSearchResponse(
+                naverResponse,
+                request.keyword(),
+                request.page(),
+                request.size(),
+                request.sort(),
+                appliedFilters,
+                "fresh",
+                System.currentTimeMillis() - startTime,
+                quotaService.getCurrentDailyCount(),
+                quotaService.getQuotaStatus()
+        );
+        
+        // 6. 가격 이력 수집 (버퍼 적재만 수행)
+        priceHistoryRecorder.record(response.products());
+        persistProducts(request.keyword(), response);
+        
+        return response;
+    }
+    
+    private ProductSearchResponse fallbackToCache(ProductSearchRequest request, Exception cause) {
+        try {
+            return productCacheService.getCachedResult(request)
+                    .orElseThrow(() -> new RuntimeException("No cached result available for fallback"));
+        } catch (Exception fallbackException) {
+            throw new RuntimeException("Product search failed and no fallback available", cause);
+        }
+    }
+    
+    private void persistProducts(String keyword, ProductSearchResponse response) {
+        // 저장 실패가 검색 응답을 캐시 폴백으로 바꾸지 않도록 분리
+        try {
+            productIngestionService.ingest(keyword, response.products());
+        } catch (Exception e) {
+            log.warn("[ProductSearch] 검색 결과 저장 실패 - keyword: {}, error: {}", keyword, e.getMessage());
         }
     }
     
@@ -1,6 +1,7 @@
 package com.devmode.shop.domain.product.domain.entity;
 
 import com.devmode.shop.global.common.BaseEntity;
+import com.devmode.shop.global.util.ProductSearchTokenizer;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -11,7 +12,9 @@ import java.math.BigDecimal;
 
 @Entity
 @Getter
-@Table(name = "products")
+@Table(name = "products", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_products_naver_product_id", columnNames = "naver_product_id")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
@@ -92,4 +95,27 @@ public class Product extends BaseEntity {
     
     @Column(nullable = false)
     private String additionalInfo;
+    
+    @Column(name = "search_tokens", length = ProductSearchTokenizer.MAX_INDEX_LENGTH)
+    private String searchTokens; // 로컬 검색 색인 토큰 (제목/브랜드/제조사/카테고리)
+    
+    // 편의 메서드
+    @PrePersist
+    @PreUpdate
+    public void refreshSearchTokens() {
+        this.searchTokens = buildSearchTokens();
+    }
+    
+    public String buildSearchTokens() {
+        return ProductSearchTokenizer.toIndexText(title, brand, maker, mallName, category1, category2, category3, category4);
+    }
+    
+    public void updatePrice(BigDecimal lprice, BigDecimal hprice) {
+        if (lprice != null) {
+            this.lprice = lprice;
+        }
+        if (hprice != null) {
+            this.hprice = hprice;
+        }
+    }
 }
@@ -9,7 +9,9 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "product_favorites")
+@Table(name = "product_favorites", indexes = {
+        @Index(name = "idx_product_favorites_product_target_price", columnList = "product_id, target_price")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,91 @@
+package com.devmode.shop.domain.product.domain.entity;
+
+import com.devmode.shop.domain.product.domain.service.PriceSeriesCodec;
+import com.devmode.shop.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 상품별 하루치 가격 관측값 청크
+ * 관측 시각(자정 기준 초)과 가격을 각각 델타 인코딩된 컬럼으로 저장하여 관측값당 행을 만들지 않는다.
+ */
+@Entity
+@Table(name = "product_price_chunks", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_product_price_chunks_product_date", columnNames = {"product_key", "chunk_date"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductPriceChunk extends BaseEntity {
+
+    private static final int MAX_ENCODED_LENGTH = 262144;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_key", nullable = false, length = 100)
+    private String productKey;
+
+    @Column(name = "chunk_date", nullable = false)
+    private LocalDate chunkDate;
+
+    @Column(name = "sample_count", nullable = false)
+    private Integer sampleCount;
+
+    @Column(name = "min_price", nullable = false)
+    private Long minPrice;
+
+    @Column(name = "max_price", nullable = false)
+    private Long maxPrice;
+
+    @Column(name = "second_offsets", nullable = false, length = MAX_ENCODED_LENGTH)
+    private byte[] secondOffsets; // 자정 기준 경과 초 (델타 인코딩)
+
+    @Column(name = "prices", nullable = false, length = MAX_ENCODED_LENGTH)
+    private byte[] prices; // 가격 (델타 인코딩)
+
+    @Version
+    private Long version; // 여러 인스턴스가 같은 행을 동시에 갱신하면 늦게 커밋한 쪽이 실패하고 재시도된다
+
+    public static ProductPriceChunk create(String productKey, LocalDate chunkDate) {
+        ProductPriceChunk chunk = new ProductPriceChunk();
+        chunk.productKey = productKey;
+        chunk.chunkDate = chunkDate;
+        chunk.sampleCount = 0;
+        chunk.minPrice = 0L;
+        chunk.maxPrice = 0L;
+        chunk.secondOffsets = new byte[0];
+        chunk.prices = new byte[0];
+        return chunk;
+    }
+
+    public long[] decodeSecondOffsets() {
+        return PriceSeriesCodec.decode(secondOffsets, sampleCount);
+    }
+
+    public long[] decodePrices() {
+        return PriceSeriesCodec.decode(prices, sampleCount);
+    }
+
+    /**
+     * 시각 순으로 정렬된 전체 샘플로 청크 내용을 교체
+     */
+    public void replaceSamples(long[] secondOffsets, long[] prices, int count) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < count; i++) {
+            min = Math.min(min, prices[i]);
+            max = Math.max(max, prices[i]);
+        }
+
+        this.sampleCount = count;
+        this.minPrice = count > 0 ? min : 0L;
+        this.maxPrice = count > 0 ? max : 0L;
+        this.secondOffsets = PriceSeriesCodec.encode(secondOffsets, count);
+        this.prices = PriceSeriesCodec.encode(prices, count);
+    }
+}
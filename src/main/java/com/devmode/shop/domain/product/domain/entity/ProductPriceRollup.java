@@ -0,0 +1,84 @@
+package com.devmode.shop.domain.product.domain.entity;
+
+import com.devmode.shop.global.common.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품 가격 시간/일 단위 집계 (min/max/avg)
+ * 관측값이 청크에 기록될 때 함께 갱신된다.
+ */
+@Entity
+@Table(name = "product_price_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_product_price_rollups_bucket", columnNames = {"product_key", "resolution", "bucket_start"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ProductPriceRollup extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_key", nullable = false, length = 100)
+    private String productKey;
+
+    @Column(name = "resolution", nullable = false, length = 10)
+    @Enumerated(EnumType.STRING)
+    private Resolution resolution;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "min_price", nullable = false)
+    private Long minPrice;
+
+    @Column(name = "max_price", nullable = false)
+    private Long maxPrice;
+
+    @Column(name = "sum_price", nullable = false)
+    private Long sumPrice;
+
+    @Column(name = "sample_count", nullable = false)
+    private Long sampleCount;
+
+    @Version
+    private Long version; // 여러 인스턴스가 같은 행을 동시에 갱신하면 늦게 커밋한 쪽이 실패하고 재시도된다
+
+    public enum Resolution {
+        HOURLY, DAILY;
+
+        public LocalDateTime truncate(LocalDateTime time) {
+            return this == HOURLY
+                    ? time.withMinute(0).withSecond(0).withNano(0)
+                    : time.toLocalDate().atStartOfDay();
+        }
+    }
+
+    public static ProductPriceRollup create(String productKey, Resolution resolution, LocalDateTime bucketStart) {
+        ProductPriceRollup rollup = new ProductPriceRollup();
+        rollup.productKey = productKey;
+        rollup.resolution = resolution;
+        rollup.bucketStart = bucketStart;
+        rollup.minPrice = Long.MAX_VALUE;
+        rollup.maxPrice = Long.MIN_VALUE;
+        rollup.sumPrice = 0L;
+        rollup.sampleCount = 0L;
+        return rollup;
+    }
+
+    public void merge(long minPrice, long maxPrice, long sumPrice, long sampleCount) {
+        this.minPrice = Math.min(this.minPrice, minPrice);
+        this.maxPrice = Math.max(this.maxPrice, maxPrice);
+        this.sumPrice += sumPrice;
+        this.sampleCount += sampleCount;
+    }
+
+    public long getAvgPrice() {
+        return sampleCount > 0 ? Math.round((double) sumPrice / sampleCount) : 0L;
+    }
+}
@@ -0,0 +1,19 @@
+package com.devmode.shop.domain.product.domain.event;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 목표 가격 도달 알림 이벤트
+ * 이전 가격은 목표 가격보다 높고, 갱신된 가격은 목표 가격 이하인 즐겨찾기에 대해서만 발행
+ */
+public record PriceAlertEvent(
+    Long favoriteId,
+    String userId,
+    Long productId,
+    String productTitle,
+    Integer targetPrice,
+    BigDecimal previousPrice,
+    BigDecimal currentPrice,
+    LocalDateTime detectedAt
+) {}
@@ -0,0 +1,208 @@
+package com.devmode.shop.domain.product.domain.repository;
+
+import com.devmode.shop.domain.product.domain.entity.Product;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 상품 일괄 upsert 저장소
+ * IDENTITY 전략에서는 Hibernate JDBC 배치가 비활성화되므로 JDBC 배치로 직접 저장한다.
+ * PostgreSQL 은 INSERT ... ON CONFLICT DO UPDATE 로 한 번에 처리하고, 그 외 DB(H2 등)는
+ * 기존 행을 한 번에 조회해 비교한 뒤 INSERT / UPDATE 배치를 나눠 실행한다.
+ * 두 경우 모두 가격이나 메타데이터가 바뀐 행만 갱신한다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ProductBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    // search_keyword 는 최초 수집 키워드를 유지하므로 갱신 대상에서 제외
+    private static final List<String> UPDATABLE_COLUMNS = List.of(
+            "title", "link", "image", "lprice", "hprice", "mall_name", "product_id", "product_type",
+            "brand", "maker", "category1", "category2", "category3", "category4",
+            "is_used", "is_rental", "is_overseas", "isnpay", "review_count", "rating",
+            "shipping_info", "additional_info", "search_tokens"
+    );
+
+    private static final String INSERT_COLUMNS = String.join(", ", UPDATABLE_COLUMNS)
+            + ", search_keyword, naver_product_id, created_at, updated_at";
+
+    private static final String INSERT_PLACEHOLDERS = String.join(", ",
+            Collections.nCopies(UPDATABLE_COLUMNS.size() + 4, "?"));
+
+    private static final String INSERT_SQL =
+            "INSERT INTO products (" + INSERT_COLUMNS + ") VALUES (" + INSERT_PLACEHOLDERS + ")";
+
+    private static final String UPDATE_SQL = "UPDATE products SET "
+            + String.join(" = ?, ", UPDATABLE_COLUMNS) + " = ?, updated_at = ? WHERE naver_product_id = ?";
+
+    private static final String POSTGRES_UPSERT_SQL = INSERT_SQL
+            + " ON CONFLICT (naver_product_id) DO UPDATE SET "
+            + String.join(", ", UPDATABLE_COLUMNS.stream().map(c -> c + " = EXCLUDED." + c).toList())
+            + ", updated_at = EXCLUDED.updated_at"
+            + " WHERE (" + String.join(", ", UPDATABLE_COLUMNS.stream().map(c -> "products." + c).toList()) + ")"
+            + " IS DISTINCT FROM ("
+            + String.join(", ", UPDATABLE_COLUMNS.stream().map(c -> "EXCLUDED." + c).toList()) + ")";
+
+    private static final String SELECT_EXISTING_SQL = "SELECT naver_product_id, "
+            + String.join(", ", UPDATABLE_COLUMNS) + " FROM products WHERE naver_product_id IN (:ids)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    public record UpsertResult(int requested, int unique, int written, int unchanged) {
+    }
+
+    /**
+     * naverProductId 기준으로 중복 제거 후 일괄 upsert (같은 ID 가 여러 번 들어오면 마지막 값 사용)
+     */
+    public UpsertResult upsertAll(Collection<Product> products) {
+        if (products == null || products.isEmpty()) {
+            return new UpsertResult(0, 0, 0, 0);
+        }
+
+        Map<String, Product> unique = new LinkedHashMap<>();
+        for (Product product : products) {
+            if (product.getNaverProductId() != null) {
+                unique.put(product.getNaverProductId(), product);
+            }
+        }
+
+        List<Product> rows = new ArrayList<>(unique.values());
+        int written = isPostgres() ? upsertWithOnConflict(rows) : upsertWithLookup(rows);
+        return new UpsertResult(products.size(), rows.size(), written, rows.size() - written);
+    }
+
+    private int upsertWithOnConflict(List<Product> rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(POSTGRES_UPSERT_SQL, rows, BATCH_SIZE,
+                (ps, product) -> bindInsert(ps, product, now));
+        return sumAffected(counts);
+    }
+
+    private int upsertWithLookup(List<Product> rows) {
+        Map<String, List<Object>> existing = findExistingValues(rows.stream().map(Product::getNaverProductId).toList());
+
+        List<Product> inserts = new ArrayList<>();
+        List<Product> updates = new ArrayList<>();
+        for (Product product : rows) {
+            List<Object> current = existing.get(product.getNaverProductId());
+            if (current == null) {
+                inserts.add(product);
+            } else if (!sameValues(current, updatableValues(product))) {
+                updates.add(product);
+            }
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts, BATCH_SIZE, (ps, product) -> bindInsert(ps, product, now));
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates, BATCH_SIZE, (ps, product) -> {
+                int index = bindValues(ps, 1, updatableValues(product));
+                ps.setTimestamp(index++, now);
+                ps.setString(index, product.getNaverProductId());
+            });
+        }
+        return inserts.size() + updates.size();
+    }
+
+    private Map<String, List<Object>> findExistingValues(List<String> naverProductIds) {
+        Map<String, List<Object>> existing = new HashMap<>();
+        for (int from = 0; from < naverProductIds.size(); from += BATCH_SIZE) {
+            List<String> ids = naverProductIds.subList(from, Math.min(from + BATCH_SIZE, naverProductIds.size()));
+            namedParameterJdbcTemplate.query(SELECT_EXISTING_SQL, new MapSqlParameterSource("ids", ids), rs -> {
+                List<Object> values = new ArrayList<>(UPDATABLE_COLUMNS.size());
+                for (int i = 0; i < UPDATABLE_COLUMNS.size(); i++) {
+                    values.add(rs.getObject(i + 2));
+                }
+                existing.put(rs.getString(1), values);
+            });
+        }
+        return existing;
+    }
+
+    private static List<Object> updatableValues(Product product) {
+        return Arrays.asList(
+                product.getTitle(), product.getLink(), product.getImage(), product.getLprice(), product.getHprice(),
+                product.getMallName(), product.getProductId(), product.getProductType(), product.getBrand(),
+                product.getMaker(), product.getCategory1(), product.getCategory2(), product.getCategory3(),
+                product.getCategory4(), product.getIsUsed(), product.getIsRental(), product.getIsOverseas(),
+                product.getIsNPay(), product.getReviewCount(), product.getRating(), product.getShippingInfo(),
+                product.getAdditionalInfo(), product.buildSearchTokens()
+        );
+    }
+
+    private static boolean sameValues(List<Object> current, List<Object> incoming) {
+        for (int i = 0; i < current.size(); i++) {
+            Object a = current.get(i);
+            Object b = incoming.get(i);
+            if (a instanceof BigDecimal x && b instanceof BigDecimal y) {
+                if (x.compareTo(y) != 0) {
+                    return false;
+                }
+            } else if (a instanceof Number x && b instanceof Number y) {
+                if (Double.compare(x.doubleValue(), y.doubleValue()) != 0) {
+                    return false;
+                }
+            } else if (!Objects.equals(a, b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void bindInsert(PreparedStatement ps, Product product, Timestamp now) throws SQLException {
+        int index = bindValues(ps, 1, updatableValues(product));
+        ps.setString(index++, product.getSearchKeyword());
+        ps.setString(index++, product.getNaverProductId());
+        ps.setTimestamp(index++, now);
+        ps.setTimestamp(index, now);
+    }
+
+    private static int bindValues(PreparedStatement ps, int startIndex, List<Object> values) throws SQLException {
+        int index = startIndex;
+        for (Object value : values) {
+            ps.setObject(index++, value);
+        }
+        return index;
+    }
+
+    private static int sumAffected(int[][] counts) {
+        int total = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // 드라이버가 건수를 알려주지 않으면(SUCCESS_NO_INFO) 1건으로 간주
+                total += count >= 0 ? count : 1;
+            }
+        }
+        return total;
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String productName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            postgres = productName != null && productName.toLowerCase().contains("postgresql");
+            log.info("[ProductBulk] 상품 upsert 방식: {}", postgres ? "ON CONFLICT" : "조회 후 배치");
+        }
+        return postgres;
+    }
+}
@@ -1,11 +1,14 @@
 package com.devmode.shop.domain.product.domain.repository;
 
 import com.devmode.shop.domain.product.domain.entity.ProductFavorite;
+import com.devmode.shop.domain.product.domain.repository.projection.FavoriteThreshold;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -94,4 +97,18 @@ public interface ProductFavoriteRepository extends JpaRepository<ProductFavorite
      * 특정 상품의 모든 즐겨찾기 삭제
      */
     void deleteByProductId(Long productId);
+    
+    /**
+     * 가격 알림 대상(활성 + 알림 설정 + 목표 가격 존재) 상품 ID를 ID 순으로 조회 (키셋 페이지네이션)
+     */
+    @Query("SELECT DISTINCT pf.product.id FROM ProductFavorite pf WHERE pf.isActive = true AND pf.notificationEnabled = true AND pf.targetPrice IS NOT NULL AND pf.product.id > :lastProductId ORDER BY pf.product.id")
+    List<Long> findAlertTargetProductIds(@Param("lastProductId") Long lastProductId, Pageable pageable);
+    
+    /**
+     * 상품별 가격 알림 임계값 조회 (상품 ID, 목표 가격 오름차순)
+     */
+    @Query("SELECT new com.devmode.shop.domain.product.domain.repository.projection.FavoriteThreshold(pf.id, pf.userId, pf.product.id, pf.targetPrice) " +
+           "FROM ProductFavorite pf WHERE pf.product.id IN :productIds AND pf.isActive = true AND pf.notificationEnabled = true AND pf.targetPrice IS NOT NULL " +
+           "ORDER BY pf.product.id, pf.targetPrice")
+    List<FavoriteThreshold> findAlertThresholdsByProductIds(@Param("productIds") Collection<Long> productIds);
 }
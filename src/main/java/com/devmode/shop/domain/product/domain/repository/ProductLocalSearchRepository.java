@@ -0,0 +1,176 @@
+package com.devmode.shop.domain.product.domain.repository;
+
+import com.devmode.shop.domain.product.application.dto.request.ProductSearchRequest;
+import com.devmode.shop.domain.product.domain.entity.Product;
+import com.devmode.shop.global.util.ProductSearchTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 저장된 상품 대상 로컬 검색 저장소
+ * PostgreSQL 에서는 search_tokens 기반 tsvector 생성 컬럼(GIN)과 제목 pg_trgm(GIN) 인덱스를 사용해
+ * LIKE '%keyword%' 전체 스캔 없이 랭킹 검색을 수행한다.
+ * 컬럼과 인덱스는 애플리케이션이 만들지 않고 db/migration/V1__product_search_indexes.sql 로 한 번 적용하며,
+ * 여기서는 적용 여부만 확인한다.
+ *
+ * 마이그레이션이 없는 DB(H2 등)는 search_tokens 에서 질의 토큰이 모두 "토큰 단위로" 일치하는 행을 찾는다.
+ * 전문 검색의 토큰 매칭(AND)과 같은 조건이지만 순위는 리뷰 수 기준이고,
+ * PostgreSQL 의 제목 trigram 유사도 매칭(오타 허용)에 해당하는 결과는 포함되지 않는다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ProductLocalSearchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final ProductRepository productRepository;
+
+    private volatile Boolean postgres;
+    private volatile Boolean searchVectorEnabled;
+    private volatile boolean trigramEnabled;
+
+    public record LocalSearchResult(List<Product> products, long totalCount) {
+    }
+
+    public LocalSearchResult search(ProductSearchRequest request) {
+        List<String> tokens = ProductSearchTokenizer.tokenize(request.keyword()).stream().distinct().toList();
+        if (tokens.isEmpty()) {
+            return new LocalSearchResult(List.of(), 0);
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder where = new StringBuilder(" WHERE p.deleted_at IS NULL");
+        String score;
+
+        if (isSearchVectorEnabled()) {
+            params.addValue("tsquery", String.join(" & ", tokens));
+            params.addValue("keyword", request.keyword());
+            where.append(trigramEnabled
+                    ? " AND (p.search_vector @@ to_tsquery('simple', :tsquery) OR p.title % :keyword)"
+                    : " AND p.search_vector @@ to_tsquery('simple', :tsquery)");
+            score = trigramEnabled
+                    ? "ts_rank(p.search_vector, to_tsquery('simple', :tsquery)) + similarity(p.title, :keyword)"
+                    : "ts_rank(p.search_vector, to_tsquery('simple', :tsquery))";
+        } else {
+            // 토큰은 문자/숫자로만 이루어지므로 공백으로 감싸 비교하면 토큰 단위 일치가 된다
+            for (int i = 0; i < tokens.size(); i++) {
+                where.append(" AND (' ' || p.search_tokens || ' ') LIKE :token").append(i);
+                params.addValue("token" + i, "% " + tokens.get(i) + " %");
+            }
+            score = "p.review_count";
+        }
+        appendFilters(request, where, params);
+
+        Long total = namedParameterJdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM products p" + where, params, Long.class);
+        if (total == null || total == 0) {
+            return new LocalSearchResult(List.of(), 0);
+        }
+
+        params.addValue("limit", request.size());
+        params.addValue("offset", (long) (request.page() - 1) * request.size());
+        List<Long> ids = namedParameterJdbcTemplate.queryForList(
+                "SELECT p.id FROM products p" + where +
+                " ORDER BY " + orderBy(request.sort(), score) + " LIMIT :limit OFFSET :offset",
+                params, Long.class);
+
+        // 랭킹 순서를 유지한 채 엔티티 로딩
+        Map<Long, Product> byId = productRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<Product> products = ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+        return new LocalSearchResult(products, total);
+    }
+
+    private void appendFilters(ProductSearchRequest request, StringBuilder where, MapSqlParameterSource params) {
+        List<String> excludeFilters = request.excludeFilters();
+        if (excludeFilters.contains("used")) {
+            where.append(" AND p.is_used = FALSE");
+        }
+        if (excludeFilters.contains("rental")) {
+            where.append(" AND p.is_rental = FALSE");
+        }
+        if (excludeFilters.contains("overseas")) {
+            where.append(" AND p.is_overseas = FALSE");
+        }
+        if (Boolean.TRUE.equals(request.onlyNPay())) {
+            where.append(" AND p.isnpay = TRUE");
+        }
+
+        appendEquals(where, params, "category1", request.category1());
+        appendEquals(where, params, "category2", request.category2());
+        appendEquals(where, params, "category3", request.category3());
+        appendEquals(where, params, "category4", request.category4());
+        appendEquals(where, params, "brand", request.brand());
+        appendEquals(where, params, "mall_name", request.mallName());
+
+        if (request.minPrice() != null && request.minPrice() > 0) {
+            where.append(" AND p.lprice >= :minPrice");
+            params.addValue("minPrice", request.minPrice());
+        }
+        if (request.maxPrice() != null && request.maxPrice() > 0) {
+            where.append(" AND p.lprice <= :maxPrice");
+            params.addValue("maxPrice", request.maxPrice());
+        }
+        if (request.minRating() != null && request.minRating() > 0) {
+            where.append(" AND p.rating >= :minRating");
+            params.addValue("minRating", request.minRating());
+        }
+        if (request.minReviewCount() != null && request.minReviewCount() > 0) {
+            where.append(" AND p.review_count >= :minReviewCount");
+            params.addValue("minReviewCount", request.minReviewCount());
+        }
+    }
+
+    private static void appendEquals(StringBuilder where, MapSqlParameterSource params, String column, String value) {
+        if (value != null) {
+            where.append(" AND p.").append(column).append(" = :").append(column);
+            params.addValue(column, value);
+        }
+    }
+
+    private static String orderBy(String sort, String score) {
+        return switch (sort) {
+            case "asc" -> "p.lprice ASC, p.id ASC";
+            case "dsc" -> "p.lprice DESC, p.id ASC";
+            case "date" -> "p.updated_at DESC, p.id ASC";
+            default -> score + " DESC, p.review_count DESC, p.id ASC";
+        };
+    }
+
+    /**
+     * 검색 마이그레이션 적용 여부 (최초 조회 시 한 번 확인)
+     */
+    private boolean isSearchVectorEnabled() {
+        if (searchVectorEnabled == null) {
+            boolean enabled = isPostgres() && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM information_schema.columns " +
+                    "WHERE table_name = 'products' AND column_name = 'search_vector')", Boolean.class));
+            trigramEnabled = enabled && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM pg_indexes WHERE indexname = 'idx_products_title_trgm')", Boolean.class));
+            if (!enabled && isPostgres()) {
+                log.warn("[ProductLocalSearch] search_vector 컬럼 없음, 토큰 LIKE 검색 사용 (V1__product_search_indexes.sql 적용 필요)");
+            }
+            searchVectorEnabled = enabled;
+        }
+        return searchVectorEnabled;
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String productName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            postgres = productName != null && productName.toLowerCase().contains("postgresql");
+        }
+        return postgres;
+    }
+}
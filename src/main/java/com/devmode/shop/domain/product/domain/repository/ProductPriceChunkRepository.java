@@ -0,0 +1,29 @@
+package com.devmode.shop.domain.product.domain.repository;
+
+import com.devmode.shop.domain.product.domain.entity.ProductPriceChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProductPriceChunkRepository extends JpaRepository<ProductPriceChunk, Long> {
+
+    /**
+     * 특정 일자의 상품별 청크 일괄 조회
+     */
+    List<ProductPriceChunk> findByProductKeyInAndChunkDate(Collection<String> productKeys, LocalDate chunkDate);
+
+    /**
+     * 상품의 기간 내 청크 조회 (일자 오름차순)
+     */
+    @Query("SELECT c FROM ProductPriceChunk c WHERE c.productKey = :productKey " +
+           "AND c.chunkDate BETWEEN :startDate AND :endDate ORDER BY c.chunkDate ASC")
+    List<ProductPriceChunk> findRange(@Param("productKey") String productKey,
+                                      @Param("startDate") LocalDate startDate,
+                                      @Param("endDate") LocalDate endDate);
+}
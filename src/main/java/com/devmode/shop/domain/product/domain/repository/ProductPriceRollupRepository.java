@@ -0,0 +1,42 @@
+package com.devmode.shop.domain.product.domain.repository;
+
+import com.devmode.shop.domain.product.domain.entity.ProductPriceRollup;
+import com.devmode.shop.domain.product.domain.entity.ProductPriceRollup.Resolution;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ProductPriceRollupRepository extends JpaRepository<ProductPriceRollup, Long> {
+
+    /**
+     * 갱신 대상 집계 버킷 일괄 조회
+     */
+    List<ProductPriceRollup> findByProductKeyInAndResolutionAndBucketStartIn(Collection<String> productKeys,
+                                                                            Resolution resolution,
+                                                                            Collection<LocalDateTime> bucketStarts);
+
+    /**
+     * 상품의 기간 내 집계 조회 (버킷 오름차순)
+     */
+    @Query("SELECT r FROM ProductPriceRollup r WHERE r.productKey = :productKey AND r.resolution = :resolution " +
+           "AND r.bucketStart BETWEEN :from AND :to ORDER BY r.bucketStart ASC")
+    List<ProductPriceRollup> findRange(@Param("productKey") String productKey,
+                                       @Param("resolution") Resolution resolution,
+                                       @Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to);
+
+    /**
+     * 기간 내 최저가 조회 (일 단위 집계 기준)
+     */
+    @Query("SELECT MIN(r.minPrice) FROM ProductPriceRollup r WHERE r.productKey = :productKey " +
+           "AND r.resolution = :resolution AND r.bucketStart >= :since")
+    Long findLowestPriceSince(@Param("productKey") String productKey,
+                              @Param("resolution") Resolution resolution,
+                              @Param("since") LocalDateTime since);
+}
@@ -0,0 +1,12 @@
+package com.devmode.shop.domain.product.domain.repository.projection;
+
+/**
+ * 가격 알림 평가용 즐겨찾기 프로젝션
+ * 엔티티 전체를 로딩하지 않고 임계값 판단에 필요한 값만 조회
+ */
+public record FavoriteThreshold(
+    Long favoriteId,
+    String userId,
+    Long productId,
+    Integer targetPrice
+) {}
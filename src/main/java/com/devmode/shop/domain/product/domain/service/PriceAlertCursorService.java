@@ -0,0 +1,47 @@
+package com.devmode.shop.domain.product.domain.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 가격 알림 배치 진행 위치
+ * API 예산이 소진되어 중간에 멈춘 경우 다음 실행이 그 다음 상품부터 이어서 평가하도록 마지막 상품 ID를 기록한다.
+ * Redis에 접근할 수 없으면 처음부터 평가한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceAlertCursorService {
+
+    private static final String CURSOR_KEY = "price_alert:cursor";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public long getLastProductId() {
+        try {
+            String value = redisTemplate.opsForValue().get(CURSOR_KEY);
+            return value == null ? 0L : Long.parseLong(value);
+        } catch (Exception e) {
+            log.warn("[PriceAlert] Failed to read cursor. Starting from the first product: {}", e.getMessage());
+            return 0L;
+        }
+    }
+
+    public void saveLastProductId(long productId) {
+        try {
+            redisTemplate.opsForValue().set(CURSOR_KEY, String.valueOf(productId));
+        } catch (Exception e) {
+            log.warn("[PriceAlert] Failed to save cursor {}: {}", productId, e.getMessage());
+        }
+    }
+
+    public void reset() {
+        try {
+            redisTemplate.delete(CURSOR_KEY);
+        } catch (Exception e) {
+            log.warn("[PriceAlert] Failed to reset cursor: {}", e.getMessage());
+        }
+    }
+}
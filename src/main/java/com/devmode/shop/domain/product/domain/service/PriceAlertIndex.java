@@ -0,0 +1,77 @@
+package com.devmode.shop.domain.product.domain.service;
+
+import com.devmode.shop.domain.product.domain.repository.projection.FavoriteThreshold;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 상품 하나에 대한 목표 가격 오름차순 인덱스
+ * 가격이 prev → current 로 내려갔을 때 current <= target < prev 인 즐겨찾기만 이진 탐색으로 찾는다.
+ */
+public final class PriceAlertIndex {
+
+    private final long[] targetPrices;
+    private final FavoriteThreshold[] thresholds;
+
+    private PriceAlertIndex(long[] targetPrices, FavoriteThreshold[] thresholds) {
+        this.targetPrices = targetPrices;
+        this.thresholds = thresholds;
+    }
+
+    /**
+     * 같은 상품의 임계값 목록으로 인덱스 생성 (정렬되어 있지 않아도 됨)
+     */
+    public static PriceAlertIndex of(List<FavoriteThreshold> productThresholds) {
+        FavoriteThreshold[] sorted = productThresholds.stream()
+                .filter(threshold -> threshold.targetPrice() != null)
+                .sorted(Comparator.comparingInt(FavoriteThreshold::targetPrice))
+                .toArray(FavoriteThreshold[]::new);
+
+        long[] targetPrices = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            targetPrices[i] = sorted[i].targetPrice();
+        }
+        return new PriceAlertIndex(targetPrices, sorted);
+    }
+
+    public int size() {
+        return thresholds.length;
+    }
+
+    /**
+     * 이번 가격 변동으로 목표 가격에 새로 도달한 즐겨찾기 조회
+     */
+    public List<FavoriteThreshold> findCrossed(long previousPrice, long currentPrice) {
+        if (currentPrice >= previousPrice || thresholds.length == 0) {
+            return List.of();
+        }
+
+        int from = lowerBound(currentPrice);   // target >= current 인 첫 위치
+        int to = lowerBound(previousPrice);    // target >= previous 인 첫 위치
+        if (from >= to) {
+            return List.of();
+        }
+
+        List<FavoriteThreshold> crossed = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            crossed.add(thresholds[i]);
+        }
+        return crossed;
+    }
+
+    private int lowerBound(long price) {
+        int low = 0;
+        int high = targetPrices.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (targetPrices[mid] < price) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
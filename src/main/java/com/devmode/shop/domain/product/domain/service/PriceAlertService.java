@@ -0,0 +1,107 @@
+package com.devmode.shop.domain.product.domain.service;
+
+import com.devmode.shop.domain.product.domain.entity.Product;
+import com.devmode.shop.domain.product.domain.event.PriceAlertEvent;
+import com.devmode.shop.domain.product.domain.repository.ProductFavoriteRepository;
+import com.devmode.shop.domain.product.domain.repository.ProductRepository;
+import com.devmode.shop.domain.product.domain.repository.projection.FavoriteThreshold;
+import com.devmode.shop.domain.product.domain.service.ProductPriceRefreshService.PriceSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 즐겨찾기 목표 가격 알림 평가 서비스
+ * 가격이 내려간 상품에 대해서만 임계값을 조회하고, 상품별 가격 인덱스로 새로 도달한 즐겨찾기를 찾는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceAlertService {
+
+    private final ProductRepository productRepository;
+    private final ProductFavoriteRepository productFavoriteRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(readOnly = true)
+    public List<Long> findAlertTargetProductIds(Long lastProductId, int batchSize) {
+        return productFavoriteRepository.findAlertTargetProductIds(lastProductId, PageRequest.of(0, batchSize));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Product> findProducts(List<Long> productIds) {
+        return productRepository.findAllById(productIds);
+    }
+
+    /**
+     * 갱신된 가격을 반영하고 목표 가격에 새로 도달한 즐겨찾기에 알림 이벤트 발행
+     * @return 발행한 알림 수
+     */
+    @Transactional
+    public int applyPriceChanges(Map<Long, PriceSnapshot> refreshedPrices) {
+        if (refreshedPrices.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, BigDecimal> previousPrices = new HashMap<>();
+        Map<Long, Product> droppedProducts = new HashMap<>();
+
+        for (Product product : productRepository.findAllById(refreshedPrices.keySet())) {
+            PriceSnapshot snapshot = refreshedPrices.get(product.getId());
+            BigDecimal previousPrice = product.getLprice();
+
+            if (previousPrice != null && snapshot.lprice().compareTo(previousPrice) < 0) {
+                previousPrices.put(product.getId(), previousPrice);
+                droppedProducts.put(product.getId(), product);
+            }
+            product.updatePrice(snapshot.lprice(), snapshot.hprice());
+        }
+
+        if (droppedProducts.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, List<FavoriteThreshold>> thresholdsByProduct = new HashMap<>();
+        for (FavoriteThreshold threshold : productFavoriteRepository.findAlertThresholdsByProductIds(droppedProducts.keySet())) {
+            thresholdsByProduct.computeIfAbsent(threshold.productId(), id -> new ArrayList<>()).add(threshold);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int alertCount = 0;
+
+        for (Map.Entry<Long, List<FavoriteThreshold>> entry : thresholdsByProduct.entrySet()) {
+            Product product = droppedProducts.get(entry.getKey());
+            BigDecimal previousPrice = previousPrices.get(entry.getKey());
+
+            List<FavoriteThreshold> crossed = PriceAlertIndex.of(entry.getValue())
+                    .findCrossed(previousPrice.longValue(), product.getLprice().longValue());
+
+            for (FavoriteThreshold threshold : crossed) {
+                eventPublisher.publishEvent(new PriceAlertEvent(
+                        threshold.favoriteId(),
+                        threshold.userId(),
+                        product.getId(),
+                        product.getTitle(),
+                        threshold.targetPrice(),
+                        previousPrice,
+                        product.getLprice(),
+                        now
+                ));
+            }
+            alertCount += crossed.size();
+        }
+
+        log.info("[PriceAlert] {} products dropped in price, {} alerts published", droppedProducts.size(), alertCount);
+        return alertCount;
+    }
+}
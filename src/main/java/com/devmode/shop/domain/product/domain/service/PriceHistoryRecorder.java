@@ -0,0 +1,148 @@
+package com.devmode.shop.domain.product.domain.service;
+
+import com.devmode.shop.domain.product.application.dto.response.ProductItem;
+import com.devmode.shop.domain.product.domain.service.PriceHistoryService.PriceSample;
+import com.devmode.shop.global.config.properties.PriceHistoryProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 정규화된 상품 가격 관측값 수집기
+ * 검색 응답 경로에서는 메모리 버퍼에만 적재하고, 주기적으로 모아서 {@link PriceHistoryService} 에 반영한다.
+ * 반영에 실패한 관측값은 버퍼에 되돌려 다음 주기에 다시 시도하고, 종료 시에는 남은 버퍼를 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PriceHistoryRecorder {
+
+    private final PriceHistoryService priceHistoryService;
+    private final PriceHistoryProperties properties;
+
+    private final Queue<PriceSample> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bufferedCount = new AtomicInteger();
+    private final Map<String, PriceSample> lastRecorded = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile boolean lastFlushFailed = false;
+
+    public void record(List<ProductItem> items) {
+        if (!properties.isEnabled() || items == null || items.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (ProductItem item : items) {
+            if (item.id() == null || item.price() == null) {
+                continue;
+            }
+
+            LocalDateTime observedAt = item.lastUpdated() != null ? item.lastUpdated() : now;
+            PriceSample sample = new PriceSample(item.id(), observedAt, item.price().longValue());
+            if (isDuplicate(lastRecorded.get(item.id()), sample)) {
+                continue;
+            }
+
+            if (!offer(sample)) {
+                // 버퍼가 가득 차면 호출 스레드에서 한 번 반영해 자리를 만든다
+                // 다른 반영이 진행 중이거나 직전 반영이 실패했다면 기다리거나 반복 시도하지 않는다
+                if (!lastFlushFailed) {
+                    flush();
+                }
+                if (!offer(sample)) {
+                    log.warn("[PriceHistory] 가격 이력 버퍼 초과로 관측값 제외: {}", item.id());
+                    continue;
+                }
+            }
+            lastRecorded.put(item.id(), sample);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${price-history.flush-interval-ms:60000}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            flushBuffer();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLock.lock();
+        try {
+            flushBuffer();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushBuffer() {
+        List<PriceSample> drained = new ArrayList<>();
+        PriceSample sample;
+        while ((sample = buffer.poll()) != null) {
+            drained.add(sample);
+        }
+        bufferedCount.addAndGet(-drained.size());
+
+        if (lastRecorded.size() > properties.getMaxBufferedSamples()) {
+            lastRecorded.clear();
+        }
+        if (drained.isEmpty()) {
+            lastFlushFailed = false;
+            return;
+        }
+
+        try {
+            priceHistoryService.append(drained);
+            lastFlushFailed = false;
+        } catch (Exception e) {
+            // 반영은 한 트랜잭션이므로 실패하면 전체를 되돌려 다음 주기에 다시 시도한다 (낙관적 잠금 충돌 포함)
+            lastFlushFailed = true;
+            int requeued = 0;
+            for (PriceSample failed : drained) {
+                if (offer(failed)) {
+                    requeued++;
+                }
+            }
+            log.error("[PriceHistory] 가격 이력 반영 실패: {}건 (재시도 대기 {}건, 제외 {}건)",
+                    drained.size(), requeued, drained.size() - requeued, e);
+        }
+    }
+
+    private boolean offer(PriceSample sample) {
+        if (bufferedCount.incrementAndGet() > properties.getMaxBufferedSamples()) {
+            bufferedCount.decrementAndGet();
+            return false;
+        }
+        buffer.add(sample);
+        return true;
+    }
+
+    /**
+     * 같은 가격이 최소 기록 간격 안에 다시 관측되면 저장하지 않는다
+     */
+    private boolean isDuplicate(PriceSample previous, PriceSample current) {
+        if (previous == null || previous.price() != current.price()) {
+            return false;
+        }
+        long elapsed = Duration.between(previous.observedAt(), current.observedAt()).getSeconds();
+        return elapsed >= 0 && elapsed < properties.getMinSampleIntervalSeconds();
+    }
+}
@@ -0,0 +1,175 @@
+package com.devmode.shop.domain.product.domain.service;
+
+import com.devmode.shop.domain.product.application.dto.response.PriceHistoryResponse.PricePoint;
+import com.devmode.shop.domain.product.domain.entity.ProductPriceChunk;
+import com.devmode.shop.domain.product.domain.entity.ProductPriceRollup;
+import com.devmode.shop.domain.product.domain.entity.ProductPriceRollup.Resolution;
+import com.devmode.shop.domain.product.domain.repository.ProductPriceChunkRepository;
+import com.devmode.shop.domain.product.domain.repository.ProductPriceRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 가격 이력 저장/조회 서비스
+ * 관측값은 상품·일자별 청크에 델타 인코딩으로 누적하고, 같은 트랜잭션에서 시간/일 단위 집계를 갱신한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceHistoryService {
+
+    private final ProductPriceChunkRepository chunkRepository;
+    private final ProductPriceRollupRepository rollupRepository;
+
+    public record PriceSample(String productKey, LocalDateTime observedAt, long price) {
+    }
+
+    /**
+     * 버퍼링된 관측값을 청크와 집계에 일괄 반영
+     */
+    @Transactional
+    public int append(List<PriceSample> samples) {
+        if (samples == null || samples.isEmpty()) {
+            return 0;
+        }
+
+        Map<LocalDate, Map<String, List<PriceSample>>> byDate = samples.stream()
+                .collect(Collectors.groupingBy(sample -> sample.observedAt().toLocalDate(),
+                        Collectors.groupingBy(PriceSample::productKey)));
+        byDate.forEach(this::appendChunks);
+
+        updateRollups(samples, Resolution.HOURLY);
+        updateRollups(samples, Resolution.DAILY);
+
+        log.debug("[PriceHistory] 가격 관측값 반영 완료: {}건", samples.size());
+        return samples.size();
+    }
+
+    /**
+     * 관측값 원본 조회 (청크 디코딩)
+     */
+    @Transactional(readOnly = true)
+    public List<PricePoint> getSamples(String productKey, LocalDateTime from, LocalDateTime to) {
+        List<PricePoint> points = new ArrayList<>();
+        for (ProductPriceChunk chunk : chunkRepository.findRange(productKey, from.toLocalDate(), to.toLocalDate())) {
+            LocalDateTime dayStart = chunk.getChunkDate().atStartOfDay();
+            long[] offsets = chunk.decodeSecondOffsets();
+            long[] prices = chunk.decodePrices();
+            for (int i = 0; i < chunk.getSampleCount(); i++) {
+                LocalDateTime time = dayStart.plusSeconds(offsets[i]);
+                if (!time.isBefore(from) && !time.isAfter(to)) {
+                    points.add(PricePoint.ofSample(time, prices[i]));
+                }
+            }
+        }
+        return points;
+    }
+
+    /**
+     * 시간/일 단위 집계 조회
+     */
+    @Transactional(readOnly = true)
+    public List<PricePoint> getRollups(String productKey, Resolution resolution, LocalDateTime from, LocalDateTime to) {
+        return rollupRepository.findRange(productKey, resolution, resolution.truncate(from), to).stream()
+                .map(rollup -> new PricePoint(rollup.getBucketStart(), rollup.getMinPrice(), rollup.getMaxPrice(),
+                        rollup.getAvgPrice(), rollup.getSampleCount()))
+                .toList();
+    }
+
+    /**
+     * 최근 N일 최저가 조회 (일 단위 집계 MIN)
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findLowestPrice(String productKey, int days) {
+        LocalDateTime since = LocalDate.now().minusDays(days - 1L).atStartOfDay();
+        return Optional.ofNullable(rollupRepository.findLowestPriceSince(productKey, Resolution.DAILY, since));
+    }
+
+    private void appendChunks(LocalDate chunkDate, Map<String, List<PriceSample>> samplesByProduct) {
+        Map<String, ProductPriceChunk> chunks = chunkRepository
+                .findByProductKeyInAndChunkDate(samplesByProduct.keySet(), chunkDate).stream()
+                .collect(Collectors.toMap(ProductPriceChunk::getProductKey, Function.identity()));
+
+        LocalDateTime dayStart = chunkDate.atStartOfDay();
+        List<ProductPriceChunk> changed = new ArrayList<>(samplesByProduct.size());
+
+        samplesByProduct.forEach((productKey, newSamples) -> {
+            ProductPriceChunk chunk = chunks.computeIfAbsent(productKey,
+                    key -> ProductPriceChunk.create(key, chunkDate));
+
+            int existingCount = chunk.getSampleCount();
+            long[] existingOffsets = chunk.decodeSecondOffsets();
+            long[] existingPrices = chunk.decodePrices();
+
+            List<PriceSample> sorted = new ArrayList<>(newSamples);
+            sorted.sort(Comparator.comparing(PriceSample::observedAt));
+
+            // 기존 청크와 신규 관측값은 각각 시각순이므로 병합 정렬로 합친다
+            int total = existingCount + sorted.size();
+            long[] offsets = new long[total];
+            long[] prices = new long[total];
+            int i = 0, j = 0, k = 0;
+            while (i < existingCount || j < sorted.size()) {
+                long newOffset = j < sorted.size()
+                        ? Duration.between(dayStart, sorted.get(j).observedAt()).getSeconds()
+                        : Long.MAX_VALUE;
+                if (i < existingCount && existingOffsets[i] <= newOffset) {
+                    offsets[k] = existingOffsets[i];
+                    prices[k++] = existingPrices[i++];
+                } else {
+                    offsets[k] = newOffset;
+                    prices[k++] = sorted.get(j++).price();
+                }
+            }
+
+            chunk.replaceSamples(offsets, prices, total);
+            changed.add(chunk);
+        });
+
+        chunkRepository.saveAll(changed);
+    }
+
+    private void updateRollups(List<PriceSample> samples, Resolution resolution) {
+        // 상품·버킷별 (min, max, sum, count)
+        Map<String, Map<LocalDateTime, long[]>> aggregates = new HashMap<>();
+        Set<LocalDateTime> bucketStarts = new HashSet<>();
+        for (PriceSample sample : samples) {
+            LocalDateTime bucketStart = resolution.truncate(sample.observedAt());
+            bucketStarts.add(bucketStart);
+            long[] aggregate = aggregates.computeIfAbsent(sample.productKey(), key -> new HashMap<>())
+                    .computeIfAbsent(bucketStart, bucket -> new long[]{Long.MAX_VALUE, Long.MIN_VALUE, 0L, 0L});
+            aggregate[0] = Math.min(aggregate[0], sample.price());
+            aggregate[1] = Math.max(aggregate[1], sample.price());
+            aggregate[2] += sample.price();
+            aggregate[3]++;
+        }
+
+        Map<String, Map<LocalDateTime, ProductPriceRollup>> existing = new HashMap<>();
+        for (ProductPriceRollup rollup : rollupRepository.findByProductKeyInAndResolutionAndBucketStartIn(
+                aggregates.keySet(), resolution, bucketStarts)) {
+            existing.computeIfAbsent(rollup.getProductKey(), key -> new HashMap<>())
+                    .put(rollup.getBucketStart(), rollup);
+        }
+
+        List<ProductPriceRollup> changed = new ArrayList<>();
+        aggregates.forEach((productKey, buckets) -> buckets.forEach((bucketStart, aggregate) -> {
+            ProductPriceRollup rollup = existing.getOrDefault(productKey, Map.of()).get(bucketStart);
+            if (rollup == null) {
+                rollup = ProductPriceRollup.create(productKey, resolution, bucketStart);
+            }
+            rollup.merge(aggregate[0], aggregate[1], aggregate[2], aggregate[3]);
+            changed.add(rollup);
+        }));
+
+        rollupRepository.saveAll(changed);
+    }
+}
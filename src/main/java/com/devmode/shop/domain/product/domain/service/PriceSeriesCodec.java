@@ -0,0 +1,58 @@
+package com.devmode.shop.domain.product.domain.service;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * 가격 시계열 컬럼 인코더
+ * 값 배열을 (이전 값과의 차이 → zigzag → varint) 로 인코딩한다.
+ * 가격과 시각은 대부분 직전 값과 같거나 가까우므로 샘플당 1~3바이트로 저장된다.
+ */
+public final class PriceSeriesCodec {
+
+    private PriceSeriesCodec() {
+    }
+
+    public static byte[] encode(long[] values, int count) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(count * 2 + 8);
+        long previous = 0L;
+        for (int i = 0; i < count; i++) {
+            long delta = values[i] - previous;
+            writeVarLong(out, (delta << 1) ^ (delta >> 63));
+            previous = values[i];
+        }
+        return out.toByteArray();
+    }
+
+    public static long[] decode(byte[] data, int count) {
+        long[] values = new long[count];
+        if (data == null) {
+            return values;
+        }
+
+        int position = 0;
+        long previous = 0L;
+        for (int i = 0; i < count; i++) {
+            long raw = 0L;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                raw |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+
+            long delta = (raw >>> 1) ^ -(raw & 1);
+            previous += delta;
+            values[i] = previous;
+        }
+        return values;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
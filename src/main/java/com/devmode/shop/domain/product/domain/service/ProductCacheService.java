@@ -2,6 +2,7 @@ package com.devmode.shop.domain.product.domain.service;
 
 import com.devmode.shop.domain.product.application.dto.request.ProductSearchRequest;
 import com.devmode.shop.domain.product.application.dto.response.ProductSearchResponse;
+import com.devmode.shop.global.cache.CacheTagService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -10,6 +11,8 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @Slf4j
@@ -19,9 +22,11 @@ public class ProductCacheService {
     
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final CacheTagService cacheTagService;
     
     private static final String CACHE_PREFIX = "PRODUCT_SEARCH:";
     private static final Duration CACHE_TTL = Duration.ofMinutes(30); // 30분 캐시
+    private static final String REFRESHED_PREFIX = "PRODUCT_REFRESHED:";
     
     public void cacheSearchResult(ProductSearchRequest request, ProductSearchResponse response) {
         try {
@@ -29,6 +34,7 @@ public class ProductCacheService {
             String jsonResponse = objectMapper.writeValueAsString(response);
             
             redisTemplate.opsForValue().set(cacheKey, jsonResponse, CACHE_TTL);
+            cacheTagService.tag(CACHE_PREFIX + request.keyword().toLowerCase(Locale.ROOT), List.of(cacheKey));
             
             log.info("[ProductCache] Cached search result for key: {}", cacheKey);
         } catch (JsonProcessingException e) {
@@ -60,16 +66,36 @@ public class ProductCacheService {
         return Boolean.TRUE.equals(redisTemplate.hasKey(cacheKey));
     }
     
+    /**
+     * 키워드의 로컬 카탈로그가 네이버 결과로 갱신되었음을 기록 (하이브리드 검색 신선도 판단용)
+     */
+    public void markKeywordRefreshed(String keyword, Duration ttl) {
+        try {
+            redisTemplate.opsForValue().set(REFRESHED_PREFIX + keyword.toLowerCase(Locale.ROOT),
+                    String.valueOf(System.currentTimeMillis()), ttl);
+        } catch (Exception e) {
+            log.error("[ProductCache] Failed to mark keyword refreshed: {}", e.getMessage());
+        }
+    }
+    
+    public boolean isKeywordRefreshed(String keyword) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(REFRESHED_PREFIX + keyword.toLowerCase(Locale.ROOT)));
+        } catch (Exception e) {
+            log.error("[ProductCache] Failed to check keyword refresh: {}", e.getMessage());
+            return false;
+        }
+    }
+    
     public void invalidateCache(String keyword) {
-        String pattern = CACHE_PREFIX + keyword + "*";
-        // Redis에서 패턴 매칭으로 키를 찾아 삭제하는 로직
-        // 실제 구현에서는 더 정교한 방법을 사용할 수 있습니다.
-        log.info("[ProductCache] Invalidated cache for keyword: {}", keyword);
+        String normalized = keyword.toLowerCase(Locale.ROOT);
+        long removed = cacheTagService.invalidate(CACHE_PREFIX + normalized, CACHE_PREFIX + normalized + ":");
+        log.info("[ProductCache] Invalidated cache for keyword: {} ({} keys)", keyword, removed);
     }
     
     private String generateCacheKey(ProductSearchRequest request) {
         StringBuilder keyBuilder = new StringBuilder(CACHE_PREFIX);
-        keyBuilder.append(request.keyword().toLowerCase());
+        keyBuilder.append(request.keyword().toLowerCase(Locale.ROOT));
         keyBuilder.append(":page=").append(request.page());
         keyBuilder.append(":size=").append(request.size());
         keyBuilder.append(":sort=").append(request.sort());
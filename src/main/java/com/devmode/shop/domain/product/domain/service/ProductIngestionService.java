@@ -0,0 +1,83 @@
+package com.devmode.shop.domain.product.domain.service;
+
+import com.devmode.shop.domain.product.application.dto.response.ProductItem;
+import com.devmode.shop.domain.product.domain.entity.Product;
+import com.devmode.shop.domain.product.domain.repository.ProductBulkRepository;
+import com.devmode.shop.domain.product.domain.repository.ProductBulkRepository.UpsertResult;
+import com.devmode.shop.global.config.properties.ProductIngestionProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 정규화된 검색 결과를 products 테이블에 일괄 저장
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductIngestionService {
+
+    private final ProductBulkRepository productBulkRepository;
+    private final ProductIngestionProperties properties;
+
+    /**
+     * 검색 유스케이스는 읽기 전용 트랜잭션이므로 별도 트랜잭션에서 저장한다
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public UpsertResult ingest(String searchKeyword, List<ProductItem> items) {
+        if (!properties.isEnabled() || items == null || items.isEmpty()) {
+            return new UpsertResult(0, 0, 0, 0);
+        }
+
+        List<Product> products = items.stream()
+                .filter(item -> item.id() != null && item.price() != null)
+                .map(item -> toProduct(searchKeyword, item))
+                .toList();
+
+        UpsertResult result = productBulkRepository.upsertAll(products);
+        log.debug("[ProductIngestion] 상품 저장 - keyword: {}, 요청: {}, 고유: {}, 반영: {}, 변경없음: {}",
+                searchKeyword, result.requested(), result.unique(), result.written(), result.unchanged());
+        return result;
+    }
+
+    Product toProduct(String searchKeyword, ProductItem item) {
+        String productType = defaultString(item.productType());
+        String sellerType = defaultString(item.sellerType());
+        List<String> filters = item.appliedFilters() != null ? item.appliedFilters() : List.of();
+
+        return Product.builder()
+                .title(defaultString(item.title()))
+                .link(defaultString(item.productUrl()))
+                .image(defaultString(item.imageUrl()))
+                .lprice(item.price())
+                .hprice(item.originalPrice() != null ? item.originalPrice() : item.price())
+                .mallName(defaultString(item.mallName()))
+                .productId(item.id())
+                .productType(productType)
+                .brand(defaultString(item.brand()))
+                .maker(defaultString(item.maker()))
+                .category1(defaultString(item.category1()))
+                .category2(defaultString(item.category2()))
+                .category3(defaultString(item.category3()))
+                .category4(defaultString(item.category4()))
+                .searchKeyword(defaultString(searchKeyword))
+                .naverProductId(item.id())
+                .isUsed("중고".equals(sellerType) || "중고품".equals(productType))
+                .isRental("렌탈".equals(sellerType) || "렌탈품".equals(productType))
+                .isOverseas("해외직구".equals(sellerType) || "해외직구".equals(productType))
+                .isNPay(filters.contains("npay"))
+                .reviewCount(item.reviewCount() != null ? item.reviewCount() : 0)
+                .rating(item.rating() != null ? item.rating().doubleValue() : 0.0)
+                .shippingInfo(defaultString(item.shippingInfo()))
+                .additionalInfo(defaultString(item.categoryPath()))
+                .build();
+    }
+
+    private static String defaultString(String value) {
+        return value != null ? value : "";
+    }
+}
@@ -0,0 +1,66 @@
+package com.devmode.shop.domain.product.domain.service;
+
+import com.devmode.shop.domain.product.application.dto.request.ProductSearchRequest;
+import com.devmode.shop.domain.product.application.dto.response.ProductItem;
+import com.devmode.shop.domain.product.application.dto.response.ProductSearchResponse;
+import com.devmode.shop.domain.product.domain.entity.Product;
+import com.devmode.shop.domain.product.domain.repository.ProductLocalSearchRepository;
+import com.devmode.shop.domain.product.domain.repository.ProductLocalSearchRepository.LocalSearchResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 저장된 상품 카탈로그 검색 서비스 (네이버 API 쿼터 미사용)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductLocalSearchService {
+
+    private final ProductLocalSearchRepository localSearchRepository;
+    private final ProductNormalizationService normalizationService;
+
+    @Transactional(readOnly = true)
+    public LocalSearchResult searchProducts(ProductSearchRequest request) {
+        long startTime = System.currentTimeMillis();
+        LocalSearchResult result = localSearchRepository.search(request);
+        log.debug("[ProductLocalSearch] keyword: {}, 결과: {}/{}건, {}ms", request.keyword(),
+                result.products().size(), result.totalCount(), System.currentTimeMillis() - startTime);
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public ProductSearchResponse search(ProductSearchRequest request, List<String> appliedFilters) {
+        long startTime = System.currentTimeMillis();
+        return toResponse(request, appliedFilters, searchProducts(request), startTime);
+    }
+
+    public ProductSearchResponse toResponse(ProductSearchRequest request, List<String> appliedFilters,
+                                            LocalSearchResult result, long startTime) {
+        List<ProductItem> items = toProductItems(result.products(), request, appliedFilters);
+        ProductSearchResponse.SearchMetadata metadata = new ProductSearchResponse.SearchMetadata(
+                null, "local", System.currentTimeMillis() - startTime, 0, null);
+
+        return new ProductSearchResponse(
+                request.keyword(), request.page(), request.size(), (int) result.totalCount(),
+                request.page(), request.size(), null, request.sort(), "local",
+                appliedFilters, items, metadata
+        );
+    }
+
+    public List<ProductItem> toProductItems(List<Product> products, ProductSearchRequest request,
+                                            List<String> appliedFilters) {
+        int rankOffset = (request.page() - 1) * request.size();
+        List<ProductItem> items = new ArrayList<>(products.size());
+        for (int i = 0; i < products.size(); i++) {
+            items.add(normalizationService.normalizeStoredProduct(
+                    products.get(i), request.keyword(), appliedFilters, rankOffset + i + 1));
+        }
+        return items;
+    }
+}
@@ -2,6 +2,7 @@ package com.devmode.shop.domain.product.domain.service;
 
 import com.devmode.shop.domain.product.application.dto.response.NaverProductItem;
 import com.devmode.shop.domain.product.application.dto.response.ProductItem;
+import com.devmode.shop.domain.product.domain.entity.Product;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
@@ -110,6 +111,68 @@ public class ProductNormalizationService {
         }
     }
     
+    /**
+     * 저장된 Product 를 ProductItem 으로 변환 (로컬 검색 결과용)
+     * 저장 시 이미 정규화된 값이므로 표시용 파생 필드만 다시 생성한다.
+     */
+    public ProductItem normalizeStoredProduct(Product product, String searchKeyword,
+                                              List<String> appliedFilters, int searchRank) {
+        BigDecimal price = product.getLprice();
+        BigDecimal originalPrice = product.getHprice();
+        BigDecimal rating = product.getRating() != null ? BigDecimal.valueOf(product.getRating()) : null;
+        String category1 = emptyToNull(product.getCategory1());
+        String category2 = emptyToNull(product.getCategory2());
+        String category3 = emptyToNull(product.getCategory3());
+        String category4 = emptyToNull(product.getCategory4());
+        String brand = emptyToNull(product.getBrand());
+        String sellerType = Boolean.TRUE.equals(product.getIsUsed()) ? "중고"
+                : Boolean.TRUE.equals(product.getIsRental()) ? "렌탈"
+                : Boolean.TRUE.equals(product.getIsOverseas()) ? "해외직구"
+                : "신상품";
+
+        return new ProductItem(
+            product.getNaverProductId(),
+            product.getTitle(),
+            generateDescription(product.getTitle()),
+            price,
+            originalPrice,
+            calculateDiscountRate(price, originalPrice),
+            generatePriceDisplay(price),
+            generatePriceRange(price, originalPrice),
+            emptyToNull(product.getImage()),
+            generateThumbnailUrl(emptyToNull(product.getImage())),
+            new ArrayList<>(),
+            product.getMallName(),
+            generateMallCode(product.getMallName()),
+            sellerType,
+            category1,
+            category2,
+            category3,
+            category4,
+            generateCategoryPath(category1, category2, category3, category4),
+            brand,
+            generateBrandCode(brand),
+            emptyToNull(product.getMaker()),
+            product.getProductType(),
+            Boolean.TRUE.equals(product.getIsUsed()) ? "중고" : "새상품",
+            normalizeShippingInfo(product.getShippingInfo()),
+            determineAvailability(),
+            rating,
+            product.getReviewCount(),
+            generateRatingDisplay(rating),
+            product.getLink(),
+            product.getUpdatedAt(),
+            "local",
+            searchKeyword,
+            appliedFilters,
+            searchRank
+        );
+    }
+    
+    private String emptyToNull(String value) {
+        return (value == null || value.isEmpty()) ? null : value;
+    }
+    
     /**
      * 가격 정규화 (원화 통일)
      */
@@ -0,0 +1,148 @@
+package com.devmode.shop.domain.product.domain.service;
+
+import com.devmode.shop.domain.product.application.dto.request.ProductSearchRequest;
+import com.devmode.shop.domain.product.application.dto.response.NaverProductItem;
+import com.devmode.shop.domain.product.application.dto.response.NaverShoppingResponse;
+import com.devmode.shop.domain.product.domain.entity.Product;
+import com.devmode.shop.global.config.properties.PriceAlertProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 저장된 상품의 최신 가격 조회 서비스
+ * 같은 검색 키워드를 가진 상품들은 한 번의 네이버 API 호출로 함께 갱신하고,
+ * 사용자 검색용 쿼터(quotaReserve)는 건드리지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductPriceRefreshService {
+
+    private final NaverShoppingApiService naverShoppingApiService;
+    private final NaverApiQuotaService quotaService;
+    private final PriceAlertProperties priceAlertProperties;
+
+    public PriceRefreshResult refreshPrices(List<Product> products, int callBudget) {
+        Map<String, List<Product>> productsByKeyword = groupByKeyword(products);
+        Map<Long, PriceSnapshot> prices = new HashMap<>();
+        // 조회할 키워드가 없는 상품은 갱신할 것이 없으므로 처리한 것으로 봄
+        Set<Long> refreshedProductIds = products.stream()
+            .filter(product -> resolveKeyword(product) == null)
+            .map(Product::getId)
+            .collect(Collectors.toCollection(HashSet::new));
+        int apiCallCount = 0;
+        boolean budgetExhausted = false;
+
+        for (Map.Entry<String, List<Product>> entry : productsByKeyword.entrySet()) {
+            if (apiCallCount >= callBudget || quotaService.getRemainingCalls() <= priceAlertProperties.getQuotaReserve()) {
+                budgetExhausted = true;
+                break;
+            }
+
+            // 호출이 실패한 묶음도 다음 실행까지 다시 조회하지 않으므로 처리한 것으로 봄 (실패 묶음에 커서가 묶이지 않도록)
+            entry.getValue().forEach(product -> refreshedProductIds.add(product.getId()));
+            try {
+                NaverShoppingResponse response = naverShoppingApiService.searchProducts(buildRequest(entry.getKey()));
+                apiCallCount++;
+                quotaService.incrementApiCallCount();
+
+                if (response != null) {
+                    matchPrices(entry.getValue(), response.items(), prices);
+                }
+            } catch (RestClientException e) {
+                log.warn("[PriceRefresh] Failed to refresh prices for keyword: {}. Error: {}", entry.getKey(), e.getMessage());
+            }
+        }
+
+        log.info("[PriceRefresh] Refreshed {} of {} products with {} API calls (keywords: {})",
+                prices.size(), products.size(), apiCallCount, productsByKeyword.size());
+        return new PriceRefreshResult(prices, refreshedProductIds, apiCallCount, budgetExhausted);
+    }
+
+    /**
+     * 검색 키워드 기준으로 상품을 묶어 API 호출을 중복 제거
+     */
+    private Map<String, List<Product>> groupByKeyword(List<Product> products) {
+        Map<String, List<Product>> grouped = new LinkedHashMap<>();
+        for (Product product : products) {
+            String keyword = resolveKeyword(product);
+            if (keyword != null) {
+                grouped.computeIfAbsent(keyword, k -> new ArrayList<>()).add(product);
+            }
+        }
+        return grouped;
+    }
+
+    private String resolveKeyword(Product product) {
+        if (product.getSearchKeyword() != null && !product.getSearchKeyword().isBlank()) {
+            return product.getSearchKeyword().trim().toLowerCase();
+        }
+        if (product.getTitle() != null && !product.getTitle().isBlank()) {
+            return product.getTitle().trim().toLowerCase();
+        }
+        return null;
+    }
+
+    private ProductSearchRequest buildRequest(String keyword) {
+        return new ProductSearchRequest(
+            keyword, 1, priceAlertProperties.getDisplayPerCall(), "sim", null, null,
+            null, null, null, null, null, null,
+            null, null, null, null
+        );
+    }
+
+    private void matchPrices(List<Product> products, List<NaverProductItem> items, Map<Long, PriceSnapshot> prices) {
+        Map<String, Product> productsByNaverId = new HashMap<>();
+        for (Product product : products) {
+            if (product.getNaverProductId() != null) {
+                productsByNaverId.put(product.getNaverProductId(), product);
+            }
+            if (product.getProductId() != null) {
+                productsByNaverId.putIfAbsent(product.getProductId(), product);
+            }
+        }
+
+        for (NaverProductItem item : items) {
+            Product product = productsByNaverId.get(item.productId());
+            if (product == null) {
+                continue;
+            }
+            BigDecimal lprice = parsePrice(item.lprice());
+            if (lprice != null) {
+                prices.putIfAbsent(product.getId(), new PriceSnapshot(lprice, parsePrice(item.hprice())));
+            }
+        }
+    }
+
+    private BigDecimal parsePrice(String priceStr) {
+        if (priceStr == null) {
+            return null;
+        }
+        String digits = priceStr.replaceAll("[^0-9]", "");
+        return digits.isEmpty() ? null : new BigDecimal(digits);
+    }
+
+    public record PriceSnapshot(BigDecimal lprice, BigDecimal hprice) {}
+
+    /**
+     * refreshedProductIds: 이번 호출에서 조회까지 마친 상품 ID (예산 소진으로 조회하지 못한 키워드 묶음의 상품은 제외)
+     */
+    public record PriceRefreshResult(
+        Map<Long, PriceSnapshot> prices,
+        Set<Long> refreshedProductIds,
+        int apiCallCount,
+        boolean budgetExhausted
+    ) {}
+}
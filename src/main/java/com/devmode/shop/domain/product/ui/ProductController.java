@@ -1,15 +1,20 @@
 package com.devmode.shop.domain.product.ui;
 
 import com.devmode.shop.domain.product.application.dto.request.ProductSearchRequest;
+import com.devmode.shop.domain.product.application.dto.response.LowestPriceResponse;
+import com.devmode.shop.domain.product.application.dto.response.PriceHistoryResponse;
 import com.devmode.shop.domain.product.application.dto.response.ProductResponse;
 import com.devmode.shop.domain.product.application.dto.response.ProductSearchResponse;
+import com.devmode.shop.domain.product.application.usecase.PriceHistoryUseCase;
 import com.devmode.shop.domain.product.application.usecase.ProductSearchUseCase;
 import com.devmode.shop.global.annotation.ProductApi;
 import com.devmode.shop.global.common.BaseResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 
 @RestController
@@ -18,6 +23,7 @@ import java.util.Arrays;
 public class ProductController implements ProductApi {
     
     private final ProductSearchUseCase productSearchUseCase;
+    private final PriceHistoryUseCase priceHistoryUseCase;
     
     @PostMapping("/search")
     @Override
@@ -50,6 +56,26 @@ public class ProductController implements ProductApi {
         return BaseResponse.onSuccess(productResponse);
     }
     
+    @GetMapping("/{productId}/price-history")
+    @Override
+    public BaseResponse<PriceHistoryResponse> getPriceHistory(
+            @PathVariable String productId,
+            @RequestParam(defaultValue = "daily") String resolution,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        PriceHistoryResponse response = priceHistoryUseCase.getPriceHistory(productId, resolution, from, to);
+        return BaseResponse.onSuccess(response);
+    }
+
+    @GetMapping("/{productId}/lowest-price")
+    @Override
+    public BaseResponse<LowestPriceResponse> getLowestPrice(
+            @PathVariable String productId,
+            @RequestParam(defaultValue = "30") Integer days) {
+        LowestPriceResponse response = priceHistoryUseCase.getLowestPrice(productId, days);
+        return BaseResponse.onSuccess(response);
+    }
+    
     @GetMapping("/health")
     @Override
     public BaseResponse<String> healthCheck() {
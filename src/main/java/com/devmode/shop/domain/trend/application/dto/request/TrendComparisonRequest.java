@@ -0,0 +1,25 @@
+package com.devmode.shop.domain.trend.application.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record TrendComparisonRequest(
+        @NotEmpty(message = "비교할 키워드는 필수입니다")
+        @Size(max = 20, message = "비교 키워드는 최대 20개까지 가능합니다")
+        List<String> keywords,
+
+        @NotNull(message = "시작 날짜는 필수입니다")
+        LocalDate startDate,
+
+        @NotNull(message = "종료 날짜는 필수입니다")
+        LocalDate endDate,
+
+        @Size(max = 10, message = "카테고리는 최대 10개까지 가능합니다")
+        List<String> categories,
+
+        String timeUnit // "date", "week", "month"
+) {}
@@ -0,0 +1,21 @@
+package com.devmode.shop.domain.trend.application.dto.response.analytics;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public record TrendAnalyticsResponse(
+        String keyword,
+        LocalDate startDate,
+        LocalDate endDate,
+        Integer pointCount,
+        Integer smaWindow,
+        Integer emaSpan,
+        List<LocalDate> dates,
+        List<BigDecimal> sma,
+        List<BigDecimal> ema,
+        TrendRegression regression,
+        TrendSeasonality seasonality,
+        String anomalyMethod, // "MAD", "ZSCORE"
+        List<TrendAnomaly> anomalies
+) {}
@@ -0,0 +1,11 @@
+package com.devmode.shop.domain.trend.application.dto.response.analytics;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public record TrendAnomaly(
+        LocalDate date,
+        BigDecimal ratio,
+        BigDecimal expectedRatio,
+        BigDecimal score
+) {}
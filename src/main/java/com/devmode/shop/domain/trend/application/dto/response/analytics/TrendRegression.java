@@ -0,0 +1,12 @@
+package com.devmode.shop.domain.trend.application.dto.response.analytics;
+
+import java.math.BigDecimal;
+
+public record TrendRegression(
+        BigDecimal slopePerDay,
+        BigDecimal intercept,
+        BigDecimal rSquared,
+        BigDecimal slopeLower95,
+        BigDecimal slopeUpper95,
+        String trendDirection // 신뢰구간이 0을 포함하면 "STABLE"
+) {}
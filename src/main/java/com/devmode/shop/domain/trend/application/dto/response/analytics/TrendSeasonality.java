@@ -0,0 +1,9 @@
+package com.devmode.shop.domain.trend.application.dto.response.analytics;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record TrendSeasonality(
+        List<BigDecimal> weekdayIndex, // 월요일 ~ 일요일, 추세 대비 평균 편차
+        BigDecimal strength // 0 ~ 1, 요일 효과로 설명되는 잔차 비율
+) {}
@@ -0,0 +1,15 @@
+package com.devmode.shop.domain.trend.application.dto.response.comparison;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record TrendComparisonResponse(
+        LocalDate startDate,
+        LocalDate endDate,
+        String timeUnit,
+        List<LocalDate> dates, // 모든 시리즈가 공유하는 날짜 축
+        List<TrendComparisonSeries> series,
+        Long apiCallCount,
+        Long cachedKeywordCount,
+        Long responseTime
+) {}
@@ -0,0 +1,13 @@
+package com.devmode.shop.domain.trend.application.dto.response.comparison;
+
+import com.devmode.shop.domain.trend.application.dto.response.trend.TrendSummary;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+public record TrendComparisonSeries(
+        String keyword,
+        List<BigDecimal> ratios, // 응답의 dates 와 같은 순서, 값이 없는 일자는 null
+        TrendSummary summary,
+        String cacheStatus // "cached", "fresh"
+) {}
@@ -0,0 +1,17 @@
+package com.devmode.shop.domain.trend.application.dto.response.demographics;
+
+import com.devmode.shop.domain.trend.application.dto.response.common.AgeDistribution;
+import com.devmode.shop.domain.trend.application.dto.response.common.DeviceDistribution;
+import com.devmode.shop.domain.trend.application.dto.response.common.GenderDistribution;
+
+import java.time.LocalDate;
+
+public record TrendDemographicsResponse(
+        String keyword,
+        LocalDate startDate,
+        LocalDate endDate,
+        Long sampleCount, // 평균에 사용한 저장 일자 수
+        DeviceDistribution deviceDistribution, // 저장된 분포가 없으면 null
+        GenderDistribution genderDistribution,
+        AgeDistribution ageDistribution
+) {}
@@ -0,0 +1,9 @@
+package com.devmode.shop.domain.trend.application.dto.response.ranking;
+
+import java.math.BigDecimal;
+
+public record TrendRankItem(
+        int rank,
+        String keyword,
+        BigDecimal score // RATIO: 비율, RISING: 전일 대비 비율 변화
+) {}
@@ -0,0 +1,11 @@
+package com.devmode.shop.domain.trend.application.dto.response.ranking;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record TrendRankingResponse(
+        LocalDate date,
+        String type,   // "RATIO", "RISING"
+        String source, // "leaderboard", "database"
+        List<TrendRankItem> items
+) {}
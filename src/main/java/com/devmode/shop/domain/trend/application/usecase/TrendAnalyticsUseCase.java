@@ -0,0 +1,68 @@
+package com.devmode.shop.domain.trend.application.usecase;
+
+import com.devmode.shop.domain.trend.application.dto.request.TrendSearchRequest;
+import com.devmode.shop.domain.trend.application.dto.response.analytics.TrendAnalyticsResponse;
+import com.devmode.shop.domain.trend.application.dto.response.trend.TrendDataPoint;
+import com.devmode.shop.domain.trend.application.dto.response.trend.TrendSearchResponse;
+import com.devmode.shop.domain.trend.domain.service.TrendAnalyticsService;
+import com.devmode.shop.domain.trend.domain.service.TrendAnalyticsService.BatchResult;
+import com.devmode.shop.domain.trend.domain.service.TrendCacheService;
+import com.devmode.shop.domain.trend.domain.service.TrendVariant;
+import com.devmode.shop.domain.trend.domain.service.TrendSeriesKey;
+import com.devmode.shop.global.config.properties.TrendAnalyticsProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendAnalyticsUseCase {
+
+    private final TrendSearchUseCase trendSearchUseCase;
+    private final TrendAnalyticsService trendAnalyticsService;
+    private final TrendCacheService trendCacheService;
+    private final TrendAnalyticsProperties properties;
+
+    /**
+     * 분석 결과 캐시 → 트렌드 검색(포인트 캐시/DB/DataLab) 결과로 분석 순으로 처리
+     * 캐시 키는 일 단위 시리즈 기준이라 주/월 단위 조회는 캐시하지 않는다.
+     * 어제로 끝나는 최근 N일(trend-analytics.batch-windows) 조회는 일괄 분석이 미리 채운 결과를 그대로 읽는다.
+     */
+    public TrendAnalyticsResponse getAnalytics(TrendSearchRequest request) {
+        TrendSeriesKey key = new TrendSeriesKey(request.keyword(), TrendVariant.of(request),
+                request.startDate(), request.endDate());
+        if (!isDaily(request)) {
+            return trendAnalyticsService.compute(key, searchPoints(request));
+        }
+        return trendCacheService.getCachedAnalytics(key)
+                .orElseGet(() -> trendAnalyticsService.analyze(key, searchPoints(request)));
+    }
+
+    @Scheduled(cron = "${trend-analytics.cron:0 30 4 * * *}")
+    public void runScheduledAnalysis() {
+        if (!properties.isBatchEnabled()) {
+            return;
+        }
+        analyzeStoredTrends();
+    }
+
+    public BatchResult analyzeStoredTrends() {
+        return trendAnalyticsService.analyzeStored(LocalDate.now().minusDays(1),
+                Objects.requireNonNullElse(properties.getBatchWindows(), List.of()));
+    }
+
+    private List<TrendDataPoint> searchPoints(TrendSearchRequest request) {
+        TrendSearchResponse search = trendSearchUseCase.searchTrends(request);
+        return Objects.requireNonNullElse(search.dataPoints(), List.of());
+    }
+
+    private static boolean isDaily(TrendSearchRequest request) {
+        return request.timeUnit() == null || "date".equals(request.timeUnit());
+    }
+}
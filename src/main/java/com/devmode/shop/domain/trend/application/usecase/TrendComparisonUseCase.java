@@ -0,0 +1,254 @@
+package com.devmode.shop.domain.trend.application.usecase;
+
+import com.devmode.shop.domain.trend.application.dto.request.TrendComparisonRequest;
+import com.devmode.shop.domain.trend.application.dto.request.TrendSearchRequest;
+import com.devmode.shop.domain.trend.application.dto.response.comparison.TrendComparisonResponse;
+import com.devmode.shop.domain.trend.application.dto.response.comparison.TrendComparisonSeries;
+import com.devmode.shop.domain.trend.application.dto.response.trend.TrendDataPoint;
+import com.devmode.shop.domain.trend.application.dto.response.trend.TrendSearchResponse;
+import com.devmode.shop.domain.trend.domain.service.NaverDataLabApiService;
+import com.devmode.shop.domain.trend.domain.service.TrendCacheService;
+import com.devmode.shop.domain.trend.domain.service.TrendScale;
+import com.devmode.shop.domain.trend.domain.service.TrendTransformService;
+import com.devmode.shop.global.config.properties.DataLabApiProperties;
+import com.devmode.shop.global.exception.RestApiException;
+import com.devmode.shop.global.exception.code.status.GlobalErrorStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * 여러 키워드의 트렌드 비교
+ * 키워드를 DataLab 호출 1회에 담을 수 있는 만큼 묶어 병렬로 조회하고, 모든 시리즈를 같은 날짜 축에 맞춰 반환한다.
+ * DataLab 비율은 호출 단위로 상대값이므로, 호출이 여러 번으로 나뉘면 첫 키워드를 기준 키워드로 모든 호출에 포함시켜
+ * 이후 호출의 비율을 첫 호출 기준으로 환산한다.
+ * 캐시는 호출 단위 원본 결과만 저장하므로 캐시된 호출도 같은 기준으로 다시 환산되고, 단일 키워드 검색 캐시와는 섞이지 않는다.
+ */
+@Slf4j
+@Service
+public class TrendComparisonUseCase {
+
+    private static final int DEFAULT_GROUPS_PER_CALL = 5;
+
+    private final NaverDataLabApiService naverDataLabApiService;
+    private final TrendCacheService trendCacheService;
+    private final TrendTransformService transformService;
+    private final DataLabApiProperties dataLabApiProperties;
+    private final Executor dataLabTaskExecutor;
+
+    public TrendComparisonUseCase(
+            NaverDataLabApiService naverDataLabApiService,
+            TrendCacheService trendCacheService,
+            TrendTransformService transformService,
+            DataLabApiProperties dataLabApiProperties,
+            @Qualifier("dataLabTaskExecutor") Executor dataLabTaskExecutor
+    ) {
+        this.naverDataLabApiService = naverDataLabApiService;
+        this.trendCacheService = trendCacheService;
+        this.transformService = transformService;
+        this.dataLabApiProperties = dataLabApiProperties;
+        this.dataLabTaskExecutor = dataLabTaskExecutor;
+    }
+
+    public TrendComparisonResponse compareTrends(TrendComparisonRequest request) {
+        long startTime = System.currentTimeMillis();
+        if (request.startDate() == null || request.endDate() == null || request.startDate().isAfter(request.endDate())) {
+            throw new RestApiException(GlobalErrorStatus.INVALID_TREND_COMPARISON_REQUEST);
+        }
+        List<String> keywords = Objects.requireNonNullElse(request.keywords(), List.<String>of()).stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(keyword -> !keyword.isEmpty())
+                .distinct()
+                .toList();
+        if (keywords.isEmpty()) {
+            throw new RestApiException(GlobalErrorStatus.INVALID_TREND_COMPARISON_REQUEST);
+        }
+        String timeUnit = request.timeUnit() != null ? request.timeUnit() : "date";
+
+        // 1. 호출 단위로 나누고, 같은 키워드 묶음의 이전 호출 결과(원본 비율)가 캐시에 있으면 재사용
+        List<List<String>> batches = toBatches(keywords);
+        List<TrendSearchRequest> batchRequests = batches.stream().map(batch -> batchRequest(request, batch)).toList();
+        List<List<List<TrendDataPoint>>> results = new ArrayList<>(Collections.nCopies(batches.size(), null));
+        Map<Integer, CompletableFuture<List<List<TrendDataPoint>>>> futures = new LinkedHashMap<>();
+        for (int i = 0; i < batches.size(); i++) {
+            Optional<List<List<TrendDataPoint>>> cached = trendCacheService.getCachedComparisonBatch(batchRequests.get(i));
+            if (cached.isPresent()) {
+                results.set(i, cached.get());
+            } else {
+                TrendSearchRequest batchRequest = batchRequests.get(i);
+                futures.put(i, CompletableFuture.supplyAsync(() -> fetchBatch(batchRequest), dataLabTaskExecutor));
+            }
+        }
+
+        // 2. 나머지 호출은 병렬로 조회하고 호출 결과 그대로 캐시 (단일 키워드 검색 캐시에는 쓰지 않음)
+        try {
+            futures.forEach((i, future) -> {
+                List<List<TrendDataPoint>> fetched = future.join();
+                results.set(i, fetched);
+                trendCacheService.cacheComparisonBatch(batchRequests.get(i), fetched);
+            });
+        } catch (CompletionException e) {
+            log.warn("[TrendComparison] DataLab 조회 실패 - keywords: {}, error: {}", keywords,
+                    e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+            throw new RestApiException(GlobalErrorStatus.TREND_SEARCH_ERROR);
+        }
+
+        // 3. 캐시/신규 여부와 관계없이 모든 호출을 기준 키워드로 첫 호출 기준에 맞춘 뒤 키워드별 응답 구성
+        long elapsed = System.currentTimeMillis() - startTime;
+        Map<String, TrendSearchResponse> responses = new HashMap<>();
+        Map<String, String> cacheStatus = new HashMap<>();
+        Map<String, Integer> batchOf = new HashMap<>();
+        for (int i = 0; i < batches.size(); i++) {
+            for (String keyword : batches.get(i)) {
+                batchOf.putIfAbsent(keyword, i);
+            }
+        }
+        toSeriesByKeyword(batches, results).forEach((keyword, points) -> {
+            String status = futures.containsKey(batchOf.get(keyword)) ? "fresh" : "cached";
+            responses.put(keyword, transformService.assembleResponse(
+                    seriesRequest(request, keyword), points, timeUnit, status, elapsed, 1L, "available"));
+            cacheStatus.put(keyword, status);
+        });
+        long cachedKeywordCount = cacheStatus.values().stream().filter("cached"::equals).count();
+
+        // 4. 공통 날짜 축으로 정렬
+        List<LocalDate> dates = responses.values().stream()
+                .flatMap(response -> Objects.requireNonNullElse(response.dataPoints(), List.<TrendDataPoint>of()).stream())
+                .map(TrendDataPoint::date)
+                .distinct()
+                .sorted()
+                .toList();
+        List<TrendComparisonSeries> series = keywords.stream()
+                .filter(responses::containsKey)
+                .map(keyword -> toSeries(keyword, responses.get(keyword), dates, cacheStatus.get(keyword)))
+                .toList();
+
+        log.info("[TrendComparison] 키워드 비교 - 키워드: {}개, 캐시: {}개, API 호출: {}회",
+                keywords.size(), cachedKeywordCount, futures.size());
+
+        return new TrendComparisonResponse(
+                request.startDate(),
+                request.endDate(),
+                timeUnit,
+                dates,
+                series,
+                (long) futures.size(),
+                cachedKeywordCount,
+                System.currentTimeMillis() - startTime
+        );
+    }
+
+    /**
+     * 호출당 최대 그룹 수로 분할. 여러 번으로 나뉘면 두 번째 호출부터 첫 키워드를 기준으로 함께 담는다.
+     */
+    List<List<String>> toBatches(List<String> keywords) {
+        List<List<String>> batches = new ArrayList<>();
+        if (keywords.isEmpty()) {
+            return batches;
+        }
+
+        int groupsPerCall = Math.max(2, Objects.requireNonNullElse(
+                dataLabApiProperties.getMaxKeywordGroupsPerCall(), DEFAULT_GROUPS_PER_CALL));
+        if (keywords.size() <= groupsPerCall) {
+            batches.add(keywords);
+            return batches;
+        }
+
+        String anchor = keywords.get(0);
+        batches.add(keywords.subList(0, groupsPerCall));
+        for (int i = groupsPerCall; i < keywords.size(); i += groupsPerCall - 1) {
+            List<String> batch = new ArrayList<>();
+            batch.add(anchor);
+            batch.addAll(keywords.subList(i, Math.min(i + groupsPerCall - 1, keywords.size())));
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private List<List<TrendDataPoint>> fetchBatch(TrendSearchRequest batchRequest) {
+        return transformService.transformAllDataPoints(naverDataLabApiService.searchTrends(batchRequest));
+    }
+
+    private static TrendSearchRequest batchRequest(TrendComparisonRequest request, List<String> batch) {
+        return new TrendSearchRequest(
+                batch.get(0),
+                request.startDate(),
+                request.endDate(),
+                request.categories(),
+                batch,
+                request.timeUnit(),
+                false,
+                false,
+                false
+        );
+    }
+
+    /**
+     * 호출 결과를 키워드별로 풀고, 두 번째 호출부터는 기준 키워드 합계 비율로 첫 호출 기준에 맞춘다.
+     */
+    private Map<String, List<TrendDataPoint>> toSeriesByKeyword(List<List<String>> batches,
+                                                                List<List<List<TrendDataPoint>>> results) {
+        Map<String, List<TrendDataPoint>> seriesByKeyword = new LinkedHashMap<>();
+        BigDecimal anchorTotal = null;
+        for (int i = 0; i < batches.size(); i++) {
+            List<String> batch = batches.get(i);
+            List<List<TrendDataPoint>> batchSeries = results.get(i);
+            int count = Math.min(batch.size(), batchSeries.size());
+            if (count == 0) {
+                continue;
+            }
+
+            BigDecimal total = sumRatios(batchSeries.get(0));
+            if (i == 0) {
+                anchorTotal = total;
+            }
+            BigDecimal factor = i > 0 && anchorTotal != null && total.signum() > 0
+                    ? anchorTotal.divide(total, 8, RoundingMode.HALF_UP)
+                    : BigDecimal.ONE;
+
+            for (int j = i == 0 ? 0 : 1; j < count; j++) {
+                seriesByKeyword.put(batch.get(j), TrendScale.rescale(batchSeries.get(j), factor));
+            }
+        }
+        return seriesByKeyword;
+    }
+
+    private static BigDecimal sumRatios(List<TrendDataPoint> points) {
+        return points.stream()
+                .map(TrendDataPoint::ratio)
+                .filter(Objects::nonNull)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private static TrendComparisonSeries toSeries(String keyword, TrendSearchResponse response,
+                                                  List<LocalDate> dates, String cacheStatus) {
+        Map<LocalDate, BigDecimal> byDate = new HashMap<>();
+        Objects.requireNonNullElse(response.dataPoints(), List.<TrendDataPoint>of())
+                .forEach(point -> byDate.put(point.date(), point.ratio()));
+        List<BigDecimal> ratios = dates.stream().map(byDate::get).toList();
+        return new TrendComparisonSeries(keyword, ratios, response.summary(), cacheStatus);
+    }
+
+    private static TrendSearchRequest seriesRequest(TrendComparisonRequest request, String keyword) {
+        return new TrendSearchRequest(
+                keyword,
+                request.startDate(),
+                request.endDate(),
+                request.categories(),
+                List.of(keyword),
+                request.timeUnit(),
+                false,
+                false,
+                false
+        );
+    }
+}
@@ -0,0 +1,77 @@
+package com.devmode.shop.domain.trend.application.usecase;
+
+import com.devmode.shop.domain.trend.application.dto.request.TrendSearchRequest;
+import com.devmode.shop.domain.trend.application.dto.response.common.AgeDistribution;
+import com.devmode.shop.domain.trend.application.dto.response.common.DeviceDistribution;
+import com.devmode.shop.domain.trend.application.dto.response.common.GenderDistribution;
+import com.devmode.shop.domain.trend.application.dto.response.demographics.TrendDemographicsResponse;
+import com.devmode.shop.domain.trend.domain.repository.TrendRepository;
+import com.devmode.shop.domain.trend.domain.repository.projection.DemographicShare;
+import com.devmode.shop.domain.trend.domain.service.TrendVariant;
+import com.devmode.shop.global.exception.RestApiException;
+import com.devmode.shop.global.exception.code.status.GlobalErrorStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * 저장된 트렌드의 기간 평균 기기/성별/연령 분포
+ * 일자별 행을 엔티티로 읽지 않고 DB 집계 결과(키워드당 1행)만 조회한다.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class TrendDemographicsUseCase {
+
+    private final TrendRepository trendRepository;
+
+    public TrendDemographicsResponse getDemographics(TrendSearchRequest request) {
+        if (request.keyword() == null || request.startDate() == null || request.endDate() == null
+                || request.startDate().isAfter(request.endDate())) {
+            throw new RestApiException(GlobalErrorStatus.INVALID_TREND_DEMOGRAPHICS_REQUEST);
+        }
+
+        List<DemographicShare> shares = trendRepository.aggregateDemographics(
+                List.of(request.keyword()), TrendVariant.of(request),
+                request.startDate(), request.endDate());
+        if (shares.isEmpty()) {
+            return new TrendDemographicsResponse(request.keyword(), request.startDate(), request.endDate(),
+                    0L, null, null, null);
+        }
+
+        DemographicShare share = shares.get(0);
+        return new TrendDemographicsResponse(
+                request.keyword(),
+                request.startDate(),
+                request.endDate(),
+                share.sampleCount(),
+                anyPresent(share.deviceMobile(), share.devicePc(), share.deviceTablet())
+                        ? new DeviceDistribution(scaled(share.deviceMobile()), scaled(share.devicePc()), scaled(share.deviceTablet()))
+                        : null,
+                anyPresent(share.genderMale(), share.genderFemale())
+                        ? new GenderDistribution(scaled(share.genderMale()), scaled(share.genderFemale()))
+                        : null,
+                anyPresent(share.age10s(), share.age20s(), share.age30s(), share.age40s(), share.age50s(), share.age60s())
+                        ? new AgeDistribution(scaled(share.age10s()), scaled(share.age20s()), scaled(share.age30s()),
+                                scaled(share.age40s()), scaled(share.age50s()), scaled(share.age60s()))
+                        : null
+        );
+    }
+
+    private static boolean anyPresent(Double... values) {
+        for (Double value : values) {
+            if (value != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static BigDecimal scaled(Double value) {
+        return value != null ? BigDecimal.valueOf(value).setScale(4, RoundingMode.HALF_UP) : null;
+    }
+}
@@ -0,0 +1,191 @@
+package com.devmode.shop.domain.trend.application.usecase;
+
+import com.devmode.shop.domain.trend.application.dto.request.TrendSearchRequest;
+import com.devmode.shop.domain.trend.application.dto.response.trend.TrendDataPoint;
+import com.devmode.shop.domain.trend.domain.repository.TrendRepository;
+import com.devmode.shop.domain.trend.domain.service.DataLabQuotaService;
+import com.devmode.shop.domain.trend.domain.service.NaverDataLabApiService;
+import com.devmode.shop.domain.trend.domain.service.TrendIngestionCheckpointService;
+import com.devmode.shop.domain.trend.domain.service.TrendLeaderboardService;
+import com.devmode.shop.domain.trend.domain.service.TrendPersistenceService;
+import com.devmode.shop.domain.trend.domain.service.TrendPointCacheService;
+import com.devmode.shop.domain.trend.domain.service.TrendTransformService;
+import com.devmode.shop.global.config.properties.TrendIngestionProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 전날 트렌드 포인트 야간 수집
+ * 최근 조회된 키워드를 정렬된 순서로 하나씩, 수집 일자로 끝나는 windowDays 구간으로 조회해 수집 일자 포인트를 저장한다.
+ * 여러 키워드를 한 호출로 묶으면 비율이 그 묶음 안에서 정규화되므로 사용자 기본 조회 조건(단일 키워드, 분포 포함)으로 키워드당 한 번 호출한다.
+ * 조회 값은 windowDays 구간 기준으로 정규화되어 있으므로 TrendPersistenceService 가 구간 안의 저장된 확정 일자로 시리즈 기준에 맞춰 저장하고,
+ * 포인트 캐시에는 그렇게 저장된 값만 올린다 (순위는 같은 호출 안의 전날 대비 값이라 호출 구간 기준 그대로 사용).
+ * 사용자 조회용 쿼터(quotaReserve)는 남겨두며, 쿼터가 부족하거나 호출이 실패하면 체크포인트를 남기고 멈춘 뒤
+ * 시작 시 또는 resume-delay 주기로 이어서 수집한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendIngestionUseCase {
+
+    private static final int RESUME_LOOKBACK_DAYS = 2; // 체크포인트 보관 기간(3일) 안에서 재개할 수집 일자 수
+
+    private final TrendRepository trendRepository;
+    private final NaverDataLabApiService naverDataLabApiService;
+    private final TrendTransformService transformService;
+    private final TrendPointCacheService trendPointCacheService;
+    private final TrendPersistenceService trendPersistenceService;
+    private final DataLabQuotaService dataLabQuotaService;
+    private final TrendIngestionCheckpointService checkpointService;
+    private final TrendLeaderboardService trendLeaderboardService;
+    private final TrendIngestionProperties properties;
+
+    public record IngestionResult(LocalDate targetDate, int keywordCount, int apiCallCount, boolean completed) {}
+
+    @Scheduled(cron = "${trend-ingestion.cron:0 10 3 * * *}")
+    public void runScheduledIngestion() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        ingest(LocalDate.now().minusDays(1));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        resumePending();
+    }
+
+    /**
+     * 시작했지만 완료되지 않은 수집 일자를 오래된 순으로 이어서 수집 (쿼터 소진/호출 실패로 멈춘 실행 포함)
+     */
+    @Scheduled(fixedDelayString = "${trend-ingestion.resume-delay:PT30M}",
+            initialDelayString = "${trend-ingestion.resume-delay:PT30M}")
+    public void resumePending() {
+        if (!properties.isEnabled() || !properties.isResumeEnabled()) {
+            return;
+        }
+        for (int days = RESUME_LOOKBACK_DAYS; days >= 1; days--) {
+            LocalDate targetDate = LocalDate.now().minusDays(days);
+            if (checkpointService.isPending(targetDate)) {
+                log.info("[TrendIngestion] 중단된 수집 재개 - 수집 일자: {}", targetDate);
+                ingest(targetDate);
+            }
+        }
+    }
+
+    public IngestionResult ingest(LocalDate targetDate) {
+        if (checkpointService.isCompleted(targetDate)) {
+            return new IngestionResult(targetDate, 0, 0, true);
+        }
+        if (!checkpointService.tryLock(targetDate)) {
+            log.info("[TrendIngestion] 다른 인스턴스에서 수집 중 - 수집 일자: {}", targetDate);
+            return new IngestionResult(targetDate, 0, 0, false);
+        }
+
+        try {
+            checkpointService.markPending(targetDate);
+            return ingestKeywords(targetDate);
+        } finally {
+            checkpointService.unlock(targetDate);
+        }
+    }
+
+    private IngestionResult ingestKeywords(LocalDate targetDate) {
+        long startTime = System.currentTimeMillis();
+        Optional<String> lastKeyword = checkpointService.getLastKeyword(targetDate);
+        // DB 정렬(collation)과 String.compareTo 순서가 다를 수 있으므로 체크포인트 비교 전에 Java 에서 다시 정렬
+        List<String> keywords = trendRepository.findPopularKeywords(
+                        targetDate.minusDays(Objects.requireNonNullElse(properties.getKeywordLookbackDays(), 30))).stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .filter(keyword -> lastKeyword.map(last -> keyword.compareTo(last) > 0).orElse(true))
+                .toList();
+
+        int maxCalls = Objects.requireNonNullElse(properties.getMaxApiCallsPerRun(), 500);
+        int quotaReserve = Objects.requireNonNullElse(properties.getQuotaReserve(), 200);
+        int keywordCount = 0;
+        int apiCallCount = 0;
+        boolean completed = true;
+
+        for (String keyword : keywords) {
+            if (apiCallCount >= maxCalls || dataLabQuotaService.getRemainingCalls() <= quotaReserve) {
+                log.warn("[TrendIngestion] 호출 예산 소진, 다음 실행에서 이어서 수집 - 수집 일자: {}, 남은 키워드: {}개",
+                        targetDate, keywords.size() - keywordCount);
+                completed = false;
+                break;
+            }
+
+            apiCallCount++;
+            try {
+                ingestKeyword(targetDate, keyword);
+            } catch (Exception e) {
+                log.warn("[TrendIngestion] 수집 실패, 다음 실행에서 이어서 수집 - 수집 일자: {}, keyword: {}, error: {}",
+                        targetDate, keyword, e.getMessage());
+                completed = false;
+                break;
+            }
+            keywordCount++;
+            checkpointService.saveLastKeyword(targetDate, keyword);
+        }
+
+        if (completed) {
+            checkpointService.markCompleted(targetDate);
+        }
+        log.info("[TrendIngestion] 수집 {} - 수집 일자: {}, 키워드: {}개, API 호출: {}회, 소요: {}ms",
+                completed ? "완료" : "중단", targetDate, keywordCount, apiCallCount, System.currentTimeMillis() - startTime);
+        return new IngestionResult(targetDate, keywordCount, apiCallCount, completed);
+    }
+
+    /**
+     * 단일 키워드를 windowDays 구간으로 조회해 수집 일자 포인트만 시리즈 기준으로 저장
+     * 기준을 맞출 수 없어 저장하지 않은 경우 포인트 캐시에도 올리지 않음 (다음 사용자 조회에서 다시 조회)
+     */
+    private void ingestKeyword(LocalDate targetDate, String keyword) {
+        int windowDays = Math.max(1, Objects.requireNonNullElse(properties.getWindowDays(), 30));
+        TrendSearchRequest request = new TrendSearchRequest(
+                keyword, targetDate.minusDays(windowDays - 1L), targetDate, null, null, "date", true, true, true);
+        List<TrendDataPoint> points = transformService.transformDataPoints(naverDataLabApiService.searchTrends(request));
+
+        List<LocalDate> dates = List.of(targetDate);
+        Optional<List<TrendDataPoint>> stored = trendPersistenceService.saveFetchedPoints(request, dates, points);
+        if (stored.isPresent()) {
+            trendPointCacheService.cachePoints(request, dates, stored.get());
+        } else {
+            log.debug("[TrendIngestion] 시리즈 기준을 맞출 수 없어 저장 생략 - 수집 일자: {}, keyword: {}", targetDate, keyword);
+        }
+        BigDecimal ratio = ratioAt(points, targetDate);
+        if (ratio != null) {
+            recordLeaderboard(targetDate, keyword, ratio, ratioAt(points, targetDate.minusDays(1)));
+        }
+    }
+
+    private static BigDecimal ratioAt(List<TrendDataPoint> points, LocalDate date) {
+        return points.stream()
+                .filter(point -> date.equals(point.date()) && point.ratio() != null)
+                .map(TrendDataPoint::ratio)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * 순위는 부가 기능이므로 Redis 오류가 수집을 멈추지 않도록 함
+     */
+    private void recordLeaderboard(LocalDate targetDate, String keyword, BigDecimal ratio, BigDecimal previousRatio) {
+        try {
+            trendLeaderboardService.record(targetDate, keyword, ratio, previousRatio);
+        } catch (Exception e) {
+            log.warn("[TrendIngestion] 순위 기록 실패 - 수집 일자: {}, keyword: {}, error: {}", targetDate, keyword, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.devmode.shop.domain.trend.application.usecase;
+
+import com.devmode.shop.domain.trend.application.dto.response.ranking.TrendRankItem;
+import com.devmode.shop.domain.trend.application.dto.response.ranking.TrendRankingResponse;
+import com.devmode.shop.domain.trend.domain.repository.TrendRepository;
+import com.devmode.shop.domain.trend.domain.service.TrendLeaderboardService;
+import com.devmode.shop.domain.trend.domain.service.TrendLeaderboardService.RankedKeyword;
+import com.devmode.shop.domain.trend.domain.service.TrendLeaderboardService.RankingType;
+import com.devmode.shop.domain.trend.domain.service.TrendVariant;
+import com.devmode.shop.global.exception.RestApiException;
+import com.devmode.shop.global.exception.code.status.GlobalErrorStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 일자별 상위 키워드 조회
+ * 수집 시 기록한 Redis 순위를 우선 사용하고, 순위가 없는 일자의 비율 순위만 DB 인덱스(search_date, variant, ratio)로 조회한다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class TrendRankingUseCase {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final TrendLeaderboardService trendLeaderboardService;
+    private final TrendRepository trendRepository;
+
+    public TrendRankingResponse getTopTrends(LocalDate date, String type, int limit) {
+        RankingType rankingType = parseType(type);
+        if (date == null || limit < 1 || limit > MAX_LIMIT) {
+            throw new RestApiException(GlobalErrorStatus.INVALID_TREND_RANKING_REQUEST);
+        }
+
+        List<RankedKeyword> ranked = readLeaderboard(date, rankingType, limit);
+        if (!ranked.isEmpty() || rankingType == RankingType.RISING) {
+            return new TrendRankingResponse(date, rankingType.name(), "leaderboard", toItems(ranked));
+        }
+
+        // 순위와 같은 기준(기본 조건 = 야간 수집 값)만 사용, 조건을 고정하면 키워드당 한 행이라 LIMIT 전에 중복이 없다
+        List<RankedKeyword> fromDatabase = trendRepository.findTopTrendsByDate(date, TrendVariant.DEFAULT, limit).stream()
+                .map(trend -> new RankedKeyword(trend.getKeyword(), trend.getRatio().doubleValue()))
+                .toList();
+        return new TrendRankingResponse(date, rankingType.name(), "database", toItems(fromDatabase));
+    }
+
+    private List<RankedKeyword> readLeaderboard(LocalDate date, RankingType type, int limit) {
+        try {
+            return trendLeaderboardService.top(date, type, limit);
+        } catch (Exception e) {
+            log.warn("[TrendRanking] 순위 조회 실패 - date: {}, type: {}, error: {}", date, type, e.getMessage());
+            return List.of();
+        }
+    }
+
+    private static List<TrendRankItem> toItems(List<RankedKeyword> ranked) {
+        List<TrendRankItem> items = new ArrayList<>(ranked.size());
+        for (int i = 0; i < ranked.size(); i++) {
+            RankedKeyword keyword = ranked.get(i);
+            items.add(new TrendRankItem(i + 1, keyword.keyword(),
+                    BigDecimal.valueOf(keyword.score()).setScale(4, RoundingMode.HALF_UP)));
+        }
+        return items;
+    }
+
+    private static RankingType parseType(String type) {
+        try {
+            return type == null ? RankingType.RATIO : RankingType.valueOf(type.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new RestApiException(GlobalErrorStatus.INVALID_TREND_RANKING_REQUEST);
+        }
+    }
+}
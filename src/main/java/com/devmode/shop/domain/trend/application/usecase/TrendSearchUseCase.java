@@ -2,22 +2,54 @@ package com.devmode.shop.domain.trend.application.usecase;
 
 import com.devmode.shop.domain.trend.application.dto.request.TrendSearchRequest;
 import com.devmode.shop.domain.trend.application.dto.response.datalab.NaverDataLabResponse;
+import com.devmode.shop.domain.trend.application.dto.response.trend.TrendDataPoint;
 import com.devmode.shop.domain.trend.application.dto.response.trend.TrendSearchResponse;
+import com.devmode.shop.domain.trend.domain.service.DataLabQuotaService;
 import com.devmode.shop.domain.trend.domain.service.NaverDataLabApiService;
 import com.devmode.shop.domain.trend.domain.service.TrendCacheService;
+import com.devmode.shop.domain.trend.domain.service.TrendPersistenceService;
+import com.devmode.shop.domain.trend.domain.service.TrendPointCacheService;
+import com.devmode.shop.domain.trend.domain.service.TrendScale;
 import com.devmode.shop.domain.trend.domain.service.TrendTransformService;
+import com.devmode.shop.global.config.properties.DataLabApiProperties;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 트렌드 검색
+ * 일 단위 요청은 포인트 캐시 → DB 순으로 구간을 모으고 누락 구간만 DataLab 으로 조회한다.
+ * 캐시/DB 의 포인트는 시리즈 기준(TrendPersistenceService)으로 저장되어 있고, DataLab 은 호출마다 구간 최댓값을 100 으로 정규화하므로
+ * 누락 구간 조회는 앞뒤의 이미 아는 확정 일자를 포함해 그 일자 비율로 시리즈 기준에 맞춘 뒤 합치고,
+ * 조립한 응답은 마지막에 한 번 구간 최댓값 100 으로 정규화한다 (같은 구간을 한 번에 조회한 값과 같은 기준).
+ */
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class TrendSearchUseCase {
 
+    private static final int MAX_GAP_CALLS = 3; // 누락 구간이 이보다 많으면 한 번에 조회
+
     private final NaverDataLabApiService naverDataLabApiService;
     private final TrendCacheService trendCacheService;
     private final TrendTransformService transformService;
+    private final TrendPointCacheService trendPointCacheService;
+    private final TrendPersistenceService trendPersistenceService;
+    private final DataLabQuotaService dataLabQuotaService;
+    private final DataLabApiProperties dataLabApiProperties;
 
     public TrendSearchResponse searchTrends(TrendSearchRequest request) {
         long startTime = System.currentTimeMillis();
@@ -28,6 +60,21 @@ public class TrendSearchUseCase {
                     .orElseThrow(() -> new RuntimeException("Failed to retrieve cached result"));
         }
 
+        // 일 단위 요청은 포인트 캐시 → DB 순으로 구간을 조립하고 누락 구간만 조회
+        List<LocalDate> dates = isDaily(request) ? datesBetween(request.startDate(), request.endDate()) : List.of();
+        Map<LocalDate, Optional<TrendDataPoint>> cachedPoints = dates.isEmpty()
+                ? Map.of()
+                : trendPointCacheService.getPoints(request, dates);
+        Map<LocalDate, Optional<TrendDataPoint>> storedPoints = findStoredPoints(request, dates, cachedPoints);
+        if (!cachedPoints.isEmpty() || !storedPoints.isEmpty()) {
+            try {
+                return assembleFromPoints(request, dates, cachedPoints, storedPoints, startTime);
+            } catch (Exception e) {
+                log.warn("[TrendSearch] 포인트 캐시 조립 실패, 전체 구간 조회 - keyword: {}, error: {}",
+                        request.keyword(), e.getMessage());
+            }
+        }
+
         try {
             // 2. 네이버 DataLab API 호출
             NaverDataLabResponse naverResponse = naverDataLabApiService.searchTrends(request);
@@ -39,11 +86,14 @@ public class TrendSearchUseCase {
                     "fresh",
                     System.currentTimeMillis() - startTime,
                     1L, // API 호출 횟수
-                    "available" // 쿼터 상태
+                    dataLabQuotaService.getQuotaStatus()
             );
 
-            // 4. 캐시 저장
+            // 4. 캐시 저장 (포인트 캐시에는 DB 에 저장된 시리즈 기준 값만 올림)
             trendCacheService.cacheSearchResult(request, response);
+            if (!dates.isEmpty()) {
+                storePoints(request, dates, response.dataPoints());
+            }
 
             return response;
 
@@ -67,5 +117,178 @@ public class TrendSearchUseCase {
     public void clearTrendCache(String keyword) {
         trendCacheService.clearCache(keyword);
         trendCacheService.clearSearchCache(keyword);
+        trendCacheService.clearAnalyticsCache(keyword);
+        trendCacheService.clearComparisonCache(keyword);
+        trendPointCacheService.clearPoints(keyword);
+    }
+
+    private TrendSearchResponse assembleFromPoints(TrendSearchRequest request, List<LocalDate> dates,
+                                                   Map<LocalDate, Optional<TrendDataPoint>> cachedPoints,
+                                                   Map<LocalDate, Optional<TrendDataPoint>> storedPoints,
+                                                   long startTime) {
+        List<TrendDataPoint> points = new ArrayList<>();
+        List<LocalDate> missing = new ArrayList<>();
+        for (LocalDate date : dates) {
+            Optional<TrendDataPoint> cached = cachedPoints.get(date);
+            if (cached == null) {
+                cached = storedPoints.get(date);
+            }
+            if (cached == null) {
+                missing.add(date);
+            } else {
+                cached.ifPresent(points::add);
+            }
+        }
+
+        // DB에서 읽은 일자는 포인트 캐시에 다시 올려 다음 요청은 Redis 에서 처리
+        if (!storedPoints.isEmpty()) {
+            List<LocalDate> storedDates = dates.stream().filter(storedPoints::containsKey).toList();
+            List<TrendDataPoint> stored = storedPoints.values().stream().flatMap(Optional::stream).toList();
+            trendPointCacheService.cachePoints(request, storedDates, stored);
+        }
+
+        // 누락 구간 조회 값을 시리즈 기준으로 맞출 기준 일자 (값이 바뀔 수 있는 최근 일자 제외)
+        LocalDate finalBefore = LocalDate.now().minusDays(recentPointDays());
+        Map<LocalDate, BigDecimal> anchors = new HashMap<>();
+        points.stream()
+                .filter(point -> point.ratio() != null && point.date().isBefore(finalBefore))
+                .forEach(point -> anchors.put(point.date(), point.ratio()));
+
+        Set<LocalDate> missingDates = new HashSet<>(missing);
+        long apiCallCount = 0;
+        for (LocalDate[] range : toRanges(missing)) {
+            LocalDate[] call = withAnchorDays(range, anchors);
+            TrendSearchRequest subRequest = withRange(request, call[0], call[1]);
+            List<TrendDataPoint> fetched = transformService.transformDataPoints(
+                    naverDataLabApiService.searchTrends(subRequest));
+            apiCallCount++;
+            BigDecimal factor = TrendScale.anchorFactor(anchors, fetched)
+                    .orElseThrow(() -> new IllegalStateException("누락 구간과 겹치는 기준 일자 없음: " + range[0] + " ~ " + range[1]));
+
+            List<LocalDate> fetchedDates = datesBetween(range[0], range[1]).stream()
+                    .filter(missingDates::contains)
+                    .toList();
+            storePoints(subRequest, fetchedDates, fetched);
+            TrendScale.rescale(fetched, factor).stream()
+                    .filter(point -> missingDates.contains(point.date()))
+                    .forEach(points::add);
+        }
+        points.sort(Comparator.comparing(TrendDataPoint::date));
+
+        TrendSearchResponse response = transformService.assembleResponse(
+                request,
+                TrendScale.normalize(points),
+                request.timeUnit() != null ? request.timeUnit() : "date",
+                apiCallCount == 0 ? "cached" : "partial",
+                System.currentTimeMillis() - startTime,
+                apiCallCount,
+                dataLabQuotaService.getQuotaStatus()
+        );
+        trendCacheService.cacheSearchResult(request, response);
+
+        log.debug("[TrendSearch] 포인트 캐시 조립 - keyword: {}, 캐시: {}일, DB: {}일, 조회: {}일, API 호출: {}회",
+                request.keyword(), dates.size() - missing.size() - storedPoints.size(), storedPoints.size(),
+                missing.size(), apiCallCount);
+        return response;
+    }
+
+    /**
+     * 포인트 캐시에 없는 일자 중 DB에 저장된 확정 일자 조회
+     */
+    private Map<LocalDate, Optional<TrendDataPoint>> findStoredPoints(TrendSearchRequest request, List<LocalDate> dates,
+                                                                      Map<LocalDate, Optional<TrendDataPoint>> cachedPoints) {
+        List<LocalDate> uncached = dates.stream().filter(date -> !cachedPoints.containsKey(date)).toList();
+        if (uncached.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            Map<LocalDate, Optional<TrendDataPoint>> stored = trendPersistenceService.findStoredPoints(request, uncached);
+            return stored != null ? stored : Map.of();
+        } catch (Exception e) {
+            log.warn("[TrendSearch] 저장된 트렌드 조회 실패 - keyword: {}, error: {}", request.keyword(), e.getMessage());
+            return Map.of();
+        }
+    }
+
+    /**
+     * DataLab 호출 1회의 포인트를 시리즈 기준으로 저장하고, 저장된 값만 포인트 캐시에 올린다
+     * (기준을 맞출 수 없어 저장하지 않은 구간은 포인트 캐시에도 두지 않아 다른 기준의 값이 섞이지 않도록 함)
+     */
+    private void storePoints(TrendSearchRequest request, List<LocalDate> dates, List<TrendDataPoint> points) {
+        try {
+            trendPersistenceService.saveFetchedPoints(request, dates, points)
+                    .ifPresent(saved -> trendPointCacheService.cachePoints(request, dates, saved));
+        } catch (Exception e) {
+            log.warn("[TrendSearch] 트렌드 저장 실패 - keyword: {}, error: {}", request.keyword(), e.getMessage());
+        }
+    }
+
+    /**
+     * 누락 구간 바로 앞/뒤의 기준 일자를 조회 구간에 포함 (DataLab 호출 횟수는 같음)
+     * 한 일자만 조회하면 항상 100 이 되므로, 겹치는 기준 일자로 기존 값과 같은 기준으로 환산한다.
+     */
+    private static LocalDate[] withAnchorDays(LocalDate[] range, Map<LocalDate, BigDecimal> anchors) {
+        LocalDate before = range[0].minusDays(1);
+        LocalDate after = range[1].plusDays(1);
+        return new LocalDate[]{
+                anchors.containsKey(before) ? before : range[0],
+                anchors.containsKey(after) ? after : range[1]
+        };
+    }
+
+    private int recentPointDays() {
+        Integer days = dataLabApiProperties.getRecentPointDays();
+        return days != null ? days : 3;
+    }
+
+    /**
+     * 누락 일자를 연속 구간으로 묶는다. 구간이 너무 잘게 쪼개지면 처음~끝을 한 번에 조회한다.
+     */
+    private List<LocalDate[]> toRanges(List<LocalDate> missing) {
+        List<LocalDate[]> ranges = new ArrayList<>();
+        if (missing.isEmpty()) {
+            return ranges;
+        }
+
+        LocalDate rangeStart = missing.get(0);
+        LocalDate previous = rangeStart;
+        for (int i = 1; i < missing.size(); i++) {
+            LocalDate date = missing.get(i);
+            if (!date.equals(previous.plusDays(1))) {
+                ranges.add(new LocalDate[]{rangeStart, previous});
+                rangeStart = date;
+            }
+            previous = date;
+        }
+        ranges.add(new LocalDate[]{rangeStart, previous});
+
+        if (ranges.size() > MAX_GAP_CALLS) {
+            return List.<LocalDate[]>of(new LocalDate[]{missing.get(0), missing.get(missing.size() - 1)});
+        }
+        return ranges;
+    }
+
+    private static boolean isDaily(TrendSearchRequest request) {
+        return (request.timeUnit() == null || "date".equals(request.timeUnit()))
+                && request.startDate() != null && request.endDate() != null
+                && !request.startDate().isAfter(request.endDate());
+    }
+
+    private static List<LocalDate> datesBetween(LocalDate start, LocalDate end) {
+        return start.datesUntil(end.plusDays(1)).toList();
+    }
+
+    private static TrendSearchRequest withRange(TrendSearchRequest request, LocalDate start, LocalDate end) {
+        return new TrendSearchRequest(
+                request.keyword(),
+                start,
+                end,
+                request.categories(),
+                request.keywords(),
+                request.timeUnit(),
+                request.includeDeviceDistribution(),
+                request.includeGenderDistribution(),
+                request.includeAgeDistribution()
+        );
     }
 }
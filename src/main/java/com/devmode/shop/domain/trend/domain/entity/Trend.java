@@ -10,7 +10,11 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "trends")
+@Table(name = "trends", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_trends_keyword_variant_date", columnNames = {"keyword", "variant", "search_date"})
+}, indexes = {
+        @Index(name = "idx_trends_date_variant_ratio", columnList = "search_date, variant, ratio") // 일자별 상위 K 조회
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Trend extends BaseEntity {
@@ -25,6 +29,9 @@ public class Trend extends BaseEntity {
     @Column(name = "keyword", nullable = false)
     private String keyword;
 
+    @Column(name = "variant", nullable = false, length = 200)
+    private String variant; // 조회 조건 (TrendVariant), 같은 키워드라도 조건이 다르면 값이 다르다
+
     @Column(name = "category_id")
     private String categoryId;
 
@@ -37,31 +44,44 @@ public class Trend extends BaseEntity {
     @Column(name = "click_count")
     private Long clickCount;
 
-    @Column(name = "device_distribution", columnDefinition = "TEXT")
-    private String deviceDistribution; // JSON 형태로 저장
-
-    @Column(name = "gender_distribution", columnDefinition = "TEXT")
-    private String genderDistribution; // JSON 형태로 저장
-
-    @Column(name = "age_distribution", columnDefinition = "TEXT")
-    private String ageDistribution; // JSON 형태로 저장
+    @Embedded
+    private TrendDemographics demographics; // 기기/성별/연령 분포 (숫자 컬럼)
 
     @Column(name = "source", nullable = false)
     private String source; // "naver_datalab"
 
-
-
-    public void updateTrendData(
+    public static Trend create(
+            LocalDate searchDate,
+            String keyword,
+            String variant,
+            String categoryId,
+            String categoryName,
             BigDecimal ratio,
             Long clickCount,
-            String deviceDistribution,
-            String genderDistribution,
-            String ageDistribution
+            TrendDemographics demographics,
+            String source
     ) {
+        Trend trend = new Trend();
+        trend.searchDate = searchDate;
+        trend.keyword = keyword;
+        trend.variant = variant;
+        trend.categoryId = categoryId;
+        trend.categoryName = categoryName;
+        trend.source = source;
+        trend.updateTrendData(ratio, clickCount, demographics);
+        return trend;
+    }
+
+    /**
+     * DataLab 응답에 값이 없던 일자 (재조회 방지용 빈 행)
+     */
+    public boolean isEmptyPoint() {
+        return ratio == null;
+    }
+
+    public void updateTrendData(BigDecimal ratio, Long clickCount, TrendDemographics demographics) {
         this.ratio = ratio;
         this.clickCount = clickCount;
-        this.deviceDistribution = deviceDistribution;
-        this.genderDistribution = genderDistribution;
-        this.ageDistribution = ageDistribution;
+        this.demographics = demographics;
     }
 }
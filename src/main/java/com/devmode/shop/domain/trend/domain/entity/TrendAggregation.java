@@ -7,10 +7,20 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
 
 @Entity
-@Table(name = "trend_aggregations")
+@Table(name = "trend_aggregations", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_trend_aggregations_bucket",
+                columnNames = {"keyword", "variant", "aggregation_type", "aggregation_date"})
+}, indexes = {
+        @Index(name = "idx_trend_aggregations_type_date_total",
+                columnList = "aggregation_type, aggregation_date, total_ratio") // 버킷별 상위 K 조회
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TrendAggregation extends BaseEntity {
@@ -29,6 +39,9 @@ public class TrendAggregation extends BaseEntity {
     @Column(name = "keyword", nullable = false)
     private String keyword;
 
+    @Column(name = "variant", nullable = false, length = 200)
+    private String variant; // 원본 trends 행의 조회 조건
+
     @Column(name = "category_id")
     private String categoryId;
 
@@ -57,15 +70,177 @@ public class TrendAggregation extends BaseEntity {
     @Column(name = "source", nullable = false)
     private String source; // "naver_datalab"
 
+    // 증분 집계용 누적 상태 (버킷 전체를 다시 읽지 않고 갱신)
+    @Column(name = "sample_count", nullable = false)
+    private int sampleCount;
+
+    @Column(name = "first_date")
+    private LocalDate firstDate;
+
+    @Column(name = "first_ratio", precision = 10, scale = 4)
+    private BigDecimal firstRatio;
+
+    @Column(name = "last_date")
+    private LocalDate lastDate;
+
+    @Column(name = "last_ratio", precision = 10, scale = 4)
+    private BigDecimal lastRatio;
+
+    @Version
+    private Long version; // 같은 버킷을 동시에 갱신하면 늦게 커밋한 쪽이 실패하고 다시 계산한다
+
     public enum AggregationType {
-        DAILY, WEEKLY, MONTHLY
+        DAILY, WEEKLY, MONTHLY;
+
+        /**
+         * 일자가 속한 버킷 시작일 (주간은 월요일, 월간은 1일)
+         */
+        public LocalDate bucketOf(LocalDate date) {
+            return switch (this) {
+                case DAILY -> date;
+                case WEEKLY -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                case MONTHLY -> date.withDayOfMonth(1);
+            };
+        }
+
+        public LocalDate bucketEnd(LocalDate bucketStart) {
+            return switch (this) {
+                case DAILY -> bucketStart;
+                case WEEKLY -> bucketStart.plusDays(6);
+                case MONTHLY -> bucketStart.with(TemporalAdjusters.lastDayOfMonth());
+            };
+        }
     }
 
     public enum TrendDirection {
-        RISING, FALLING, STABLE
+        RISING, FALLING, STABLE;
+
+        /**
+         * 기준 값 대비 변화율이 threshold 이내면 STABLE
+         */
+        public static TrendDirection between(BigDecimal from, BigDecimal to, BigDecimal threshold) {
+            if (from == null || to == null) {
+                return STABLE;
+            }
+            BigDecimal diff = to.subtract(from);
+            BigDecimal tolerance = from.abs().multiply(threshold);
+            if (diff.abs().compareTo(tolerance) <= 0) {
+                return STABLE;
+            }
+            return diff.signum() > 0 ? RISING : FALLING;
+        }
+    }
+
+    public static TrendAggregation create(
+            AggregationType aggregationType,
+            LocalDate aggregationDate,
+            String keyword,
+            String variant,
+            String categoryId,
+            String categoryName,
+            String source
+    ) {
+        TrendAggregation aggregation = new TrendAggregation();
+        aggregation.aggregationType = aggregationType;
+        aggregation.aggregationDate = aggregationDate;
+        aggregation.keyword = keyword;
+        aggregation.variant = variant;
+        aggregation.categoryId = categoryId;
+        aggregation.categoryName = categoryName;
+        aggregation.source = source;
+        aggregation.totalRatio = BigDecimal.ZERO;
+        aggregation.totalClickCount = 0L;
+        aggregation.trendDirection = TrendDirection.STABLE;
+        return aggregation;
+    }
+
+    public boolean isEmpty() {
+        return sampleCount == 0;
+    }
+
+    /**
+     * 새 일자 샘플 반영
+     */
+    public void addSample(LocalDate date, BigDecimal ratio, Long clickCount) {
+        sampleCount++;
+        totalRatio = totalRatio.add(ratio);
+        totalClickCount = totalClickCount + (clickCount != null ? clickCount : 0L);
+        maxRatio = maxRatio == null || ratio.compareTo(maxRatio) > 0 ? ratio : maxRatio;
+        minRatio = minRatio == null || ratio.compareTo(minRatio) < 0 ? ratio : minRatio;
+        if (firstDate == null || !date.isAfter(firstDate)) {
+            firstDate = date;
+            firstRatio = ratio;
+        }
+        if (lastDate == null || !date.isBefore(lastDate)) {
+            lastDate = date;
+            lastRatio = ratio;
+        }
+        refreshAverage();
+    }
+
+    /**
+     * 이미 반영된 일자의 값 변경
+     * 기존 값이 최소/최대였는데 그보다 덜 극단적인 값으로 바뀌면 새 최소/최대를 알 수 없으므로 false 반환 (버킷 재계산 필요)
+     */
+    public boolean replaceSample(LocalDate date, BigDecimal oldRatio, Long oldClickCount,
+                                 BigDecimal newRatio, Long newClickCount) {
+        totalRatio = totalRatio.subtract(oldRatio).add(newRatio);
+        totalClickCount = totalClickCount - (oldClickCount != null ? oldClickCount : 0L)
+                + (newClickCount != null ? newClickCount : 0L);
+        if (date.equals(firstDate)) {
+            firstRatio = newRatio;
+        }
+        if (date.equals(lastDate)) {
+            lastRatio = newRatio;
+        }
+        refreshAverage();
+
+        boolean wasMax = maxRatio != null && oldRatio.compareTo(maxRatio) == 0 && newRatio.compareTo(maxRatio) < 0;
+        boolean wasMin = minRatio != null && oldRatio.compareTo(minRatio) == 0 && newRatio.compareTo(minRatio) > 0;
+        if (wasMax || wasMin) {
+            return false;
+        }
+        maxRatio = newRatio.compareTo(maxRatio) > 0 ? newRatio : maxRatio;
+        minRatio = newRatio.compareTo(minRatio) < 0 ? newRatio : minRatio;
+        return true;
+    }
+
+    /**
+     * 버킷에 속한 원본 행으로 전체 재계산
+     */
+    public void rebuild(List<Trend> trends) {
+        sampleCount = 0;
+        totalRatio = BigDecimal.ZERO;
+        totalClickCount = 0L;
+        maxRatio = null;
+        minRatio = null;
+        firstDate = null;
+        firstRatio = null;
+        lastDate = null;
+        lastRatio = null;
+        avgRatio = null;
+        for (Trend trend : trends) {
+            if (!trend.isEmptyPoint()) {
+                addSample(trend.getSearchDate(), trend.getRatio(), trend.getClickCount());
+            }
+        }
     }
 
+    /**
+     * 주간/월간은 버킷 첫날 대비 마지막 날, 일간은 전일 대비 방향
+     */
+    public void refreshDirection(BigDecimal previousRatio, BigDecimal threshold) {
+        TrendDirection direction = aggregationType == AggregationType.DAILY
+                ? TrendDirection.between(previousRatio, lastRatio, threshold)
+                : TrendDirection.between(firstRatio, lastRatio, threshold);
+        updateAggregationData(totalRatio, totalClickCount, avgRatio, maxRatio, minRatio, direction);
+    }
 
+    private void refreshAverage() {
+        avgRatio = sampleCount > 0
+                ? totalRatio.divide(BigDecimal.valueOf(sampleCount), 4, RoundingMode.HALF_UP)
+                : null;
+    }
 
     public void updateAggregationData(
             BigDecimal totalRatio,
@@ -0,0 +1,90 @@
+package com.devmode.shop.domain.trend.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 트렌드 포인트의 기기/성별/연령 분포 (비율 %)
+ * JSON 문자열 대신 숫자 컬럼으로 저장하여 행마다 파싱하지 않고, 기간별 평균 같은 집계를 DB에서 계산한다.
+ * 요청하지 않은 분포 그룹은 모든 컬럼이 null 이다.
+ */
+@Embeddable
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TrendDemographics {
+
+    @Column(name = "device_mobile", precision = 10, scale = 4)
+    private BigDecimal deviceMobile;
+
+    @Column(name = "device_pc", precision = 10, scale = 4)
+    private BigDecimal devicePc;
+
+    @Column(name = "device_tablet", precision = 10, scale = 4)
+    private BigDecimal deviceTablet;
+
+    @Column(name = "gender_male", precision = 10, scale = 4)
+    private BigDecimal genderMale;
+
+    @Column(name = "gender_female", precision = 10, scale = 4)
+    private BigDecimal genderFemale;
+
+    @Column(name = "age_10s", precision = 10, scale = 4)
+    private BigDecimal age10s;
+
+    @Column(name = "age_20s", precision = 10, scale = 4)
+    private BigDecimal age20s;
+
+    @Column(name = "age_30s", precision = 10, scale = 4)
+    private BigDecimal age30s;
+
+    @Column(name = "age_40s", precision = 10, scale = 4)
+    private BigDecimal age40s;
+
+    @Column(name = "age_50s", precision = 10, scale = 4)
+    private BigDecimal age50s;
+
+    @Column(name = "age_60s", precision = 10, scale = 4)
+    private BigDecimal age60s;
+
+    public boolean hasDevice() {
+        return deviceMobile != null || devicePc != null || deviceTablet != null;
+    }
+
+    public boolean hasGender() {
+        return genderMale != null || genderFemale != null;
+    }
+
+    public boolean hasAge() {
+        return age10s != null || age20s != null || age30s != null || age40s != null || age50s != null || age60s != null;
+    }
+
+    /**
+     * 값 비교 (DB 저장 시 scale 이 바뀌므로 compareTo 사용)
+     */
+    public static boolean isSame(TrendDemographics a, TrendDemographics b) {
+        if (a == null || b == null) {
+            return isEmpty(a) && isEmpty(b);
+        }
+        return same(a.deviceMobile, b.deviceMobile) && same(a.devicePc, b.devicePc) && same(a.deviceTablet, b.deviceTablet)
+                && same(a.genderMale, b.genderMale) && same(a.genderFemale, b.genderFemale)
+                && same(a.age10s, b.age10s) && same(a.age20s, b.age20s) && same(a.age30s, b.age30s)
+                && same(a.age40s, b.age40s) && same(a.age50s, b.age50s) && same(a.age60s, b.age60s);
+    }
+
+    private static boolean isEmpty(TrendDemographics demographics) {
+        return demographics == null || (!demographics.hasDevice() && !demographics.hasGender() && !demographics.hasAge());
+    }
+
+    private static boolean same(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+}
@@ -0,0 +1,23 @@
+package com.devmode.shop.domain.trend.domain.repository;
+
+import com.devmode.shop.domain.trend.domain.entity.TrendAggregation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TrendAggregationRepository extends JpaRepository<TrendAggregation, Long> {
+
+    @Query("SELECT ta FROM TrendAggregation ta WHERE ta.keyword = :keyword AND ta.variant = :variant AND ta.aggregationType = :aggregationType AND ta.aggregationDate BETWEEN :startDate AND :endDate ORDER BY ta.aggregationDate")
+    List<TrendAggregation> findBuckets(
+            @Param("keyword") String keyword,
+            @Param("variant") String variant,
+            @Param("aggregationType") TrendAggregation.AggregationType aggregationType,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+}
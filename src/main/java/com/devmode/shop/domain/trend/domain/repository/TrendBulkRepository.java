@@ -0,0 +1,170 @@
+package com.devmode.shop.domain.trend.domain.repository;
+
+import com.devmode.shop.domain.trend.domain.entity.Trend;
+import com.devmode.shop.domain.trend.domain.entity.TrendDemographics;
+import com.devmode.shop.domain.trend.domain.service.TrendSeries;
+import com.devmode.shop.domain.trend.domain.service.TrendSeriesKey;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 트렌드 데이터 포인트 일괄 저장/조회
+ * IDENTITY 전략에서는 Hibernate INSERT 배치가 동작하지 않으므로 JDBC 배치로 저장한다.
+ * PostgreSQL 은 ON CONFLICT DO NOTHING 으로 (keyword, variant, search_date) 가 이미 있는 행을 건너뛰고,
+ * 그 외 DB(H2 등)는 호출 측이 기존 행을 걸러낸 것으로 보고 그대로 INSERT 한다.
+ * 일괄 분석용 조회는 엔티티 대신 일자/비율만 원시 배열로 읽는다.
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TrendBulkRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = "INSERT INTO trends (search_date, keyword, variant, category_id, category_name, " +
+            "ratio, click_count, device_mobile, device_pc, device_tablet, gender_male, gender_female, " +
+            "age_10s, age_20s, age_30s, age_40s, age_50s, age_60s, source, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String POSTGRES_INSERT_SQL = INSERT_SQL
+            + " ON CONFLICT (keyword, variant, search_date) DO NOTHING";
+
+    private static final String SERIES_SQL = "SELECT keyword, variant, search_date, ratio FROM trends " +
+            "WHERE search_date BETWEEN ? AND ? AND ratio IS NOT NULL " +
+            "ORDER BY keyword, variant, search_date";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    /**
+     * 일괄 저장 후 이미 다른 트랜잭션이 저장해 건너뛴 행을 돌려준다
+     */
+    public List<Trend> insertAll(List<Trend> trends) {
+        if (trends.isEmpty()) {
+            return List.of();
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String sql = isPostgres() ? POSTGRES_INSERT_SQL : INSERT_SQL;
+        int[][] counts = jdbcTemplate.batchUpdate(sql, trends, BATCH_SIZE, (ps, trend) -> {
+            ps.setDate(1, Date.valueOf(trend.getSearchDate()));
+            ps.setString(2, trend.getKeyword());
+            ps.setString(3, trend.getVariant());
+            ps.setString(4, trend.getCategoryId());
+            ps.setString(5, trend.getCategoryName());
+            ps.setBigDecimal(6, trend.getRatio());
+            ps.setObject(7, trend.getClickCount());
+            TrendDemographics demographics = trend.getDemographics();
+            ps.setBigDecimal(8, demographics != null ? demographics.getDeviceMobile() : null);
+            ps.setBigDecimal(9, demographics != null ? demographics.getDevicePc() : null);
+            ps.setBigDecimal(10, demographics != null ? demographics.getDeviceTablet() : null);
+            ps.setBigDecimal(11, demographics != null ? demographics.getGenderMale() : null);
+            ps.setBigDecimal(12, demographics != null ? demographics.getGenderFemale() : null);
+            ps.setBigDecimal(13, demographics != null ? demographics.getAge10s() : null);
+            ps.setBigDecimal(14, demographics != null ? demographics.getAge20s() : null);
+            ps.setBigDecimal(15, demographics != null ? demographics.getAge30s() : null);
+            ps.setBigDecimal(16, demographics != null ? demographics.getAge40s() : null);
+            ps.setBigDecimal(17, demographics != null ? demographics.getAge50s() : null);
+            ps.setBigDecimal(18, demographics != null ? demographics.getAge60s() : null);
+            ps.setString(19, trend.getSource());
+            ps.setTimestamp(20, now);
+            ps.setTimestamp(21, now);
+        });
+
+        // 배치 결과는 입력 순서와 같으므로 0 건인 행이 충돌로 건너뛴 행 (SUCCESS_NO_INFO 는 저장된 것으로 간주)
+        List<Trend> skipped = new ArrayList<>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == 0) {
+                    skipped.add(trends.get(index));
+                }
+                index++;
+            }
+        }
+        return skipped;
+    }
+
+    /**
+     * 기간 내 저장된 모든 (키워드, 조건) 시리즈를 한 번의 조회로 읽는다.
+     * 정렬된 결과를 순서대로 읽으며 키가 바뀔 때마다 시리즈를 끊는다.
+     */
+    public Map<TrendSeriesKey, TrendSeries> loadRatioSeries(LocalDate start, LocalDate end) {
+        Map<TrendSeriesKey, TrendSeries> series = new LinkedHashMap<>();
+        SeriesBuffer buffer = new SeriesBuffer();
+        jdbcTemplate.query(SERIES_SQL, rs -> {
+            String keyword = rs.getString(1);
+            String variant = Objects.requireNonNullElse(rs.getString(2), "");
+            if (!buffer.matches(keyword, variant)) {
+                buffer.flushTo(series, start, end);
+                buffer.reset(keyword, variant);
+            }
+            buffer.add(rs.getDate(3).toLocalDate().toEpochDay(), rs.getDouble(4));
+        }, Date.valueOf(start), Date.valueOf(end));
+        buffer.flushTo(series, start, end);
+        return series;
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String productName = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            postgres = productName != null && productName.toLowerCase().contains("postgresql");
+            log.info("[TrendBulk] 트렌드 저장 방식: {}", postgres ? "ON CONFLICT DO NOTHING" : "INSERT");
+        }
+        return postgres;
+    }
+
+    private static final class SeriesBuffer {
+
+        private String keyword;
+        private String variant;
+        private long[] epochDays = new long[64];
+        private double[] ratios = new double[64];
+        private int size;
+
+        boolean matches(String keyword, String variant) {
+            return Objects.equals(this.keyword, keyword) && Objects.equals(this.variant, variant);
+        }
+
+        void reset(String keyword, String variant) {
+            this.keyword = keyword;
+            this.variant = variant;
+            this.epochDays = new long[64];
+            this.ratios = new double[64];
+            this.size = 0;
+        }
+
+        void add(long epochDay, double ratio) {
+            if (size == epochDays.length) {
+                epochDays = Arrays.copyOf(epochDays, size * 2);
+                ratios = Arrays.copyOf(ratios, size * 2);
+            }
+            epochDays[size] = epochDay;
+            ratios[size] = ratio;
+            size++;
+        }
+
+        void flushTo(Map<TrendSeriesKey, TrendSeries> series, LocalDate start, LocalDate end) {
+            if (keyword == null || size == 0) {
+                return;
+            }
+            series.put(new TrendSeriesKey(keyword, variant, start, end), TrendSeries.of(epochDays, ratios, size));
+        }
+    }
+}
@@ -2,12 +2,14 @@ package com.devmode.shop.domain.trend.domain.repository;
 
 import com.devmode.shop.domain.trend.domain.entity.Trend;
 import com.devmode.shop.domain.trend.domain.entity.TrendAggregation;
+import com.devmode.shop.domain.trend.domain.repository.projection.DemographicShare;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +23,42 @@ public interface TrendRepository extends JpaRepository<Trend, Long> {
             @Param("endDate") LocalDate endDate
     );
 
+    // uk_trends_keyword_variant_date 사용
+    @Query("SELECT t FROM Trend t WHERE t.keyword = :keyword AND t.variant = :variant AND t.searchDate BETWEEN :startDate AND :endDate ORDER BY t.searchDate")
+    List<Trend> findByKeywordAndVariantAndDateRange(
+            @Param("keyword") String keyword,
+            @Param("variant") String variant,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    // 시리즈에 값이 저장된 적이 있는지 (저장 기준이 정해졌는지), uk_trends_keyword_variant_date 사용
+    boolean existsByKeywordAndVariantAndRatioIsNotNull(String keyword, String variant);
+
+    @Query("SELECT DISTINCT t.keyword, t.variant, t.categoryId, t.categoryName FROM Trend t WHERE t.searchDate BETWEEN :startDate AND :endDate")
+    List<Object[]> findVariantsByDateRange(
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
+    /**
+     * 키워드별 기간 평균 분포 (같은 조건으로 저장된 행만, uk_trends_keyword_variant_date 사용)
+     */
+    @Query("SELECT new com.devmode.shop.domain.trend.domain.repository.projection.DemographicShare(t.keyword, COUNT(t), " +
+           "AVG(t.demographics.deviceMobile), AVG(t.demographics.devicePc), AVG(t.demographics.deviceTablet), " +
+           "AVG(t.demographics.genderMale), AVG(t.demographics.genderFemale), " +
+           "AVG(t.demographics.age10s), AVG(t.demographics.age20s), AVG(t.demographics.age30s), " +
+           "AVG(t.demographics.age40s), AVG(t.demographics.age50s), AVG(t.demographics.age60s)) " +
+           "FROM Trend t WHERE t.keyword IN :keywords AND t.variant = :variant " +
+           "AND t.searchDate BETWEEN :startDate AND :endDate AND t.ratio IS NOT NULL " +
+           "GROUP BY t.keyword ORDER BY t.keyword")
+    List<DemographicShare> aggregateDemographics(
+            @Param("keywords") Collection<String> keywords,
+            @Param("variant") String variant,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     @Query("SELECT t FROM Trend t WHERE t.keyword = :keyword AND t.searchDate = :searchDate")
     Optional<Trend> findByKeywordAndDate(
             @Param("keyword") String keyword,
@@ -37,9 +75,12 @@ public interface TrendRepository extends JpaRepository<Trend, Long> {
     @Query("SELECT DISTINCT t.keyword FROM Trend t WHERE t.searchDate >= :sinceDate ORDER BY t.keyword")
     List<String> findPopularKeywords(@Param("sinceDate") LocalDate sinceDate);
 
-    @Query("SELECT t FROM Trend t WHERE t.searchDate = :searchDate ORDER BY t.ratio DESC LIMIT :limit")
+    // idx_trends_date_variant_ratio 를 역순으로 읽어 K 건에서 멈춤 (빈 행은 제외)
+    // 조건을 하나로 고정하면 uk_trends_keyword_variant_date 에 의해 키워드당 한 행만 나온다
+    @Query("SELECT t FROM Trend t WHERE t.searchDate = :searchDate AND t.variant = :variant AND t.ratio IS NOT NULL ORDER BY t.ratio DESC LIMIT :limit")
     List<Trend> findTopTrendsByDate(
             @Param("searchDate") LocalDate searchDate,
+            @Param("variant") String variant,
             @Param("limit") int limit
     );
 
@@ -59,7 +100,8 @@ public interface TrendRepository extends JpaRepository<Trend, Long> {
             @Param("aggregationDate") LocalDate aggregationDate
     );
 
-    @Query("SELECT ta FROM TrendAggregation ta WHERE ta.aggregationType = :aggregationType AND ta.aggregationDate = :aggregationDate ORDER BY ta.totalRatio DESC LIMIT :limit")
+    // idx_trend_aggregations_type_date_total 를 역순으로 읽어 K 건에서 멈춤
+    @Query("SELECT ta FROM TrendAggregation ta WHERE ta.aggregationType = :aggregationType AND ta.aggregationDate = :aggregationDate AND ta.totalRatio IS NOT NULL ORDER BY ta.totalRatio DESC LIMIT :limit")
     List<TrendAggregation> findTopAggregationsByTypeAndDate(
             @Param("aggregationType") TrendAggregation.AggregationType aggregationType,
             @Param("aggregationDate") LocalDate aggregationDate,
@@ -0,0 +1,21 @@
+package com.devmode.shop.domain.trend.domain.repository.projection;
+
+/**
+ * 기간 내 분포 컬럼 평균 프로젝션
+ * 엔티티를 로딩하지 않고 DB에서 AVG 로 계산한 값만 조회 (분포가 없는 일자는 평균에서 제외)
+ */
+public record DemographicShare(
+        String keyword,
+        Long sampleCount,
+        Double deviceMobile,
+        Double devicePc,
+        Double deviceTablet,
+        Double genderMale,
+        Double genderFemale,
+        Double age10s,
+        Double age20s,
+        Double age30s,
+        Double age40s,
+        Double age50s,
+        Double age60s
+) {}
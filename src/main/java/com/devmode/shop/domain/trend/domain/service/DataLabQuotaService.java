@@ -0,0 +1,84 @@
+package com.devmode.shop.domain.trend.domain.service;
+
+import com.devmode.shop.global.config.properties.DataLabApiProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+
+/**
+ * DataLab 일일 호출 쿼터
+ * 호출 전에 INCR 로 한 건을 먼저 차감하고, 한도를 넘으면 되돌린다. (여러 인스턴스가 동시에 호출해도 한도를 넘지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DataLabQuotaService {
+
+    private static final String DAILY_COUNT_PREFIX = "DATALAB_API_DAILY_COUNT:";
+    private static final int DEFAULT_MAX_DAILY_CALLS = 1000;   // DataLab 쇼핑인사이트 일일 제한
+    private static final int DEFAULT_WARNING_THRESHOLD = 800;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DataLabApiProperties dataLabApiProperties;
+
+    /**
+     * 호출 1회분 쿼터 확보. 한도에 도달했으면 false
+     */
+    public boolean tryAcquire() {
+        String dailyCountKey = dailyCountKey();
+        Long newCount = redisTemplate.opsForValue().increment(dailyCountKey);
+        if (newCount == null) {
+            return true;
+        }
+        if (newCount == 1) {
+            redisTemplate.expire(dailyCountKey, Duration.ofDays(1));
+        }
+
+        if (newCount > maxDailyCalls()) {
+            redisTemplate.opsForValue().decrement(dailyCountKey);
+            log.error("[DataLabQuota] 일일 호출 한도 도달 - limit: {}", maxDailyCalls());
+            return false;
+        }
+        if (newCount >= warningThreshold()) {
+            log.warn("[DataLabQuota] 일일 호출 한도 임박 - current: {}, limit: {}", newCount, maxDailyCalls());
+        }
+        return true;
+    }
+
+    public int getCurrentDailyCount() {
+        String currentCount = redisTemplate.opsForValue().get(dailyCountKey());
+        return currentCount != null ? Integer.parseInt(currentCount) : 0;
+    }
+
+    public int getRemainingCalls() {
+        return Math.max(0, maxDailyCalls() - getCurrentDailyCount());
+    }
+
+    public String getQuotaStatus() {
+        int currentCount = getCurrentDailyCount();
+        if (currentCount >= maxDailyCalls()) {
+            return "exceeded";
+        } else if (currentCount >= warningThreshold()) {
+            return "warning";
+        }
+        return "available";
+    }
+
+    private int maxDailyCalls() {
+        return Objects.requireNonNullElse(dataLabApiProperties.getMaxDailyCalls(), DEFAULT_MAX_DAILY_CALLS);
+    }
+
+    private int warningThreshold() {
+        return Objects.requireNonNullElse(dataLabApiProperties.getWarningThreshold(), DEFAULT_WARNING_THRESHOLD);
+    }
+
+    private static String dailyCountKey() {
+        return DAILY_COUNT_PREFIX + LocalDate.now().format(DateTimeFormatter.ISO_LOCAL_DATE);
+    }
+}
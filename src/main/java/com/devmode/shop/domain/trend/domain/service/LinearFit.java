@@ -0,0 +1,73 @@
+package com.devmode.shop.domain.trend.domain.service;
+
+/**
+ * 최소제곱 선형 회귀 결과
+ * 누적 합(Σx, Σy, Σxx, Σxy, Σyy)만으로 계산하므로 시리즈를 한 번 순회하면서 함께 구할 수 있다.
+ */
+public record LinearFit(
+        int count,
+        double slope,
+        double intercept,
+        double rSquared,
+        double standardError,
+        double slopeLower,
+        double slopeUpper
+) {
+
+    // 자유도 1~30 의 양측 95% t 임계값 (이후는 정규 근사)
+    private static final double[] T_CRITICAL_95 = {
+            12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+            2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+            2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+
+    public static LinearFit of(int n, double sumX, double sumY, double sumXX, double sumXY, double sumYY) {
+        if (n < 2) {
+            return new LinearFit(n, 0d, n == 1 ? sumY : 0d, 0d, 0d, 0d, 0d);
+        }
+
+        double sxx = sumXX - sumX * sumX / n;
+        double sxy = sumXY - sumX * sumY / n;
+        double syy = sumYY - sumY * sumY / n;
+        if (sxx <= 0d) {
+            return new LinearFit(n, 0d, sumY / n, 0d, 0d, 0d, 0d);
+        }
+
+        double slope = sxy / sxx;
+        double intercept = (sumY - slope * sumX) / n;
+        double rSquared = syy > 0d ? Math.min(1d, Math.max(0d, slope * sxy / syy)) : 0d;
+        if (n < 3) {
+            return new LinearFit(n, slope, intercept, rSquared, Double.POSITIVE_INFINITY,
+                    Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+        }
+
+        double residual = Math.max(0d, syy - slope * sxy);
+        double standardError = Math.sqrt(residual / (n - 2) / sxx);
+        double margin = tCritical95(n - 2) * standardError;
+        return new LinearFit(n, slope, intercept, rSquared, standardError, slope - margin, slope + margin);
+    }
+
+    public double valueAt(double x) {
+        return intercept + slope * x;
+    }
+
+    /**
+     * 95% 신뢰구간이 0을 포함하지 않을 때만 상승/하락으로 판단
+     */
+    public String direction() {
+        if (slopeLower > 0d) {
+            return "RISING";
+        }
+        if (slopeUpper < 0d) {
+            return "FALLING";
+        }
+        return "STABLE";
+    }
+
+    static double tCritical95(int degreesOfFreedom) {
+        if (degreesOfFreedom < 1) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return degreesOfFreedom <= T_CRITICAL_95.length ? T_CRITICAL_95[degreesOfFreedom - 1] : 1.96;
+    }
+}
@@ -25,8 +25,14 @@ public class NaverDataLabApiService {
     private final RestTemplate restTemplate;
     private final DataLabApiProperties dataLabApiProperties;
     private final ObjectMapper objectMapper;
+    private final DataLabQuotaService dataLabQuotaService;
 
     public NaverDataLabResponse searchTrends(TrendSearchRequest request) {
+        // 모든 DataLab 호출은 이 메서드를 거치므로 여기서 일일 쿼터 차감
+        if (!dataLabQuotaService.tryAcquire()) {
+            throw new RestApiException(GlobalErrorStatus.DATALAB_QUOTA_EXCEEDED);
+        }
+
         try {
             // 1. API 요청 URL 및 헤더 설정
             String url = buildApiUrl(request);
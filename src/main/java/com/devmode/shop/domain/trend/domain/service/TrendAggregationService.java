@@ -0,0 +1,278 @@
+package com.devmode.shop.domain.trend.domain.service;
+
+import com.devmode.shop.domain.trend.domain.entity.Trend;
+import com.devmode.shop.domain.trend.domain.entity.TrendAggregation;
+import com.devmode.shop.domain.trend.domain.entity.TrendAggregation.AggregationType;
+import com.devmode.shop.domain.trend.domain.repository.TrendAggregationRepository;
+import com.devmode.shop.domain.trend.domain.repository.TrendRepository;
+import com.devmode.shop.global.config.properties.TrendAggregationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * 트렌드 일간/주간/월간 집계
+ * 새 Trend 행이 저장될 때 해당 일자가 속한 버킷의 누적 합계/건수/최소/최대/방향만 갱신하고,
+ * 과거 이력을 다시 읽지 않는다. 전체 재계산이 필요하면 backfill 로 키워드 조건 단위 청크를 병렬 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendAggregationService {
+
+    private static final String SOURCE = "naver_datalab";
+
+    private final TrendRepository trendRepository;
+    private final TrendAggregationRepository trendAggregationRepository;
+    private final TrendAggregationProperties properties;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 저장된 일자별 값 변경분. oldRatio 가 null 이면 새로 추가된 일자
+     */
+    public record TrendSampleChange(
+            LocalDate date,
+            BigDecimal oldRatio,
+            Long oldClickCount,
+            BigDecimal newRatio,
+            Long newClickCount
+    ) {}
+
+    public record BackfillResult(int variants, int buckets, int failedChunks, long elapsedMs) {}
+
+    /**
+     * 변경분이 속한 버킷만 증분 갱신 (호출한 트랜잭션에 참여)
+     * 버킷은 @Version 으로 보호되므로 동시 갱신이 겹치면 커밋 시 실패하며, 호출 측이 트랜잭션 전체를 다시 실행한다.
+     */
+    @Transactional
+    public int apply(String keyword, String variant, String categoryId, String categoryName, List<TrendSampleChange> changes) {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+
+        List<TrendSampleChange> effective = changes.stream()
+                .filter(change -> change.oldRatio() != null || change.newRatio() != null)
+                .sorted(Comparator.comparing(TrendSampleChange::date))
+                .toList();
+        if (effective.isEmpty()) {
+            return 0;
+        }
+
+        int touched = 0;
+        for (AggregationType type : AggregationType.values()) {
+            touched += applyType(type, keyword, variant, categoryId, categoryName, effective);
+        }
+        return touched;
+    }
+
+    /**
+     * 지정 기간이 걸친 일/주/월 버킷 전체를 원본 행으로 재계산
+     * 버킷 경계가 유형마다 다르므로 재계산/삭제 범위도 유형별로 잡는다.
+     */
+    public BackfillResult backfill(LocalDate startDate, LocalDate endDate) {
+        long startTime = System.currentTimeMillis();
+        Map<AggregationType, LocalDate[]> ranges = new EnumMap<>(AggregationType.class);
+        for (AggregationType type : AggregationType.values()) {
+            ranges.put(type, new LocalDate[]{type.bucketOf(startDate), type.bucketEnd(type.bucketOf(endDate))});
+        }
+        LocalDate from = ranges.values().stream().map(range -> range[0]).min(Comparator.naturalOrder()).orElseThrow();
+        LocalDate to = ranges.values().stream().map(range -> range[1]).max(Comparator.naturalOrder()).orElseThrow();
+
+        List<Object[]> variants = trendRepository.findVariantsByDateRange(from, to).stream()
+                .filter(variant -> variant[0] != null && variant[1] != null)
+                .toList();
+        if (variants.isEmpty()) {
+            return new BackfillResult(0, 0, 0, System.currentTimeMillis() - startTime);
+        }
+
+        int chunkSize = Math.max(1, Objects.requireNonNullElse(properties.getBackfillChunkSize(), 20));
+        List<List<Object[]>> chunks = new ArrayList<>();
+        for (int i = 0; i < variants.size(); i += chunkSize) {
+            chunks.add(variants.subList(i, Math.min(i + chunkSize, variants.size())));
+        }
+
+        // 청크마다 별도 트랜잭션으로 처리하여 한 청크의 실패가 다른 청크에 영향을 주지 않도록 함
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        int parallelism = Math.max(1, Objects.requireNonNullElse(properties.getBackfillParallelism(), 4));
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, chunks.size()));
+        int buckets = 0;
+        int failedChunks = 0;
+        try {
+            List<Future<Integer>> futures = chunks.stream()
+                    .map(chunk -> executor.submit(() -> transactionTemplate.execute(status -> rebuildChunk(chunk, ranges, from, to))))
+                    .toList();
+            for (Future<Integer> future : futures) {
+                try {
+                    buckets += Objects.requireNonNullElse(future.get(), 0);
+                } catch (ExecutionException e) {
+                    failedChunks++;
+                    log.warn("[TrendAggregation] 집계 재계산 청크 실패: {}", e.getCause().getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[TrendAggregation] 집계 재계산 중단");
+        } finally {
+            executor.shutdown();
+        }
+
+        BackfillResult result = new BackfillResult(variants.size(), buckets, failedChunks,
+                System.currentTimeMillis() - startTime);
+        log.info("[TrendAggregation] 집계 재계산 완료 - 기간: {} ~ {}, 조건: {}개, 버킷: {}개, 실패 청크: {}개, 소요: {}ms",
+                from, to, result.variants(), result.buckets(), result.failedChunks(), result.elapsedMs());
+        return result;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!properties.isBackfillOnStartup()) {
+            return;
+        }
+        LocalDate today = LocalDate.now();
+        backfill(today.minusDays(Objects.requireNonNullElse(properties.getBackfillDays(), 365)), today);
+    }
+
+    private int applyType(AggregationType type, String keyword, String variant, String categoryId, String categoryName,
+                          List<TrendSampleChange> changes) {
+        LocalDate from = type.bucketOf(changes.get(0).date());
+        LocalDate to = type.bucketOf(changes.get(changes.size() - 1).date());
+
+        // 일간 방향은 전일 대비이므로 앞뒤 하루 버킷을 함께 로드
+        boolean daily = type == AggregationType.DAILY;
+        Map<LocalDate, TrendAggregation> buckets = trendAggregationRepository.findBuckets(
+                        keyword, variant, type,
+                        daily ? from.minusDays(1) : from,
+                        daily ? to.plusDays(1) : to).stream()
+                .collect(Collectors.toMap(TrendAggregation::getAggregationDate, bucket -> bucket,
+                        (a, b) -> a, TreeMap::new));
+
+        Set<LocalDate> created = new HashSet<>();
+        TreeSet<LocalDate> rebuild = new TreeSet<>();
+        Set<LocalDate> touched = new TreeSet<>();
+        for (TrendSampleChange change : changes) {
+            LocalDate bucketDate = type.bucketOf(change.date());
+            TrendAggregation bucket = buckets.computeIfAbsent(bucketDate, date -> {
+                created.add(date);
+                return TrendAggregation.create(type, date, keyword, variant, categoryId, categoryName, SOURCE);
+            });
+            touched.add(bucketDate);
+
+            // 새로 만든 주/월 버킷은 이전에 저장된 행이 있을 수 있으므로 원본으로 계산
+            if (rebuild.contains(bucketDate) || (!daily && created.contains(bucketDate))) {
+                rebuild.add(bucketDate);
+                continue;
+            }
+            if (change.newRatio() == null) {
+                rebuild.add(bucketDate);
+            } else if (change.oldRatio() == null) {
+                bucket.addSample(change.date(), change.newRatio(), change.newClickCount());
+            } else if (bucket.isEmpty() || !bucket.replaceSample(change.date(), change.oldRatio(),
+                    change.oldClickCount(), change.newRatio(), change.newClickCount())) {
+                rebuild.add(bucketDate);
+            }
+        }
+
+        if (!rebuild.isEmpty()) {
+            LocalDate rebuildFrom = rebuild.first();
+            LocalDate rebuildTo = type.bucketEnd(rebuild.last());
+            Map<LocalDate, List<Trend>> byBucket = trendRepository.findByKeywordAndVariantAndDateRange(
+                            keyword, variant, rebuildFrom, rebuildTo).stream()
+                    .collect(Collectors.groupingBy(trend -> type.bucketOf(trend.getSearchDate())));
+            rebuild.forEach(date -> buckets.get(date).rebuild(byBucket.getOrDefault(date, List.of())));
+        }
+
+        // 값이 모두 사라진 버킷 제거
+        List<TrendAggregation> emptied = touched.stream().map(buckets::get).filter(TrendAggregation::isEmpty).toList();
+        emptied.forEach(bucket -> {
+            touched.remove(bucket.getAggregationDate());
+            buckets.remove(bucket.getAggregationDate());
+            created.remove(bucket.getAggregationDate());
+        });
+        trendAggregationRepository.deleteAll(emptied.stream().filter(bucket -> bucket.getId() != null).toList());
+
+        BigDecimal threshold = properties.getDirectionThreshold();
+        for (LocalDate date : touched) {
+            TrendAggregation bucket = buckets.get(date);
+            bucket.refreshDirection(daily ? lastRatioOf(buckets.get(date.minusDays(1))) : null, threshold);
+            TrendAggregation next = daily ? buckets.get(date.plusDays(1)) : null;
+            if (next != null && !touched.contains(next.getAggregationDate())) {
+                next.refreshDirection(bucket.getLastRatio(), threshold);
+            }
+        }
+
+        trendAggregationRepository.saveAll(created.stream().map(buckets::get).toList());
+        return touched.size();
+    }
+
+    private int rebuildChunk(List<Object[]> chunk, Map<AggregationType, LocalDate[]> ranges, LocalDate from, LocalDate to) {
+        int buckets = 0;
+        for (Object[] variant : chunk) {
+            buckets += rebuildVariant((String) variant[0], (String) variant[1], (String) variant[2], (String) variant[3],
+                    ranges, from, to);
+        }
+        return buckets;
+    }
+
+    private int rebuildVariant(String keyword, String variant, String categoryId, String categoryName,
+                               Map<AggregationType, LocalDate[]> ranges, LocalDate from, LocalDate to) {
+        List<Trend> trends = trendRepository.findByKeywordAndVariantAndDateRange(keyword, variant, from, to).stream()
+                .filter(trend -> !trend.isEmptyPoint())
+                .toList();
+        BigDecimal threshold = properties.getDirectionThreshold();
+
+        int count = 0;
+        for (AggregationType type : AggregationType.values()) {
+            LocalDate typeFrom = ranges.get(type)[0];
+            LocalDate typeTo = ranges.get(type)[1];
+            Map<LocalDate, List<Trend>> grouped = trends.stream()
+                    .filter(trend -> !trend.getSearchDate().isBefore(typeFrom) && !trend.getSearchDate().isAfter(typeTo))
+                    .collect(Collectors.groupingBy(trend -> type.bucketOf(trend.getSearchDate()),
+                            TreeMap::new, Collectors.toList()));
+            Map<LocalDate, TrendAggregation> existing = trendAggregationRepository
+                    .findBuckets(keyword, variant, type, typeFrom, typeTo).stream()
+                    .collect(Collectors.toMap(TrendAggregation::getAggregationDate, bucket -> bucket, (a, b) -> a));
+
+            List<TrendAggregation> created = new ArrayList<>();
+            TrendAggregation previous = null;
+            for (Map.Entry<LocalDate, List<Trend>> entry : grouped.entrySet()) {
+                TrendAggregation bucket = existing.remove(entry.getKey());
+                if (bucket == null) {
+                    bucket = TrendAggregation.create(type, entry.getKey(), keyword, variant, categoryId, categoryName, SOURCE);
+                    created.add(bucket);
+                }
+                bucket.rebuild(entry.getValue());
+                BigDecimal previousRatio = type == AggregationType.DAILY && previous != null
+                        && previous.getAggregationDate().equals(entry.getKey().minusDays(1))
+                        ? previous.getLastRatio() : null;
+                bucket.refreshDirection(previousRatio, threshold);
+                previous = bucket;
+            }
+
+            trendAggregationRepository.saveAll(created);
+            trendAggregationRepository.deleteAll(existing.values()); // 원본 값이 사라진 버킷
+            count += grouped.size();
+        }
+        return count;
+    }
+
+    private static BigDecimal lastRatioOf(TrendAggregation bucket) {
+        return bucket != null ? bucket.getLastRatio() : null;
+    }
+}
@@ -0,0 +1,93 @@
+package com.devmode.shop.domain.trend.domain.service;
+
+import com.devmode.shop.domain.trend.application.dto.response.analytics.TrendAnalyticsResponse;
+import com.devmode.shop.domain.trend.application.dto.response.analytics.TrendAnomaly;
+import com.devmode.shop.domain.trend.application.dto.response.analytics.TrendRegression;
+import com.devmode.shop.domain.trend.application.dto.response.analytics.TrendSeasonality;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시리즈 분석 결과 (원시 배열). BigDecimal 은 toResponse 에서만 생성한다.
+ */
+public record TrendAnalytics(
+        long[] epochDays,
+        double[] ratios,
+        double[] sma,
+        double[] ema,
+        LinearFit fit,
+        double[] weekdayIndex,
+        double seasonalStrength,
+        int[] anomalyIndexes,
+        double[] anomalyScores,
+        double[] anomalyExpected,
+        TrendAnalyticsEngine.Options options
+) {
+
+    public int anomalyCount() {
+        return anomalyIndexes.length;
+    }
+
+    public TrendAnalyticsResponse toResponse(String keyword, LocalDate startDate, LocalDate endDate) {
+        int n = epochDays.length;
+        List<LocalDate> dates = new ArrayList<>(n);
+        List<BigDecimal> smaValues = new ArrayList<>(n);
+        List<BigDecimal> emaValues = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            dates.add(LocalDate.ofEpochDay(epochDays[i]));
+            smaValues.add(scaled(sma[i]));
+            emaValues.add(scaled(ema[i]));
+        }
+
+        List<BigDecimal> weekday = new ArrayList<>(7);
+        for (double value : weekdayIndex) {
+            weekday.add(scaled(value));
+        }
+
+        List<TrendAnomaly> anomalies = new ArrayList<>(anomalyIndexes.length);
+        for (int i = 0; i < anomalyIndexes.length; i++) {
+            int index = anomalyIndexes[i];
+            anomalies.add(new TrendAnomaly(
+                    dates.get(index),
+                    scaled(ratios[index]),
+                    scaled(anomalyExpected[i]),
+                    scaled(anomalyScores[i])
+            ));
+        }
+
+        return new TrendAnalyticsResponse(
+                keyword,
+                startDate,
+                endDate,
+                n,
+                options.smaWindow(),
+                options.emaSpan(),
+                dates,
+                smaValues,
+                emaValues,
+                new TrendRegression(
+                        scaled(fit.slope()),
+                        scaled(fit.intercept()),
+                        scaled(fit.rSquared()),
+                        finite(fit.slopeLower()),
+                        finite(fit.slopeUpper()),
+                        fit.direction()
+                ),
+                new TrendSeasonality(weekday, scaled(seasonalStrength)),
+                options.anomalyMethod().name(),
+                anomalies
+        );
+    }
+
+    private static BigDecimal finite(double value) {
+        return Double.isFinite(value) ? scaled(value) : null;
+    }
+
+    private static BigDecimal scaled(double value) {
+        return BigDecimal.valueOf(value).setScale(4, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,223 @@
+package com.devmode.shop.domain.trend.domain.service;
+
+import java.util.Arrays;
+
+/**
+ * 트렌드 시리즈 분석 (시리즈당 O(n))
+ * 1) 이동평균(SMA/EMA)과 회귀 누적합을 한 번에 계산
+ * 2) 회귀선 잔차의 요일별 중앙값으로 주간 계절성 추출
+ * 3) 추세/계절성을 뺀 나머지 값으로 z-score 또는 MAD 이상치 판정 (중앙값은 quickselect)
+ */
+public final class TrendAnalyticsEngine {
+
+    private static final double MAD_SCALE = 0.6745; // 정규분포에서 MAD 를 표준편차로 환산하는 계수
+    private static final int MIN_SEASONAL_POINTS = 14; // 요일별 최소 2주치
+
+    public enum AnomalyMethod {
+        ZSCORE, MAD
+    }
+
+    public record Options(int smaWindow, int emaSpan, AnomalyMethod anomalyMethod, double anomalyThreshold) {
+
+        public static Options defaults() {
+            return new Options(7, 7, AnomalyMethod.MAD, 3.5);
+        }
+    }
+
+    private TrendAnalyticsEngine() {
+    }
+
+    public static TrendAnalytics analyze(TrendSeries series, Options options) {
+        int n = series.size();
+        long[] epochDays = new long[n];
+        double[] ratios = new double[n];
+        double[] sma = new double[n];
+        double[] ema = new double[n];
+        if (n == 0) {
+            return new TrendAnalytics(epochDays, ratios, sma, ema, LinearFit.of(0, 0d, 0d, 0d, 0d, 0d),
+                    new double[7], 0d, new int[0], new double[0], new double[0], options);
+        }
+
+        // 1. 이동평균 + 회귀 누적합
+        int window = Math.max(1, options.smaWindow());
+        double alpha = 2d / (Math.max(1, options.emaSpan()) + 1d);
+        long origin = series.epochDayAt(0);
+        double windowSum = 0d;
+        double sumX = 0d;
+        double sumY = 0d;
+        double sumXX = 0d;
+        double sumXY = 0d;
+        double sumYY = 0d;
+        for (int i = 0; i < n; i++) {
+            double y = series.ratioAt(i);
+            double x = series.epochDayAt(i) - origin;
+            epochDays[i] = series.epochDayAt(i);
+            ratios[i] = y;
+
+            windowSum += y;
+            if (i >= window) {
+                windowSum -= ratios[i - window];
+            }
+            sma[i] = windowSum / Math.min(i + 1, window);
+            ema[i] = i == 0 ? y : alpha * y + (1d - alpha) * ema[i - 1];
+
+            sumX += x;
+            sumY += y;
+            sumXX += x * x;
+            sumXY += x * y;
+            sumYY += y * y;
+        }
+        LinearFit fit = LinearFit.of(n, sumX, sumY, sumXX, sumXY, sumYY);
+
+        // 2. 주간 계절성 (일 단위 시리즈만). 급등락 하루가 요일 지수를 끌고 가지 않도록 요일별 중앙값 사용
+        double[] residuals = new double[n];
+        int[] weekdayCount = new int[7];
+        for (int i = 0; i < n; i++) {
+            residuals[i] = ratios[i] - fit.valueAt(epochDays[i] - origin);
+            weekdayCount[weekdayOf(epochDays[i])]++;
+        }
+        double[] weekdayIndex = new double[7];
+        boolean seasonal = n >= MIN_SEASONAL_POINTS && epochDays[n - 1] - origin < 2L * n;
+        if (seasonal) {
+            double[][] byWeekday = new double[7][];
+            for (int d = 0; d < 7; d++) {
+                byWeekday[d] = new double[weekdayCount[d]];
+            }
+            int[] filled = new int[7];
+            for (int i = 0; i < n; i++) {
+                int weekday = weekdayOf(epochDays[i]);
+                byWeekday[weekday][filled[weekday]++] = residuals[i];
+            }
+            double mean = 0d;
+            for (int d = 0; d < 7; d++) {
+                weekdayIndex[d] = median(byWeekday[d]);
+                mean += weekdayIndex[d];
+            }
+            mean /= 7d;
+            for (int d = 0; d < 7; d++) {
+                weekdayIndex[d] -= mean;
+            }
+        }
+
+        // 3. 나머지 값 통계
+        double[] remainders = new double[n];
+        double residualSquares = 0d;
+        double remainderSum = 0d;
+        double remainderSquares = 0d;
+        for (int i = 0; i < n; i++) {
+            remainders[i] = residuals[i] - weekdayIndex[weekdayOf(epochDays[i])];
+            residualSquares += residuals[i] * residuals[i];
+            remainderSum += remainders[i];
+            remainderSquares += remainders[i] * remainders[i];
+        }
+        double seasonalStrength = seasonal && residualSquares > 0d
+                ? Math.max(0d, 1d - remainderSquares / residualSquares)
+                : 0d;
+
+        // 4. 이상치 판정
+        double center;
+        double scale;
+        if (options.anomalyMethod() == AnomalyMethod.MAD) {
+            center = median(remainders.clone());
+            double[] deviations = new double[n];
+            for (int i = 0; i < n; i++) {
+                deviations[i] = Math.abs(remainders[i] - center);
+            }
+            double mad = median(deviations);
+            scale = mad > 0d ? mad / MAD_SCALE : standardDeviation(n, remainderSum, remainderSquares);
+        } else {
+            center = remainderSum / n;
+            scale = standardDeviation(n, remainderSum, remainderSquares);
+        }
+
+        int anomalyCount = 0;
+        int[] anomalyIndexes = new int[n];
+        double[] anomalyScores = new double[n];
+        double[] expected = new double[n];
+        if (scale > 0d) {
+            for (int i = 0; i < n; i++) {
+                double score = (remainders[i] - center) / scale;
+                if (Math.abs(score) > options.anomalyThreshold()) {
+                    anomalyIndexes[anomalyCount] = i;
+                    anomalyScores[anomalyCount] = score;
+                    expected[anomalyCount] = ratios[i] - remainders[i] + center;
+                    anomalyCount++;
+                }
+            }
+        }
+
+        return new TrendAnalytics(epochDays, ratios, sma, ema, fit, weekdayIndex, seasonalStrength,
+                Arrays.copyOf(anomalyIndexes, anomalyCount),
+                Arrays.copyOf(anomalyScores, anomalyCount),
+                Arrays.copyOf(expected, anomalyCount),
+                options);
+    }
+
+    /**
+     * 월요일 0 ~ 일요일 6 (epoch day 0 = 1970-01-01 목요일)
+     */
+    static int weekdayOf(long epochDay) {
+        return (int) Math.floorMod(epochDay + 3, 7L);
+    }
+
+    private static double standardDeviation(int n, double sum, double squares) {
+        if (n < 2) {
+            return 0d;
+        }
+        double mean = sum / n;
+        return Math.sqrt(Math.max(0d, squares / n - mean * mean));
+    }
+
+    /**
+     * quickselect 로 평균 O(n) 중앙값 (배열 순서는 바뀜)
+     */
+    static double median(double[] values) {
+        int n = values.length;
+        if (n == 0) {
+            return 0d;
+        }
+        double upper = select(values, n / 2);
+        if (n % 2 == 1) {
+            return upper;
+        }
+        // select 이후 n/2 왼쪽은 모두 upper 이하이므로 그중 최대값이 아래쪽 중앙값
+        double lower = values[0];
+        for (int i = 1; i < n / 2; i++) {
+            lower = Math.max(lower, values[i]);
+        }
+        return (lower + upper) / 2d;
+    }
+
+    private static double select(double[] values, int k) {
+        int left = 0;
+        int right = values.length - 1;
+        while (left < right) {
+            double pivot = values[(left + right) >>> 1];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (values[i] < pivot) {
+                    i++;
+                }
+                while (values[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    double tmp = values[i];
+                    values[i] = values[j];
+                    values[j] = tmp;
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                break;
+            }
+        }
+        return values[k];
+    }
+}
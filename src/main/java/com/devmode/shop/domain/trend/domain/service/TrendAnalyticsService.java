@@ -0,0 +1,157 @@
+package com.devmode.shop.domain.trend.domain.service;
+
+import com.devmode.shop.domain.trend.application.dto.response.analytics.TrendAnalyticsResponse;
+import com.devmode.shop.domain.trend.application.dto.response.trend.TrendDataPoint;
+import com.devmode.shop.domain.trend.domain.repository.TrendBulkRepository;
+import com.devmode.shop.domain.trend.domain.service.TrendAnalyticsEngine.AnomalyMethod;
+import com.devmode.shop.domain.trend.domain.service.TrendAnalyticsEngine.Options;
+import com.devmode.shop.global.config.properties.TrendAnalyticsProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 트렌드 시리즈 분석 + 결과 캐시
+ * 단건 분석은 조회한 포인트로 바로 계산하고, 일괄 분석은 저장된 시리즈를 한 번에 읽어 청크 단위로 병렬 계산한다.
+ * 일괄 분석 결과는 '어제로 끝나는 최근 N일' 구간 키로 저장되어 같은 구간의 단건 요청이 그대로 읽는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendAnalyticsService {
+
+    private final TrendBulkRepository trendBulkRepository;
+    private final TrendCacheService trendCacheService;
+    private final TrendAnalyticsProperties properties;
+
+    public record BatchResult(int series, int anomalies, int failedChunks, long elapsedMs) {}
+
+    /**
+     * 분석 후 결과 캐시 (일 단위 조회만 캐시 키와 구간이 일치하므로 호출 측에서 구분)
+     */
+    public TrendAnalyticsResponse analyze(TrendSeriesKey key, List<TrendDataPoint> points) {
+        TrendAnalyticsResponse response = compute(key, points);
+        trendCacheService.cacheAnalytics(Map.of(key, response));
+        return response;
+    }
+
+    /**
+     * 캐시 없이 분석만 수행 (주/월 단위 조회)
+     */
+    public TrendAnalyticsResponse compute(TrendSeriesKey key, List<TrendDataPoint> points) {
+        List<TrendDataPoint> valued = points.stream()
+                .filter(point -> point.ratio() != null)
+                .toList();
+        return TrendAnalyticsEngine.analyze(TrendSeries.fromDataPoints(valued), options())
+                .toResponse(key.keyword(), key.startDate(), key.endDate());
+    }
+
+    /**
+     * 저장된 모든 시리즈 일괄 분석
+     * endDate 로 끝나는 최근 N일 구간(windowDays)마다 분석해, 같은 구간을 요청하는 단건 분석과 같은 캐시 키에 저장한다.
+     * 시리즈 로드는 가장 긴 구간으로 쿼리 1회, 분석은 청크별 스레드, 캐시는 청크별 파이프라인 1회
+     */
+    public BatchResult analyzeStored(LocalDate endDate, List<Integer> windowDays) {
+        long startTime = System.currentTimeMillis();
+        List<Integer> windows = windowDays.stream()
+                .filter(Objects::nonNull)
+                .filter(days -> days > 0)
+                .distinct()
+                .sorted()
+                .toList();
+        if (windows.isEmpty()) {
+            return new BatchResult(0, 0, 0, System.currentTimeMillis() - startTime);
+        }
+
+        LocalDate startDate = endDate.minusDays(windows.get(windows.size() - 1) - 1L);
+        Map<TrendSeriesKey, TrendSeries> loaded = trendBulkRepository.loadRatioSeries(startDate, endDate);
+        if (loaded.isEmpty()) {
+            return new BatchResult(0, 0, 0, System.currentTimeMillis() - startTime);
+        }
+
+        Options options = options();
+        List<Map.Entry<TrendSeriesKey, TrendSeries>> entries = new ArrayList<>(loaded.entrySet());
+        int chunkSize = Math.max(1, Objects.requireNonNullElse(properties.getBatchChunkSize(), 200));
+        List<List<Map.Entry<TrendSeriesKey, TrendSeries>>> chunks = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i += chunkSize) {
+            chunks.add(entries.subList(i, Math.min(i + chunkSize, entries.size())));
+        }
+
+        int parallelism = Math.max(1, Objects.requireNonNullElse(properties.getBatchParallelism(), 4));
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, chunks.size()));
+        int anomalies = 0;
+        int failedChunks = 0;
+        try {
+            List<Future<Integer>> futures = chunks.stream()
+                    .map(chunk -> executor.submit(() -> analyzeChunk(chunk, endDate, windows, options)))
+                    .toList();
+            for (Future<Integer> future : futures) {
+                try {
+                    anomalies += future.get();
+                } catch (ExecutionException e) {
+                    failedChunks++;
+                    log.warn("[TrendAnalytics] 일괄 분석 청크 실패: {}", e.getCause().getMessage());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[TrendAnalytics] 일괄 분석 중단");
+        } finally {
+            executor.shutdown();
+        }
+
+        BatchResult result = new BatchResult(entries.size(), anomalies, failedChunks, System.currentTimeMillis() - startTime);
+        log.info("[TrendAnalytics] 일괄 분석 완료 - 종료일: {}, 구간: {}일, 시리즈: {}개, 이상치: {}건, 실패 청크: {}개, 소요: {}ms",
+                endDate, windows, result.series(), result.anomalies(), result.failedChunks(), result.elapsedMs());
+        return result;
+    }
+
+    private int analyzeChunk(List<Map.Entry<TrendSeriesKey, TrendSeries>> chunk, LocalDate endDate,
+                             List<Integer> windows, Options options) {
+        Map<TrendSeriesKey, TrendAnalyticsResponse> responses = new LinkedHashMap<>();
+        int anomalies = 0;
+        for (Map.Entry<TrendSeriesKey, TrendSeries> entry : chunk) {
+            for (int days : windows) {
+                LocalDate windowStart = endDate.minusDays(days - 1L);
+                TrendSeries series = entry.getValue().since(windowStart.toEpochDay());
+                if (series.size() == 0) {
+                    continue;
+                }
+                TrendSeriesKey key = new TrendSeriesKey(entry.getKey().keyword(), entry.getKey().variant(),
+                        windowStart, endDate);
+                TrendAnalytics analytics = TrendAnalyticsEngine.analyze(series, options);
+                anomalies += analytics.anomalyCount();
+                responses.put(key, analytics.toResponse(key.keyword(), key.startDate(), key.endDate()));
+            }
+        }
+        trendCacheService.cacheAnalytics(responses);
+        return anomalies;
+    }
+
+    Options options() {
+        AnomalyMethod method;
+        try {
+            method = AnomalyMethod.valueOf(Objects.requireNonNullElse(properties.getAnomalyMethod(), "MAD").toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            method = AnomalyMethod.MAD;
+        }
+        return new Options(
+                Objects.requireNonNullElse(properties.getSmaWindow(), 7),
+                Objects.requireNonNullElse(properties.getEmaSpan(), 7),
+                method,
+                Objects.requireNonNullElse(properties.getAnomalyThreshold(), 3.5)
+        );
+    }
+}
@@ -1,16 +1,30 @@
 package com.devmode.shop.domain.trend.domain.service;
 
 import com.devmode.shop.domain.trend.application.dto.request.TrendSearchRequest;
+import com.devmode.shop.domain.trend.application.dto.response.analytics.TrendAnalyticsResponse;
+import com.devmode.shop.domain.trend.application.dto.response.trend.TrendDataPoint;
 import com.devmode.shop.domain.trend.application.dto.response.trend.TrendSearchResponse;
+import com.devmode.shop.global.cache.CacheTagService;
 import com.devmode.shop.global.config.properties.DataLabApiProperties;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @Service
@@ -20,13 +34,18 @@ public class TrendCacheService {
     private final RedisTemplate<String, String> redisTemplate;
     private final DataLabApiProperties dataLabApiProperties;
     private final ObjectMapper objectMapper;
+    private final CacheTagService cacheTagService;
 
     private static final String CACHE_PREFIX = "trend:";
     private static final String SEARCH_PREFIX = "trend_search:";
+    private static final String ANALYTICS_PREFIX = "trend_analytics:";
+    private static final String COMPARISON_PREFIX = "trend_comparison:";
+    private static final TypeReference<List<List<TrendDataPoint>>> BATCH_TYPE = new TypeReference<>() {};
 
     public void cacheTrendData(String keyword, LocalDate date, String data) {
         String key = CACHE_PREFIX + keyword + ":" + date;
         redisTemplate.opsForValue().set(key, data, Duration.ofSeconds(dataLabApiProperties.getCacheTtl()));
+        cacheTagService.tag(CACHE_PREFIX + keyword, List.of(key));
     }
 
     public Optional<String> getCachedTrendData(String keyword, LocalDate date) {
@@ -40,6 +59,7 @@ public class TrendCacheService {
             String cacheKey = buildCacheKey(request);
             String jsonResponse = objectMapper.writeValueAsString(response);
             redisTemplate.opsForValue().set(cacheKey, jsonResponse, Duration.ofSeconds(dataLabApiProperties.getCacheTtl()));
+            cacheTagService.tag(SEARCH_PREFIX + request.keyword(), List.of(cacheKey));
         } catch (JsonProcessingException e) {
             // 로깅 없이 조용히 실패 처리
         }
@@ -64,20 +84,122 @@ public class TrendCacheService {
     }
 
     private String buildCacheKey(TrendSearchRequest request) {
+        // 카테고리/키워드 그룹/분포 필터가 다르면 결과가 다르므로 조건 다이제스트를 키에 포함
         return SEARCH_PREFIX + 
                request.keyword() + ":" + 
                request.startDate() + ":" + 
                request.endDate() + ":" + 
-               (request.timeUnit() != null ? request.timeUnit() : "date");
+               (request.timeUnit() != null ? request.timeUnit() : "date") + ":" +
+               TrendVariant.cacheKey(request);
+    }
+
+    /**
+     * 비교 API 의 DataLab 호출 1회 결과 (키워드 그룹별 원본 비율)
+     * 비율은 같은 호출에 담긴 키워드끼리만 비교할 수 있으므로 단일 키워드 검색 캐시와 섞지 않고 호출 단위로 저장한다.
+     */
+    public Optional<List<List<TrendDataPoint>>> getCachedComparisonBatch(TrendSearchRequest batchRequest) {
+        try {
+            String cached = redisTemplate.opsForValue().get(buildComparisonKey(batchRequest));
+            if (cached != null) {
+                return Optional.of(objectMapper.readValue(cached, BATCH_TYPE));
+            }
+        } catch (Exception e) {
+            // 로깅 없이 조용히 실패 처리
+        }
+        return Optional.empty();
+    }
+
+    public void cacheComparisonBatch(TrendSearchRequest batchRequest, List<List<TrendDataPoint>> series) {
+        try {
+            String cacheKey = buildComparisonKey(batchRequest);
+            redisTemplate.opsForValue().set(cacheKey, objectMapper.writeValueAsString(series),
+                    Duration.ofSeconds(dataLabApiProperties.getCacheTtl()));
+            // 호출에 담긴 어느 키워드를 무효화해도 함께 지워지도록 모든 키워드에 태그
+            Objects.requireNonNullElse(batchRequest.keywords(), List.<String>of())
+                    .forEach(keyword -> cacheTagService.tag(COMPARISON_PREFIX + keyword, List.of(cacheKey)));
+        } catch (Exception e) {
+            // 캐시 저장 실패는 비교 결과에 영향을 주지 않음
+        }
+    }
+
+    public void clearComparisonCache(String keyword) {
+        // 비교 캐시는 처음부터 태그와 함께 저장되므로 SCAN 정리가 필요 없음
+        cacheTagService.invalidate(COMPARISON_PREFIX + keyword, null);
+    }
+
+    private String buildComparisonKey(TrendSearchRequest batchRequest) {
+        return COMPARISON_PREFIX + batchRequest.keyword() + ":" + batchRequest.startDate() + ":" + batchRequest.endDate() + ":"
+                + (batchRequest.timeUnit() != null ? batchRequest.timeUnit() : "date") + ":"
+                + TrendVariant.cacheKey(batchRequest);
     }
 
     public void clearCache(String keyword) {
-        String pattern = CACHE_PREFIX + keyword + "*";
-        redisTemplate.delete(redisTemplate.keys(pattern));
+        cacheTagService.invalidate(CACHE_PREFIX + keyword, CACHE_PREFIX + keyword + ":");
     }
 
     public void clearSearchCache(String keyword) {
-        String pattern = SEARCH_PREFIX + keyword + "*";
-        redisTemplate.delete(redisTemplate.keys(pattern));
+        cacheTagService.invalidate(SEARCH_PREFIX + keyword, SEARCH_PREFIX + keyword + ":");
+    }
+
+    public Optional<TrendAnalyticsResponse> getCachedAnalytics(TrendSeriesKey key) {
+        try {
+            String cached = redisTemplate.opsForValue().get(buildAnalyticsKey(key));
+            if (cached != null) {
+                return Optional.of(objectMapper.readValue(cached, TrendAnalyticsResponse.class));
+            }
+        } catch (Exception e) {
+            // 로깅 없이 조용히 실패 처리
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 분석 결과를 파이프라인 1회로 저장
+     * 확정된 기간(최근 N일 이전에 끝나는 기간)의 결과는 포인트 캐시와 같은 긴 TTL 적용
+     */
+    public void cacheAnalytics(Map<TrendSeriesKey, TrendAnalyticsResponse> analytics) {
+        if (analytics.isEmpty()) {
+            return;
+        }
+
+        LocalDate recentFrom = LocalDate.now().minusDays(
+                Objects.requireNonNullElse(dataLabApiProperties.getRecentPointDays(), 3));
+        StringRedisSerializer serializer = StringRedisSerializer.UTF_8;
+        Map<byte[], byte[]> values = new LinkedHashMap<>();
+        Map<byte[], Long> ttls = new HashMap<>();
+        Map<String, List<String>> keysByKeyword = new HashMap<>();
+        analytics.forEach((key, response) -> {
+            try {
+                String cacheKey = buildAnalyticsKey(key);
+                byte[] rawKey = serializer.serialize(cacheKey);
+                values.put(rawKey, serializer.serialize(objectMapper.writeValueAsString(response)));
+                ttls.put(rawKey, key.endDate().isBefore(recentFrom)
+                        ? Objects.requireNonNullElse(dataLabApiProperties.getPointCacheTtl(), 604800)
+                        : Objects.requireNonNullElse(dataLabApiProperties.getCacheTtl(), 3600));
+                keysByKeyword.computeIfAbsent(key.keyword(), keyword -> new ArrayList<>()).add(cacheKey);
+            } catch (JsonProcessingException e) {
+                // 직렬화 실패한 결과는 건너뜀
+            }
+        });
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                values.forEach((rawKey, rawValue) -> connection.stringCommands().set(
+                        rawKey, rawValue, Expiration.seconds(ttls.get(rawKey)), SetOption.upsert()));
+                return null;
+            });
+            keysByKeyword.forEach((keyword, keys) -> cacheTagService.tag(ANALYTICS_PREFIX + keyword, keys));
+        } catch (Exception e) {
+            // 캐시 저장 실패는 분석 결과에 영향을 주지 않음
+        }
+    }
+
+    public void clearAnalyticsCache(String keyword) {
+        cacheTagService.invalidate(ANALYTICS_PREFIX + keyword, ANALYTICS_PREFIX + keyword + ":");
+    }
+
+    private String buildAnalyticsKey(TrendSeriesKey key) {
+        return ANALYTICS_PREFIX + key.keyword() + ":" + TrendVariant.cacheKey(key.variant()) + ":"
+                + key.startDate() + ":" + key.endDate();
     }
 }
@@ -0,0 +1,65 @@
+package com.devmode.shop.domain.trend.domain.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 트렌드 수집 진행 상태 (수집 일자별)
+ * 키워드는 정렬된 순서로 처리하므로 마지막으로 저장까지 끝난 키워드만 기록하면 재시작 시 그 다음부터 이어서 수집할 수 있다.
+ * 시작 후 완료되지 않은 일자는 pending 으로 남겨 실패/중단된 실행을 주기적으로 재개할 수 있게 한다.
+ * 여러 인스턴스가 동시에 수집하지 않도록 일자별 잠금을 함께 관리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendIngestionCheckpointService {
+
+    private static final String CHECKPOINT_PREFIX = "trend_ingestion:checkpoint:";
+    private static final String PENDING_PREFIX = "trend_ingestion:pending:";
+    private static final String COMPLETED_PREFIX = "trend_ingestion:completed:";
+    private static final String LOCK_PREFIX = "trend_ingestion:lock:";
+    private static final Duration STATE_TTL = Duration.ofDays(3);
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public Optional<String> getLastKeyword(LocalDate targetDate) {
+        return Optional.ofNullable(redisTemplate.opsForValue().get(CHECKPOINT_PREFIX + targetDate));
+    }
+
+    public boolean isPending(LocalDate targetDate) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(PENDING_PREFIX + targetDate));
+    }
+
+    public void markPending(LocalDate targetDate) {
+        redisTemplate.opsForValue().set(PENDING_PREFIX + targetDate, "1", STATE_TTL);
+    }
+
+    public void saveLastKeyword(LocalDate targetDate, String keyword) {
+        redisTemplate.opsForValue().set(CHECKPOINT_PREFIX + targetDate, keyword, STATE_TTL);
+    }
+
+    public boolean isCompleted(LocalDate targetDate) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(COMPLETED_PREFIX + targetDate));
+    }
+
+    public void markCompleted(LocalDate targetDate) {
+        redisTemplate.opsForValue().set(COMPLETED_PREFIX + targetDate, "1", STATE_TTL);
+        redisTemplate.delete(List.of(PENDING_PREFIX + targetDate, CHECKPOINT_PREFIX + targetDate));
+    }
+
+    public boolean tryLock(LocalDate targetDate) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_PREFIX + targetDate, "1", LOCK_TTL));
+    }
+
+    public void unlock(LocalDate targetDate) {
+        redisTemplate.delete(LOCK_PREFIX + targetDate);
+    }
+}
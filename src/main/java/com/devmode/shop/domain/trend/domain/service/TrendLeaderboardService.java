@@ -0,0 +1,69 @@
+package com.devmode.shop.domain.trend.domain.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 일자별 키워드 순위 (Redis sorted set)
+ * 수집 시점에 비율(ratio)과 전일 대비 상승폭(rising)을 함께 기록하여 상위 K 조회를 ZREVRANGE 한 번(O(log N + K))으로 처리한다.
+ * DataLab 비율은 호출마다 따로 정규화되므로, 점수는 야간 수집의 단일 키워드 호출(수집 일자로 끝나는 같은 길이 구간) 값만 사용한다.
+ * 이 값은 "구간 최고치 대비 비율(0~100)"이라 키워드끼리 비교할 수 있고, 상승폭도 같은 호출의 전일 값과 비교한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendLeaderboardService {
+
+    private static final String RATIO_PREFIX = "trend_top:ratio:";
+    private static final String RISING_PREFIX = "trend_top:rising:";
+    private static final Duration LEADERBOARD_TTL = Duration.ofDays(8);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public enum RankingType {
+        RATIO, RISING
+    }
+
+    public record RankedKeyword(String keyword, double score) {}
+
+    /**
+     * 한 번의 단일 키워드 호출에서 얻은 수집 일자 비율과 전일 비율 기록 (전일 값이 없으면 상승폭 생략)
+     */
+    public void record(LocalDate date, String keyword, BigDecimal ratio, BigDecimal previousRatio) {
+        add(key(RankingType.RATIO, date), keyword, ratio.doubleValue());
+        if (previousRatio != null) {
+            add(key(RankingType.RISING, date), keyword, ratio.subtract(previousRatio).doubleValue());
+        }
+    }
+
+    /**
+     * 상위 K 키워드 (점수 내림차순). 기록이 없는 일자면 빈 목록
+     */
+    public List<RankedKeyword> top(LocalDate date, RankingType type, int limit) {
+        Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet().reverseRangeWithScores(key(type, date), 0, limit - 1L);
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+        return tuples.stream()
+                .map(tuple -> new RankedKeyword(tuple.getValue(), tuple.getScore() != null ? tuple.getScore() : 0d))
+                .toList();
+    }
+
+    private void add(String key, String keyword, double score) {
+        redisTemplate.opsForZSet().add(key, keyword, score);
+        redisTemplate.expire(key, LEADERBOARD_TTL);
+    }
+
+    private static String key(RankingType type, LocalDate date) {
+        return (type == RankingType.RATIO ? RATIO_PREFIX : RISING_PREFIX) + date;
+    }
+}
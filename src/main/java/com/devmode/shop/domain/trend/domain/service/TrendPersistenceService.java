@@ -0,0 +1,275 @@
+package com.devmode.shop.domain.trend.domain.service;
+
+import com.devmode.shop.domain.trend.application.dto.request.TrendSearchRequest;
+import com.devmode.shop.domain.trend.application.dto.response.common.AgeDistribution;
+import com.devmode.shop.domain.trend.application.dto.response.common.DeviceDistribution;
+import com.devmode.shop.domain.trend.application.dto.response.common.GenderDistribution;
+import com.devmode.shop.domain.trend.application.dto.response.trend.TrendDataPoint;
+import com.devmode.shop.domain.trend.domain.entity.Trend;
+import com.devmode.shop.domain.trend.domain.entity.TrendDemographics;
+import com.devmode.shop.domain.trend.domain.repository.TrendBulkRepository;
+import com.devmode.shop.domain.trend.domain.repository.TrendRepository;
+import com.devmode.shop.domain.trend.domain.service.TrendAggregationService.TrendSampleChange;
+import com.devmode.shop.global.config.properties.DataLabApiProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * DataLab 조회 결과 영구 저장
+ * 확정된(최근 N일 이전) 일자는 값이 바뀌지 않으므로 DB에 한 번 저장한 뒤에는 다시 조회하지 않는다.
+ * 응답에 값이 없던 일자는 ratio 가 null 인 행으로 기록하여 재조회를 막는다.
+ *
+ * DataLab 비율은 호출 구간마다 다시 정규화되므로 (keyword, variant) 시리즈마다 하나의 기준으로 저장한다.
+ * 처음 저장한 호출의 기준이 시리즈의 기준이 되고, 이후 호출은 구간 안에 이미 저장된 확정 일자의 비율로 환산해 저장한다.
+ * 저장된 확정 일자와 겹치지 않는 호출은 기준을 맞출 수 없으므로 저장하지 않으며, 확정 행은 다시 덮어쓰지 않는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendPersistenceService {
+
+    private static final String SOURCE = "naver_datalab";
+    private static final int MAX_SAVE_ATTEMPTS = 3;
+
+    private final TrendRepository trendRepository;
+    private final TrendBulkRepository trendBulkRepository;
+    private final TrendAggregationService trendAggregationService;
+    private final DataLabApiProperties dataLabApiProperties;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 요청 구간 중 DB에 저장된 확정 일자 조회
+     * 값이 Optional.empty() 이면 데이터가 없는 것으로 확인된 일자
+     */
+    @Transactional(readOnly = true)
+    public Map<LocalDate, Optional<TrendDataPoint>> findStoredPoints(TrendSearchRequest request, List<LocalDate> dates) {
+        LocalDate finalBefore = finalBefore();
+        List<LocalDate> finalDates = dates.stream().filter(date -> date.isBefore(finalBefore)).toList();
+        if (finalDates.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<LocalDate> requested = new HashSet<>(finalDates);
+        List<Trend> trends = trendRepository.findByKeywordAndVariantAndDateRange(
+                request.keyword(), TrendVariant.of(request),
+                finalDates.get(0), finalDates.get(finalDates.size() - 1));
+
+        Map<LocalDate, Optional<TrendDataPoint>> stored = new HashMap<>();
+        for (Trend trend : trends) {
+            if (!requested.contains(trend.getSearchDate())) {
+                continue;
+            }
+            stored.put(trend.getSearchDate(), trend.isEmptyPoint() ? Optional.empty() : Optional.of(toDataPoint(trend)));
+        }
+        return stored;
+    }
+
+    /**
+     * DataLab 호출 1회(request 구간)의 포인트 중 requestedDates 를 시리즈 기준으로 환산해 저장 (응답에 없는 일자는 빈 행으로 기록)
+     * 신규 행은 JDBC 배치로 한 번에 저장하고, 기존 행은 확정 전 일자만 값이 바뀐 경우 갱신한다.
+     * 그 사이 다른 요청이 같은 (keyword, variant, search_date) 를 먼저 저장했다면 그 행을 기준으로 다시 환산하도록 처음부터 다시 저장한다.
+     * 변경분은 같은 트랜잭션에서 집계 버킷에 반영하고, 다른 요청과 같은 버킷을 동시에 갱신해 충돌하면
+     * 트렌드 행과 함께 되돌린 뒤 새로 읽어 다시 저장한다.
+     *
+     * @return requestedDates 의 저장된(시리즈 기준) 포인트, 기준을 맞출 수 없어 저장하지 않았으면 empty
+     */
+    public Optional<List<TrendDataPoint>> saveFetchedPoints(TrendSearchRequest request, List<LocalDate> requestedDates,
+                                                            List<TrendDataPoint> points) {
+        if (requestedDates.isEmpty()) {
+            return Optional.of(List.of());
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return Objects.requireNonNullElse(
+                        transactionTemplate.execute(status -> savePoints(request, requestedDates, points)), Optional.empty());
+            } catch (ConcurrencyFailureException | DataIntegrityViolationException e) {
+                if (attempt >= MAX_SAVE_ATTEMPTS) {
+                    throw e;
+                }
+                log.debug("[TrendPersistence] 동시 저장 충돌, 재시도 - keyword: {}, attempt: {}", request.keyword(), attempt);
+            }
+        }
+    }
+
+    private Optional<List<TrendDataPoint>> savePoints(TrendSearchRequest request, List<LocalDate> requestedDates,
+                                                      List<TrendDataPoint> points) {
+        String variant = TrendVariant.of(request);
+        String categoryId = TrendVariant.categoryId(request);
+        String categoryName = categoryName(request);
+        List<LocalDate> sortedDates = requestedDates.stream().sorted().toList();
+        LocalDate from = request.startDate() != null && request.startDate().isBefore(sortedDates.get(0))
+                ? request.startDate() : sortedDates.get(0);
+        LocalDate to = request.endDate() != null && request.endDate().isAfter(sortedDates.get(sortedDates.size() - 1))
+                ? request.endDate() : sortedDates.get(sortedDates.size() - 1);
+        Map<LocalDate, Trend> existing = findExisting(request.keyword(), variant, from, to);
+
+        Optional<List<TrendDataPoint>> scaled = toSeriesScale(request.keyword(), variant, existing, points);
+        if (scaled.isEmpty()) {
+            log.debug("[TrendPersistence] 저장된 확정 일자와 겹치지 않아 기준을 맞출 수 없음, 저장 생략 - keyword: {}, 구간: {} ~ {}",
+                    request.keyword(), from, to);
+            return Optional.empty();
+        }
+        Map<LocalDate, TrendDataPoint> byDate = scaled.get().stream()
+                .collect(Collectors.toMap(TrendDataPoint::date, Function.identity(), (a, b) -> b));
+
+        LocalDate finalBefore = finalBefore();
+        List<Trend> inserts = new ArrayList<>();
+        List<TrendSampleChange> changes = new ArrayList<>();
+        List<TrendDataPoint> saved = new ArrayList<>();
+        int updated = 0;
+        for (LocalDate date : sortedDates) {
+            TrendDataPoint point = byDate.get(date);
+            Trend trend = existing.get(date);
+            if (trend == null) {
+                inserts.add(Trend.create(date, request.keyword(), variant, categoryId, categoryName,
+                        point != null ? point.ratio() : null, point != null ? point.clickCount() : null,
+                        point != null ? toDemographics(point) : null, SOURCE));
+                if (point != null) {
+                    changes.add(new TrendSampleChange(date, null, null, point.ratio(), point.clickCount()));
+                    saved.add(point);
+                }
+                continue;
+            }
+
+            // 확정 일자는 처음 저장한 값이 시리즈 기준이므로 다시 정규화된 값으로 덮어쓰지 않음
+            if (date.isBefore(finalBefore)) {
+                if (!trend.isEmptyPoint()) {
+                    saved.add(toDataPoint(trend));
+                }
+                continue;
+            }
+            if (updateIfChanged(trend, point, point != null ? toDemographics(point) : null, changes)) {
+                updated++;
+            }
+            if (!trend.isEmptyPoint()) {
+                saved.add(toDataPoint(trend));
+            }
+        }
+
+        List<Trend> skipped = trendBulkRepository.insertAll(inserts);
+        if (!skipped.isEmpty()) {
+            // 다른 요청이 먼저 저장한 행이 있으면 그 행 기준으로 다시 환산해야 하므로 되돌리고 다시 저장
+            throw new ConcurrencyFailureException("trend rows inserted concurrently: " + skipped.size());
+        }
+
+        if (!changes.isEmpty()) {
+            trendAggregationService.apply(request.keyword(), variant, categoryId, categoryName, changes);
+        }
+        log.debug("[TrendPersistence] 포인트 저장 - keyword: {}, 신규: {}건, 갱신: {}건",
+                request.keyword(), inserts.size(), updated);
+        return Optional.of(saved);
+    }
+
+    /**
+     * 조회 구간 안에 저장된 확정 일자가 있으면 그 값 기준으로 환산하고,
+     * 시리즈에 저장된 값이 아직 없으면 이번 호출의 기준을 시리즈 기준으로 사용한다.
+     */
+    private Optional<List<TrendDataPoint>> toSeriesScale(String keyword, String variant, Map<LocalDate, Trend> existing,
+                                                         List<TrendDataPoint> points) {
+        LocalDate finalBefore = finalBefore();
+        Map<LocalDate, BigDecimal> anchors = new HashMap<>();
+        existing.values().stream()
+                .filter(trend -> !trend.isEmptyPoint() && trend.getSearchDate().isBefore(finalBefore))
+                .forEach(trend -> anchors.put(trend.getSearchDate(), trend.getRatio()));
+
+        Optional<BigDecimal> factor = TrendScale.anchorFactor(anchors, points);
+        if (factor.isPresent()) {
+            return Optional.of(TrendScale.rescale(points, factor.get()));
+        }
+        boolean seriesStarted = existing.values().stream().anyMatch(trend -> !trend.isEmptyPoint())
+                || trendRepository.existsByKeywordAndVariantAndRatioIsNotNull(keyword, variant);
+        return seriesStarted ? Optional.empty() : Optional.of(points);
+    }
+
+    // (keyword, variant, search_date) 는 유일하므로 일자별로 한 행
+    private Map<LocalDate, Trend> findExisting(String keyword, String variant, LocalDate from, LocalDate to) {
+        return trendRepository.findByKeywordAndVariantAndDateRange(keyword, variant, from, to).stream()
+                .collect(Collectors.toMap(Trend::getSearchDate, Function.identity()));
+    }
+
+    private boolean updateIfChanged(Trend trend, TrendDataPoint point, TrendDemographics demographics,
+                                    List<TrendSampleChange> changes) {
+        if (point == null || !isChanged(trend, point, demographics)) {
+            return false;
+        }
+        changes.add(new TrendSampleChange(trend.getSearchDate(), trend.getRatio(), trend.getClickCount(),
+                point.ratio(), point.clickCount()));
+        trend.updateTrendData(point.ratio(), point.clickCount(), demographics);
+        return true;
+    }
+
+    private String categoryName(TrendSearchRequest request) {
+        List<String> categories = Objects.requireNonNullElse(request.categories(), List.of());
+        return categories.isEmpty() ? null : String.join(",", categories);
+    }
+
+    private TrendDataPoint toDataPoint(Trend trend) {
+        TrendDemographics demographics = trend.getDemographics();
+        return new TrendDataPoint(
+                trend.getSearchDate(),
+                trend.getRatio(),
+                trend.getClickCount(),
+                demographics != null && demographics.hasDevice()
+                        ? new DeviceDistribution(demographics.getDeviceMobile(), demographics.getDevicePc(), demographics.getDeviceTablet())
+                        : null,
+                demographics != null && demographics.hasGender()
+                        ? new GenderDistribution(demographics.getGenderMale(), demographics.getGenderFemale())
+                        : null,
+                demographics != null && demographics.hasAge()
+                        ? new AgeDistribution(demographics.getAge10s(), demographics.getAge20s(), demographics.getAge30s(),
+                                demographics.getAge40s(), demographics.getAge50s(), demographics.getAge60s())
+                        : null
+        );
+    }
+
+    private TrendDemographics toDemographics(TrendDataPoint point) {
+        DeviceDistribution device = point.deviceDistribution();
+        GenderDistribution gender = point.genderDistribution();
+        AgeDistribution age = point.ageDistribution();
+        if (device == null && gender == null && age == null) {
+            return null;
+        }
+
+        TrendDemographics.TrendDemographicsBuilder builder = TrendDemographics.builder();
+        if (device != null) {
+            builder.deviceMobile(device.mobileRatio()).devicePc(device.pcRatio()).deviceTablet(device.tabletRatio());
+        }
+        if (gender != null) {
+            builder.genderMale(gender.maleRatio()).genderFemale(gender.femaleRatio());
+        }
+        if (age != null) {
+            builder.age10s(age.age10sRatio()).age20s(age.age20sRatio()).age30s(age.age30sRatio())
+                    .age40s(age.age40sRatio()).age50s(age.age50sRatio()).age60s(age.age60sRatio());
+        }
+        return builder.build();
+    }
+
+    private boolean isChanged(Trend trend, TrendDataPoint point, TrendDemographics demographics) {
+        return trend.getRatio() == null
+                || point.ratio() == null
+                || trend.getRatio().compareTo(point.ratio()) != 0
+                || !Objects.equals(trend.getClickCount(), point.clickCount())
+                || !TrendDemographics.isSame(trend.getDemographics(), demographics);
+    }
+
+    private LocalDate finalBefore() {
+        Integer days = dataLabApiProperties.getRecentPointDays();
+        return LocalDate.now().minusDays(days != null ? days : 3);
+    }
+}
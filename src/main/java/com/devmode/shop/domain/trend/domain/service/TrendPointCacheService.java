@@ -0,0 +1,148 @@
+package com.devmode.shop.domain.trend.domain.service;
+
+import com.devmode.shop.domain.trend.application.dto.request.TrendSearchRequest;
+import com.devmode.shop.domain.trend.application.dto.response.trend.TrendDataPoint;
+import com.devmode.shop.global.cache.CacheTagService;
+import com.devmode.shop.global.config.properties.DataLabApiProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 일자별 트렌드 데이터 포인트 캐시
+ * 요청 구간 전체가 아닌 keyword/timeUnit/조건/일자 단위로 저장하여,
+ * 하루씩 밀리는 슬라이딩 윈도우 요청도 겹치는 구간은 캐시에서 조립한다.
+ * 조회는 MGET 1회, 저장은 파이프라인 1회로 처리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendPointCacheService {
+
+    private static final String POINT_PREFIX = "trend_point:";
+    private static final String EMPTY_MARKER = "-"; // DataLab 응답에 없던 일자 (재조회 방지)
+    private static final long DEFAULT_RECENT_TTL_SECONDS = 3600L;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DataLabApiProperties dataLabApiProperties;
+    private final ObjectMapper objectMapper;
+    private final CacheTagService cacheTagService;
+
+    /**
+     * 요청 구간 중 캐시된 일자 조회
+     * 값이 Optional.empty() 이면 데이터가 없는 것으로 확인된 일자
+     */
+    public Map<LocalDate, Optional<TrendDataPoint>> getPoints(TrendSearchRequest request, List<LocalDate> dates) {
+        if (dates.isEmpty()) {
+            return Map.of();
+        }
+
+        List<String> keys = dates.stream().map(date -> buildKey(request, date)).toList();
+        List<String> values;
+        try {
+            values = redisTemplate.opsForValue().multiGet(keys);
+        } catch (Exception e) {
+            log.warn("[TrendPointCache] 포인트 캐시 조회 실패: {}", e.getMessage());
+            return Map.of();
+        }
+        if (values == null) {
+            return Map.of();
+        }
+
+        Map<LocalDate, Optional<TrendDataPoint>> cached = new HashMap<>();
+        for (int i = 0; i < dates.size(); i++) {
+            String value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            if (EMPTY_MARKER.equals(value)) {
+                cached.put(dates.get(i), Optional.empty());
+                continue;
+            }
+            try {
+                cached.put(dates.get(i), Optional.of(objectMapper.readValue(value, TrendDataPoint.class)));
+            } catch (Exception e) {
+                log.warn("[TrendPointCache] 포인트 역직렬화 실패: {}", keys.get(i));
+            }
+        }
+        return cached;
+    }
+
+    /**
+     * 조회한 구간의 포인트 저장 (응답에 없는 일자는 빈 값으로 기록)
+     */
+    public void cachePoints(TrendSearchRequest request, List<LocalDate> requestedDates, List<TrendDataPoint> points) {
+        if (requestedDates.isEmpty()) {
+            return;
+        }
+
+        Map<LocalDate, TrendDataPoint> byDate = points.stream()
+                .collect(Collectors.toMap(TrendDataPoint::date, Function.identity(), (a, b) -> b));
+        LocalDate recentFrom = LocalDate.now().minusDays(recentPointDays());
+        StringRedisSerializer serializer = StringRedisSerializer.UTF_8;
+
+        Map<String, String> entries = new LinkedHashMap<>();
+        Map<String, Long> ttls = new HashMap<>();
+        for (LocalDate date : requestedDates) {
+            TrendDataPoint point = byDate.get(date);
+            String key = buildKey(request, date);
+            try {
+                entries.put(key, point != null ? objectMapper.writeValueAsString(point) : EMPTY_MARKER);
+            } catch (Exception e) {
+                continue;
+            }
+            ttls.put(key, date.isBefore(recentFrom) ? historicalTtlSeconds() : recentTtlSeconds());
+        }
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                entries.forEach((key, value) -> connection.stringCommands().set(
+                        serializer.serialize(key), serializer.serialize(value),
+                        Expiration.seconds(ttls.get(key)), SetOption.upsert()));
+                return null;
+            });
+            cacheTagService.tag(POINT_PREFIX + request.keyword(), entries.keySet());
+        } catch (Exception e) {
+            log.warn("[TrendPointCache] 포인트 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    public void clearPoints(String keyword) {
+        cacheTagService.invalidate(POINT_PREFIX + keyword, POINT_PREFIX + keyword + ":");
+    }
+
+    /**
+     * 같은 키워드라도 카테고리/키워드/분포 포함 여부가 다르면 값이 다르므로 조건 다이제스트를 키에 포함
+     */
+    private String buildKey(TrendSearchRequest request, LocalDate date) {
+        return POINT_PREFIX + request.keyword() + ":"
+                + (request.timeUnit() != null ? request.timeUnit() : "date") + ":"
+                + TrendVariant.cacheKey(request) + ":" + date;
+    }
+
+    private long historicalTtlSeconds() {
+        Integer ttl = dataLabApiProperties.getPointCacheTtl();
+        return ttl != null ? ttl : 604800L;
+    }
+
+    private long recentTtlSeconds() {
+        Integer ttl = dataLabApiProperties.getCacheTtl();
+        return ttl != null ? ttl : DEFAULT_RECENT_TTL_SECONDS;
+    }
+
+    private int recentPointDays() {
+        Integer days = dataLabApiProperties.getRecentPointDays();
+        return days != null ? days : 3;
+    }
+}
@@ -0,0 +1,80 @@
+package com.devmode.shop.domain.trend.domain.service;
+
+import com.devmode.shop.domain.trend.application.dto.response.trend.TrendDataPoint;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * DataLab 비율 환산
+ * DataLab 은 호출마다 조회 구간의 최댓값이 100 이 되도록 다시 정규화하므로, 다른 호출(다른 구간)에서 얻은 값은 그대로 섞을 수 없다.
+ * 이미 알고 있는 일자(기준 일자)와 겹치게 조회한 뒤 겹치는 일자의 비율 합으로 환산 계수를 구해 기존 값과 같은 기준으로 맞추고,
+ * 여러 출처를 모은 응답은 마지막에 한 번 구간 최댓값 100 으로 정규화한다.
+ */
+public final class TrendScale {
+
+    public static final BigDecimal FULL_SCALE = BigDecimal.valueOf(100);
+    private static final int FACTOR_SCALE = 8;
+    private static final int RATIO_SCALE = 4; // trends.ratio 컬럼 scale
+
+    private TrendScale() {
+    }
+
+    /**
+     * 기준 값 / 조회 값 (양쪽 모두 0보다 큰 겹치는 일자의 합 기준)
+     * 겹치는 기준 일자가 없으면 환산할 수 없으므로 empty
+     */
+    public static Optional<BigDecimal> anchorFactor(Map<LocalDate, BigDecimal> known, List<TrendDataPoint> fetched) {
+        BigDecimal knownTotal = BigDecimal.ZERO;
+        BigDecimal fetchedTotal = BigDecimal.ZERO;
+        for (TrendDataPoint point : fetched) {
+            BigDecimal knownRatio = known.get(point.date());
+            if (knownRatio == null || knownRatio.signum() <= 0 || point.ratio() == null || point.ratio().signum() <= 0) {
+                continue;
+            }
+            knownTotal = knownTotal.add(knownRatio);
+            fetchedTotal = fetchedTotal.add(point.ratio());
+        }
+        return fetchedTotal.signum() > 0
+                ? Optional.of(knownTotal.divide(fetchedTotal, FACTOR_SCALE, RoundingMode.HALF_UP))
+                : Optional.empty();
+    }
+
+    /**
+     * 비율에만 계수를 곱한다 (분포는 일자 안의 구성비라 기준과 무관)
+     */
+    public static List<TrendDataPoint> rescale(List<TrendDataPoint> points, BigDecimal factor) {
+        if (factor.compareTo(BigDecimal.ONE) == 0) {
+            return points;
+        }
+        return points.stream()
+                .map(point -> new TrendDataPoint(
+                        point.date(),
+                        point.ratio() != null ? point.ratio().multiply(factor).setScale(RATIO_SCALE, RoundingMode.HALF_UP) : null,
+                        point.clickCount(),
+                        point.deviceDistribution(),
+                        point.genderDistribution(),
+                        point.ageDistribution()))
+                .toList();
+    }
+
+    /**
+     * 구간 최댓값이 100 이 되도록 정규화 (같은 구간을 DataLab 에 한 번에 조회한 것과 같은 값)
+     */
+    public static List<TrendDataPoint> normalize(List<TrendDataPoint> points) {
+        BigDecimal max = points.stream()
+                .map(TrendDataPoint::ratio)
+                .filter(Objects::nonNull)
+                .max(BigDecimal::compareTo)
+                .orElse(BigDecimal.ZERO);
+        if (max.signum() <= 0) {
+            return points;
+        }
+        return rescale(points, FULL_SCALE.divide(max, FACTOR_SCALE, RoundingMode.HALF_UP));
+    }
+}
@@ -0,0 +1,343 @@
+package com.devmode.shop.domain.trend.domain.service;
+
+import com.devmode.shop.domain.trend.application.dto.response.common.AgeDistribution;
+import com.devmode.shop.domain.trend.application.dto.response.common.DeviceDistribution;
+import com.devmode.shop.domain.trend.application.dto.response.common.GenderDistribution;
+import com.devmode.shop.domain.trend.application.dto.response.datalab.DataLabDataPoint;
+import com.devmode.shop.domain.trend.application.dto.response.datalab.DataLabDistribution;
+import com.devmode.shop.domain.trend.application.dto.response.datalab.DataLabResult;
+import com.devmode.shop.domain.trend.application.dto.response.trend.TrendDataPoint;
+import com.devmode.shop.domain.trend.application.dto.response.trend.TrendSummary;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * 컬럼형 트렌드 시리즈
+ * 일자별 객체 대신 일자/비율/클릭수/분포를 원시 배열로 보관하고 요약 통계는 한 번의 순회로 계산한다.
+ * BigDecimal/레코드는 JSON 응답을 만들 때(toDataPoints, toTrendSummary)만 생성한다.
+ */
+public final class TrendSeries {
+
+    public static final int DEVICE_WIDTH = 3; // mobile, pc, tablet
+    public static final int GENDER_WIDTH = 2; // male, female
+    public static final int AGE_WIDTH = 6;    // 10s ~ 60s
+    private static final long NO_CLICK_COUNT = Long.MIN_VALUE; // 클릭수가 없는 일자 (응답에서 null)
+
+    private final int size;
+    private final long[] epochDays;
+    private final double[] ratios;
+    private final long[] clickCounts;
+    private final double[] devices;
+    private final double[] genders;
+    private final double[] ages;
+
+    private TrendSeries(int size, long[] epochDays, double[] ratios, long[] clickCounts,
+                        double[] devices, double[] genders, double[] ages) {
+        this.size = size;
+        this.epochDays = epochDays;
+        this.ratios = ratios;
+        this.clickCounts = clickCounts;
+        this.devices = devices;
+        this.genders = genders;
+        this.ages = ages;
+    }
+
+    /**
+     * 한 번의 순회로 계산한 요약 통계
+     */
+    public record Summary(int count, double sum, double min, double max, long totalClickCount,
+                          double first, double last, LinearFit fit, long spanDays) {
+
+        public double average() {
+            return count > 0 ? sum / count : 0d;
+        }
+
+        /**
+         * 방향은 첫/마지막 값이 아닌 회귀 기울기의 95% 신뢰구간으로, 강도는 기간 전체의 추세 변화량으로 계산
+         */
+        public TrendSummary toTrendSummary() {
+            if (count == 0) {
+                return new TrendSummary(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, 0L, "STABLE", BigDecimal.ZERO);
+            }
+            return new TrendSummary(
+                    BigDecimal.valueOf(average()).setScale(4, RoundingMode.HALF_UP),
+                    decimal(max),
+                    decimal(min),
+                    totalClickCount,
+                    fit.direction(),
+                    count < 2 ? BigDecimal.ZERO
+                            : BigDecimal.valueOf(Math.abs(fit.slope() * spanDays)).setScale(4, RoundingMode.HALF_UP)
+            );
+        }
+    }
+
+    public static TrendSeries fromDataLab(DataLabResult result) {
+        List<DataLabDataPoint> data = result != null && result.data() != null ? result.data() : List.of();
+        int size = data.size();
+        long[] epochDays = new long[size];
+        double[] ratios = new double[size];
+        long[] clickCounts = new long[size];
+        // 요청하지 않은 분포 그룹은 응답에 없으므로 배열을 만들지 않고 응답에서도 null 로 둔다
+        double[] devices = hasAny(data, DataLabDataPoint::deviceDistribution) ? new double[size * DEVICE_WIDTH] : null;
+        double[] genders = hasAny(data, DataLabDataPoint::genderDistribution) ? new double[size * GENDER_WIDTH] : null;
+        double[] ages = hasAny(data, DataLabDataPoint::ageDistribution) ? new double[size * AGE_WIDTH] : null;
+
+        for (int i = 0; i < size; i++) {
+            DataLabDataPoint point = data.get(i);
+            epochDays[i] = parseEpochDay(point.period());
+            ratios[i] = point.ratio() != null ? point.ratio().doubleValue() : 0d;
+            clickCounts[i] = point.clickCount() != null ? point.clickCount() : NO_CLICK_COUNT;
+            if (devices != null) {
+                fillDevice(point.deviceDistribution(), devices, i * DEVICE_WIDTH);
+            }
+            if (genders != null) {
+                fillGender(point.genderDistribution(), genders, i * GENDER_WIDTH);
+            }
+            if (ages != null) {
+                fillAge(point.ageDistribution(), ages, i * AGE_WIDTH);
+            }
+        }
+        return new TrendSeries(size, epochDays, ratios, clickCounts, devices, genders, ages);
+    }
+
+    /**
+     * 캐시/DB 에서 모은 포인트를 요약 계산용으로 변환 (분포는 보관하지 않음)
+     */
+    public static TrendSeries fromDataPoints(List<TrendDataPoint> points) {
+        int size = points.size();
+        long[] epochDays = new long[size];
+        double[] ratios = new double[size];
+        long[] clickCounts = new long[size];
+        for (int i = 0; i < size; i++) {
+            TrendDataPoint point = points.get(i);
+            epochDays[i] = point.date().toEpochDay();
+            ratios[i] = point.ratio() != null ? point.ratio().doubleValue() : 0d;
+            clickCounts[i] = point.clickCount() != null ? point.clickCount() : NO_CLICK_COUNT;
+        }
+        return new TrendSeries(size, epochDays, ratios, clickCounts, null, null, null);
+    }
+
+    /**
+     * 배치 분석용 (일자/비율만 보관)
+     */
+    public static TrendSeries of(long[] epochDays, double[] ratios, int size) {
+        long[] clickCounts = new long[size];
+        Arrays.fill(clickCounts, NO_CLICK_COUNT);
+        return new TrendSeries(size, epochDays, ratios, clickCounts, null, null, null);
+    }
+
+    /**
+     * fromEpochDay 이후 구간 (일자 오름차순 전제, 배열은 복사)
+     * 배치 분석에서 가장 긴 구간을 한 번 읽고 짧은 구간을 잘라 쓰는 용도
+     */
+    public TrendSeries since(long fromEpochDay) {
+        int from = Arrays.binarySearch(epochDays, 0, size, fromEpochDay);
+        if (from < 0) {
+            from = -from - 1;
+        }
+        if (from == 0) {
+            return this;
+        }
+        return new TrendSeries(size - from,
+                Arrays.copyOfRange(epochDays, from, size),
+                Arrays.copyOfRange(ratios, from, size),
+                Arrays.copyOfRange(clickCounts, from, size),
+                tail(devices, from, DEVICE_WIDTH),
+                tail(genders, from, GENDER_WIDTH),
+                tail(ages, from, AGE_WIDTH));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long epochDayAt(int index) {
+        return epochDays[index];
+    }
+
+    public double ratioAt(int index) {
+        return ratios[index];
+    }
+
+    public long clickCountAt(int index) {
+        return clickCounts[index] != NO_CLICK_COUNT ? clickCounts[index] : 0L;
+    }
+
+    public Summary summarize() {
+        if (size == 0) {
+            return new Summary(0, 0d, 0d, 0d, 0L, 0d, 0d, LinearFit.of(0, 0d, 0d, 0d, 0d, 0d), 0L);
+        }
+
+        double sum = 0d;
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        long totalClickCount = 0L;
+        double sumX = 0d;
+        double sumXX = 0d;
+        double sumXY = 0d;
+        double sumYY = 0d;
+        long origin = epochDays[0];
+        for (int i = 0; i < size; i++) {
+            double ratio = ratios[i];
+            double x = epochDays[i] - origin;
+            sum += ratio;
+            sumX += x;
+            sumXX += x * x;
+            sumXY += x * ratio;
+            sumYY += ratio * ratio;
+            if (ratio < min) {
+                min = ratio;
+            }
+            if (ratio > max) {
+                max = ratio;
+            }
+            totalClickCount += clickCounts[i] != NO_CLICK_COUNT ? clickCounts[i] : 0L;
+        }
+        return new Summary(size, sum, min, max, totalClickCount, ratios[0], ratios[size - 1],
+                LinearFit.of(size, sumX, sum, sumXX, sumXY, sumYY), epochDays[size - 1] - origin);
+    }
+
+    /**
+     * JSON 응답용 포인트 생성
+     */
+    public List<TrendDataPoint> toDataPoints() {
+        List<TrendDataPoint> points = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            points.add(new TrendDataPoint(
+                    LocalDate.ofEpochDay(epochDays[i]),
+                    decimal(ratios[i]),
+                    clickCounts[i] != NO_CLICK_COUNT ? clickCounts[i] : null,
+                    devices != null ? deviceAt(i) : null,
+                    genders != null ? genderAt(i) : null,
+                    ages != null ? ageAt(i) : null
+            ));
+        }
+        return points;
+    }
+
+    private DeviceDistribution deviceAt(int index) {
+        int offset = index * DEVICE_WIDTH;
+        if (Double.isNaN(devices[offset])) {
+            return null;
+        }
+        return new DeviceDistribution(decimal(devices[offset]), decimal(devices[offset + 1]), decimal(devices[offset + 2]));
+    }
+
+    private GenderDistribution genderAt(int index) {
+        int offset = index * GENDER_WIDTH;
+        if (Double.isNaN(genders[offset])) {
+            return null;
+        }
+        return new GenderDistribution(decimal(genders[offset]), decimal(genders[offset + 1]));
+    }
+
+    private AgeDistribution ageAt(int index) {
+        int offset = index * AGE_WIDTH;
+        if (Double.isNaN(ages[offset])) {
+            return null;
+        }
+        return new AgeDistribution(
+                decimal(ages[offset]), decimal(ages[offset + 1]), decimal(ages[offset + 2]),
+                decimal(ages[offset + 3]), decimal(ages[offset + 4]), decimal(ages[offset + 5])
+        );
+    }
+
+    private double[] tail(double[] values, int from, int width) {
+        return values != null ? Arrays.copyOfRange(values, from * width, size * width) : null;
+    }
+
+    private static boolean hasAny(List<DataLabDataPoint> data, Function<DataLabDataPoint, List<DataLabDistribution>> group) {
+        for (DataLabDataPoint point : data) {
+            if (group.apply(point) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 분포가 없는 일자는 첫 칸을 NaN 으로 표시해 응답에서 null 로 복원
+     */
+    private static boolean markMissing(List<DataLabDistribution> distributions, double[] target, int offset) {
+        if (distributions == null) {
+            target[offset] = Double.NaN;
+            return true;
+        }
+        return false;
+    }
+
+    private static void fillDevice(List<DataLabDistribution> distributions, double[] target, int offset) {
+        if (markMissing(distributions, target, offset)) {
+            return;
+        }
+        for (DataLabDistribution distribution : distributions) {
+            switch (distribution.key().toLowerCase(Locale.ROOT)) {
+                case "mo" -> target[offset] = value(distribution);
+                case "pc" -> target[offset + 1] = value(distribution);
+                case "ta" -> target[offset + 2] = value(distribution);
+                default -> { }
+            }
+        }
+    }
+
+    private static void fillGender(List<DataLabDistribution> distributions, double[] target, int offset) {
+        if (markMissing(distributions, target, offset)) {
+            return;
+        }
+        for (DataLabDistribution distribution : distributions) {
+            switch (distribution.key().toLowerCase(Locale.ROOT)) {
+                case "m" -> target[offset] = value(distribution);
+                case "f" -> target[offset + 1] = value(distribution);
+                default -> { }
+            }
+        }
+    }
+
+    private static void fillAge(List<DataLabDistribution> distributions, double[] target, int offset) {
+        if (markMissing(distributions, target, offset)) {
+            return;
+        }
+        for (DataLabDistribution distribution : distributions) {
+            int bucket = switch (distribution.key()) {
+                case "10" -> 0;
+                case "20" -> 1;
+                case "30" -> 2;
+                case "40" -> 3;
+                case "50" -> 4;
+                case "60" -> 5;
+                default -> -1;
+            };
+            if (bucket >= 0) {
+                target[offset + bucket] = value(distribution);
+            }
+        }
+    }
+
+    private static double value(DataLabDistribution distribution) {
+        return distribution.ratio() != null ? distribution.ratio().doubleValue() : 0d;
+    }
+
+    /**
+     * "yyyy-MM-dd" 를 LocalDate 파싱 없이 epoch day 로 변환
+     */
+    static long parseEpochDay(String period) {
+        int year = Integer.parseInt(period, 0, 4, 10);
+        int month = Integer.parseInt(period, 5, 7, 10);
+        int day = Integer.parseInt(period, 8, 10, 10);
+        return LocalDate.of(year, month, day).toEpochDay();
+    }
+
+    /**
+     * double 의 최단 10진 표현으로 변환하여 원본 값이 그대로 보이도록 함
+     */
+    private static BigDecimal decimal(double value) {
+        return value == 0d ? BigDecimal.ZERO : BigDecimal.valueOf(value);
+    }
+}
@@ -0,0 +1,9 @@
+package com.devmode.shop.domain.trend.domain.service;
+
+import java.time.LocalDate;
+
+/**
+ * 분석 결과 캐시 단위 (키워드 + 조건 + 기간)
+ * variant 는 TrendVariant.of 와 같은 값이라 trends.variant 로 바로 만들 수 있다.
+ */
+public record TrendSeriesKey(String keyword, String variant, LocalDate startDate, LocalDate endDate) {}
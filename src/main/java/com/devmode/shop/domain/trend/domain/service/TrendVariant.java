@@ -0,0 +1,67 @@
+package com.devmode.shop.domain.trend.domain.service;
+
+import com.devmode.shop.domain.trend.application.dto.request.TrendSearchRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 트렌드 조회 조건 (카테고리/키워드 그룹/분포 포함 여부)
+ * 같은 키워드라도 조건이 다르면 DataLab 값이 다르므로 저장/캐시 키에 항상 조건을 포함한다.
+ * DB(variant 컬럼)에는 정규화한 조건 문자열을, Redis 키에는 그 SHA-256 다이제스트를 사용한다 (32비트 해시는 충돌 가능).
+ */
+public final class TrendVariant {
+
+    public static final int MAX_LENGTH = 200; // trends.variant / trend_aggregations.variant 컬럼 길이
+    public static final String DEFAULT = "||111"; // 단일 키워드, 분포 모두 포함 (기본 조회/야간 수집 조건)
+
+    private TrendVariant() {
+    }
+
+    /**
+     * 정규화한 조건 문자열 (길이 초과 시 SHA-256 hex)
+     */
+    public static String of(TrendSearchRequest request) {
+        String variant = String.join(",", Objects.requireNonNullElse(request.categories(), List.of())) + "|"
+                + String.join(",", Objects.requireNonNullElse(request.keywords(), List.of())) + "|"
+                + flag(request.includeDeviceDistribution()) + flag(request.includeGenderDistribution())
+                + flag(request.includeAgeDistribution());
+        return variant.length() > MAX_LENGTH ? HexFormat.of().formatHex(sha256(variant)) : variant;
+    }
+
+    /**
+     * 캐시 키용 조건 다이제스트 (43자 base64url)
+     */
+    public static String cacheKey(String variant) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sha256(variant));
+    }
+
+    public static String cacheKey(TrendSearchRequest request) {
+        return cacheKey(of(request));
+    }
+
+    /**
+     * 실제 카테고리 코드 (category_id 컬럼, 조건과 별개)
+     */
+    public static String categoryId(TrendSearchRequest request) {
+        List<String> categories = Objects.requireNonNullElse(request.categories(), List.of());
+        return categories.isEmpty() ? null : String.join(",", categories);
+    }
+
+    private static String flag(Boolean value) {
+        return Boolean.TRUE.equals(value) ? "1" : "0";
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
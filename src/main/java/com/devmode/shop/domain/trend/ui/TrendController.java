@@ -1,7 +1,16 @@
 package com.devmode.shop.domain.trend.ui;
 
+import com.devmode.shop.domain.trend.application.dto.request.TrendComparisonRequest;
 import com.devmode.shop.domain.trend.application.dto.request.TrendSearchRequest;
+import com.devmode.shop.domain.trend.application.dto.response.analytics.TrendAnalyticsResponse;
+import com.devmode.shop.domain.trend.application.dto.response.comparison.TrendComparisonResponse;
+import com.devmode.shop.domain.trend.application.dto.response.demographics.TrendDemographicsResponse;
+import com.devmode.shop.domain.trend.application.dto.response.ranking.TrendRankingResponse;
 import com.devmode.shop.domain.trend.application.dto.response.trend.TrendSearchResponse;
+import com.devmode.shop.domain.trend.application.usecase.TrendAnalyticsUseCase;
+import com.devmode.shop.domain.trend.application.usecase.TrendComparisonUseCase;
+import com.devmode.shop.domain.trend.application.usecase.TrendDemographicsUseCase;
+import com.devmode.shop.domain.trend.application.usecase.TrendRankingUseCase;
 import com.devmode.shop.domain.trend.application.usecase.TrendSearchUseCase;
 import com.devmode.shop.global.annotation.TrendApi;
 import com.devmode.shop.global.common.BaseResponse;
@@ -18,9 +27,19 @@ import java.util.Arrays;
 public class TrendController implements TrendApi {
 
     private final TrendSearchUseCase trendSearchUseCase;
+    private final TrendComparisonUseCase trendComparisonUseCase;
+    private final TrendAnalyticsUseCase trendAnalyticsUseCase;
+    private final TrendRankingUseCase trendRankingUseCase;
+    private final TrendDemographicsUseCase trendDemographicsUseCase;
 
-    public TrendController(TrendSearchUseCase trendSearchUseCase) {
+    public TrendController(TrendSearchUseCase trendSearchUseCase, TrendComparisonUseCase trendComparisonUseCase,
+                           TrendAnalyticsUseCase trendAnalyticsUseCase, TrendRankingUseCase trendRankingUseCase,
+                           TrendDemographicsUseCase trendDemographicsUseCase) {
         this.trendSearchUseCase = trendSearchUseCase;
+        this.trendComparisonUseCase = trendComparisonUseCase;
+        this.trendAnalyticsUseCase = trendAnalyticsUseCase;
+        this.trendRankingUseCase = trendRankingUseCase;
+        this.trendDemographicsUseCase = trendDemographicsUseCase;
     }
 
     @PostMapping("/search")
@@ -63,6 +82,37 @@ public class TrendController implements TrendApi {
         return BaseResponse.onSuccess(response);
     }
 
+    @PostMapping("/compare")
+    @Override
+    public BaseResponse<TrendComparisonResponse> compareTrends(@Valid @RequestBody TrendComparisonRequest request) {
+        TrendComparisonResponse response = trendComparisonUseCase.compareTrends(request);
+        return BaseResponse.onSuccess(response);
+    }
+
+    @PostMapping("/analytics")
+    @Override
+    public BaseResponse<TrendAnalyticsResponse> getTrendAnalytics(@Valid @RequestBody TrendSearchRequest request) {
+        TrendAnalyticsResponse response = trendAnalyticsUseCase.getAnalytics(request);
+        return BaseResponse.onSuccess(response);
+    }
+
+    @PostMapping("/demographics")
+    @Override
+    public BaseResponse<TrendDemographicsResponse> getTrendDemographics(@Valid @RequestBody TrendSearchRequest request) {
+        TrendDemographicsResponse response = trendDemographicsUseCase.getDemographics(request);
+        return BaseResponse.onSuccess(response);
+    }
+
+    @GetMapping("/top")
+    @Override
+    public BaseResponse<TrendRankingResponse> getTopTrends(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(defaultValue = "RATIO") String type,
+            @RequestParam(defaultValue = "10") int limit) {
+        TrendRankingResponse response = trendRankingUseCase.getTopTrends(date, type, limit);
+        return BaseResponse.onSuccess(response);
+    }
+
     @GetMapping("/search/cache")
     @Override
     public BaseResponse<TrendSearchResponse> searchTrendsWithCache(@Valid TrendSearchRequest request) {
@@ -1,6 +1,7 @@
 package com.devmode.shop.domain.user.application.dto.response;
 
 import com.devmode.shop.domain.user.domain.entity.User;
+import com.devmode.shop.domain.user.domain.repository.projection.UserProfile;
 
 public record ProfileResponse(
 		String userId,
@@ -16,6 +17,13 @@ public record ProfileResponse(
 				user.getBirth()
 		);
 	}
-}
-
 
+	public static ProfileResponse create(UserProfile profile) {
+		return new ProfileResponse(
+				profile.userId(),
+				profile.email(),
+				profile.name(),
+				profile.birth()
+		);
+	}
+}
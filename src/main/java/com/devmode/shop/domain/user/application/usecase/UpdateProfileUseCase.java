@@ -1,7 +1,7 @@
 package com.devmode.shop.domain.user.application.usecase;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.devmode.shop.domain.user.application.dto.request.UpdateProfileRequest;
@@ -9,6 +9,7 @@ import com.devmode.shop.domain.user.application.dto.response.ProfileResponse;
 import com.devmode.shop.domain.user.domain.entity.User;
 import com.devmode.shop.domain.user.domain.service.UserService;
 import com.devmode.shop.global.exception.RestApiException;
+import com.devmode.shop.global.security.PasswordHasher;
 import static com.devmode.shop.global.exception.code.status.GlobalErrorStatus._NOT_FOUND;
 import static com.devmode.shop.global.exception.code.status.GlobalErrorStatus._UNAUTHORIZED;
 
@@ -20,8 +21,12 @@ import lombok.RequiredArgsConstructor;
 public class UpdateProfileUseCase {
 
 	private final UserService userService;
-	private final PasswordEncoder passwordEncoder;
+	private final PasswordHasher passwordHasher;
 
+	/**
+	 * 비밀번호 비교/해시는 트랜잭션 밖에서 하고, 변경 내용만 짧은 트랜잭션으로 반영
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public ProfileResponse update(String userId, UpdateProfileRequest request) {
 		User user = userService.findUser(userId);
 
@@ -29,15 +34,15 @@ public class UpdateProfileUseCase {
 
 		// 새 비번 요청이 있는 경우 → 현재 비번 일치 여부 검사 (불일치 시 권한 오류)
 		if (request.newPassword() != null && !request.newPassword().isBlank()) {
-			boolean matches = passwordEncoder.matches(request.currentPassword(), user.getPassword());
+			boolean matches = passwordHasher.matches(request.currentPassword(), user.getPassword());
 			if (!matches) {
 				throw new RestApiException(_UNAUTHORIZED);
 			}
-			encodedNewPassword = passwordEncoder.encode(request.newPassword());
+			encodedNewPassword = passwordHasher.encode(request.newPassword());
 		}
 
-		user.updateProfile(request.name(), request.birth(), encodedNewPassword);
-		return ProfileResponse.create(user);
+		User updated = userService.updateProfile(userId, request.name(), request.birth(), encodedNewPassword);
+		return ProfileResponse.create(updated);
 	}
 }
 
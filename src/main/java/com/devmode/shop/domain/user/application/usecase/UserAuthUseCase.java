@@ -2,8 +2,8 @@ package com.devmode.shop.domain.user.application.usecase;
 
 import java.time.Duration;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.devmode.shop.domain.user.application.dto.request.LoginRequest;
@@ -13,49 +13,51 @@ import com.devmode.shop.domain.user.application.dto.response.LoginResponse;
 import com.devmode.shop.domain.user.application.dto.response.TokenReissueResponse;
 import com.devmode.shop.domain.user.domain.entity.User;
 import com.devmode.shop.domain.user.domain.service.RefreshTokenService;
+import com.devmode.shop.domain.user.domain.service.RefreshTokenService.RotationResult;
 import com.devmode.shop.domain.user.domain.service.TokenBlacklistService;
-import com.devmode.shop.domain.user.domain.service.TokenWhitelistService;
 import com.devmode.shop.domain.user.domain.service.UserService;
 import com.devmode.shop.global.exception.RestApiException;
-import static com.devmode.shop.global.exception.code.status.AuthErrorStatus.ALREADY_REGISTERED_EMAIL;
-import static com.devmode.shop.global.exception.code.status.AuthErrorStatus.ALREADY_REGISTERED_USER_ID;
 import static com.devmode.shop.global.exception.code.status.AuthErrorStatus.EMPTY_JWT;
 import static com.devmode.shop.global.exception.code.status.AuthErrorStatus.INVALID_ACCESS_TOKEN;
 import static com.devmode.shop.global.exception.code.status.AuthErrorStatus.INVALID_REFRESH_TOKEN;
 import static com.devmode.shop.global.exception.code.status.AuthErrorStatus.EXPIRED_REFRESH_TOKEN;
 import static com.devmode.shop.global.exception.code.status.AuthErrorStatus.LOGIN_ERROR;
+import com.devmode.shop.global.security.PasswordHasher;
 import com.devmode.shop.global.security.TokenProvider;
+import com.devmode.shop.global.security.VerifiedToken;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class UserAuthUseCase {
 
 	private final UserService userService;
-	private final PasswordEncoder passwordEncoder;
+	private final PasswordHasher passwordHasher;
 	private final TokenProvider tokenProvider;
 	private final RefreshTokenService refreshTokenService;
-	private final TokenWhitelistService tokenWhitelistService;
 	private final TokenBlacklistService tokenBlacklistService;
 
+	/**
+	 * 비밀번호 해시는 전용 풀에서 계산하므로 트랜잭션(DB 커넥션)을 잡은 채 기다리지 않도록 트랜잭션 없이 실행
+	 * 아이디/이메일 중복은 저장 시 제약 조건 위반으로 판단 (ALREADY_REGISTERED_EMAIL / ALREADY_REGISTERED_USER_ID)
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public void signUp(SignUpRequest request) {
-		if (userService.isAlreadyRegistered(request.email())) {
-			throw new RestApiException(ALREADY_REGISTERED_EMAIL);
-		}
-		if (userService.isUserIdAlreadyRegistered(request.userId())) {
-			throw new RestApiException(ALREADY_REGISTERED_USER_ID);
-		}
 		userService.save(request);
 	}
 
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public LoginResponse login(LoginRequest request) {
 		User user = userService.findByUserId(request.userId());
-		if (!passwordEncoder.matches(request.password(), user.getPassword())) {
+		if (!passwordHasher.matches(request.password(), user.getPassword())) {
 			throw new RestApiException(LOGIN_ERROR);
 		}
+		rehashIfNeeded(user, request.password());
 		String access = tokenProvider.createAccessToken(user.getUserId());
 		String refresh = tokenProvider.createRefreshToken(user.getUserId());
 		Duration ttl = tokenProvider.getRemainingDuration(refresh).orElse(Duration.ofDays(14));
@@ -64,15 +66,14 @@ public class UserAuthUseCase {
 	}
 
 	public void logout(HttpServletRequest request) {
-		String accessToken = tokenProvider.getToken(request)
-				.orElseThrow(() -> new RestApiException(EMPTY_JWT));
-		String userId = tokenProvider.getId(accessToken)
-				.orElseThrow(() -> new RestApiException(INVALID_ACCESS_TOKEN));
-		Duration expiration = tokenProvider.getRemainingDuration(accessToken)
+		if (tokenProvider.getToken(request).isEmpty()) {
+			throw new RestApiException(EMPTY_JWT);
+		}
+		// 인증 필터에서 검증한 토큰 재사용
+		VerifiedToken verified = tokenProvider.resolve(request)
 				.orElseThrow(() -> new RestApiException(INVALID_ACCESS_TOKEN));
-		refreshTokenService.deleteRefreshToken(userId);
-		tokenWhitelistService.deleteWhitelistToken(accessToken);
-		tokenBlacklistService.blacklist(accessToken, expiration);
+		refreshTokenService.deleteRefreshToken(verified.id());
+		tokenBlacklistService.blacklist(verified.token(), verified.remainingDuration());
 	}
 	
 	public TokenReissueResponse reissueToken(TokenReissueRequest request) {
@@ -87,33 +88,48 @@ public class UserAuthUseCase {
 		String userId = tokenProvider.getId(refreshToken)
 				.orElseThrow(() -> new RestApiException(INVALID_REFRESH_TOKEN));
 		
-		// 3. Redis에 저장된 refresh token과 일치하는지 확인
-		String savedRefreshToken = refreshTokenService.findByUserId(userId);
-		if (savedRefreshToken == null || !savedRefreshToken.equals(refreshToken)) {
-			throw new RestApiException(INVALID_REFRESH_TOKEN);
-		}
-		
-		// 4. refresh token 만료 시간 확인
+		// 3. refresh token 만료 시간 확인
 		Duration remainingTime = tokenProvider.getRemainingDuration(refreshToken)
 				.orElseThrow(() -> new RestApiException(EXPIRED_REFRESH_TOKEN));
 		
-		// 5. 새로운 access token 발급
+		// 4. 새로운 access token 발급
 		String newAccessToken = tokenProvider.createAccessToken(userId);
 		
-		// 6. 새로운 refresh token 발급 (기존 것 교체)
+		// 5. 새로운 refresh token 발급 (기존 것 교체)
 		String newRefreshToken = tokenProvider.createRefreshToken(userId);
 		Duration newTtl = tokenProvider.getRemainingDuration(newRefreshToken).orElse(Duration.ofDays(14));
 		
-		// 7. 기존 refresh token 삭제하고 새로운 것 저장
-		refreshTokenService.deleteRefreshToken(userId);
-		refreshTokenService.saveRefreshToken(userId, newRefreshToken, newTtl);
-		
-		// 8. 기존 refresh token을 블랙리스트에 추가 (보안 강화)
-		tokenBlacklistService.blacklist(refreshToken, remainingTime);
+		// 6. 저장된 토큰 비교 → 교체 → 기존 토큰 블랙리스트를 한 번에 (동시 재발급은 하나만 성공)
+		RotationResult rotation = refreshTokenService.rotate(userId, refreshToken, newRefreshToken, newTtl, remainingTime);
+		if (rotation != RotationResult.ROTATED) {
+			if (rotation == RotationResult.MISMATCH) {
+				log.warn("[UserAuth] 이미 교체된 refresh token 으로 재발급 시도 - userId: {}", userId);
+			}
+			throw new RestApiException(INVALID_REFRESH_TOKEN);
+		}
+		tokenBlacklistService.revokeLocally(refreshToken);
 		
 		return new TokenReissueResponse(
 				newAccessToken, 
 				newRefreshToken
 		);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 설정된 cost 가 올라갔으면 평문을 알고 있는 로그인 시점에 새 cost 로 재해시
+	 * 재해시가 거절되거나 저장에 실패해도(낙관적 락 충돌, DB 오류 등) 로그인은 성공시키고 다음 로그인에서 다시 시도한다.
+	 */
+	private void rehashIfNeeded(User user, String rawPassword) {
+		if (!passwordHasher.upgradeEncoding(user.getPassword())) {
+			return;
+		}
+		try {
+			userService.updatePassword(user.getUserId(), passwordHasher.encode(rawPassword));
+			log.info("[UserAuth] 비밀번호 재해시 - userId: {}", user.getUserId());
+		} catch (RestApiException e) {
+			log.debug("[UserAuth] 비밀번호 재해시 보류 - userId: {}", user.getUserId());
+		} catch (RuntimeException e) {
+			log.warn("[UserAuth] 비밀번호 재해시 실패 - userId: {}, cause: {}", user.getUserId(), e.toString());
+		}
+	}
+}
@@ -1,23 +1,35 @@
 package com.devmode.shop.domain.user.domain.entity;
 
+import org.springframework.data.domain.Persistable;
+
 import com.devmode.shop.global.common.BaseEntity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
-import lombok.AllArgsConstructor;
+import jakarta.persistence.Transient;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * userId 를 직접 지정하므로 Persistable 로 신규 여부를 알려 save 가 merge(SELECT 후 UPDATE/INSERT) 대신 INSERT 하도록 함
+ * 가입 시 중복은 INSERT 의 제약 조건 위반(PK 또는 uk_users_email)으로 판단한다.
+ */
 @Entity
 @Getter
-@Table(name = "users")
-@AllArgsConstructor
+@Table(name = "users", uniqueConstraints = {
+        @UniqueConstraint(name = User.EMAIL_UNIQUE_CONSTRAINT, columnNames = "email")
+})
 @NoArgsConstructor
-@Builder
-public class User extends BaseEntity {
+public class User extends BaseEntity implements Persistable<String> {
+
+    public static final String EMAIL_UNIQUE_CONSTRAINT = "uk_users_email";
     
     @Id
     @Column(nullable = false, unique = true)
@@ -26,7 +38,7 @@ public class User extends BaseEntity {
     @Column(nullable = false)
     private String name;
     
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String email;
     
     @Column(nullable = false)
@@ -34,6 +46,38 @@ public class User extends BaseEntity {
     
     @Column(nullable = false)
     private String birth;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
+    @Override
+    public String getId() {
+        return userId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    /**
+     * persisted 는 JPA 콜백으로만 설정하므로 빌더/생성자 인자에서 제외
+     */
+    @Builder
+    private User(String userId, String name, String email, String password, String birth) {
+        this.userId = userId;
+        this.name = name;
+        this.email = email;
+        this.password = password;
+        this.birth = birth;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
     
     public void updateProfile(String name, String birth, String encodedNewPassword) {
         this.name = name;
@@ -42,5 +86,8 @@ public class User extends BaseEntity {
             this.password = encodedNewPassword;
         }
     }
-}
 
+    public void updatePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
+}
@@ -1,5 +1,6 @@
 package com.devmode.shop.domain.user.domain.repository;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,18 +8,21 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.devmode.shop.domain.user.domain.entity.User;
+import com.devmode.shop.domain.user.domain.repository.projection.UserProfile;
 
 public interface UserRepository extends JpaRepository<User, String> {
 
-    @Query("select count(u) > 0 from User u where u.email = :email")
-    Boolean existsByEmail(@Param("email") String email);
-
     @Query("select u from User u where u.email = :email")
     Optional<User> findByEmail(@Param("email") String email);
     
-    @Query("select count(u) > 0 from User u where u.userId = :userId")
-    Boolean existsByUserId(@Param("userId") String userId);
-    
     @Query("select u from User u where u.userId = :userId")
     Optional<User> findByUserId(@Param("userId") String userId);
-}
\ No newline at end of file
+
+    @Query("select new com.devmode.shop.domain.user.domain.repository.projection.UserProfile(u.userId, u.name, u.email, u.birth) " +
+            "from User u where u.userId = :userId")
+    Optional<UserProfile> findProfileByUserId(@Param("userId") String userId);
+
+    // 가입 충돌 분류용: 아이디 또는 이메일이 겹치는 사용자의 이메일 (한 번의 조회)
+    @Query("select u.email from User u where u.userId = :userId or u.email = :email")
+    List<String> findEmailsByUserIdOrEmail(@Param("userId") String userId, @Param("email") String email);
+}
@@ -0,0 +1,12 @@
+package com.devmode.shop.domain.user.domain.repository.projection;
+
+/**
+ * 사용자 프로필 프로젝션 (캐시 대상)
+ * 비밀번호 해시는 포함하지 않는다.
+ */
+public record UserProfile(
+    String userId,
+    String name,
+    String email,
+    String birth
+) {}
@@ -1,36 +1,97 @@
 package com.devmode.shop.domain.user.domain.service;
 
+import com.devmode.shop.global.config.properties.TokenCacheProperties;
+import com.devmode.shop.global.config.properties.TokenStoreProperties;
+import com.devmode.shop.global.security.TokenBlacklistFilter;
+import com.devmode.shop.global.security.TokenHash;
+import com.devmode.shop.global.security.TokenStore;
 import lombok.RequiredArgsConstructor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Objects;
 
+/**
+ * 사용자별 리프레시 토큰 저장
+ * 값은 원문 JWT 대신 다이제스트(43자)만 저장하고 비교한다. 원문이 저장된 기존 값은 legacy-read-enabled 동안 함께 인정한다.
+ * 재발급 시 회전(비교 → 교체 → 기존 토큰 블랙리스트 → 폐기 전파)은 스크립트 하나로 원자적으로 실행하여
+ * 같은 리프레시 토큰으로 동시에 재발급해도 하나만 성공한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class RefreshTokenService {
 
-	private static final String refreshTokenPrefix = "REFRESH_TOKEN:";
+	public static final String refreshTokenPrefix = "REFRESH_TOKEN:";
+
+	/**
+	 * KEYS: 리프레시 토큰 키, 기존 토큰 블랙리스트 키, 블랙리스트 인덱스
+	 * ARGV: 기존 다이제스트, 기존 원문(legacy 값 비교용, 미사용 시 빈 값), 새 다이제스트, 새 TTL(ms),
+	 *       블랙리스트 TTL(ms), 블랙리스트 만료 시각(epoch ms), 폐기 전파 채널
+	 * 반환: 0 저장된 토큰 없음, 1 불일치(이미 회전된 토큰), 2 회전 완료
+	 */
+	private static final RedisScript<Long> ROTATE = new DefaultRedisScript<>(
+			"local saved = redis.call('GET', KEYS[1]) "
+					+ "if not saved then return 0 end "
+					+ "if saved ~= ARGV[1] and (ARGV[2] == '' or saved ~= ARGV[2]) then return 1 end "
+					+ "redis.call('SET', KEYS[1], ARGV[3], 'PX', ARGV[4]) "
+					+ "if tonumber(ARGV[5]) > 0 then "
+					+ "redis.call('SET', KEYS[2], '1', 'PX', ARGV[5]) "
+					+ "redis.call('ZADD', KEYS[3], ARGV[6], ARGV[1]) "
+					+ "redis.call('PUBLISH', ARGV[7], ARGV[1]) "
+					+ "end "
+					+ "return 2",
+			Long.class);
+
+	public enum RotationResult {
+		ROTATED, NOT_FOUND, MISMATCH
+	}
+
 	private final RedisTemplate<String, String> redisTemplate;
+	private final TokenStoreProperties tokenStoreProperties;
+	private final TokenCacheProperties tokenCacheProperties;
 
 	public void saveRefreshToken(String userId, String refreshToken, Duration timeout) {
-		redisTemplate.opsForValue().set(refreshTokenPrefix + userId, refreshToken, timeout);
+		redisTemplate.opsForValue().set(refreshTokenPrefix + userId, TokenHash.of(refreshToken), timeout);
 	}
 
 	public void deleteRefreshToken(String userId) {
 		redisTemplate.delete(refreshTokenPrefix + userId);
 	}
 
-	public String findByUserId(String userId) {
-		return redisTemplate.opsForValue().get(refreshTokenPrefix + userId);
-	}
 	public boolean isExist(String token, String userId) {
-		String savedToken = redisTemplate.opsForValue().get(refreshTokenPrefix + userId);
-		boolean exists = savedToken != null && Objects.equals(savedToken, token);
+		String saved = redisTemplate.opsForValue().get(refreshTokenPrefix + userId);
+		if (saved == null) {
+			return false;
+		}
+		return TokenHash.matches(saved, token)
+				|| (tokenStoreProperties.isLegacyReadEnabled() && Objects.equals(saved, token));
+	}
 
-		return exists;
+	/**
+	 * 저장된 토큰이 currentToken 일 때만 newToken 으로 교체하고 currentToken 을 남은 유효 시간 동안 블랙리스트에 등록 (1회 왕복)
+	 */
+	public RotationResult rotate(String userId, String currentToken, String newToken, Duration newTtl,
+			Duration currentRemaining) {
+		String currentHash = TokenHash.of(currentToken);
+		long blacklistMillis = Math.max(0L, currentRemaining.toMillis());
+		Long result = redisTemplate.execute(ROTATE,
+				List.of(refreshTokenPrefix + userId,
+						TokenStore.key(TokenBlacklistService.BLACKLIST_NAMESPACE, currentToken),
+						TokenBlacklistFilter.INDEX_KEY),
+				currentHash,
+				tokenStoreProperties.isLegacyReadEnabled() ? currentToken : "",
+				TokenHash.of(newToken),
+				String.valueOf(Math.max(1L, newTtl.toMillis())),
+				String.valueOf(blacklistMillis),
+				String.valueOf(System.currentTimeMillis() + blacklistMillis),
+				tokenCacheProperties.getRevocationChannel());
+		if (Objects.equals(result, 2L)) {
+			return RotationResult.ROTATED;
+		}
+		return Objects.equals(result, 1L) ? RotationResult.MISMATCH : RotationResult.NOT_FOUND;
 	}
-}
\ No newline at end of file
+}
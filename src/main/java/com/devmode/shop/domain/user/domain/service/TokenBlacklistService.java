@@ -8,24 +8,66 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 
+import com.devmode.shop.global.config.properties.TokenCacheProperties;
+import com.devmode.shop.global.config.properties.TokenStoreProperties;
+import com.devmode.shop.global.security.TokenBlacklistFilter;
+import com.devmode.shop.global.security.TokenHash;
+import com.devmode.shop.global.security.TokenStore;
+import com.devmode.shop.global.security.VerifiedTokenCache;
+
 import lombok.RequiredArgsConstructor;
 
+/**
+ * 폐기 토큰 관리
+ * 블랙리스트는 TOKEN_BLACKLIST:<다이제스트> 표식으로 저장한다. (원문 JWT 를 키/값으로 쓰던 BLACKLIST:<jwt> 는 이전 대상)
+ * Redis 블랙리스트에 기록한 뒤 토큰 해시를 pub/sub 으로 알려 모든 인스턴스의 로컬 검증 캐시에서 제거한다.
+ * 조회는 로컬 Bloom 필터가 양성일 때만 Redis 로 확인한다.
+ */
 @Service
 @RequiredArgsConstructor
 public class TokenBlacklistService {
     private static final Logger log = LoggerFactory.getLogger(TokenBlacklistService.class);
     private final RedisTemplate<String, String> redisTemplate;
-    private final static String blacklistPrefix = "BLACKLIST:";
+    private final TokenStore tokenStore;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenBlacklistFilter tokenBlacklistFilter;
+    private final TokenCacheProperties tokenCacheProperties;
+    private final TokenStoreProperties tokenStoreProperties;
+    public static final String BLACKLIST_NAMESPACE = "TOKEN_BLACKLIST";
+    public static final String LEGACY_BLACKLIST_PREFIX = "BLACKLIST:";
 
     public boolean isBlacklistToken(String token) {
+        if (!tokenBlacklistFilter.mightBeBlacklisted(token)) {
+            return false;
+        }
 
-        String savedToken = redisTemplate.opsForValue().get(blacklistPrefix + token);
-        boolean blacklisted = savedToken != null && Objects.equals(savedToken, token);
-
-        return blacklisted;
+        if (tokenStore.isMarked(BLACKLIST_NAMESPACE, token)) {
+            return true;
+        }
+        if (!tokenStoreProperties.isLegacyReadEnabled()) {
+            return false;
+        }
+        String savedToken = redisTemplate.opsForValue().get(LEGACY_BLACKLIST_PREFIX + token);
+        return savedToken != null && Objects.equals(savedToken, token);
     }
 
     public void blacklist(String token, Duration expiration) {
-        redisTemplate.opsForValue().set(blacklistPrefix + token, token, expiration);
+        tokenStore.mark(BLACKLIST_NAMESPACE, token, expiration);
+        tokenBlacklistFilter.record(token, expiration);
+        verifiedTokenCache.evict(token);
+        try {
+            redisTemplate.convertAndSend(tokenCacheProperties.getRevocationChannel(), TokenHash.of(token));
+        } catch (Exception e) {
+            // 전파 실패 시 다른 인스턴스의 캐시는 token-cache.ttl-seconds 이내에 만료됨
+            log.warn("[TokenBlacklist] revocation publish failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Redis 기록과 전파를 이미 마친 폐기 토큰(리프레시 토큰 회전 스크립트)을 이 인스턴스의 필터/캐시에 바로 반영
+     */
+    public void revokeLocally(String token) {
+        tokenBlacklistFilter.addHash(TokenHash.of(token));
+        verifiedTokenCache.evict(token);
     }
-}
\ No newline at end of file
+}
@@ -6,7 +6,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.devmode.shop.domain.user.application.dto.response.TokenReissueResponse;
-import com.devmode.shop.domain.user.domain.entity.User;
+import com.devmode.shop.domain.user.domain.service.RefreshTokenService.RotationResult;
 import com.devmode.shop.global.exception.RestApiException;
 import static com.devmode.shop.global.exception.code.status.AuthErrorStatus.EXPIRED_MEMBER_JWT;
 import static com.devmode.shop.global.exception.code.status.AuthErrorStatus.INVALID_REFRESH_TOKEN;
@@ -22,26 +22,22 @@ public class TokenReissueService {
 	private final TokenProvider tokenProvider;
 	private final RefreshTokenService refreshTokenService;
 	private final UserService userService;
+	private final TokenBlacklistService tokenBlacklistService;
 
 	public TokenReissueResponse reissue(String refreshToken, String userId) {
 
-		// 존재 유무 검사
-		if (!refreshTokenService.isExist(refreshToken, userId)) {
-			throw new RestApiException(INVALID_REFRESH_TOKEN);
-		}
-
-		// 기존에 있는 토큰 삭제
-		refreshTokenService.deleteRefreshToken(userId);
-
-		// 새 토큰 발급
-		User user = userService.findUser(userId);
-		String newAccessToken = tokenProvider.createAccessToken(userId);
-		String newRefreshToken = tokenProvider.createRefreshToken(userId);
+		// 사용자 존재 여부는 캐시된 프로필로 확인
+		userService.getProfile(userId);
 		Duration duration = tokenProvider.getRemainingDuration(refreshToken)
 				.orElseThrow(() -> new RestApiException(EXPIRED_MEMBER_JWT));
 
-		// 저장
-		refreshTokenService.saveRefreshToken(userId, newRefreshToken, duration);
+		// 새 토큰 발급 후 저장된 토큰과 비교/교체/기존 토큰 블랙리스트를 한 번에 (UserAuthUseCase.reissueToken 과 같은 회전)
+		String newAccessToken = tokenProvider.createAccessToken(userId);
+		String newRefreshToken = tokenProvider.createRefreshToken(userId);
+		if (refreshTokenService.rotate(userId, refreshToken, newRefreshToken, duration, duration) != RotationResult.ROTATED) {
+			throw new RestApiException(INVALID_REFRESH_TOKEN);
+		}
+		tokenBlacklistService.revokeLocally(refreshToken);
 
 		return new TokenReissueResponse(newAccessToken, newRefreshToken);
 	}
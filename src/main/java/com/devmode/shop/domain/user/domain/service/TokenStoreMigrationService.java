@@ -0,0 +1,125 @@
+package com.devmode.shop.domain.user.domain.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.devmode.shop.global.config.properties.TokenStoreProperties;
+import com.devmode.shop.global.security.TokenBlacklistFilter;
+import com.devmode.shop.global.security.TokenHash;
+import com.devmode.shop.global.security.TokenStore;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 원문 JWT 로 저장된 인증 상태를 다이제스트 형식으로 이전
+ * BLACKLIST:<jwt> → TOKEN_BLACKLIST:<다이제스트> (남은 TTL 유지, 원문 키는 구버전 노드가 계속 조회하므로 지우지 않고 TTL 로 만료),
+ * REFRESH_TOKEN:<userId> 값 <jwt> → <다이제스트> (그 사이 재로그인으로 값이 바뀌었으면 건너뜀).
+ * 여러 인스턴스가 동시에 실행해도 결과가 같으므로 별도 잠금은 두지 않고, 끝까지 이전하면 완료 표식(MIGRATED_KEY)을 남겨
+ * 이후 재시작하는 노드는 SCAN 없이 건너뛴다.
+ *
+ * 배포 순서
+ * 1. legacy-read-enabled=true, migrate-on-startup=true 로 롤링 배포한다.
+ *    배포 중에는 구버전 노드가 다이제스트로 바뀐 리프레시 토큰을 원문과 비교하므로 재발급(/reissue)에 실패한다.
+ *    (해당 사용자는 다시 로그인해야 하므로 배포 구간을 짧게 유지하거나 구버전 노드의 트래픽을 먼저 뺀다)
+ * 2. 배포 중 구버전 노드가 원문 형식으로 쓴 키는 완료 표식 이후에 생겼을 수 있다.
+ *    모든 노드 교체 후 MIGRATED_KEY 를 지우고 한 노드를 재시작하면 다시 이전한다. (지우지 않아도 legacy 조회로 읽히고 TTL 로 만료됨)
+ * 3. 리프레시 토큰 TTL 이 지난 뒤 legacy-read-enabled=false 로 바꾼다.
+ * 4. 원문 BLACKLIST:<jwt> 키는 이 단계 이후에만 정리한다. TTL 이 있는 키는 그대로 만료되고,
+ *    TTL 이 없는(-1) 키는 이전 대상이 아니므로 필요하면 legacy-read-enabled=false 배포가 끝난 뒤 수동으로 지운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TokenStoreMigrationService {
+
+	// 값이 그대로일 때만 교체하고 TTL 은 유지 (Redis 6.0+ KEEPTTL)
+	private static final RedisScript<Long> REPLACE_IF_UNCHANGED = new DefaultRedisScript<>(
+			"if redis.call('GET', KEYS[1]) == ARGV[1] then "
+					+ "redis.call('SET', KEYS[1], ARGV[2], 'KEEPTTL') return 1 end return 0",
+			Long.class);
+
+	public static final String MIGRATED_KEY = "token_store:migrated";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final TokenStore tokenStore;
+	private final TokenBlacklistFilter tokenBlacklistFilter;
+	private final TokenStoreProperties properties;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void migrateOnStartup() {
+		if (!properties.isMigrateOnStartup()) {
+			return;
+		}
+		try {
+			if (Boolean.TRUE.equals(redisTemplate.hasKey(MIGRATED_KEY))) {
+				log.debug("[TokenStoreMigration] already migrated, skip");
+				return;
+			}
+			long blacklist = migrateBlacklist();
+			long refreshTokens = migrateRefreshTokens();
+			redisTemplate.opsForValue().set(MIGRATED_KEY, Instant.now().toString());
+			log.info("[TokenStoreMigration] migrated - blacklist: {}, refresh tokens: {}", blacklist, refreshTokens);
+		} catch (Exception e) {
+			// 이전하지 못한 키는 legacy-read-enabled 로 계속 조회되고 TTL 로 만료됨
+			log.warn("[TokenStoreMigration] migration failed: {}", e.getMessage());
+		}
+	}
+
+	public long migrateBlacklist() {
+		long migrated = 0L;
+		int prefixLength = TokenBlacklistService.LEGACY_BLACKLIST_PREFIX.length();
+		try (Cursor<String> cursor = redisTemplate.scan(scanOptions(TokenBlacklistService.LEGACY_BLACKLIST_PREFIX + "*"))) {
+			while (cursor.hasNext()) {
+				String key = cursor.next();
+				Long ttlMillis = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+				if (ttlMillis != null && ttlMillis > 0) {
+					String token = key.substring(prefixLength);
+					Duration ttl = Duration.ofMillis(ttlMillis);
+					tokenStore.mark(TokenBlacklistService.BLACKLIST_NAMESPACE, token, ttl);
+					tokenBlacklistFilter.record(token, ttl);
+					migrated++;
+				}
+			}
+		}
+		return migrated;
+	}
+
+	public long migrateRefreshTokens() {
+		long migrated = 0L;
+		try (Cursor<String> cursor = redisTemplate.scan(scanOptions(RefreshTokenService.refreshTokenPrefix + "*"))) {
+			while (cursor.hasNext()) {
+				String key = cursor.next();
+				String saved = redisTemplate.opsForValue().get(key);
+				// JWT 는 '.' 으로 구분된 3부분, 다이제스트(base64url)에는 '.' 이 없음
+				if (saved == null || saved.indexOf('.') < 0) {
+					continue;
+				}
+				Long replaced = redisTemplate.execute(REPLACE_IF_UNCHANGED, List.of(key), saved, TokenHash.of(saved));
+				if (Objects.equals(replaced, 1L)) {
+					migrated++;
+				}
+			}
+		}
+		return migrated;
+	}
+
+	private ScanOptions scanOptions(String pattern) {
+		return ScanOptions.scanOptions()
+				.match(pattern)
+				.count(Math.max(1, Objects.requireNonNullElse(properties.getMigrationScanCount(), 1000)))
+				.build();
+	}
+}
@@ -0,0 +1,184 @@
+package com.devmode.shop.domain.user.domain.service;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.devmode.shop.domain.user.domain.repository.projection.UserProfile;
+import com.devmode.shop.global.config.properties.UserProfileCacheProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 프로필 read-through 캐시 (인스턴스 로컬 → Redis → DB)
+ * 프로필이 바뀌면 커밋 후 로컬/Redis 항목을 지우고 pub/sub 으로 다른 인스턴스의 로컬 항목도 지운다.
+ * Redis 장애 시에는 DB 조회로 대체한다.
+ *
+ * DB 에서 읽은 값은 무효화 버전이 읽기 전과 같을 때만 저장한다 (Lua 로 비교 후 SET).
+ * 변경 전 값을 읽은 요청이 무효화 뒤에 늦게 저장하여 이전 프로필이 TTL 동안 남는 것을 막는다.
+ * 로컬 캐시도 조회 도중 무효화가 있었으면 저장하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserProfileCache {
+
+	static final String CACHE_PREFIX = "USER_PROFILE:";
+	static final String VERSION_PREFIX = "USER_PROFILE_VERSION:";
+
+	/**
+	 * KEYS: 프로필 키, 무효화 버전 키
+	 * ARGV: 읽기 전 버전(없으면 빈 값), 프로필 JSON, TTL(초)
+	 * 반환: 1 저장, 0 그 사이 무효화되어 저장하지 않음
+	 */
+	private static final RedisScript<Long> SET_IF_VERSION_UNCHANGED = new DefaultRedisScript<>(
+			"local version = redis.call('GET', KEYS[2]) "
+					+ "if (version or '') ~= ARGV[1] then return 0 end "
+					+ "redis.call('SET', KEYS[1], ARGV[2], 'EX', ARGV[3]) "
+					+ "return 1",
+			Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final UserProfileCacheProperties properties;
+
+	private final Map<String, Entry> local = new ConcurrentHashMap<>();
+	private final AtomicLong localInvalidations = new AtomicLong();
+
+	private record Entry(UserProfile profile, long expiresAtMillis) {
+	}
+
+	public Optional<UserProfile> get(String userId, Supplier<Optional<UserProfile>> loader) {
+		if (!properties.isEnabled()) {
+			return loader.get();
+		}
+
+		// 1. 로컬
+		long now = System.currentTimeMillis();
+		long localGeneration = localInvalidations.get();
+		Entry entry = local.get(userId);
+		if (entry != null && entry.expiresAtMillis() > now) {
+			return Optional.of(entry.profile());
+		}
+
+		// 2. Redis (미스면 DB 를 읽기 전의 무효화 버전을 함께 기억)
+		String version = null;
+		boolean redisAvailable = true;
+		try {
+			String cached = redisTemplate.opsForValue().get(CACHE_PREFIX + userId);
+			if (cached != null) {
+				UserProfile profile = objectMapper.readValue(cached, UserProfile.class);
+				putLocal(profile, now, localGeneration);
+				return Optional.of(profile);
+			}
+			version = redisTemplate.opsForValue().get(VERSION_PREFIX + userId);
+		} catch (Exception e) {
+			redisAvailable = false;
+			log.warn("[UserProfileCache] Redis 조회 실패 - userId: {}, error: {}", userId, e.getMessage());
+		}
+
+		// 3. DB
+		Optional<UserProfile> loaded = loader.get();
+		if (loaded.isPresent()) {
+			putLocal(loaded.get(), now, localGeneration);
+			if (redisAvailable) {
+				putRedis(userId, loaded.get(), version);
+			}
+		}
+		return loaded;
+	}
+
+	/**
+	 * 트랜잭션 중이면 커밋 후에 무효화 (커밋 전에 지우면 다른 요청이 이전 값을 다시 채울 수 있음)
+	 */
+	public void evictAfterCommit(String userId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			evict(userId);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				evict(userId);
+			}
+		});
+	}
+
+	/**
+	 * 버전을 먼저 올리고 지우므로, 그 전에 DB 를 읽은 요청의 저장은 버전 비교에서 거절되거나 이 삭제로 지워진다.
+	 */
+	public void evict(String userId) {
+		evictLocal(userId);
+		if (!properties.isEnabled()) {
+			return;
+		}
+		try {
+			redisTemplate.opsForValue().increment(VERSION_PREFIX + userId);
+			redisTemplate.expire(VERSION_PREFIX + userId, redisTtl());
+			redisTemplate.delete(CACHE_PREFIX + userId);
+			redisTemplate.convertAndSend(properties.getInvalidationChannel(), userId);
+		} catch (Exception e) {
+			log.warn("[UserProfileCache] 무효화 실패 - userId: {}, error: {}", userId, e.getMessage());
+		}
+	}
+
+	/**
+	 * 다른 인스턴스에서 전파된 무효화
+	 */
+	public void evictLocal(String userId) {
+		localInvalidations.incrementAndGet();
+		local.remove(userId);
+	}
+
+	private void putRedis(String userId, UserProfile profile, String version) {
+		try {
+			redisTemplate.execute(SET_IF_VERSION_UNCHANGED,
+					List.of(CACHE_PREFIX + userId, VERSION_PREFIX + userId),
+					Objects.requireNonNullElse(version, ""),
+					objectMapper.writeValueAsString(profile),
+					String.valueOf(redisTtl().toSeconds()));
+		} catch (Exception e) {
+			log.warn("[UserProfileCache] Redis 저장 실패 - userId: {}, error: {}", userId, e.getMessage());
+		}
+	}
+
+	private Duration redisTtl() {
+		return Duration.ofSeconds(Objects.requireNonNullElse(properties.getRedisTtlSeconds(), 600L));
+	}
+
+	/**
+	 * 조회를 시작한 뒤 로컬 무효화가 있었으면 읽은 값이 이전 값일 수 있으므로 저장하지 않음
+	 */
+	private void putLocal(UserProfile profile, long now, long generation) {
+		if (localInvalidations.get() != generation) {
+			return;
+		}
+		int maxSize = Math.max(1, Objects.requireNonNullElse(properties.getLocalMaxSize(), 10000));
+		if (local.size() >= maxSize) {
+			local.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+			int excess = local.size() - maxSize + Math.max(1, maxSize / 10);
+			Iterator<String> iterator = local.keySet().iterator();
+			while (excess-- > 0 && iterator.hasNext()) {
+				iterator.next();
+				iterator.remove();
+			}
+		}
+		long ttlMillis = Objects.requireNonNullElse(properties.getLocalTtlSeconds(), 30L) * 1000L;
+		local.put(profile.userId(), new Entry(profile, now + ttlMillis));
+	}
+}
@@ -0,0 +1,24 @@
+package com.devmode.shop.domain.user.domain.service;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 다른 인스턴스에서 변경한 사용자 프로필을 로컬 캐시에서 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class UserProfileInvalidationListener implements MessageListener {
+
+	private final UserProfileCache userProfileCache;
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		userProfileCache.evictLocal(new String(message.getBody(), StandardCharsets.UTF_8));
+	}
+}
@@ -1,6 +1,10 @@
 package com.devmode.shop.domain.user.domain.service;
 
-import org.springframework.security.crypto.password.PasswordEncoder;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -8,17 +12,25 @@ import com.devmode.shop.domain.user.application.dto.request.SignUpRequest;
 import com.devmode.shop.domain.user.application.dto.response.ProfileResponse;
 import com.devmode.shop.domain.user.domain.entity.User;
 import com.devmode.shop.domain.user.domain.repository.UserRepository;
+import com.devmode.shop.domain.user.domain.repository.projection.UserProfile;
 import com.devmode.shop.global.exception.RestApiException;
+import com.devmode.shop.global.exception.code.status.AuthErrorStatus;
+import com.devmode.shop.global.security.PasswordHasher;
+import static com.devmode.shop.global.exception.code.status.AuthErrorStatus.ALREADY_REGISTERED_EMAIL;
+import static com.devmode.shop.global.exception.code.status.AuthErrorStatus.ALREADY_REGISTERED_USER_ID;
 import static com.devmode.shop.global.exception.code.status.GlobalErrorStatus._NOT_FOUND;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
 	private final UserRepository userRepository;
-	private final PasswordEncoder passwordEncoder;
+	private final PasswordHasher passwordHasher;
+	private final UserProfileCache userProfileCache;
 
 	public User findByEmail(String email) {
 		return userRepository.findByEmail(email)
@@ -30,24 +42,37 @@ public class UserService {
 				.orElseThrow(() -> new RestApiException(_NOT_FOUND));
 	}
 
-	public boolean isAlreadyRegistered(String email) {
-		return userRepository.existsByEmail(email);
-	}
-	
-	public boolean isUserIdAlreadyRegistered(String userId) {
-		return userRepository.existsByUserId(userId);
-	}
-
-	@Transactional
+	/**
+	 * 가입: 중복 확인 조회 없이 INSERT 한 번으로 처리하고, 아이디/이메일 중복은 제약 조건 위반으로 분류
+	 * 동시에 같은 아이디/이메일로 가입해도 DB 제약 조건으로 하나만 성공한다.
+	 * 해시는 트랜잭션 밖에서 계산하여 해시 대기 중 DB 커넥션을 잡지 않도록 함 (저장은 repository 트랜잭션)
+	 */
 	public User save(SignUpRequest request) {
 		User user = User.builder()
 				.userId(request.userId())
 				.email(request.email())
-				.password(passwordEncoder.encode(request.password()))
+				.password(passwordHasher.encode(request.password()))
 				.name(request.name())
 				.birth(request.birth())
 				.build();
-		return userRepository.save(user);
+		try {
+			return userRepository.saveAndFlush(user);
+		} catch (DataIntegrityViolationException e) {
+			throw new RestApiException(classifyConflict(request, e));
+		}
+	}
+
+	@Transactional
+	public User updateProfile(String userId, String name, String birth, String encodedNewPassword) {
+		User user = findUser(userId);
+		user.updateProfile(name, birth, encodedNewPassword);
+		userProfileCache.evictAfterCommit(userId);
+		return user;
+	}
+
+	@Transactional
+	public void updatePassword(String userId, String encodedPassword) {
+		findUser(userId).updatePassword(encodedPassword);
 	}
 
 	public User findUser(String userId) {
@@ -56,8 +81,40 @@ public class UserService {
 	}
 
 	public ProfileResponse findProfile(String userId) {
-		User user = userRepository.findByUserId(userId)
+		return ProfileResponse.create(getProfile(userId));
+	}
+
+	/**
+	 * 캐시된 프로필 (비밀번호가 필요한 로그인/비밀번호 변경은 findByUserId/findUser 로 엔티티 조회)
+	 */
+	public UserProfile getProfile(String userId) {
+		return userProfileCache.get(userId, () -> userRepository.findProfileByUserId(userId))
 				.orElseThrow(() -> new RestApiException(_NOT_FOUND));
-		return ProfileResponse.create(user);
 	}
-}
\ No newline at end of file
+
+	/**
+	 * 위반한 제약 조건 이름으로 분류하고, 이름을 알 수 없으면(DB/드라이버별 차이) 한 번의 조회로 어느 값이 겹치는지 확인
+	 */
+	private AuthErrorStatus classifyConflict(SignUpRequest request, DataIntegrityViolationException e) {
+		String constraint = e.getCause() instanceof ConstraintViolationException violation
+				&& violation.getConstraintName() != null
+				? violation.getConstraintName().toLowerCase(Locale.ROOT)
+				: "";
+		if (constraint.contains(User.EMAIL_UNIQUE_CONSTRAINT)) {
+			return ALREADY_REGISTERED_EMAIL;
+		}
+		if (constraint.contains("pkey") || constraint.contains("primary")) {
+			return ALREADY_REGISTERED_USER_ID;
+		}
+
+		List<String> conflicts = userRepository.findEmailsByUserIdOrEmail(request.userId(), request.email());
+		if (conflicts.contains(request.email())) {
+			return ALREADY_REGISTERED_EMAIL;
+		}
+		if (!conflicts.isEmpty()) {
+			return ALREADY_REGISTERED_USER_ID;
+		}
+		log.warn("[UserService] 가입 실패 - 중복이 아닌 제약 조건 위반: {}", e.getMostSpecificCause().getMessage());
+		throw e;
+	}
+}
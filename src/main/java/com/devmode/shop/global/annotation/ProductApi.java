@@ -8,10 +8,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 import com.devmode.shop.domain.product.application.dto.request.ProductSearchRequest;
+import com.devmode.shop.domain.product.application.dto.response.LowestPriceResponse;
+import com.devmode.shop.domain.product.application.dto.response.PriceHistoryResponse;
 import com.devmode.shop.domain.product.application.dto.response.ProductResponse;
 import com.devmode.shop.domain.product.application.dto.response.ProductSearchResponse;
 import com.devmode.shop.global.common.BaseResponse;
 
+import java.time.LocalDateTime;
+
 /**
  * 상품 검색 관련 API 인터페이스
  */
@@ -65,6 +69,43 @@ public interface ProductApi extends BaseApi {
     BaseResponse<ProductResponse> searchProductsGet(String keyword, Integer page, Integer size, 
                                                   String sort, String excludeFilters, Boolean onlyNPay);
     
+    @Operation(
+        summary = "상품 가격 이력 조회",
+        description = "상품의 가격 이력을 조회합니다. resolution 은 raw(최대 7일), hourly, daily 를 지원하며 기간 미지정 시 최근 30일을 조회합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "가격 이력 조회 성공",
+            content = @Content(schema = @Schema(implementation = PriceHistoryResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "잘못된 조회 조건",
+            content = @Content(schema = @Schema(implementation = BaseResponse.class))
+        )
+    })
+    BaseResponse<PriceHistoryResponse> getPriceHistory(String productId, String resolution,
+                                                       LocalDateTime from, LocalDateTime to);
+    
+    @Operation(
+        summary = "기간 내 최저가 조회",
+        description = "최근 N일(기본 30일) 동안 관측된 상품 최저가를 조회합니다."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "최저가 조회 성공",
+            content = @Content(schema = @Schema(implementation = LowestPriceResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "잘못된 조회 기간",
+            content = @Content(schema = @Schema(implementation = BaseResponse.class))
+        )
+    })
+    BaseResponse<LowestPriceResponse> getLowestPrice(String productId, Integer days);
+    
     @Operation(
         summary = "상품 검색 서비스 상태 확인",
         description = "상품 검색 서비스의 상태를 확인합니다."
@@ -1,6 +1,11 @@
 package com.devmode.shop.global.annotation;
 
+import com.devmode.shop.domain.trend.application.dto.request.TrendComparisonRequest;
 import com.devmode.shop.domain.trend.application.dto.request.TrendSearchRequest;
+import com.devmode.shop.domain.trend.application.dto.response.analytics.TrendAnalyticsResponse;
+import com.devmode.shop.domain.trend.application.dto.response.comparison.TrendComparisonResponse;
+import com.devmode.shop.domain.trend.application.dto.response.demographics.TrendDemographicsResponse;
+import com.devmode.shop.domain.trend.application.dto.response.ranking.TrendRankingResponse;
 import com.devmode.shop.domain.trend.application.dto.response.trend.TrendSearchResponse;
 import com.devmode.shop.global.common.BaseResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -30,6 +35,26 @@ public interface TrendApi {
             @RequestParam(defaultValue = "true") Boolean includeAgeDistribution
     );
 
+    @PostMapping("/compare")
+    @Operation(summary = "키워드 트렌드 비교", description = "여러 키워드의 트렌드를 같은 날짜 축으로 비교합니다. 캐시에 없는 키워드만 묶어서 조회합니다.")
+    BaseResponse<TrendComparisonResponse> compareTrends(@RequestBody TrendComparisonRequest request);
+
+    @PostMapping("/analytics")
+    @Operation(summary = "트렌드 분석", description = "이동평균(SMA/EMA), 회귀 기울기와 95% 신뢰구간, 요일별 계절성, 이상치를 계산합니다. 결과는 조건/기간별로 캐시됩니다.")
+    BaseResponse<TrendAnalyticsResponse> getTrendAnalytics(@RequestBody TrendSearchRequest request);
+
+    @PostMapping("/demographics")
+    @Operation(summary = "기간 평균 분포", description = "저장된 트렌드의 기기/성별/연령 분포를 기간 평균으로 조회합니다. 평균은 DB에서 계산합니다.")
+    BaseResponse<TrendDemographicsResponse> getTrendDemographics(@RequestBody TrendSearchRequest request);
+
+    @GetMapping("/top")
+    @Operation(summary = "일자별 상위 트렌드 키워드", description = "비율(RATIO) 또는 전일 대비 상승폭(RISING) 기준 상위 키워드를 조회합니다.")
+    BaseResponse<TrendRankingResponse> getTopTrends(
+            @RequestParam LocalDate date,
+            @RequestParam String type,
+            @RequestParam int limit
+    );
+
     @GetMapping("/search/cache")
     @Operation(summary = "캐시 우선 트렌드 검색", description = "캐시된 데이터를 우선적으로 사용하여 트렌드를 검색합니다.")
     BaseResponse<TrendSearchResponse> searchTrendsWithCache(TrendSearchRequest request);
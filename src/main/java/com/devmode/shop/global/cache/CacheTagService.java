@@ -0,0 +1,159 @@
+package com.devmode.shop.global.cache;
+
+import com.devmode.shop.global.config.properties.CacheInvalidationProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * 태그 기반 캐시 무효화
+ * 캐시를 저장할 때 태그 집합(예: trend_search:노트북 → 해당 키워드의 검색 캐시 키들)에 키를 함께 기록하고,
+ * 무효화 시 태그 집합만 SSCAN 으로 읽어 UNLINK 로 나눠 삭제한다.
+ * KEYS 는 전체 키 공간을 한 번에 훑으며 Redis 를 막으므로 사용하지 않고, 태그가 없던 기존 키는 SCAN 으로 조금씩 찾는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheTagService {
+
+    private static final String TAG_PREFIX = "cache_tag:";
+    private static final String DRAIN_SUFFIX = ":draining:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CacheInvalidationProperties properties;
+
+    /**
+     * 저장한 캐시 키를 태그에 기록 (SADD + EXPIRE 를 파이프라인 1회로)
+     */
+    public void tag(String tag, Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        StringRedisSerializer serializer = StringRedisSerializer.UTF_8;
+        byte[] rawTag = serializer.serialize(TAG_PREFIX + tag);
+        byte[][] members = keys.stream().map(serializer::serialize).toArray(byte[][]::new);
+        long ttl = Objects.requireNonNullElse(properties.getTagTtlSeconds(), 691200L);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                connection.setCommands().sAdd(rawTag, members);
+                connection.keyCommands().expire(rawTag, ttl);
+                return null;
+            });
+        } catch (Exception e) {
+            // 태그 기록 실패 시 해당 키는 TTL 로 만료되거나 SCAN 으로 정리됨
+            log.warn("[CacheTag] 태그 기록 실패 - tag: {}, error: {}", tag, e.getMessage());
+        }
+    }
+
+    /**
+     * 태그에 기록된 키와 태그 집합 삭제. legacyKeyPrefix 가 있으면 태그 없이 저장된 키도 SCAN 으로 찾아 삭제
+     * (접두사는 키워드를 포함하므로 glob 문자를 이스케이프해 다른 키워드의 키와 매칭되지 않게 함)
+     *
+     * @return 삭제 요청한 키 수
+     */
+    public long invalidate(String tag, String legacyKeyPrefix) {
+        long removed = invalidateTag(tag);
+        if (legacyKeyPrefix != null && properties.isLegacyScanEnabled()) {
+            removed += invalidateByScan(escapeGlob(legacyKeyPrefix) + "*");
+        }
+        return removed;
+    }
+
+    /**
+     * 태그 집합을 임시 키로 RENAME 한 뒤 읽어서 삭제
+     * 읽는 동안 새로 기록되는 키는 새 태그 집합에 쌓이므로, 태그 집합을 지울 때 삭제되지 않은 키의 기록이 함께 사라지지 않는다.
+     */
+    public long invalidateTag(String tag) {
+        String tagKey = TAG_PREFIX + tag;
+        String drainKey = tagKey + DRAIN_SUFFIX + UUID.randomUUID();
+        try {
+            redisTemplate.rename(tagKey, drainKey);
+        } catch (DataAccessException e) {
+            // 태그 집합이 없으면 (ERR no such key) 지울 키도 없음
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(tagKey))) {
+                return 0L;
+            }
+            throw e;
+        }
+
+        long removed = 0L;
+        List<String> batch = new ArrayList<>(batchSize());
+        ScanOptions options = ScanOptions.scanOptions().count(scanCount()).build();
+        try (Cursor<String> cursor = redisTemplate.opsForSet().scan(drainKey, options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= batchSize()) {
+                    removed += unlink(batch);
+                }
+            }
+        } finally {
+            removed += unlink(batch);
+            redisTemplate.unlink(drainKey);
+        }
+        return removed;
+    }
+
+    /**
+     * 태그가 없던 키 정리용. SCAN 은 호출마다 일부만 훑으므로 다른 명령을 막지 않는다.
+     */
+    public long invalidateByScan(String pattern) {
+        long removed = 0L;
+        List<String> batch = new ArrayList<>(batchSize());
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(scanCount()).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= batchSize()) {
+                    removed += unlink(batch);
+                }
+            }
+        }
+        removed += unlink(batch);
+        return removed;
+    }
+
+    /**
+     * SCAN MATCH 패턴에서 특수 문자(* ? [ ] \)를 문자 그대로 매칭하도록 이스케이프
+     */
+    public static String escapeGlob(String value) {
+        StringBuilder escaped = new StringBuilder(value.length() + 8);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '*' || c == '?' || c == '[' || c == ']' || c == '\\') {
+                escaped.append('\\');
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+
+    private long unlink(List<String> batch) {
+        if (batch.isEmpty()) {
+            return 0L;
+        }
+        int size = batch.size();
+        redisTemplate.unlink(new ArrayList<>(batch));
+        batch.clear();
+        return size;
+    }
+
+    private int batchSize() {
+        return Math.max(1, Objects.requireNonNullElse(properties.getUnlinkBatchSize(), 500));
+    }
+
+    private long scanCount() {
+        return Math.max(1, Objects.requireNonNullElse(properties.getScanCount(), 1000));
+    }
+}
@@ -0,0 +1,33 @@
+package com.devmode.shop.global.config;
+
+import com.devmode.shop.global.config.properties.DataLabApiProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * DataLab 병렬 호출 전용 스레드 풀
+ * 동시 호출 수를 제한하여 키워드 비교 요청이 몰려도 upstream 에 과도한 요청이 나가지 않도록 한다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class DataLabExecutorConfig {
+
+    private final DataLabApiProperties dataLabApiProperties;
+
+    @Bean(name = "dataLabTaskExecutor")
+    public ThreadPoolTaskExecutor dataLabTaskExecutor() {
+        int parallelism = dataLabApiProperties.getComparisonParallelism() != null
+                ? Math.max(1, dataLabApiProperties.getComparisonParallelism())
+                : 3;
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("datalab-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,35 @@
+package com.devmode.shop.global.config;
+
+import com.devmode.shop.global.config.properties.PasswordHashingProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 비밀번호 해시 전용 스레드 풀
+ * BCrypt 는 의도적으로 느리므로 동시 실행 수와 대기열을 제한하여 로그인이 몰려도 검색 등 다른 요청의 CPU 를 빼앗지 않도록 한다.
+ * 대기열이 가득 차면 TaskRejectedException 으로 즉시 거절한다.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class PasswordHashingExecutorConfig {
+
+    private final PasswordHashingProperties passwordHashingProperties;
+
+    @Bean(name = "passwordHashingExecutor")
+    public ThreadPoolTaskExecutor passwordHashingExecutor() {
+        Integer configured = passwordHashingProperties.getConcurrency();
+        int concurrency = configured != null && configured > 0
+                ? configured
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(Math.max(0, passwordHashingProperties.getQueueCapacity()));
+        executor.setThreadNamePrefix("password-hash-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -3,15 +3,23 @@ package com.devmode.shop.global.config;
 import java.time.LocalDateTime;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericToStringSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.devmode.shop.domain.user.domain.service.UserProfileInvalidationListener;
+import com.devmode.shop.global.config.properties.TokenCacheProperties;
+import com.devmode.shop.global.config.properties.UserProfileCacheProperties;
+import com.devmode.shop.global.security.TokenRevocationListener;
+
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -75,4 +83,34 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
-}
\ No newline at end of file
+
+    /**
+     * 토큰 폐기 전파 구독 (로컬 검증 캐시 무효화)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "token-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       TokenRevocationListener tokenRevocationListener,
+                                                                       TokenCacheProperties tokenCacheProperties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(tokenRevocationListener, new ChannelTopic(tokenCacheProperties.getRevocationChannel()));
+        return container;
+    }
+
+    /**
+     * 사용자 프로필 변경 전파 구독 (로컬 프로필 캐시 무효화)
+     * 토큰 캐시를 꺼도 프로필 캐시가 켜져 있으면 구독해야 하므로 별도 컨테이너로 둔다.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "user-profile-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer userProfileListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                      UserProfileInvalidationListener userProfileInvalidationListener,
+                                                                      UserProfileCacheProperties userProfileCacheProperties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(userProfileInvalidationListener,
+                new ChannelTopic(userProfileCacheProperties.getInvalidationChannel()));
+        return container;
+    }
+}
@@ -19,9 +19,10 @@ import org.springframework.web.cors.CorsUtils;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.devmode.shop.domain.user.domain.service.RefreshTokenService;
-import com.devmode.shop.domain.user.domain.service.TokenWhitelistService;
 import com.devmode.shop.global.config.properties.CorsProperties;
+import com.devmode.shop.global.config.properties.PasswordHashingProperties;
 import com.devmode.shop.global.security.ExcludeAuthPathProperties;
+import com.devmode.shop.global.security.ExcludedPathMatcher;
 import com.devmode.shop.global.security.JwtAuthenticationFilter;
 import com.devmode.shop.global.security.TokenProvider;
 
@@ -36,9 +37,10 @@ public class SecurityConfig {
 
 	private final TokenProvider tokenProvider;
 	private final ExcludeAuthPathProperties excludeAuthPathProperties;
+	private final ExcludedPathMatcher excludedPathMatcher;
 	private final RefreshTokenService refreshTokenService;
-	private final TokenWhitelistService tokenWhitelistService;
 	private final CorsProperties corsProperties;
+	private final PasswordHashingProperties passwordHashingProperties;
 
 	@Bean
 	public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
@@ -109,12 +111,13 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(tokenProvider, excludeAuthPathProperties, refreshTokenService, tokenWhitelistService);
+        return new JwtAuthenticationFilter(tokenProvider, excludedPathMatcher, refreshTokenService);
     }
     
     @Bean
     public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+        // cost 를 올리면 기존 해시는 로그인 시 PasswordHasher.upgradeEncoding 으로 감지해 재해시
+        return new BCryptPasswordEncoder(passwordHashingProperties.getStrength());
     }
 }
 
@@ -10,7 +10,6 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 import com.devmode.shop.global.interceptor.JwtBlacklistInterceptor;
 import com.devmode.shop.global.resolver.CurrentUserArgumentResolver;
 import com.devmode.shop.global.resolver.RefreshTokenArgumentResolver;
-import com.devmode.shop.global.security.ExcludeBlacklistPathProperties;
 import com.devmode.shop.global.security.TokenProvider;
 
 import lombok.RequiredArgsConstructor;
@@ -21,7 +20,6 @@ public class WebMvcConfig implements WebMvcConfigurer {
 
     private final TokenProvider tokenProvider;
     private final JwtBlacklistInterceptor jwtBlacklistInterceptor;
-    private final ExcludeBlacklistPathProperties excludeBlacklistPathProperties;
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
@@ -33,7 +31,7 @@ public class WebMvcConfig implements WebMvcConfigurer {
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(jwtBlacklistInterceptor)
-                .excludePathPatterns(excludeBlacklistPathProperties.getExcludeAuthPaths());
-        }
+        // 제외 경로는 메서드까지 구분해야 하므로 인터셉터가 ExcludedPathMatcher 로 직접 판단
+        registry.addInterceptor(jwtBlacklistInterceptor);
+    }
 }
\ No newline at end of file
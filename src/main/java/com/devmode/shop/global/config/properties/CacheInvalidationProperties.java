@@ -0,0 +1,16 @@
+package com.devmode.shop.global.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "cache-invalidation")
+public class CacheInvalidationProperties {
+
+    private boolean legacyScanEnabled = false; // 태그 도입 전에 저장된 키를 SCAN 으로 함께 삭제 (배포 직후 기존 키가 남아 있을 때만 켜기)
+    private Integer scanCount = 1000;         // SCAN/SSCAN 1회당 조회 힌트
+    private Integer unlinkBatchSize = 500;    // UNLINK 1회당 키 수
+    private Long tagTtlSeconds = 691200L;     // 태그 집합 TTL (가장 긴 캐시 TTL 이상, 기본 8일)
+}
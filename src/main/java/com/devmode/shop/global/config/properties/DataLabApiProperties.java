@@ -15,4 +15,8 @@ public class DataLabApiProperties {
     private Integer maxDailyCalls;
     private Integer warningThreshold;
     private Integer cacheTtl;
+    private Integer pointCacheTtl = 604800; // 확정된 일자별 데이터 포인트 캐시 TTL (초, 7일)
+    private Integer recentPointDays = 3;    // 최근 N일 데이터는 값이 바뀔 수 있어 cacheTtl 적용
+    private Integer maxKeywordGroupsPerCall = 5; // 호출 1회에 담을 수 있는 키워드 그룹 수 (DataLab 제한)
+    private Integer comparisonParallelism = 3;   // 키워드 비교 시 동시 호출 수
 }
@@ -0,0 +1,25 @@
+package com.devmode.shop.global.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "jwt-key-set")
+public class JwtKeySetProperties {
+
+    private String algorithm = "HS256"; // HS256(jwt.key 공유 비밀키) 또는 RS256/ES256(아래 키 집합)
+    private String activeKid;           // 서명에 사용할 키 ID (개인키가 있는 노드만)
+    private List<KeyEntry> keys = new ArrayList<>();
+
+    @Data
+    public static class KeyEntry {
+        private String kid;
+        private String publicKey;  // X.509 SubjectPublicKeyInfo (PEM 또는 base64 DER)
+        private String privateKey; // PKCS#8 (PEM 또는 base64 DER). 검증 전용 노드는 비워 둠
+    }
+}
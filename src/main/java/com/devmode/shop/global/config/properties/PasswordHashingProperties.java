@@ -0,0 +1,16 @@
+package com.devmode.shop.global.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "password-hashing")
+public class PasswordHashingProperties {
+
+    private Integer strength = 10;      // BCrypt cost. 올리면 기존 해시는 다음 로그인 때 재해시
+    private Integer concurrency = 0;    // 동시 해시 수 (0 이면 CPU 코어 수의 절반)
+    private Integer queueCapacity = 32; // 대기열 크기. 가득 차면 즉시 429
+    private Long timeoutMs = 3000L;     // 대기 + 해시 최대 시간. 초과하면 429
+}
@@ -0,0 +1,17 @@
+package com.devmode.shop.global.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "price-alert")
+public class PriceAlertProperties {
+
+    private boolean enabled = false;
+    private Integer productBatchSize = 500; // 한 번에 평가할 상품 수
+    private Integer displayPerCall = 100;   // 네이버 API 1회 호출당 조회 상품 수 (최대 100)
+    private Integer maxApiCallsPerRun = 2000; // 1회 실행당 최대 API 호출 수
+    private Integer quotaReserve = 5000;    // 사용자 검색을 위해 남겨둘 일일 쿼터
+}
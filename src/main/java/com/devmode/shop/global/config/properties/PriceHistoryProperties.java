@@ -0,0 +1,17 @@
+package com.devmode.shop.global.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "price-history")
+public class PriceHistoryProperties {
+
+    private boolean enabled = true;
+    private Long flushIntervalMs = 60000L;    // 버퍼 → DB 반영 주기
+    private Integer minSampleIntervalSeconds = 300; // 가격 변동이 없을 때 같은 상품을 다시 기록하는 최소 간격
+    private Integer maxBufferedSamples = 100000; // 버퍼 상한 (도달하면 호출 스레드에서 즉시 반영, 다른 반영이 진행 중이면 초과분은 버림)
+    private Integer lowestPriceDays = 30;     // 최저가 조회 기본 기간
+}
@@ -0,0 +1,13 @@
+package com.devmode.shop.global.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "product-ingestion")
+public class ProductIngestionProperties {
+
+    private boolean enabled = false; // 검색 결과를 products 테이블에 저장할지 여부
+}
@@ -0,0 +1,15 @@
+package com.devmode.shop.global.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "product-search")
+public class ProductSearchProperties {
+
+    private boolean hybridEnabled = false;    // 로컬 카탈로그 우선 검색 사용 여부
+    private Integer minLocalResults = 0;      // 로컬 결과 최소 건수 (0이면 요청 페이지 크기)
+    private Integer maxStalenessMinutes = 360; // 로컬 결과를 신선하다고 보는 최대 경과 시간
+}
@@ -0,0 +1,20 @@
+package com.devmode.shop.global.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "token-cache")
+public class TokenCacheProperties {
+
+    private boolean enabled = true;
+    private Integer maxSize = 10000;                       // 인스턴스당 보관할 검증 토큰 수
+    private Long ttlSeconds = 60L;                         // 토큰 만료 전이라도 이 시간이 지나면 다시 검증 (pub/sub 유실 대비)
+    private String revocationChannel = "token_revocation"; // 토큰 폐기 전파 채널
+    private boolean blacklistFilterEnabled = true;         // 블랙리스트 Bloom 필터 (음성이면 Redis 조회 생략)
+    private Long blacklistExpectedInsertions = 100000L;    // 필터 크기 산정 기준 (실제 블랙리스트 수의 2배와 비교해 큰 값)
+    private Double blacklistFalsePositiveRate = 0.001;     // 거짓 양성 확률 (양성만 Redis 로 확인)
+    private Long blacklistRebuildIntervalMs = 60000L;      // 블랙리스트 인덱스로 필터 재생성 주기 (pub/sub 유실 보정, 만료 토큰 정리)
+}
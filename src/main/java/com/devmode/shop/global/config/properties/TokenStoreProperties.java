@@ -0,0 +1,15 @@
+package com.devmode.shop.global.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "token-store")
+public class TokenStoreProperties {
+
+    private boolean legacyReadEnabled = true; // 원문 JWT 로 저장된 기존 키도 조회 (기존 키가 모두 만료/이전되면 끄기)
+    private boolean migrateOnStartup = true;  // 기동 시 기존 키를 다이제스트 형식으로 이전 (완료 표식이 있으면 건너뜀)
+    private Integer migrationScanCount = 1000; // 이전 시 SCAN 1회당 조회 힌트
+}
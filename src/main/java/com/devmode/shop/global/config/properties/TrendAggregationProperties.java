@@ -0,0 +1,20 @@
+package com.devmode.shop.global.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "trend-aggregation")
+public class TrendAggregationProperties {
+
+    private boolean enabled = true;                                // 트렌드 저장 시 증분 집계 여부
+    private BigDecimal directionThreshold = new BigDecimal("0.05"); // 변화율이 이 값 이내면 STABLE
+    private boolean backfillOnStartup = false;                     // 기동 시 집계 재계산 여부
+    private Integer backfillDays = 365;                            // 재계산 대상 기간 (일)
+    private Integer backfillParallelism = 4;                       // 재계산 동시 실행 청크 수
+    private Integer backfillChunkSize = 20;                        // 청크당 키워드 조건 수
+}
@@ -0,0 +1,22 @@
+package com.devmode.shop.global.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "trend-analytics")
+public class TrendAnalyticsProperties {
+
+    private Integer smaWindow = 7;             // 단순 이동평균 구간 (포인트 수)
+    private Integer emaSpan = 7;               // 지수 이동평균 span (alpha = 2 / (span + 1))
+    private String anomalyMethod = "MAD";      // "MAD" 또는 "ZSCORE"
+    private Double anomalyThreshold = 3.5;     // 이상치 판정 점수 기준 (절대값)
+    private boolean batchEnabled = false;      // 저장된 트렌드 일괄 분석 여부
+    private List<Integer> batchWindows = List.of(7, 30, 90, 365); // 일괄 분석 구간 (어제로 끝나는 최근 N일)
+    private Integer batchParallelism = 4;      // 일괄 분석 스레드 수
+    private Integer batchChunkSize = 200;      // 스레드 작업/캐시 파이프라인 단위 (시리즈 수)
+}
@@ -0,0 +1,18 @@
+package com.devmode.shop.global.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "trend-ingestion")
+public class TrendIngestionProperties {
+
+    private boolean enabled = false;
+    private Integer keywordLookbackDays = 30; // 최근 N일 안에 조회된 키워드를 수집 대상으로 사용
+    private Integer windowDays = 30;          // 키워드별 조회 구간 (수집 일자로 끝나는 N일, 비율은 구간 최대값 기준)
+    private Integer maxApiCallsPerRun = 500;  // 1회 실행당 최대 DataLab 호출 수
+    private Integer quotaReserve = 200;       // 사용자 조회를 위해 남겨둘 일일 쿼터
+    private boolean resumeEnabled = true;     // 시작 시 + 주기적으로(trend-ingestion.resume-delay) 중단된 수집 이어서 실행
+}
@@ -0,0 +1,17 @@
+package com.devmode.shop.global.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "user-profile-cache")
+public class UserProfileCacheProperties {
+
+    private boolean enabled = true;
+    private Integer localMaxSize = 10000;                           // 인스턴스당 보관할 프로필 수
+    private Long localTtlSeconds = 30L;                             // 로컬 캐시 TTL (pub/sub 유실 시 최대 지연)
+    private Long redisTtlSeconds = 600L;                            // Redis 캐시 TTL
+    private String invalidationChannel = "user_profile_invalidation"; // 프로필 변경 전파 채널
+}
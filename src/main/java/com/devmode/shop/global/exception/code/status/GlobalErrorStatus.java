@@ -39,6 +39,14 @@ public enum GlobalErrorStatus implements BaseCodeInterface {
     SEARCH_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "PRODUCT5001", "상품 검색에 실패했습니다."),
     SEARCH_QUOTA_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "PRODUCT4291", "검색 할당량이 초과되었습니다."),
     INVALID_SEARCH_KEYWORD(HttpStatus.BAD_REQUEST, "PRODUCT4001", "올바르지 않은 검색 키워드입니다."),
+    INVALID_PRICE_HISTORY_REQUEST(HttpStatus.BAD_REQUEST, "PRODUCT4002", "올바르지 않은 가격 이력 조회 조건입니다."),
+
+    // Trend 관련 에러
+    TREND_SEARCH_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "TREND5001", "트렌드 조회에 실패했습니다."),
+    INVALID_TREND_COMPARISON_REQUEST(HttpStatus.BAD_REQUEST, "TREND4001", "올바르지 않은 트렌드 비교 조건입니다."),
+    INVALID_TREND_RANKING_REQUEST(HttpStatus.BAD_REQUEST, "TREND4002", "올바르지 않은 트렌드 순위 조회 조건입니다."),
+    INVALID_TREND_DEMOGRAPHICS_REQUEST(HttpStatus.BAD_REQUEST, "TREND4003", "올바르지 않은 트렌드 분포 조회 조건입니다."),
+    DATALAB_QUOTA_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "TREND4291", "트렌드 조회 할당량이 초과되었습니다."),
 
     // For test
     TEMP_EXCEPTION(HttpStatus.BAD_REQUEST, "TEMP4001", "예외처리 테스트입니다."),
@@ -7,8 +7,11 @@ import com.devmode.shop.domain.user.domain.service.TokenBlacklistService;
 import com.devmode.shop.global.exception.RestApiException;
 import static com.devmode.shop.global.exception.code.status.AuthErrorStatus.EMPTY_JWT;
 import static com.devmode.shop.global.exception.code.status.AuthErrorStatus.EXPIRED_MEMBER_JWT;
+import com.devmode.shop.global.security.ExcludedPathMatcher;
 import com.devmode.shop.global.security.TokenProvider;
+import com.devmode.shop.global.security.VerifiedTokenCache;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -19,16 +22,29 @@ public class JwtBlacklistInterceptor implements HandlerInterceptor {
 
     private final TokenProvider tokenProvider;
     private final TokenBlacklistService tokenBlacklistService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final ExcludedPathMatcher excludedPathMatcher;
 
     @Override
     public boolean preHandle(HttpServletRequest req, HttpServletResponse res, Object handler) {
+        // 오류 페이지 포워드는 원 요청에서 이미 처리됨
+        if (req.getDispatcherType() == DispatcherType.ERROR || excludedPathMatcher.isBlacklistExcluded(req)) {
+            return true;
+        }
+
         String token = tokenProvider.getToken(req)
                 .orElseThrow(() -> new RestApiException(EMPTY_JWT));
 
+        // 로컬 캐시에 있으면 검증/블랙리스트 확인을 이미 통과한 토큰 (폐기 시 pub/sub 으로 제거됨)
+        if (verifiedTokenCache.get(token).isPresent()) {
+            return true;
+        }
+
         boolean isBlack = tokenBlacklistService.isBlacklistToken(token);
         if (isBlack) {
             throw new RestApiException(EXPIRED_MEMBER_JWT);
         }
+        tokenProvider.resolve(req).ifPresent(verifiedTokenCache::put);
         return true;
     }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ import com.devmode.shop.global.annotation.CurrentUser;
 import com.devmode.shop.global.exception.RestApiException;
 import static com.devmode.shop.global.exception.code.status.GlobalErrorStatus._UNAUTHORIZED;
 import com.devmode.shop.global.security.TokenProvider;
+import com.devmode.shop.global.security.VerifiedToken;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -38,12 +39,9 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
             throw new RestApiException(_UNAUTHORIZED);
         }
 
-        String token = tokenProvider.getToken(request)
-                .orElseThrow(() -> {
-                    return new RestApiException(_UNAUTHORIZED);
-                });
-
-        String userId = tokenProvider.getId(token)
+        // 필터에서 검증한 토큰 재사용 (필터를 거치지 않은 경로는 여기서 한 번 검증)
+        String userId = tokenProvider.resolve(request)
+                .map(VerifiedToken::id)
                 .orElseThrow(() -> {
                     return new RestApiException(_UNAUTHORIZED);
                 });
@@ -9,8 +9,10 @@ import org.springframework.web.method.support.ModelAndViewContainer;
 import com.devmode.shop.global.annotation.RefreshToken;
 import com.devmode.shop.global.exception.RestApiException;
 import static com.devmode.shop.global.exception.code.status.AuthErrorStatus.INVALID_REFRESH_TOKEN;
+import static com.devmode.shop.global.exception.code.status.AuthErrorStatus.UNSUPPORTED_JWT;
 import static com.devmode.shop.global.exception.code.status.GlobalErrorStatus._UNAUTHORIZED;
 import com.devmode.shop.global.security.TokenProvider;
+import com.devmode.shop.global.security.VerifiedToken;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -40,15 +42,16 @@ public class RefreshTokenArgumentResolver implements HandlerMethodArgumentResolv
             throw new RestApiException(_UNAUTHORIZED);
         }
 
-        String token = tokenProvider.getToken(request)
-                .orElseThrow(() -> {
-                    return new RestApiException(_UNAUTHORIZED);
-                });
+        if (tokenProvider.getToken(request).isEmpty()) {
+            throw new RestApiException(_UNAUTHORIZED);
+        }
 
-        if (tokenProvider.isAccessToken(token)) {
+        VerifiedToken verified = tokenProvider.resolve(request)
+                .orElseThrow(() -> new RestApiException(UNSUPPORTED_JWT));
+        if (verified.isAccessToken()) {
             throw new RestApiException(INVALID_REFRESH_TOKEN);
         }
 
-        return token;
+        return verified.token();
     }
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.devmode.shop.global.security;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 인증/블랙리스트 제외 경로
+ * 기동 시 설정을 한 번 컴파일하여 JwtAuthenticationFilter 와 JwtBlacklistInterceptor 가 함께 사용한다.
+ */
+@Component
+public class ExcludedPathMatcher {
+
+	private final RequestPathMatcher authExcluded;
+	private final RequestPathMatcher blacklistExcluded;
+
+	public ExcludedPathMatcher(ExcludeAuthPathProperties excludeAuthPathProperties,
+							   ExcludeBlacklistPathProperties excludeBlacklistPathProperties) {
+		this.authExcluded = RequestPathMatcher.compile(excludeAuthPathProperties.getPaths().stream()
+				.map(path -> new RequestPathMatcher.Rule(path.getPathPattern(), path.getMethod()))
+				.toList());
+		this.blacklistExcluded = RequestPathMatcher.compile(excludeBlacklistPathProperties.getPaths().stream()
+				.map(path -> new RequestPathMatcher.Rule(path.getPathPattern(), path.getMethod()))
+				.toList());
+	}
+
+	public boolean isAuthExcluded(HttpServletRequest request) {
+		return authExcluded.matches(request.getMethod(), request.getRequestURI());
+	}
+
+	public boolean isBlacklistExcluded(HttpServletRequest request) {
+		return blacklistExcluded.matches(request.getMethod(), request.getRequestURI());
+	}
+}
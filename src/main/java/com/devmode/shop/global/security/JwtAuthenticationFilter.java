@@ -2,17 +2,11 @@ package com.devmode.shop.global.security;
 
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.time.Duration;
 
-import org.springframework.http.HttpMethod;
-import org.springframework.http.server.PathContainer;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
-import org.springframework.web.util.pattern.PathPatternParser;
 
 import com.devmode.shop.domain.user.domain.service.RefreshTokenService;
-import com.devmode.shop.domain.user.domain.service.TokenWhitelistService;
 import com.devmode.shop.global.exception.RestApiException;
 import static com.devmode.shop.global.exception.code.status.AuthErrorStatus.EMPTY_JWT;
 import static com.devmode.shop.global.exception.code.status.AuthErrorStatus.INVALID_ACCESS_TOKEN;
@@ -29,11 +23,8 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private final TokenProvider tokenProvider;
-	private final ExcludeAuthPathProperties excludeAuthPathProperties;
+	private final ExcludedPathMatcher excludedPathMatcher;
 	private final RefreshTokenService refreshTokenService;
-	private final TokenWhitelistService tokenWhitelistService;
-
-	private final PathPatternParser pathPatternParser = new PathPatternParser();
 
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         log.debug("[JwtAuthFilter] start: {} {}", request.getMethod(), request.getRequestURI());
@@ -44,30 +35,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 return;
             }
 
-            String token = tokenProvider.getToken(request)
-                    .orElseThrow(() -> {
-                        log.warn("[JwtAuthFilter] missing Authorization header");
-                        return new RestApiException(EMPTY_JWT);
-                    });
-
-            // 토큰 캐시 확인
-            if (tokenWhitelistService.isWhitelistToken(token)) {
-                log.debug("[JwtAuthFilter] token whitelisted");
-                setAuthentication(token);
-                filterChain.doFilter(request, response);
-                return;
+            if (tokenProvider.getToken(request).isEmpty()) {
+                log.warn("[JwtAuthFilter] missing Authorization header");
+                throw new RestApiException(EMPTY_JWT);
             }
 
-            // 토큰 검증
-            if (tokenProvider.validateToken(token)) {
-                log.info("[JwtAuthFilter] token valid, authenticating user");
-                setAuthentication(token);
-                // 토큰 캐시
-                tokenWhitelistService.whitelist(token, Duration.ofSeconds(30));
-            } else {
-                log.warn("[JwtAuthFilter] invalid token");
-                throw new RestApiException(INVALID_ACCESS_TOKEN);
-            }
+            // 요청당 한 번만 검증하고 결과는 리졸버/인터셉터가 재사용
+            VerifiedToken verified = tokenProvider.resolve(request)
+                    .orElseThrow(() -> {
+                        log.warn("[JwtAuthFilter] invalid token");
+                        return new RestApiException(INVALID_ACCESS_TOKEN);
+                    });
+            SecurityContextHolder.getContext().setAuthentication(tokenProvider.getAuthentication(verified));
+            log.debug("[JwtAuthFilter] token valid, authenticated user");
 
             filterChain.doFilter(request, response);
         } catch (RestApiException e) {
@@ -86,21 +66,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
 	public boolean isExcludedPath(HttpServletRequest request) {
-        String requestPath = request.getRequestURI();
-        HttpMethod requestMethod = HttpMethod.valueOf(request.getMethod());
-
-        return excludeAuthPathProperties.getPaths().stream()
-                .anyMatch(authPath ->
-                        pathPatternParser.parse(authPath.getPathPattern())
-                                .matches(PathContainer.parsePath(requestPath))
-                        && requestMethod.equals(HttpMethod.valueOf(authPath.getMethod()))
-                );
-    }
-
-	private void setAuthentication(String token) {
-        if (tokenProvider.validateToken(token)) {
-            Authentication authentication = tokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-        }
+        return excludedPathMatcher.isAuthExcluded(request);
     }
 }
\ No newline at end of file
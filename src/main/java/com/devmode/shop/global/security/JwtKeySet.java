@@ -0,0 +1,148 @@
+package com.devmode.shop.global.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.stereotype.Component;
+
+import com.devmode.shop.global.config.properties.JwtKeySetProperties;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolver;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JWT 서명/검증 키 집합
+ * HS256: jwt.key 공유 비밀키 하나로 서명과 검증 (기존 방식)
+ * RS256/ES256: 키 ID(kid)별 공개키로 검증하고, active-kid 의 개인키가 있는 노드만 서명한다.
+ * 키 교체는 새 키를 추가 → active-kid 변경 → 기존 토큰 만료 후 이전 키 제거 순으로 진행한다.
+ * 공개키는 기동 시 kid 별로 한 번만 디코딩해 두고 토큰 헤더의 kid 로 바로 찾는다.
+ */
+@Slf4j
+@Component
+public class JwtKeySet {
+
+	private final SignatureAlgorithm algorithm;
+	private final Key signingKey;
+	private final String signingKid;
+	private final Map<String, PublicKey> verificationKeys;
+
+	public JwtKeySet(JwtProperties jwtProperties, JwtKeySetProperties properties) {
+		this.algorithm = SignatureAlgorithm.forName(Objects.requireNonNullElse(properties.getAlgorithm(), "HS256"));
+		if (algorithm.isHmac()) {
+			if (jwtProperties.getKey() == null || jwtProperties.getKey().isBlank()) {
+				throw new IllegalStateException("jwt.key is required for " + algorithm.getValue());
+			}
+			this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getKey().getBytes(StandardCharsets.UTF_8));
+			this.signingKid = null;
+			this.verificationKeys = Map.of();
+			return;
+		}
+		if (!algorithm.isRsa() && !algorithm.isEllipticCurve()) {
+			throw new IllegalStateException("Unsupported JWT algorithm: " + algorithm.getValue());
+		}
+
+		String keyFamily = algorithm.isRsa() ? "RSA" : "EC";
+		Map<String, PublicKey> publicKeys = new HashMap<>();
+		PrivateKey privateKey = null;
+		for (JwtKeySetProperties.KeyEntry entry : properties.getKeys()) {
+			publicKeys.put(entry.getKid(), decodePublicKey(keyFamily, entry.getPublicKey()));
+			if (entry.getKid().equals(properties.getActiveKid())
+					&& entry.getPrivateKey() != null && !entry.getPrivateKey().isBlank()) {
+				privateKey = decodePrivateKey(keyFamily, entry.getPrivateKey());
+			}
+		}
+		if (properties.getActiveKid() != null && !publicKeys.containsKey(properties.getActiveKid())) {
+			throw new IllegalStateException("jwt-key-set.active-kid not found in keys: " + properties.getActiveKid());
+		}
+		this.signingKey = privateKey;
+		this.signingKid = privateKey != null ? properties.getActiveKid() : null;
+		this.verificationKeys = Map.copyOf(publicKeys);
+		log.info("[JwtKeySet] {} keys: {}, signing kid: {}", algorithm.getValue(), verificationKeys.keySet(),
+				signingKid != null ? signingKid : "none (verification only)");
+	}
+
+	public SignatureAlgorithm algorithm() {
+		return algorithm;
+	}
+
+	public boolean isSymmetric() {
+		return algorithm.isHmac();
+	}
+
+	public boolean canSign() {
+		return signingKey != null;
+	}
+
+	public Key signingKey() {
+		if (signingKey == null) {
+			throw new IllegalStateException("This node holds no signing key (verification only)");
+		}
+		return signingKey;
+	}
+
+	/**
+	 * 서명 키 ID (HS256 은 null)
+	 */
+	public String signingKid() {
+		return signingKid;
+	}
+
+	/**
+	 * 토큰 헤더의 alg/kid 로 검증 키 선택. 설정과 다른 alg(예: 공개키를 HMAC 비밀키로 쓰게 하는 HS256 위조)나 모르는 kid 는 거부
+	 */
+	public SigningKeyResolver resolver() {
+		return new SigningKeyResolverAdapter() {
+			@Override
+			public Key resolveSigningKey(JwsHeader header, Claims claims) {
+				if (!algorithm.getValue().equals(header.getAlgorithm())) {
+					throw new UnsupportedJwtException("Unexpected JWT algorithm: " + header.getAlgorithm());
+				}
+				if (isSymmetric()) {
+					return signingKey;
+				}
+				PublicKey key = header.getKeyId() != null ? verificationKeys.get(header.getKeyId()) : null;
+				if (key == null) {
+					throw new UnsupportedJwtException("Unknown JWT key id: " + header.getKeyId());
+				}
+				return key;
+			}
+		};
+	}
+
+	private static PublicKey decodePublicKey(String family, String encoded) {
+		try {
+			return KeyFactory.getInstance(family).generatePublic(new X509EncodedKeySpec(decodePem(encoded)));
+		} catch (GeneralSecurityException | IllegalArgumentException e) {
+			throw new IllegalStateException("Invalid " + family + " public key", e);
+		}
+	}
+
+	private static PrivateKey decodePrivateKey(String family, String encoded) {
+		try {
+			return KeyFactory.getInstance(family).generatePrivate(new PKCS8EncodedKeySpec(decodePem(encoded)));
+		} catch (GeneralSecurityException | IllegalArgumentException e) {
+			throw new IllegalStateException("Invalid " + family + " private key", e);
+		}
+	}
+
+	private static byte[] decodePem(String encoded) {
+		String base64 = encoded.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+		return Base64.getDecoder().decode(base64);
+	}
+}
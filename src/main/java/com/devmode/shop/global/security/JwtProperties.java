@@ -9,7 +9,7 @@ import org.springframework.stereotype.Component;
 @Getter
 @Component
 public class JwtProperties {
-	@Value("${jwt.key}")
+	@Value("${jwt.key:}") // RS256/ES256 검증 전용 노드는 비워 둘 수 있음
 	private String key;
 
 	@Value("${jwt.access.expiration}")
@@ -0,0 +1,126 @@
+package com.devmode.shop.global.security;
+
+import static com.devmode.shop.global.exception.code.status.GlobalErrorStatus._INTERNAL_SERVER_ERROR;
+import static com.devmode.shop.global.exception.code.status.GlobalErrorStatus._TOO_MANY_REQUEST;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.devmode.shop.global.config.properties.PasswordHashingProperties;
+import com.devmode.shop.global.exception.RestApiException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비밀번호 해시/비교를 전용 스레드 풀에서 실행
+ * 요청 스레드는 결과만 기다리며, 대기열이 가득 차거나 제한 시간을 넘기면 429 로 거절한다.
+ * 시간 초과된 작업은 취소하여 대기열에 남은 경우 실행되지 않는다.
+ * 실행/대기 수와 거절/시간 초과 횟수는 password.hashing.* 메트릭으로 노출 (/actuator/prometheus)
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+	private final PasswordEncoder passwordEncoder;
+	private final ThreadPoolTaskExecutor executor;
+	private final long timeoutMs;
+	private final Counter rejected;
+	private final Counter timedOut;
+
+	public PasswordHasher(PasswordEncoder passwordEncoder,
+			@Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor executor,
+			PasswordHashingProperties properties,
+			MeterRegistry meterRegistry) {
+		this.passwordEncoder = passwordEncoder;
+		this.executor = executor;
+		this.timeoutMs = properties.getTimeoutMs();
+		Gauge.builder("password.hashing.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+				.description("실행 중인 해시 작업 수")
+				.register(meterRegistry);
+		Gauge.builder("password.hashing.queued", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+				.description("대기 중인 해시 작업 수")
+				.register(meterRegistry);
+		Gauge.builder("password.hashing.remaining", executor,
+						e -> e.getThreadPoolExecutor().getQueue().remainingCapacity())
+				.description("남은 대기열 용량")
+				.register(meterRegistry);
+		this.rejected = Counter.builder("password.hashing.rejected")
+				.description("대기열 초과로 거절한 횟수")
+				.register(meterRegistry);
+		this.timedOut = Counter.builder("password.hashing.timeouts")
+				.description("대기 시간 초과로 거절한 횟수")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * 대기열 상태와 거절/시간 초과 누적 횟수
+	 */
+	public record Stats(int active, int queued, int remainingCapacity, long rejected, long timedOut) {
+	}
+
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+	}
+
+	public String encode(CharSequence rawPassword) {
+		return submit(() -> passwordEncoder.encode(rawPassword));
+	}
+
+	/**
+	 * 저장된 해시의 cost 가 설정보다 낮은지 확인 (해시 문자열만 파싱하므로 요청 스레드에서 실행)
+	 */
+	public boolean upgradeEncoding(String encodedPassword) {
+		return passwordEncoder.upgradeEncoding(encodedPassword);
+	}
+
+	public Stats stats() {
+		return new Stats(
+				executor.getActiveCount(),
+				executor.getThreadPoolExecutor().getQueue().size(),
+				executor.getThreadPoolExecutor().getQueue().remainingCapacity(),
+				(long) rejected.count(),
+				(long) timedOut.count());
+	}
+
+	private <T> T submit(Callable<T> task) {
+		Future<T> future;
+		try {
+			future = executor.submit(task);
+		} catch (TaskRejectedException e) {
+			rejected.increment();
+			log.warn("[PasswordHasher] 대기열 초과로 요청 거절 - {}", stats());
+			throw new RestApiException(_TOO_MANY_REQUEST);
+		}
+
+		try {
+			return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			timedOut.increment();
+			log.warn("[PasswordHasher] 해시 대기 시간 초과 - timeoutMs: {}, {}", timeoutMs, stats());
+			throw new RestApiException(_TOO_MANY_REQUEST);
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new RestApiException(_INTERNAL_SERVER_ERROR);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package com.devmode.shop.global.security;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+/**
+ * 메서드별로 미리 컴파일한 경로 패턴 (불변)
+ * 와일드카드/변수가 없는 경로는 해시 조회로, 나머지는 컴파일된 PathPattern 으로 확인한다.
+ * 요청마다 패턴을 파싱하거나 HttpMethod 를 변환하지 않는다.
+ */
+public final class RequestPathMatcher {
+
+	private static final Set<String> NO_LITERALS = Set.of();
+	private static final List<PathPattern> NO_PATTERNS = List.of();
+
+	private final Map<String, Set<String>> literalsByMethod;
+	private final Map<String, List<PathPattern>> patternsByMethod;
+
+	private RequestPathMatcher(Map<String, Set<String>> literalsByMethod, Map<String, List<PathPattern>> patternsByMethod) {
+		this.literalsByMethod = literalsByMethod;
+		this.patternsByMethod = patternsByMethod;
+	}
+
+	public record Rule(String pathPattern, String method) {
+	}
+
+	public static RequestPathMatcher compile(List<Rule> rules) {
+		PathPatternParser parser = new PathPatternParser();
+		Map<String, Set<String>> literals = new HashMap<>();
+		Map<String, List<PathPattern>> patterns = new HashMap<>();
+		for (Rule rule : rules) {
+			String method = rule.method().toUpperCase(Locale.ROOT);
+			if (isLiteral(rule.pathPattern())) {
+				literals.computeIfAbsent(method, key -> new HashSet<>()).add(rule.pathPattern());
+			} else {
+				patterns.computeIfAbsent(method, key -> new ArrayList<>()).add(parser.parse(rule.pathPattern()));
+			}
+		}
+
+		Map<String, Set<String>> frozenLiterals = new HashMap<>();
+		literals.forEach((method, paths) -> frozenLiterals.put(method, Set.copyOf(paths)));
+		Map<String, List<PathPattern>> frozenPatterns = new HashMap<>();
+		// 구체적인 패턴부터 확인
+		patterns.forEach((method, list) -> frozenPatterns.put(method,
+				list.stream().sorted(PathPattern.SPECIFICITY_COMPARATOR).toList()));
+		return new RequestPathMatcher(Map.copyOf(frozenLiterals), Map.copyOf(frozenPatterns));
+	}
+
+	public boolean matches(String method, String path) {
+		if (literalsByMethod.getOrDefault(method, NO_LITERALS).contains(path)) {
+			return true;
+		}
+		List<PathPattern> patterns = patternsByMethod.getOrDefault(method, NO_PATTERNS);
+		if (patterns.isEmpty()) {
+			return false;
+		}
+		PathContainer container = PathContainer.parsePath(path);
+		for (PathPattern pattern : patterns) {
+			if (pattern.matches(container)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isLiteral(String pathPattern) {
+		for (int i = 0; i < pathPattern.length(); i++) {
+			char c = pathPattern.charAt(i);
+			if (c == '*' || c == '?' || c == '{') {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -0,0 +1,136 @@
+package com.devmode.shop.global.security;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.devmode.shop.global.config.properties.TokenCacheProperties;
+import com.devmode.shop.global.util.BloomFilter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 블랙리스트 토큰의 로컬 Bloom 필터
+ * 폐기 토큰 해시를 만료 시각 점수로 BLACKLIST_INDEX(ZSET)에 함께 기록하고, 이 인덱스로 주기적으로 다시 만든다.
+ * 그 사이 다른 인스턴스에서 추가된 폐기 토큰은 pub/sub(TokenRevocationListener)으로 반영한다.
+ * 인덱스 도입 전에 저장된 블랙리스트는 첫 생성 때만 BLACKLIST:* 를 SCAN 하여 포함한다.
+ * 필터 음성이면 블랙리스트에 없는 것이 확실하므로 Redis 조회를 생략하고, 양성일 때만 Redis 로 확인한다.
+ * 첫 재생성이 끝나기 전이나 비활성화 시에는 항상 양성으로 응답하여 Redis 조회로 대체한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenBlacklistFilter {
+
+	public static final String INDEX_KEY = "BLACKLIST_INDEX";
+	private static final String BLACKLIST_PATTERN = "BLACKLIST:*";
+	private static final int PREFIX_LENGTH = "BLACKLIST:".length();
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final TokenCacheProperties properties;
+
+	private final Object lock = new Object();
+	private volatile BloomFilter filter;
+	private List<byte[]> pending; // 재생성 중 추가된 해시 (lock 보호)
+
+	public boolean mightBeBlacklisted(String token) {
+		BloomFilter current = filter;
+		if (current == null || !isActive()) {
+			return true;
+		}
+		return current.mightContain(TokenHash.digest(token));
+	}
+
+	/**
+	 * 폐기 토큰을 인덱스와 로컬 필터에 기록
+	 */
+	public void record(String token, Duration expiration) {
+		String tokenHash = TokenHash.of(token);
+		redisTemplate.opsForZSet().add(INDEX_KEY, tokenHash, System.currentTimeMillis() + expiration.toMillis());
+		addHash(tokenHash);
+	}
+
+	/**
+	 * pub/sub 으로 전달된 토큰 해시 반영
+	 */
+	public void addHash(String tokenHash) {
+		try {
+			addDigest(TokenHash.decode(tokenHash));
+		} catch (IllegalArgumentException e) {
+			log.warn("[TokenBlacklistFilter] invalid token hash message");
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${token-cache.blacklist-rebuild-interval-ms:60000}")
+	public void rebuild() {
+		if (!isActive()) {
+			return;
+		}
+		synchronized (lock) {
+			pending = new ArrayList<>();
+		}
+		try {
+			List<byte[]> digests = new ArrayList<>();
+			redisTemplate.opsForZSet().removeRangeByScore(INDEX_KEY, 0, System.currentTimeMillis());
+			try (Cursor<ZSetOperations.TypedTuple<String>> cursor = redisTemplate.opsForZSet()
+					.scan(INDEX_KEY, ScanOptions.scanOptions().count(1000).build())) {
+				while (cursor.hasNext()) {
+					digests.add(TokenHash.decode(cursor.next().getValue()));
+				}
+			}
+			if (filter == null) {
+				ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_PATTERN).count(1000).build();
+				try (Cursor<String> cursor = redisTemplate.scan(options)) {
+					while (cursor.hasNext()) {
+						digests.add(TokenHash.digest(cursor.next().substring(PREFIX_LENGTH)));
+					}
+				}
+			}
+
+			long expected = Math.max(Objects.requireNonNullElse(properties.getBlacklistExpectedInsertions(), 100000L),
+					digests.size() * 2L);
+			BloomFilter rebuilt = BloomFilter.create(expected,
+					Objects.requireNonNullElse(properties.getBlacklistFalsePositiveRate(), 0.001));
+			digests.forEach(rebuilt::put);
+			synchronized (lock) {
+				pending.forEach(rebuilt::put);
+				pending = null;
+				filter = rebuilt;
+			}
+			log.info("[TokenBlacklistFilter] rebuilt - tokens: {}, bits: {}, hashes: {}",
+					digests.size(), rebuilt.bitCount(), rebuilt.hashCount());
+		} catch (Exception e) {
+			synchronized (lock) {
+				pending = null;
+			}
+			// 재생성 실패 시 기존 필터 유지 (첫 재생성 전이면 계속 Redis 조회)
+			log.warn("[TokenBlacklistFilter] rebuild failed: {}", e.getMessage());
+		}
+	}
+
+	private void addDigest(byte[] digest) {
+		synchronized (lock) {
+			BloomFilter current = filter;
+			if (current != null) {
+				current.put(digest);
+			}
+			if (pending != null) {
+				pending.add(digest);
+			}
+		}
+	}
+
+	private boolean isActive() {
+		// pub/sub 구독(token-cache.enabled)이 없으면 다른 인스턴스의 폐기를 놓칠 수 있으므로 함께 켜져 있어야 사용
+		return properties.isEnabled() && properties.isBlacklistFilterEnabled();
+	}
+}
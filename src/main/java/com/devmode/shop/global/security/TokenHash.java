@@ -0,0 +1,40 @@
+package com.devmode.shop.global.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 다이제스트 (SHA-256)
+ * Redis 키/값, 로컬 캐시 키, pub/sub 메시지에는 원문 JWT 대신 43자 base64url 다이제스트를 사용한다.
+ */
+public final class TokenHash {
+
+	private TokenHash() {
+	}
+
+	public static String of(String token) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(digest(token));
+	}
+
+	public static byte[] digest(String token) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+
+	public static byte[] decode(String tokenHash) {
+		return Base64.getUrlDecoder().decode(tokenHash);
+	}
+
+	/**
+	 * 저장된 다이제스트와 토큰 비교 (상수 시간)
+	 */
+	public static boolean matches(String storedHash, String token) {
+		return storedHash != null && MessageDigest.isEqual(
+				storedHash.getBytes(StandardCharsets.US_ASCII), of(token).getBytes(StandardCharsets.US_ASCII));
+	}
+}
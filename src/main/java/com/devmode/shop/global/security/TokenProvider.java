@@ -1,6 +1,5 @@
 package com.devmode.shop.global.security;
 
-import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
@@ -8,7 +7,6 @@ import java.time.ZoneId;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Optional;
-import java.util.Set;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -21,118 +19,124 @@ import static com.devmode.shop.global.exception.code.status.AuthErrorStatus.UNSU
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
 
+/**
+ * 서명 키와 파서는 생성 시 한 번만 만들고(JwtParser 는 불변/스레드 안전), 요청의 토큰은 resolve 로 한 번만 검증한다.
+ * 알고리즘과 키는 JwtKeySet 이 결정한다. (HS256 공유 비밀키 또는 kid 별 RS256/ES256 키)
+ * 블랙리스트 확인까지 마친 토큰은 VerifiedTokenCache 에서 바로 꺼내 쓴다.
+ */
 @Service
-@RequiredArgsConstructor
 public class TokenProvider {
 
-	private final JwtProperties jwtProperties;
-
-	private static final String ACCESS_TOKEN_SUBJECT = "AccessToken";
+	static final String ACCESS_TOKEN_SUBJECT = "AccessToken";
 	private static final String REFRESH_TOKEN_SUBJECT = "RefreshToken";
 	private static final String TOKEN_HEADER = "Authorization";
 	private static final String BEARER = "Bearer ";
 	private static final String ID_CLAIM = "id";
+	private static final String VERIFIED_TOKEN_ATTRIBUTE = VerifiedToken.class.getName();
 
+	private final JwtProperties jwtProperties;
+	private final JwtKeySet keySet;
+	private final JwtParser parser;
+	private final VerifiedTokenCache verifiedTokenCache;
+
+	public TokenProvider(JwtProperties jwtProperties, JwtKeySet keySet, VerifiedTokenCache verifiedTokenCache) {
+		this.jwtProperties = jwtProperties;
+		this.keySet = keySet;
+		this.verifiedTokenCache = verifiedTokenCache;
+		this.parser = Jwts.parserBuilder().setSigningKeyResolver(keySet.resolver()).build();
+	}
 
 	public String createAccessToken(String id) {
-		Date now = new Date();
-		return Jwts.builder()
-				.setHeaderParam(Header.TYPE, Header.JWT_TYPE)
-				.setIssuedAt(now)
-				.setExpiration(Date.from(
-						LocalDateTime.now()
-								.plus(Duration.ofMillis(jwtProperties.getAccessTokenExpirationPeriodDay()))
-								.atZone(ZoneId.of("Asia/Seoul"))
-								.toInstant()
-				))
-				.setSubject(ACCESS_TOKEN_SUBJECT)
-				.claim(ID_CLAIM, id)
-				.signWith(Keys.hmacShaKeyFor(jwtProperties.getKey().getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
-				.compact();
+		return createToken(ACCESS_TOKEN_SUBJECT, id, jwtProperties.getAccessTokenExpirationPeriodDay());
 	}
 
 	public String createRefreshToken(String id) {
+		return createToken(REFRESH_TOKEN_SUBJECT, id, jwtProperties.getRefreshTokenExpirationPeriodDay());
+	}
+
+	private String createToken(String subject, String id, Long expirationMillis) {
 		Date now = new Date();
-		return Jwts.builder()
+		JwtBuilder builder = Jwts.builder()
 				.setHeaderParam(Header.TYPE, Header.JWT_TYPE)
 				.setIssuedAt(now)
 				.setExpiration(Date.from(
 						LocalDateTime.now()
-								.plus(Duration.ofMillis(jwtProperties.getRefreshTokenExpirationPeriodDay()))
+								.plus(Duration.ofMillis(expirationMillis))
 								.atZone(ZoneId.of("Asia/Seoul"))
 								.toInstant()
 				))
-				.setSubject(REFRESH_TOKEN_SUBJECT)
-				.claim(ID_CLAIM, id)
-				.signWith(Keys.hmacShaKeyFor(jwtProperties.getKey().getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
-				.compact();
+				.setSubject(subject)
+				.claim(ID_CLAIM, id);
+		if (keySet.signingKid() != null) {
+			builder.setHeaderParam(JwsHeader.KEY_ID, keySet.signingKid());
+		}
+		return builder.signWith(keySet.signingKey(), keySet.algorithm()).compact();
 	}
 
 	public Boolean validateToken(String jwtToken) {
+		return verify(jwtToken).isPresent();
+	}
+
+	/**
+	 * 서명/만료 검증 후 클레임 추출 (검증 실패 시 empty)
+	 */
+	public Optional<VerifiedToken> verify(String token) {
 		try {
-			Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(jwtProperties.getKey().getBytes(StandardCharsets.UTF_8)))
-					.build()
-					.parseClaimsJws(jwtToken);  // Decode
-			return true;
+			Claims claims = parser.parseClaimsJws(token).getBody();
+			Date expiration = claims.getExpiration();
+			return Optional.of(new VerifiedToken(token, claims.get(ID_CLAIM, String.class), claims.getSubject(),
+					expiration != null ? expiration.toInstant() : Instant.MAX));
 		} catch (Exception e) {
-			return false;
+			return Optional.empty();
 		}
 	}
 
-	public Authentication getAuthentication(String token) {
-		Claims claims = getClaims(token);
+	/**
+	 * 요청의 Bearer 토큰을 검증하고 결과를 request attribute 에 보관
+	 * 같은 요청에서 필터/리졸버/유스케이스가 다시 호출해도 파싱은 한 번만 하고, 로컬 캐시에 있으면 파싱하지 않는다.
+	 */
+	public Optional<VerifiedToken> resolve(HttpServletRequest request) {
+		if (request.getAttribute(VERIFIED_TOKEN_ATTRIBUTE) instanceof VerifiedToken verified) {
+			return Optional.of(verified);
+		}
+		Optional<VerifiedToken> verified = getToken(request)
+				.flatMap(token -> verifiedTokenCache.get(token).or(() -> verify(token)));
+		verified.ifPresent(token -> request.setAttribute(VERIFIED_TOKEN_ATTRIBUTE, token));
+		return verified;
+	}
+
+	public Authentication getAuthentication(VerifiedToken token) {
 		// 권한 없이 인증된 사용자로만 처리
-		return new UsernamePasswordAuthenticationToken(claims.get(ID_CLAIM, String.class), "", Collections.emptyList());
+		return new UsernamePasswordAuthenticationToken(token.id(), "", Collections.emptyList());
 	}
 
 	public Optional<String> getId(String token) {
-		try {
-			return Optional.ofNullable(getClaims(token).get(ID_CLAIM, String.class));
-		} catch (Exception e) {
-			return Optional.empty();
-		}
+		return verify(token).map(VerifiedToken::id);
 	}
 
-
-
 	public Optional<String> getToken(HttpServletRequest request) {
 		return Optional.ofNullable(request.getHeader(TOKEN_HEADER))
 				.filter(token -> token.startsWith(BEARER))
-				.map(token -> token.replace(BEARER, ""));
-	}
-
-	private Claims getClaims(String token) {
-		return Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(jwtProperties.getKey().getBytes(StandardCharsets.UTF_8)))
-				.build()
-				.parseClaimsJws(token)
-				.getBody();
+				.map(token -> token.substring(BEARER.length()));
 	}
 
 	public Optional<Date> getExpiration(String token) {
-		try {
-			return Optional.ofNullable(getClaims(token).getExpiration());
-		} catch (Exception e) {
-			return Optional.empty();
-		}
+		return verify(token).map(verified -> Date.from(verified.expiration()));
 	}
 
 	public Optional<Duration> getRemainingDuration(String token) {
-		return getExpiration(token)
-				.map(date -> Duration.between(Instant.now(), date.toInstant()));
+		return verify(token).map(VerifiedToken::remainingDuration);
 	}
 
 	public boolean isAccessToken(String token) {
-		try {
-			String subject = getClaims(token).getSubject();
-			return ACCESS_TOKEN_SUBJECT.equals(subject);
-		} catch (Exception e) {
-			throw new RestApiException(UNSUPPORTED_JWT);
-		}
+		return verify(token)
+				.map(VerifiedToken::isAccessToken)
+				.orElseThrow(() -> new RestApiException(UNSUPPORTED_JWT));
 	}
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.devmode.shop.global.security;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 다른 인스턴스에서 폐기(로그아웃/재발급)한 토큰 해시를 받아 로컬 검증 캐시에서 제거하고 블랙리스트 필터에 추가
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationListener implements MessageListener {
+
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final TokenBlacklistFilter tokenBlacklistFilter;
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String tokenHash = new String(message.getBody(), StandardCharsets.UTF_8);
+		tokenBlacklistFilter.addHash(tokenHash);
+		verifiedTokenCache.evictHash(tokenHash);
+		log.debug("[TokenRevocation] evicted revoked token from local cache");
+	}
+}
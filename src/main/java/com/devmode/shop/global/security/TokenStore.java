@@ -0,0 +1,38 @@
+package com.devmode.shop.global.security;
+
+import java.time.Duration;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 토큰 단위 인증 상태 저장소
+ * 키는 <namespace>:<토큰 다이제스트 43자>, 값은 1바이트 표식만 저장한다.
+ * 원문 JWT(수백 바이트)를 키와 값에 두 번 저장하던 방식보다 항목당 메모리가 한 자릿수 배 작다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenStore {
+
+	private static final String MARKER = "1";
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	public void mark(String namespace, String token, Duration ttl) {
+		redisTemplate.opsForValue().set(key(namespace, token), MARKER, ttl);
+	}
+
+	public boolean isMarked(String namespace, String token) {
+		return Boolean.TRUE.equals(redisTemplate.hasKey(key(namespace, token)));
+	}
+
+	public void unmark(String namespace, String token) {
+		redisTemplate.delete(key(namespace, token));
+	}
+
+	public static String key(String namespace, String token) {
+		return namespace + ":" + TokenHash.of(token);
+	}
+}
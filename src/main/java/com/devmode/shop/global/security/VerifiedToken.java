@@ -0,0 +1,19 @@
+package com.devmode.shop.global.security;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 토큰과 클레임
+ * 요청마다 한 번만 파싱하여 request attribute 로 보관하고 필터/리졸버/인터셉터가 함께 사용한다.
+ */
+public record VerifiedToken(String token, String id, String subject, Instant expiration) {
+
+	public boolean isAccessToken() {
+		return TokenProvider.ACCESS_TOKEN_SUBJECT.equals(subject);
+	}
+
+	public Duration remainingDuration() {
+		return Duration.between(Instant.now(), expiration);
+	}
+}
@@ -0,0 +1,135 @@
+package com.devmode.shop.global.security;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.devmode.shop.global.config.properties.TokenCacheProperties;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 서명 검증과 블랙리스트 확인을 모두 통과한 토큰의 인스턴스 로컬 캐시
+ * 키는 원문 토큰이 아닌 SHA-256 해시이고, 항목은 min(토큰 만료, TTL) 에 만료된다.
+ * 폐기된 토큰은 Redis pub/sub 으로 모든 인스턴스에 전파되어 제거되므로(TokenRevocationListener)
+ * 캐시에 있는 토큰은 Redis 조회 없이 인증한다.
+ * 블랙리스트 확인과 put 사이에 폐기가 끼어들면 폐기된 토큰이 다시 캐시될 수 있으므로,
+ * 폐기한 해시는 TTL 동안 tombstone 으로 남겨 put 전후에 확인한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VerifiedTokenCache {
+
+	private final TokenCacheProperties properties;
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final Map<String, Long> tombstones = new ConcurrentHashMap<>(); // 폐기 해시 → 만료 시각
+
+	private record Entry(VerifiedToken token, long expiresAtMillis) {
+	}
+
+	public Optional<VerifiedToken> get(String token) {
+		if (!properties.isEnabled()) {
+			return Optional.empty();
+		}
+		String hash = TokenHash.of(token);
+		Entry entry = entries.get(hash);
+		if (entry == null) {
+			return Optional.empty();
+		}
+		if (entry.expiresAtMillis() <= System.currentTimeMillis()) {
+			entries.remove(hash, entry);
+			return Optional.empty();
+		}
+		return Optional.of(entry.token());
+	}
+
+	public void put(VerifiedToken token) {
+		if (!properties.isEnabled()) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		long ttlMillis = ttlMillis();
+		long tokenExpiresAt = token.expiration().isBefore(Instant.ofEpochMilli(Long.MAX_VALUE))
+				? token.expiration().toEpochMilli()
+				: Long.MAX_VALUE;
+		long expiresAt = Math.min(tokenExpiresAt, now + ttlMillis);
+		if (expiresAt <= now) {
+			return;
+		}
+		String hash = TokenHash.of(token.token());
+		if (isRevoked(hash, now)) {
+			return;
+		}
+		if (entries.size() >= maxSize()) {
+			shrink(now);
+		}
+		Entry entry = new Entry(token, expiresAt);
+		entries.put(hash, entry);
+		// evictHash 는 tombstone 을 먼저 남기고 항목을 지우므로, put 이 그 사이에 끼어도 여기서 다시 제거된다
+		if (isRevoked(hash, now)) {
+			entries.remove(hash, entry);
+		}
+	}
+
+	public void evict(String token) {
+		evictHash(TokenHash.of(token));
+	}
+
+	/**
+	 * 다른 인스턴스에서 전파된 폐기 (해시만 전달됨)
+	 */
+	public void evictHash(String tokenHash) {
+		long now = System.currentTimeMillis();
+		if (tombstones.size() >= maxSize()) {
+			tombstones.values().removeIf(expiresAt -> expiresAt <= now);
+		}
+		tombstones.put(tokenHash, now + ttlMillis());
+		entries.remove(tokenHash);
+	}
+
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * 상한 도달 시 만료 항목을 먼저 지우고, 그래도 가득 차 있으면 1/10 을 비운다 (비운 토큰은 다음 요청에서 다시 검증)
+	 */
+	private void shrink(long now) {
+		entries.values().removeIf(entry -> entry.expiresAtMillis() <= now);
+		int excess = entries.size() - maxSize() + Math.max(1, maxSize() / 10);
+		Iterator<String> iterator = entries.keySet().iterator();
+		while (excess-- > 0 && iterator.hasNext()) {
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	/**
+	 * 폐기 후 TTL 안에 시작된 검증만 put 과 경합할 수 있으므로 tombstone 도 TTL 동안만 유지
+	 */
+	private boolean isRevoked(String hash, long now) {
+		Long expiresAt = tombstones.get(hash);
+		if (expiresAt == null) {
+			return false;
+		}
+		if (expiresAt <= now) {
+			tombstones.remove(hash, expiresAt);
+			return false;
+		}
+		return true;
+	}
+
+	private long ttlMillis() {
+		return Objects.requireNonNullElse(properties.getTtlSeconds(), 60L) * 1000L;
+	}
+
+	private int maxSize() {
+		return Math.max(1, Objects.requireNonNullElse(properties.getMaxSize(), 10000));
+	}
+}
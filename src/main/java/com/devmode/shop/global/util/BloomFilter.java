@@ -0,0 +1,74 @@
+package com.devmode.shop.global.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 스레드 안전한 Bloom 필터
+ * 입력은 균등 분포인 해시(SHA-256 다이제스트 등, 16바이트 이상)이며 앞 16바이트를 두 개의 64비트 해시로 써서
+ * k 개 위치를 double hashing 으로 계산한다. 거짓 음성은 없고 거짓 양성 확률은 생성 시 지정한 값 수준이다.
+ */
+public final class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitCount;
+	private final int hashCount;
+
+	private BloomFilter(long bitCount, int hashCount) {
+		this.bits = new AtomicLongArray((int) ((bitCount + 63) >>> 6));
+		this.bitCount = bitCount;
+		this.hashCount = hashCount;
+	}
+
+	public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+		long n = Math.max(1L, expectedInsertions);
+		double p = Math.min(Math.max(falsePositiveRate, 1e-9), 0.5);
+		long m = Math.max(64L, (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2))));
+		int k = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+		return new BloomFilter(m, k);
+	}
+
+	public void put(byte[] digest) {
+		long h1 = toLong(digest, 0);
+		long h2 = toLong(digest, 8);
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(h1 + i * h2, bitCount);
+			int word = (int) (index >>> 6);
+			long mask = 1L << index;
+			long current;
+			do {
+				current = bits.get(word);
+				if ((current & mask) != 0) {
+					break;
+				}
+			} while (!bits.compareAndSet(word, current, current | mask));
+		}
+	}
+
+	public boolean mightContain(byte[] digest) {
+		long h1 = toLong(digest, 0);
+		long h2 = toLong(digest, 8);
+		for (int i = 0; i < hashCount; i++) {
+			long index = Math.floorMod(h1 + i * h2, bitCount);
+			if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public long bitCount() {
+		return bitCount;
+	}
+
+	public int hashCount() {
+		return hashCount;
+	}
+
+	private static long toLong(byte[] bytes, int offset) {
+		long value = 0L;
+		for (int i = 0; i < 8; i++) {
+			value = (value << 8) | (bytes[offset + i] & 0xFFL);
+		}
+		return value;
+	}
+}
@@ -0,0 +1,84 @@
+package com.devmode.shop.global.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 상품 검색용 토크나이저
+ * 한글은 띄어쓰기 없이 붙여 쓰는 경우가 많아 형태소 분석 대신 2-gram 으로 나누고,
+ * 영문/숫자는 연속 구간을 하나의 토큰으로 사용한다. (예: "갤럭시북3 프로" → 갤럭, 럭시, 시북, 3, 프로)
+ * 색인과 질의에 같은 규칙을 적용하므로 단어 내부 부분 일치도 검색된다.
+ */
+public final class ProductSearchTokenizer {
+
+    public static final int MAX_INDEX_LENGTH = 2000;
+
+    private ProductSearchTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int length = normalized.length();
+        int start = 0;
+        while (start < length) {
+            char c = normalized.charAt(start);
+            if (!Character.isLetterOrDigit(c)) {
+                start++;
+                continue;
+            }
+
+            boolean hangul = isHangul(c);
+            int end = start + 1;
+            while (end < length && Character.isLetterOrDigit(normalized.charAt(end))
+                    && isHangul(normalized.charAt(end)) == hangul) {
+                end++;
+            }
+
+            if (!hangul) {
+                tokens.add(normalized.substring(start, end));
+            } else if (end - start == 1) {
+                tokens.add(normalized.substring(start, end));
+            } else {
+                for (int i = start; i < end - 1; i++) {
+                    tokens.add(normalized.substring(i, i + 2));
+                }
+            }
+            start = end;
+        }
+        return tokens;
+    }
+
+    /**
+     * 여러 필드를 색인용 문자열(중복 제거된 토큰의 공백 구분 목록)로 변환
+     */
+    public static String toIndexText(String... fields) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String field : fields) {
+            tokens.addAll(tokenize(field));
+        }
+
+        StringBuilder builder = new StringBuilder();
+        for (String token : tokens) {
+            if (builder.length() + token.length() + 1 > MAX_INDEX_LENGTH) {
+                break;
+            }
+            if (!builder.isEmpty()) {
+                builder.append(' ');
+            }
+            builder.append(token);
+        }
+        return builder.toString();
+    }
+
+    private static boolean isHangul(char c) {
+        return Character.UnicodeScript.of(c) == Character.UnicodeScript.HANGUL;
+    }
+}
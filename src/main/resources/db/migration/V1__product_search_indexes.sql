@@ -0,0 +1,13 @@
+-- 상품 로컬 검색 인덱스 (PostgreSQL)
+-- products 테이블 생성 후 배포 전에 한 번 적용한다. 애플리케이션은 적용 여부만 확인하고 DDL 을 실행하지 않는다.
+-- 모든 문장은 IF NOT EXISTS 이므로 다시 적용해도 안전하다.
+
+ALTER TABLE products ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', coalesce(search_tokens, ''))) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_products_search_vector ON products USING GIN (search_vector);
+
+-- 제목 유사도 검색 (pg_trgm 확장을 만들 권한이 없으면 아래 두 문장은 생략해도 된다)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_products_title_trgm ON products USING GIN (title gin_trgm_ops);
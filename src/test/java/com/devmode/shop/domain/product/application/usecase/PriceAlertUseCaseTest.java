@@ -0,0 +1,118 @@
+package com.devmode.shop.domain.product.application.usecase;
+
+import com.devmode.shop.domain.product.application.usecase.PriceAlertUseCase.PriceAlertRunResult;
+import com.devmode.shop.domain.product.domain.entity.Product;
+import com.devmode.shop.domain.product.domain.service.PriceAlertCursorService;
+import com.devmode.shop.domain.product.domain.service.PriceAlertService;
+import com.devmode.shop.domain.product.domain.service.ProductPriceRefreshService;
+import com.devmode.shop.domain.product.domain.service.ProductPriceRefreshService.PriceRefreshResult;
+import com.devmode.shop.global.config.properties.PriceAlertProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceAlertUseCaseTest {
+
+    @Mock
+    private PriceAlertService priceAlertService;
+
+    @Mock
+    private PriceAlertCursorService priceAlertCursorService;
+
+    @Mock
+    private ProductPriceRefreshService priceRefreshService;
+
+    @Spy
+    private PriceAlertProperties priceAlertProperties = new PriceAlertProperties();
+
+    @InjectMocks
+    private PriceAlertUseCase priceAlertUseCase;
+
+    @BeforeEach
+    void setUp() {
+        priceAlertProperties.setProductBatchSize(2);
+        priceAlertProperties.setMaxApiCallsPerRun(10);
+        lenient().when(priceAlertService.findProducts(anyList())).thenReturn(List.of());
+        lenient().when(priceAlertService.applyPriceChanges(anyMap())).thenReturn(0);
+    }
+
+    @Test
+    @DisplayName("예산이 소진되면 마지막 상품 ID를 저장한다")
+    void evaluateAllSavesCursorWhenBudgetExhausted() {
+        // given
+        when(priceAlertCursorService.getLastProductId()).thenReturn(0L);
+        when(priceAlertService.findAlertTargetProductIds(0L, 2)).thenReturn(List.of(1L, 2L));
+        when(priceRefreshService.refreshPrices(anyList(), anyInt())).thenReturn(new PriceRefreshResult(Map.of(), Set.of(), 10, true));
+
+        // when
+        priceAlertUseCase.evaluateAll();
+
+        // then
+        verify(priceAlertCursorService).saveLastProductId(2L);
+        verify(priceAlertCursorService, never()).reset();
+    }
+
+    @Test
+    @DisplayName("배치 중간에 예산이 소진되면 갱신하지 못한 첫 상품 앞까지만 진행한 것으로 저장한다")
+    void evaluateAllStopsCursorBeforeUnrefreshedProducts() {
+        // given
+        priceAlertProperties.setProductBatchSize(3);
+        List<Product> products = List.of(product(1L), product(2L), product(3L));
+        when(priceAlertCursorService.getLastProductId()).thenReturn(0L);
+        when(priceAlertService.findAlertTargetProductIds(0L, 3)).thenReturn(List.of(1L, 2L, 3L));
+        when(priceAlertService.findProducts(List.of(1L, 2L, 3L))).thenReturn(products);
+        when(priceRefreshService.refreshPrices(products, 10)).thenReturn(new PriceRefreshResult(Map.of(), Set.of(1L, 3L), 10, true));
+
+        // when
+        PriceAlertRunResult result = priceAlertUseCase.evaluateAll();
+
+        // then (2번 상품부터 다음 실행에서 다시 평가)
+        assertThat(result.productCount()).isEqualTo(2);
+        verify(priceAlertCursorService).saveLastProductId(1L);
+        verify(priceAlertCursorService, never()).reset();
+    }
+
+    @Test
+    @DisplayName("저장된 위치부터 이어서 평가하고 끝에 도달하면 처음부터 시작 위치까지 평가한다")
+    void evaluateAllResumesFromCursorAndWrapsAround() {
+        // given
+        when(priceAlertCursorService.getLastProductId()).thenReturn(2L);
+        when(priceAlertService.findAlertTargetProductIds(2L, 2)).thenReturn(List.of(3L, 4L));
+        when(priceAlertService.findAlertTargetProductIds(4L, 2)).thenReturn(List.of());
+        when(priceAlertService.findAlertTargetProductIds(0L, 2)).thenReturn(List.of(1L, 2L));
+        when(priceRefreshService.refreshPrices(anyList(), anyInt())).thenReturn(new PriceRefreshResult(Map.of(), Set.of(), 1, false));
+
+        // when
+        priceAlertUseCase.evaluateAll();
+
+        // then
+        verify(priceAlertService).findProducts(List.of(3L, 4L));
+        verify(priceAlertService).findProducts(List.of(1L, 2L));
+        verify(priceAlertService, times(2)).findAlertTargetProductIds(eq(2L), eq(2));
+        verify(priceAlertCursorService).reset();
+        verify(priceAlertCursorService, never()).saveLastProductId(anyLong());
+    }
+
+    private static Product product(Long id) {
+        Product product = mock(Product.class);
+        when(product.getId()).thenReturn(id);
+        return product;
+    }
+}
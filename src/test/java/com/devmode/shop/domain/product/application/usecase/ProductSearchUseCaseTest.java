@@ -2,11 +2,18 @@ package com.devmode.shop.domain.product.application.usecase;
 
 import com.devmode.shop.domain.product.application.dto.request.ProductSearchRequest;
 import com.devmode.shop.domain.product.application.dto.response.NaverShoppingResponse;
+import com.devmode.shop.domain.product.application.dto.response.ProductItem;
 import com.devmode.shop.domain.product.application.dto.response.ProductSearchResponse;
+import com.devmode.shop.domain.product.domain.entity.Product;
+import com.devmode.shop.domain.product.domain.repository.ProductLocalSearchRepository.LocalSearchResult;
 import com.devmode.shop.domain.product.domain.service.NaverApiQuotaService;
 import com.devmode.shop.domain.product.domain.service.NaverShoppingApiService;
+import com.devmode.shop.domain.product.domain.service.PriceHistoryRecorder;
+import com.devmode.shop.domain.product.domain.service.ProductIngestionService;
 import com.devmode.shop.domain.product.domain.service.ProductCacheService;
+import com.devmode.shop.domain.product.domain.service.ProductLocalSearchService;
 import com.devmode.shop.domain.product.domain.service.ProductTransformService;
+import com.devmode.shop.global.config.properties.ProductSearchProperties;
 import com.devmode.shop.global.exception.RestApiException;
 import com.devmode.shop.global.exception.code.status.GlobalErrorStatus;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +24,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,6 +53,18 @@ class ProductSearchUseCaseTest {
     @Mock
     private ProductTransformService productTransformService;
 
+    @Mock
+    private PriceHistoryRecorder priceHistoryRecorder;
+
+    @Mock
+    private ProductIngestionService productIngestionService;
+
+    @Mock
+    private ProductLocalSearchService localSearchService;
+
+    @Mock
+    private ProductSearchProperties searchProperties;
+
     @InjectMocks
     private ProductSearchUseCase productSearchUseCase;
 
@@ -250,4 +271,77 @@ class ProductSearchUseCaseTest {
         // then
         verify(naverShoppingApiService).searchProducts(requestWithPagination);
     }
+
+    @Test
+    @DisplayName("하이브리드 모드에서 로컬 결과가 충분하고 신선하면 네이버 API를 호출하지 않는다")
+    void hybridSearchAnswersFromLocalCatalog() {
+        // given
+        Product product = Product.builder().naverProductId("n1").build();
+        LocalSearchResult local = new LocalSearchResult(List.of(product), 1);
+        ProductSearchResponse localResponse = ProductSearchResponse.of("laptop", List.of());
+
+        when(productCacheService.isCached(any())).thenReturn(false);
+        when(searchProperties.isHybridEnabled()).thenReturn(true);
+        when(searchProperties.getMinLocalResults()).thenReturn(1);
+        when(searchProperties.getMaxStalenessMinutes()).thenReturn(360);
+        when(localSearchService.searchProducts(request)).thenReturn(local);
+        when(productCacheService.isKeywordRefreshed("laptop")).thenReturn(true);
+        when(localSearchService.toResponse(eq(request), anyList(), eq(local), anyLong())).thenReturn(localResponse);
+
+        // when
+        ProductSearchResponse result = productSearchUseCase.searchProducts(request);
+
+        // then
+        assertThat(result).isSameAs(localResponse);
+        verify(naverShoppingApiService, never()).searchProducts(any());
+        verify(quotaService, never()).incrementApiCallCount();
+        verify(productCacheService).cacheSearchResult(request, localResponse);
+    }
+
+    @Test
+    @DisplayName("하이브리드 모드에서 로컬 결과가 부족하면 네이버 결과와 병합한다")
+    void hybridSearchMergesNaverAndLocalResults() {
+        // given
+        LocalSearchResult local = new LocalSearchResult(List.of(Product.builder().naverProductId("n2").build()), 1);
+        ProductSearchResponse naverResponse = new ProductSearchResponse(
+                "laptop", 1, 10, 100, 1, 10, 10, "sim", "fresh", List.of("used"),
+                List.of(productItem("n1", "naver")), mockResponse.metadata()
+        );
+
+        when(productCacheService.isCached(any())).thenReturn(false);
+        when(searchProperties.isHybridEnabled()).thenReturn(true);
+        when(searchProperties.getMinLocalResults()).thenReturn(0);
+        when(searchProperties.getMaxStalenessMinutes()).thenReturn(360);
+        when(localSearchService.searchProducts(request)).thenReturn(local);
+        when(quotaService.isQuotaExceeded()).thenReturn(false);
+        when(naverShoppingApiService.searchProducts(any())).thenReturn(mockNaverResponse);
+        when(quotaService.getCurrentDailyCount()).thenReturn(5);
+        when(quotaService.getQuotaStatus()).thenReturn("NORMAL");
+        when(productTransformService.transformToProductSearchResponse(
+                any(), anyString(), anyInt(), anyInt(), anyString(), anyList(), anyString(), anyLong(), anyInt(), anyString()
+        )).thenReturn(naverResponse);
+        when(localSearchService.toProductItems(eq(local.products()), eq(request), anyList()))
+                .thenReturn(List.of(productItem("n1", "local"), productItem("n2", "local")));
+
+        // when
+        ProductSearchResponse result = productSearchUseCase.searchProducts(request);
+
+        // then
+        assertThat(result.source()).isEqualTo("hybrid");
+        assertThat(result.products()).extracting(ProductItem::id).containsExactly("n1", "n2");
+        assertThat(result.products().get(0).source()).isEqualTo("naver");
+        verify(quotaService).incrementApiCallCount();
+        verify(productCacheService).cacheSearchResult(eq(request), any());
+    }
+
+    private static ProductItem productItem(String id, String source) {
+        return new ProductItem(
+                id, "상품 " + id, "", BigDecimal.valueOf(10000), BigDecimal.valueOf(10000), BigDecimal.ZERO,
+                "10,000원", "10,000원", null, null, List.of(),
+                "네이버", "NAVER", "신상품", null, null, null, null, "",
+                null, "UNKNOWN", null, "신상품", "새상품", "무료배송", "재고 있음",
+                null, 0, "평점 없음", "https://shopping.naver.com/" + id, LocalDateTime.now(), source,
+                "laptop", List.of("used"), 1
+        );
+    }
 }
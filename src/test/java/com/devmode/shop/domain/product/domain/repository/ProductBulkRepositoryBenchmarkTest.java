@@ -0,0 +1,80 @@
+package com.devmode.shop.domain.product.domain.repository;
+
+import com.devmode.shop.domain.product.domain.entity.Product;
+import com.devmode.shop.domain.product.domain.repository.ProductBulkRepository.UpsertResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품 일괄 upsert 처리량 측정 (./gradlew benchmark)
+ * 기본은 테스트 H2, -Dspring.datasource.url=jdbc:postgresql://... 로 PostgreSQL 측정 가능
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ProductBulkRepository.class)
+class ProductBulkRepositoryBenchmarkTest {
+
+    private static final int ROWS = 20000;
+
+    @Autowired
+    private ProductBulkRepository productBulkRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    @DisplayName("일괄 upsert 와 건별 save 의 초당 처리 행 수 비교")
+    void measureRowsPerSecond() {
+        // given
+        List<Product> products = new ArrayList<>(ROWS);
+        List<Product> changed = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            products.add(ProductBulkRepositoryTest.product("bench-" + i, 10000 + i));
+            // 10% 만 가격 변경
+            changed.add(ProductBulkRepositoryTest.product("bench-" + i, i % 10 == 0 ? 5000 : 10000 + i));
+        }
+
+        // when
+        long insertStart = System.nanoTime();
+        UpsertResult inserted = productBulkRepository.upsertAll(products);
+        long insertNanos = System.nanoTime() - insertStart;
+
+        long updateStart = System.nanoTime();
+        UpsertResult updated = productBulkRepository.upsertAll(changed);
+        long updateNanos = System.nanoTime() - updateStart;
+
+        List<Product> single = new ArrayList<>(ROWS / 10);
+        for (int i = 0; i < ROWS / 10; i++) {
+            single.add(ProductBulkRepositoryTest.product("single-" + i, 10000 + i));
+        }
+        long saveStart = System.nanoTime();
+        single.forEach(productRepository::save);
+        productRepository.flush();
+        long saveNanos = System.nanoTime() - saveStart;
+
+        // then
+        System.out.printf("[Benchmark] bulk insert: %,d rows/sec%n", rowsPerSecond(ROWS, insertNanos));
+        System.out.printf("[Benchmark] bulk upsert (%d changed): %,d rows/sec%n",
+                updated.written(), rowsPerSecond(ROWS, updateNanos));
+        System.out.printf("[Benchmark] JPA save (IDENTITY): %,d rows/sec%n", rowsPerSecond(single.size(), saveNanos));
+
+        assertThat(inserted.written()).isEqualTo(ROWS);
+        assertThat(updated.written()).isEqualTo(ROWS / 10);
+        assertThat(productRepository.count()).isEqualTo(ROWS + single.size());
+    }
+
+    private static long rowsPerSecond(int rows, long nanos) {
+        return nanos > 0 ? rows * 1_000_000_000L / nanos : rows;
+    }
+}
@@ -0,0 +1,103 @@
+package com.devmode.shop.domain.product.domain.repository;
+
+import com.devmode.shop.domain.product.domain.entity.Product;
+import com.devmode.shop.domain.product.domain.repository.ProductBulkRepository.UpsertResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ProductBulkRepository.class)
+class ProductBulkRepositoryTest {
+
+    @Autowired
+    private ProductBulkRepository productBulkRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("같은 naverProductId 는 한 번만 저장되고 마지막 값이 반영된다")
+    void upsertDeduplicatesByNaverProductId() {
+        // given
+        List<Product> products = List.of(
+                product("n1", 10000),
+                product("n2", 20000),
+                product("n1", 9000)
+        );
+
+        // when
+        UpsertResult result = productBulkRepository.upsertAll(products);
+
+        // then
+        assertThat(result.requested()).isEqualTo(3);
+        assertThat(result.unique()).isEqualTo(2);
+        assertThat(result.written()).isEqualTo(2);
+        assertThat(countProducts()).isEqualTo(2);
+        assertThat(lowestPrice("n1")).isEqualByComparingTo("9000");
+    }
+
+    @Test
+    @DisplayName("변경이 없는 행은 갱신하지 않고 가격이 바뀐 행만 갱신한다")
+    void upsertUpdatesOnlyChangedRows() {
+        // given
+        productBulkRepository.upsertAll(List.of(product("n1", 10000), product("n2", 20000)));
+
+        // when
+        UpsertResult result = productBulkRepository.upsertAll(List.of(product("n1", 10000), product("n2", 18000)));
+
+        // then
+        assertThat(result.written()).isEqualTo(1);
+        assertThat(result.unchanged()).isEqualTo(1);
+        assertThat(countProducts()).isEqualTo(2);
+        assertThat(lowestPrice("n2")).isEqualByComparingTo("18000");
+    }
+
+    static Product product(String naverProductId, int price) {
+        return Product.builder()
+                .title("상품 " + naverProductId)
+                .link("https://shopping.naver.com/" + naverProductId)
+                .image("https://image.naver.com/" + naverProductId + ".jpg")
+                .lprice(BigDecimal.valueOf(price))
+                .hprice(BigDecimal.valueOf(price))
+                .mallName("네이버")
+                .productId(naverProductId)
+                .productType("신상품")
+                .brand("브랜드")
+                .maker("제조사")
+                .category1("디지털/가전")
+                .category2("노트북")
+                .category3("")
+                .category4("")
+                .searchKeyword("노트북")
+                .naverProductId(naverProductId)
+                .isUsed(false)
+                .isRental(false)
+                .isOverseas(false)
+                .isNPay(false)
+                .reviewCount(10)
+                .rating(4.5)
+                .shippingInfo("무료배송")
+                .additionalInfo("")
+                .build();
+    }
+
+    private int countProducts() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM products", Integer.class);
+    }
+
+    private BigDecimal lowestPrice(String naverProductId) {
+        return jdbcTemplate.queryForObject("SELECT lprice FROM products WHERE naver_product_id = ?",
+                BigDecimal.class, naverProductId);
+    }
+}
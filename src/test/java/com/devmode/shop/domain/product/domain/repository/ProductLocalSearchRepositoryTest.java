@@ -0,0 +1,120 @@
+package com.devmode.shop.domain.product.domain.repository;
+
+import com.devmode.shop.domain.product.application.dto.request.ProductSearchRequest;
+import com.devmode.shop.domain.product.domain.entity.Product;
+import com.devmode.shop.domain.product.domain.repository.ProductLocalSearchRepository.LocalSearchResult;
+import com.devmode.shop.global.util.ProductSearchTokenizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ProductBulkRepository.class, ProductLocalSearchRepository.class})
+class ProductLocalSearchRepositoryTest {
+
+    @Autowired
+    private ProductBulkRepository productBulkRepository;
+
+    @Autowired
+    private ProductLocalSearchRepository productLocalSearchRepository;
+
+    @BeforeEach
+    void setUp() {
+        productBulkRepository.upsertAll(List.of(
+                product("n1", "삼성 갤럭시북3 프로 노트북", "삼성", 1500000, false),
+                product("n2", "LG 그램 16 노트북", "LG", 1800000, false),
+                product("n3", "중고 LG 그램 노트북", "LG", 700000, true),
+                product("n4", "로지텍 무선 마우스", "로지텍", 30000, false)
+        ));
+    }
+
+    @Test
+    @DisplayName("한글은 2-gram, 영문/숫자는 연속 구간 단위로 토큰화한다")
+    void tokenizeKoreanWithBigrams() {
+        // when
+        List<String> tokens = ProductSearchTokenizer.tokenize("갤럭시북3 Pro");
+
+        // then
+        assertThat(tokens).containsExactly("갤럭", "럭시", "시북", "3", "pro");
+    }
+
+    @Test
+    @DisplayName("붙여 쓴 단어 내부의 키워드도 검색된다")
+    void searchMatchesInsideCompoundWords() {
+        // when
+        LocalSearchResult result = productLocalSearchRepository.search(ProductSearchRequest.of("갤럭시북"));
+
+        // then
+        assertThat(result.totalCount()).isEqualTo(1);
+        assertThat(result.products()).extracting(Product::getNaverProductId).containsExactly("n1");
+    }
+
+    @Test
+    @DisplayName("토큰의 일부만 일치하면 검색되지 않는다 (전문 검색과 같은 토큰 단위 매칭)")
+    void searchMatchesWholeTokensOnly() {
+        // when
+        LocalSearchResult partial = productLocalSearchRepository.search(ProductSearchRequest.of("l"));
+        LocalSearchResult whole = productLocalSearchRepository.search(ProductSearchRequest.of("lg"));
+
+        // then
+        assertThat(partial.totalCount()).isZero();
+        assertThat(whole.products()).extracting(Product::getNaverProductId).containsExactlyInAnyOrder("n2", "n3");
+    }
+
+    @Test
+    @DisplayName("제외 필터와 가격 정렬, 페이지 크기가 적용된다")
+    void searchAppliesFiltersSortAndPaging() {
+        // given
+        ProductSearchRequest request = new ProductSearchRequest(
+                "노트북", 1, 1, "asc", List.of("used"), false,
+                null, null, null, null, null, null,
+                null, null, null, null
+        );
+
+        // when
+        LocalSearchResult result = productLocalSearchRepository.search(request);
+
+        // then
+        assertThat(result.totalCount()).isEqualTo(2);
+        assertThat(result.products()).extracting(Product::getNaverProductId).containsExactly("n1");
+    }
+
+    private static Product product(String naverProductId, String title, String brand, int price, boolean used) {
+        return Product.builder()
+                .title(title)
+                .link("https://shopping.naver.com/" + naverProductId)
+                .image("")
+                .lprice(BigDecimal.valueOf(price))
+                .hprice(BigDecimal.valueOf(price))
+                .mallName("네이버")
+                .productId(naverProductId)
+                .productType(used ? "중고품" : "신상품")
+                .brand(brand)
+                .maker(brand)
+                .category1("디지털/가전")
+                .category2("")
+                .category3("")
+                .category4("")
+                .searchKeyword("노트북")
+                .naverProductId(naverProductId)
+                .isUsed(used)
+                .isRental(false)
+                .isOverseas(false)
+                .isNPay(false)
+                .reviewCount(10)
+                .rating(4.5)
+                .shippingInfo("무료배송")
+                .additionalInfo("")
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.devmode.shop.domain.product.domain.service;
+
+import com.devmode.shop.domain.product.domain.repository.projection.FavoriteThreshold;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceAlertIndexTest {
+
+    @Test
+    @DisplayName("가격 인덱스는 이전 가격과 현재 가격 사이의 목표 가격만 찾는다")
+    void findCrossedReturnsOnlyThresholdsBetweenPrices() {
+        // given
+        PriceAlertIndex index = PriceAlertIndex.of(List.of(
+                new FavoriteThreshold(1L, "user1", 10L, 12000),
+                new FavoriteThreshold(2L, "user2", 10L, 9000),
+                new FavoriteThreshold(3L, "user3", 10L, 10000),
+                new FavoriteThreshold(4L, "user4", 10L, 15000),
+                new FavoriteThreshold(5L, "user5", 10L, 8000)
+        ));
+
+        // when
+        List<FavoriteThreshold> crossed = index.findCrossed(15000, 10000);
+
+        // then
+        assertThat(index.size()).isEqualTo(5);
+        assertThat(crossed).extracting(FavoriteThreshold::favoriteId).containsExactly(3L, 1L);
+    }
+
+    @Test
+    @DisplayName("가격이 오르거나 그대로면 알림 대상이 없다")
+    void findCrossedReturnsEmptyWhenPriceDidNotDrop() {
+        // given
+        PriceAlertIndex index = PriceAlertIndex.of(List.of(
+                new FavoriteThreshold(1L, "user1", 10L, 12000)
+        ));
+
+        // when & then
+        assertThat(index.findCrossed(10000, 10000)).isEmpty();
+        assertThat(index.findCrossed(10000, 13000)).isEmpty();
+    }
+}
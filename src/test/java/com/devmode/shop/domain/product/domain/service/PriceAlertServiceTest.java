@@ -0,0 +1,91 @@
+package com.devmode.shop.domain.product.domain.service;
+
+import com.devmode.shop.domain.product.domain.entity.Product;
+import com.devmode.shop.domain.product.domain.event.PriceAlertEvent;
+import com.devmode.shop.domain.product.domain.repository.ProductFavoriteRepository;
+import com.devmode.shop.domain.product.domain.repository.ProductRepository;
+import com.devmode.shop.domain.product.domain.repository.projection.FavoriteThreshold;
+import com.devmode.shop.domain.product.domain.service.ProductPriceRefreshService.PriceSnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceAlertServiceTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductFavoriteRepository productFavoriteRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PriceAlertService priceAlertService;
+
+    @Test
+    @DisplayName("가격이 내려간 상품의 목표 가격 도달 즐겨찾기에만 알림 이벤트를 발행한다")
+    void applyPriceChangesPublishesAlertsForCrossedThresholds() {
+        // given
+        Product dropped = Product.builder().id(10L).title("노트북").lprice(new BigDecimal("15000")).hprice(new BigDecimal("20000")).build();
+        Product raised = Product.builder().id(20L).title("마우스").lprice(new BigDecimal("5000")).hprice(new BigDecimal("6000")).build();
+
+        when(productRepository.findAllById(any())).thenReturn(List.of(dropped, raised));
+        when(productFavoriteRepository.findAlertThresholdsByProductIds(anyCollection())).thenReturn(List.of(
+                new FavoriteThreshold(1L, "user1", 10L, 9000),
+                new FavoriteThreshold(2L, "user2", 10L, 12000),
+                new FavoriteThreshold(3L, "user3", 10L, 16000)
+        ));
+
+        Map<Long, PriceSnapshot> refreshed = Map.of(
+                10L, new PriceSnapshot(new BigDecimal("11000"), new BigDecimal("20000")),
+                20L, new PriceSnapshot(new BigDecimal("5500"), new BigDecimal("6000"))
+        );
+
+        // when
+        int alertCount = priceAlertService.applyPriceChanges(refreshed);
+
+        // then
+        ArgumentCaptor<PriceAlertEvent> captor = ArgumentCaptor.forClass(PriceAlertEvent.class);
+        verify(eventPublisher, times(1)).publishEvent(captor.capture());
+        assertThat(alertCount).isEqualTo(1);
+        assertThat(captor.getValue().favoriteId()).isEqualTo(2L);
+        assertThat(captor.getValue().previousPrice()).isEqualByComparingTo("15000");
+        assertThat(captor.getValue().currentPrice()).isEqualByComparingTo("11000");
+        assertThat(dropped.getLprice()).isEqualByComparingTo("11000");
+        assertThat(raised.getLprice()).isEqualByComparingTo("5500");
+    }
+
+    @Test
+    @DisplayName("가격이 내려간 상품이 없으면 임계값을 조회하지 않는다")
+    void applyPriceChangesSkipsThresholdLookupWhenNoDrop() {
+        // given
+        Product product = Product.builder().id(10L).lprice(new BigDecimal("10000")).hprice(new BigDecimal("10000")).build();
+        when(productRepository.findAllById(any())).thenReturn(List.of(product));
+
+        // when
+        int alertCount = priceAlertService.applyPriceChanges(
+                Map.of(10L, new PriceSnapshot(new BigDecimal("10000"), new BigDecimal("10000"))));
+
+        // then
+        assertThat(alertCount).isZero();
+        verify(productFavoriteRepository, never()).findAlertThresholdsByProductIds(anyCollection());
+        verifyNoInteractions(eventPublisher);
+    }
+}
@@ -0,0 +1,98 @@
+package com.devmode.shop.domain.product.domain.service;
+
+import com.devmode.shop.domain.product.application.dto.response.ProductItem;
+import com.devmode.shop.domain.product.domain.service.PriceHistoryService.PriceSample;
+import com.devmode.shop.global.config.properties.PriceHistoryProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceHistoryRecorderTest {
+
+    @Mock
+    private PriceHistoryService priceHistoryService;
+
+    private PriceHistoryProperties properties;
+    private PriceHistoryRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        properties = new PriceHistoryProperties();
+        recorder = new PriceHistoryRecorder(priceHistoryService, properties);
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 관측값은 버퍼에 남아 다음 반영에서 다시 시도된다")
+    void flushRequeuesSamplesOnFailure() {
+        // given
+        recorder.record(List.of(productItem("p1", 10000), productItem("p2", 20000)));
+        when(priceHistoryService.append(anyList()))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(2);
+
+        // when
+        recorder.flush();
+        recorder.flush();
+
+        // then
+        ArgumentCaptor<List<PriceSample>> captor = ArgumentCaptor.forClass(List.class);
+        verify(priceHistoryService, times(2)).append(captor.capture());
+        assertThat(captor.getAllValues().get(1)).extracting(PriceSample::productKey)
+                .containsExactlyInAnyOrder("p1", "p2");
+    }
+
+    @Test
+    @DisplayName("종료 시 버퍼에 남은 관측값을 반영한다")
+    void flushOnShutdownDrainsBuffer() {
+        // given
+        recorder.record(List.of(productItem("p1", 10000)));
+
+        // when
+        recorder.flushOnShutdown();
+
+        // then
+        verify(priceHistoryService).append(argThat(samples -> samples.size() == 1));
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 버리지 않고 즉시 반영한 뒤 적재한다")
+    void recordFlushesWhenBufferIsFull() {
+        // given
+        properties.setMaxBufferedSamples(1);
+        recorder.record(List.of(productItem("p1", 10000)));
+
+        // when
+        recorder.record(List.of(productItem("p2", 20000)));
+        recorder.flush();
+
+        // then
+        ArgumentCaptor<List<PriceSample>> captor = ArgumentCaptor.forClass(List.class);
+        verify(priceHistoryService, times(2)).append(captor.capture());
+        assertThat(captor.getAllValues()).extracting(samples -> samples.get(0).productKey())
+                .containsExactly("p1", "p2");
+    }
+
+    private static ProductItem productItem(String id, long price) {
+        return new ProductItem(
+                id, "상품 " + id, "", BigDecimal.valueOf(price), BigDecimal.valueOf(price), BigDecimal.ZERO,
+                "", "", null, null, List.of(),
+                "네이버", "NAVER", "신상품", null, null, null, null, "",
+                null, "UNKNOWN", null, "신상품", "새상품", "무료배송", "재고 있음",
+                null, 0, "평점 없음", "https://shopping.naver.com/" + id, LocalDateTime.now(), "naver",
+                "laptop", List.of(), 1
+        );
+    }
+}
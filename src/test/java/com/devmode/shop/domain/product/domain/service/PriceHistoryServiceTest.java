@@ -0,0 +1,115 @@
+package com.devmode.shop.domain.product.domain.service;
+
+import com.devmode.shop.domain.product.domain.entity.ProductPriceChunk;
+import com.devmode.shop.domain.product.domain.entity.ProductPriceRollup;
+import com.devmode.shop.domain.product.domain.entity.ProductPriceRollup.Resolution;
+import com.devmode.shop.domain.product.domain.repository.ProductPriceChunkRepository;
+import com.devmode.shop.domain.product.domain.repository.ProductPriceRollupRepository;
+import com.devmode.shop.domain.product.domain.service.PriceHistoryService.PriceSample;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PriceHistoryServiceTest {
+
+    @Mock
+    private ProductPriceChunkRepository chunkRepository;
+
+    @Mock
+    private ProductPriceRollupRepository rollupRepository;
+
+    @InjectMocks
+    private PriceHistoryService priceHistoryService;
+
+    @Test
+    @DisplayName("델타 인코딩된 가격 시계열은 원래 값으로 복원된다")
+    void codecRoundTrip() {
+        // given
+        long[] values = {129000L, 129000L, 118500L, 131000L, 0L, 86399L};
+
+        // when
+        byte[] encoded = PriceSeriesCodec.encode(values, values.length);
+        long[] decoded = PriceSeriesCodec.decode(encoded, values.length);
+
+        // then
+        assertThat(decoded).containsExactly(values);
+        assertThat(encoded.length).isLessThan(values.length * Long.BYTES);
+    }
+
+    @Test
+    @DisplayName("신규 관측값은 기존 청크와 시각순으로 병합된다")
+    void appendMergesIntoExistingChunk() {
+        // given
+        LocalDate date = LocalDate.of(2026, 10, 1);
+        ProductPriceChunk chunk = ProductPriceChunk.create("p1", date);
+        chunk.replaceSamples(new long[]{3600L, 7200L}, new long[]{10000L, 9500L}, 2);
+        when(chunkRepository.findByProductKeyInAndChunkDate(anyCollection(), eq(date))).thenReturn(List.of(chunk));
+        when(rollupRepository.findByProductKeyInAndResolutionAndBucketStartIn(anyCollection(), any(), anyCollection()))
+                .thenReturn(List.of());
+
+        List<PriceSample> samples = List.of(
+                new PriceSample("p1", date.atTime(3, 0), 9000L),
+                new PriceSample("p1", date.atTime(1, 30), 9800L)
+        );
+
+        // when
+        int appended = priceHistoryService.append(samples);
+
+        // then
+        assertThat(appended).isEqualTo(2);
+        assertThat(chunk.getSampleCount()).isEqualTo(4);
+        assertThat(chunk.decodeSecondOffsets()).containsExactly(3600L, 5400L, 7200L, 10800L);
+        assertThat(chunk.decodePrices()).containsExactly(10000L, 9800L, 9500L, 9000L);
+        assertThat(chunk.getMinPrice()).isEqualTo(9000L);
+        assertThat(chunk.getMaxPrice()).isEqualTo(10000L);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("관측값은 기존 일 단위 집계에 min/max/avg 로 누적된다")
+    void appendMergesDailyRollup() {
+        // given
+        LocalDateTime dayStart = LocalDate.of(2026, 10, 1).atStartOfDay();
+        ProductPriceRollup daily = ProductPriceRollup.create("p1", Resolution.DAILY, dayStart);
+        daily.merge(10000L, 12000L, 22000L, 2L);
+
+        when(chunkRepository.findByProductKeyInAndChunkDate(anyCollection(), any())).thenReturn(new ArrayList<>());
+        when(rollupRepository.findByProductKeyInAndResolutionAndBucketStartIn(anyCollection(), eq(Resolution.HOURLY), anyCollection()))
+                .thenReturn(List.of());
+        when(rollupRepository.findByProductKeyInAndResolutionAndBucketStartIn(anyCollection(), eq(Resolution.DAILY), anyCollection()))
+                .thenReturn(List.of(daily));
+
+        // when
+        priceHistoryService.append(List.of(
+                new PriceSample("p1", dayStart.plusHours(5), 8000L),
+                new PriceSample("p1", dayStart.plusHours(5).plusMinutes(30), 10000L)
+        ));
+
+        // then
+        assertThat(daily.getMinPrice()).isEqualTo(8000L);
+        assertThat(daily.getMaxPrice()).isEqualTo(12000L);
+        assertThat(daily.getSampleCount()).isEqualTo(4L);
+        assertThat(daily.getAvgPrice()).isEqualTo(10000L);
+
+        ArgumentCaptor<List<ProductPriceRollup>> captor = ArgumentCaptor.forClass(List.class);
+        verify(rollupRepository, times(2)).saveAll(captor.capture());
+        ProductPriceRollup hourly = captor.getAllValues().get(0).get(0);
+        assertThat(hourly.getResolution()).isEqualTo(Resolution.HOURLY);
+        assertThat(hourly.getBucketStart()).isEqualTo(dayStart.plusHours(5));
+        assertThat(hourly.getSampleCount()).isEqualTo(2L);
+    }
+}
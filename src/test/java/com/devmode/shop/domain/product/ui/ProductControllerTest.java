@@ -24,6 +24,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import com.devmode.shop.domain.product.application.dto.request.ProductSearchRequest;
 import com.devmode.shop.domain.product.application.dto.response.ProductSearchResponse;
+import com.devmode.shop.domain.product.application.usecase.PriceHistoryUseCase;
 import com.devmode.shop.domain.product.application.usecase.ProductSearchUseCase;
 import com.devmode.shop.global.exception.ExceptionAdvice;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -34,6 +35,9 @@ class ProductControllerTest {
     @Mock
     private ProductSearchUseCase productSearchUseCase;
 
+    @Mock
+    private PriceHistoryUseCase priceHistoryUseCase;
+
     @InjectMocks
     private ProductController productController;
 
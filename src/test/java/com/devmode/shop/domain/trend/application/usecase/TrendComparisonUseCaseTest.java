@@ -0,0 +1,117 @@
+package com.devmode.shop.domain.trend.application.usecase;
+
+import com.devmode.shop.domain.trend.application.dto.request.TrendComparisonRequest;
+import com.devmode.shop.domain.trend.application.dto.response.comparison.TrendComparisonResponse;
+import com.devmode.shop.domain.trend.application.dto.response.comparison.TrendComparisonSeries;
+import com.devmode.shop.domain.trend.application.dto.response.datalab.DataLabDataPoint;
+import com.devmode.shop.domain.trend.application.dto.response.datalab.DataLabResult;
+import com.devmode.shop.domain.trend.application.dto.response.datalab.NaverDataLabResponse;
+import com.devmode.shop.domain.trend.application.dto.response.trend.TrendDataPoint;
+import com.devmode.shop.domain.trend.domain.service.NaverDataLabApiService;
+import com.devmode.shop.domain.trend.domain.service.TrendCacheService;
+import com.devmode.shop.domain.trend.domain.service.TrendTransformService;
+import com.devmode.shop.global.config.properties.DataLabApiProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrendComparisonUseCaseTest {
+
+    private static final LocalDate START = LocalDate.of(2025, 8, 1);
+    private static final LocalDate END = LocalDate.of(2025, 8, 3);
+
+    @Mock
+    private NaverDataLabApiService naverDataLabApiService;
+
+    @Mock
+    private TrendCacheService trendCacheService;
+
+    private TrendComparisonUseCase trendComparisonUseCase;
+
+    @BeforeEach
+    void setUp() {
+        trendComparisonUseCase = new TrendComparisonUseCase(
+                naverDataLabApiService,
+                trendCacheService,
+                new TrendTransformService(),
+                new DataLabApiProperties(),
+                Runnable::run
+        );
+    }
+
+    @Test
+    @DisplayName("키워드를 호출당 5개씩 묶어 조회하고 캐시된 호출도 기준 키워드로 환산해 같은 날짜 축으로 정렬한다")
+    void compareTrendsRescalesFreshAndCachedBatches() {
+        // given
+        TrendComparisonRequest request = new TrendComparisonRequest(
+                List.of("a", "b", "c", "d", "e", "f", "g"), START, END, null, "date");
+        List<List<TrendDataPoint>> cachedBatch = List.of(
+                points(100, 100, null), points(40, 80, null), points(60, 60, 70));
+        when(trendCacheService.getCachedComparisonBatch(any())).thenReturn(Optional.empty());
+        when(trendCacheService.getCachedComparisonBatch(argThat(r -> r != null && r.keywords().equals(List.of("a", "f", "g")))))
+                .thenReturn(Optional.of(cachedBatch));
+        when(naverDataLabApiService.searchTrends(any())).thenReturn(
+                response(series("a", 50, 50), series("b", 10, 20), series("c", 10, 20),
+                        series("d", 10, 20), series("e", 10, 20)));
+
+        // when
+        TrendComparisonResponse result = trendComparisonUseCase.compareTrends(request);
+
+        // then
+        assertThat(result.apiCallCount()).isEqualTo(1L);
+        assertThat(result.cachedKeywordCount()).isEqualTo(2L);
+        assertThat(result.dates()).containsExactly(START, START.plusDays(1), END);
+        assertThat(result.series()).extracting(TrendComparisonSeries::keyword)
+                .containsExactly("a", "b", "c", "d", "e", "f", "g");
+
+        // 캐시된 두 번째 호출도 기준 키워드(a) 합계 비율로 첫 호출 기준에 맞춘다
+        TrendComparisonSeries f = result.series().get(5);
+        assertThat(f.cacheStatus()).isEqualTo("cached");
+        assertThat(f.ratios().get(0)).isEqualByComparingTo("20");
+        assertThat(f.ratios().get(1)).isEqualByComparingTo("40");
+        assertThat(f.ratios().get(2)).isNull();
+        assertThat(result.series().get(6).ratios().get(2)).isEqualByComparingTo("35");
+        assertThat(result.series().get(1).cacheStatus()).isEqualTo("fresh");
+
+        verify(naverDataLabApiService).searchTrends(argThat(r -> r.keywords().equals(List.of("a", "b", "c", "d", "e"))));
+        verify(trendCacheService).cacheComparisonBatch(argThat(r -> r.keywords().size() == 5), any());
+        verify(trendCacheService, never()).cacheSearchResult(any(), any());
+    }
+
+    private static List<TrendDataPoint> points(Integer day1, Integer day2, Integer day3) {
+        List<TrendDataPoint> points = new ArrayList<>();
+        Integer[] ratios = {day1, day2, day3};
+        for (int i = 0; i < ratios.length; i++) {
+            if (ratios[i] != null) {
+                points.add(new TrendDataPoint(START.plusDays(i), BigDecimal.valueOf(ratios[i]), null, null, null, null));
+            }
+        }
+        return points;
+    }
+
+    private static NaverDataLabResponse response(DataLabResult... results) {
+        return new NaverDataLabResponse(START.toString(), END.toString(), "date", Arrays.asList(results));
+    }
+
+    private static DataLabResult series(String title, int day1, int day2) {
+        return new DataLabResult(title, List.of(
+                new DataLabDataPoint(START.toString(), BigDecimal.valueOf(day1), null, null, null, null),
+                new DataLabDataPoint(START.plusDays(1).toString(), BigDecimal.valueOf(day2), null, null, null, null)));
+    }
+}
@@ -0,0 +1,218 @@
+package com.devmode.shop.domain.trend.application.usecase;
+
+import com.devmode.shop.domain.trend.application.dto.response.datalab.DataLabDataPoint;
+import com.devmode.shop.domain.trend.application.dto.response.datalab.DataLabResult;
+import com.devmode.shop.domain.trend.application.dto.response.datalab.NaverDataLabResponse;
+import com.devmode.shop.domain.trend.application.dto.response.trend.TrendDataPoint;
+import com.devmode.shop.domain.trend.application.usecase.TrendIngestionUseCase.IngestionResult;
+import com.devmode.shop.domain.trend.domain.repository.TrendRepository;
+import com.devmode.shop.domain.trend.domain.service.DataLabQuotaService;
+import com.devmode.shop.domain.trend.domain.service.NaverDataLabApiService;
+import com.devmode.shop.domain.trend.domain.service.TrendIngestionCheckpointService;
+import com.devmode.shop.domain.trend.domain.service.TrendLeaderboardService;
+import com.devmode.shop.domain.trend.domain.service.TrendPersistenceService;
+import com.devmode.shop.domain.trend.domain.service.TrendPointCacheService;
+import com.devmode.shop.domain.trend.domain.service.TrendTransformService;
+import com.devmode.shop.global.config.properties.TrendIngestionProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrendIngestionUseCaseTest {
+
+    private static final LocalDate TARGET = LocalDate.of(2025, 8, 10);
+
+    @Mock
+    private TrendRepository trendRepository;
+
+    @Mock
+    private NaverDataLabApiService naverDataLabApiService;
+
+    @Mock
+    private TrendPointCacheService trendPointCacheService;
+
+    @Mock
+    private TrendPersistenceService trendPersistenceService;
+
+    @Mock
+    private DataLabQuotaService dataLabQuotaService;
+
+    @Mock
+    private TrendIngestionCheckpointService checkpointService;
+
+    @Mock
+    private TrendLeaderboardService trendLeaderboardService;
+
+    private TrendIngestionProperties properties;
+    private TrendIngestionUseCase trendIngestionUseCase;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TrendIngestionProperties();
+        properties.setQuotaReserve(10);
+        properties.setWindowDays(7);
+        trendIngestionUseCase = new TrendIngestionUseCase(trendRepository, naverDataLabApiService,
+                new TrendTransformService(), trendPointCacheService, trendPersistenceService,
+                dataLabQuotaService, checkpointService, trendLeaderboardService, properties);
+    }
+
+    @Test
+    @DisplayName("체크포인트 이후 키워드부터 키워드당 한 번, 수집 일자로 끝나는 구간으로 조회해 기본 조건으로 저장한다")
+    void ingestResumesAfterCheckpoint() {
+        // given
+        givenLockedRun();
+        when(trendRepository.findPopularKeywords(any())).thenReturn(List.of("a", "b", "c", "d", "e"));
+        when(checkpointService.getLastKeyword(TARGET)).thenReturn(Optional.of("b"));
+        when(dataLabQuotaService.getRemainingCalls()).thenReturn(100);
+        when(naverDataLabApiService.searchTrends(any())).thenReturn(
+                response(series("c", 30)), response(series("d", 60)), response(series("e", 90)));
+
+        // when
+        IngestionResult result = trendIngestionUseCase.ingest(TARGET);
+
+        // then
+        assertThat(result.completed()).isTrue();
+        assertThat(result.keywordCount()).isEqualTo(3);
+        assertThat(result.apiCallCount()).isEqualTo(3);
+        verify(naverDataLabApiService).searchTrends(argThat(r -> r != null && "c".equals(r.keyword())
+                && r.keywords() == null && TARGET.minusDays(6).equals(r.startDate()) && TARGET.equals(r.endDate())));
+        verify(trendPersistenceService).saveFetchedPoints(
+                argThat(r -> r != null && "d".equals(r.keyword()) && r.keywords() == null), eq(List.of(TARGET)),
+                argThat(points -> points.stream().anyMatch(point -> TARGET.equals(point.date())
+                        && point.ratio().compareTo(new BigDecimal("60")) == 0)));
+        verify(trendLeaderboardService).record(eq(TARGET), eq("d"),
+                argThat(ratio -> ratio.compareTo(new BigDecimal("60")) == 0),
+                argThat(previous -> previous.compareTo(new BigDecimal("100")) == 0));
+        verify(trendPointCacheService, never()).cachePoints(any(), anyList(), anyList());
+        verify(checkpointService).markPending(TARGET);
+        verify(checkpointService).saveLastKeyword(TARGET, "e");
+        verify(checkpointService).markCompleted(TARGET);
+        verify(checkpointService).unlock(TARGET);
+    }
+
+    @Test
+    @DisplayName("DB 정렬과 관계없이 Java 문자열 순서로 정렬한 뒤 체크포인트 이후 키워드만 수집한다")
+    void ingestSortsKeywordsBeforeCheckpointFilter() {
+        // given
+        givenLockedRun();
+        when(trendRepository.findPopularKeywords(any())).thenReturn(List.of("b", "a", "B", "c"));
+        when(checkpointService.getLastKeyword(TARGET)).thenReturn(Optional.of("a"));
+        when(dataLabQuotaService.getRemainingCalls()).thenReturn(100);
+        when(naverDataLabApiService.searchTrends(any())).thenReturn(response(series("x", 10)));
+
+        // when
+        trendIngestionUseCase.ingest(TARGET);
+
+        // then
+        verify(naverDataLabApiService, times(2)).searchTrends(any());
+        verify(naverDataLabApiService, never()).searchTrends(argThat(r -> r != null && "B".equals(r.keyword())));
+        InOrder inOrder = inOrder(checkpointService);
+        inOrder.verify(checkpointService).saveLastKeyword(TARGET, "b");
+        inOrder.verify(checkpointService).saveLastKeyword(TARGET, "c");
+    }
+
+    @Test
+    @DisplayName("사용자 조회용 쿼터만 남으면 체크포인트를 남기고 멈춘다")
+    void ingestStopsAtQuotaReserve() {
+        // given
+        givenLockedRun();
+        when(trendRepository.findPopularKeywords(any())).thenReturn(List.of("a", "b", "c"));
+        when(checkpointService.getLastKeyword(TARGET)).thenReturn(Optional.empty());
+        when(dataLabQuotaService.getRemainingCalls()).thenReturn(11, 10);
+        when(naverDataLabApiService.searchTrends(any())).thenReturn(response(series("a", 50)));
+        List<TrendDataPoint> stored = List.of(new TrendDataPoint(TARGET, new BigDecimal("20"), null, null, null, null));
+        when(trendPersistenceService.saveFetchedPoints(any(), eq(List.of(TARGET)), anyList())).thenReturn(Optional.of(stored));
+
+        // when
+        IngestionResult result = trendIngestionUseCase.ingest(TARGET);
+
+        // then (포인트 캐시에는 시리즈 기준으로 저장된 값을 올림)
+        assertThat(result.completed()).isFalse();
+        assertThat(result.keywordCount()).isEqualTo(1);
+        assertThat(result.apiCallCount()).isEqualTo(1);
+        verify(naverDataLabApiService, times(1)).searchTrends(any());
+        verify(checkpointService).saveLastKeyword(TARGET, "a");
+        verify(checkpointService, never()).markCompleted(any());
+        verify(trendPointCacheService).cachePoints(any(), eq(List.of(TARGET)), eq(stored));
+        verify(checkpointService).unlock(TARGET);
+    }
+
+    @Test
+    @DisplayName("수집에 실패한 키워드는 API 호출 수에만 포함하고 처리한 키워드 수에는 포함하지 않는다")
+    void ingestCountsOnlyProcessedKeywords() {
+        // given
+        givenLockedRun();
+        when(trendRepository.findPopularKeywords(any())).thenReturn(List.of("a", "b", "c"));
+        when(checkpointService.getLastKeyword(TARGET)).thenReturn(Optional.empty());
+        when(dataLabQuotaService.getRemainingCalls()).thenReturn(100);
+        when(naverDataLabApiService.searchTrends(any()))
+                .thenReturn(response(series("a", 50)))
+                .thenThrow(new IllegalStateException("timeout"));
+
+        // when
+        IngestionResult result = trendIngestionUseCase.ingest(TARGET);
+
+        // then
+        assertThat(result.completed()).isFalse();
+        assertThat(result.keywordCount()).isEqualTo(1);
+        assertThat(result.apiCallCount()).isEqualTo(2);
+        verify(checkpointService).saveLastKeyword(TARGET, "a");
+        verify(checkpointService, never()).saveLastKeyword(TARGET, "b");
+        verify(checkpointService, never()).markCompleted(any());
+    }
+
+    @Test
+    @DisplayName("완료되지 않은 수집 일자는 재개 주기마다 오래된 일자부터 이어서 수집한다")
+    void resumePendingIngestsUnfinishedDates() {
+        // given
+        properties.setEnabled(true);
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate twoDaysAgo = LocalDate.now().minusDays(2);
+        when(checkpointService.isPending(twoDaysAgo)).thenReturn(false);
+        when(checkpointService.isPending(yesterday)).thenReturn(true);
+        when(checkpointService.isCompleted(yesterday)).thenReturn(false);
+        when(checkpointService.tryLock(yesterday)).thenReturn(true);
+        when(checkpointService.getLastKeyword(yesterday)).thenReturn(Optional.of("a"));
+        when(trendRepository.findPopularKeywords(any())).thenReturn(List.of("a"));
+
+        // when
+        trendIngestionUseCase.resumePending();
+
+        // then
+        verify(checkpointService).markCompleted(yesterday);
+        verify(checkpointService, never()).tryLock(twoDaysAgo);
+        verifyNoInteractions(naverDataLabApiService);
+    }
+
+    private void givenLockedRun() {
+        when(checkpointService.isCompleted(TARGET)).thenReturn(false);
+        when(checkpointService.tryLock(TARGET)).thenReturn(true);
+    }
+
+    private static NaverDataLabResponse response(DataLabResult... results) {
+        return new NaverDataLabResponse(TARGET.minusDays(6).toString(), TARGET.toString(), "date", List.of(results));
+    }
+
+    private static DataLabResult series(String title, int ratio) {
+        return new DataLabResult(title, List.of(
+                new DataLabDataPoint(TARGET.minusDays(1).toString(), BigDecimal.valueOf(100), null, null, null, null),
+                new DataLabDataPoint(TARGET.toString(), BigDecimal.valueOf(ratio), null, null, null, null)));
+    }
+}
@@ -6,28 +6,37 @@ import com.devmode.shop.domain.trend.application.dto.response.datalab.DataLabRes
 import com.devmode.shop.domain.trend.application.dto.response.trend.TrendSearchResponse;
 import com.devmode.shop.domain.trend.application.dto.response.trend.TrendDataPoint;
 import com.devmode.shop.domain.trend.application.dto.response.trend.TrendSummary;
+import com.devmode.shop.domain.trend.domain.service.DataLabQuotaService;
 import com.devmode.shop.domain.trend.domain.service.NaverDataLabApiService;
 import com.devmode.shop.domain.trend.domain.service.TrendCacheService;
+import com.devmode.shop.domain.trend.domain.service.TrendPersistenceService;
+import com.devmode.shop.domain.trend.domain.service.TrendPointCacheService;
 import com.devmode.shop.domain.trend.domain.service.TrendTransformService;
+import com.devmode.shop.global.config.properties.DataLabApiProperties;
 import com.devmode.shop.global.exception.RestApiException;
 import com.devmode.shop.global.exception.code.status.GlobalErrorStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.mockito.ArgumentMatchers.eq;
@@ -44,6 +53,18 @@ class TrendSearchUseCaseTest {
     @Mock
     private TrendTransformService trendTransformService;
 
+    @Mock
+    private TrendPointCacheService trendPointCacheService;
+
+    @Mock
+    private TrendPersistenceService trendPersistenceService;
+
+    @Mock
+    private DataLabQuotaService dataLabQuotaService;
+
+    @Mock
+    private DataLabApiProperties dataLabApiProperties;
+
     @InjectMocks
     private TrendSearchUseCase trendSearchUseCase;
 
@@ -93,6 +114,8 @@ class TrendSearchUseCaseTest {
                 "date",
                 List.of()
         );
+
+        lenient().when(dataLabQuotaService.getQuotaStatus()).thenReturn("available");
     }
 
     @Test
@@ -341,4 +364,108 @@ class TrendSearchUseCaseTest {
         // then
         verify(naverDataLabApiService).searchTrends(requestWithTimeUnit);
     }
+
+    @Test
+    @DisplayName("일자별 포인트 캐시에 없는 구간만 데이터랩 API로 조회하여 응답을 조립한다")
+    void searchTrendsAssemblesRangeFromPointCache() {
+        // given
+        Map<LocalDate, Optional<TrendDataPoint>> cachedPoints = new HashMap<>();
+        LocalDate.of(2025, 8, 1).datesUntil(LocalDate.of(2025, 8, 21))
+                .forEach(date -> cachedPoints.put(date, Optional.of(point(date))));
+        List<TrendDataPoint> fetchedPoints = List.of(point(LocalDate.of(2025, 8, 20)),
+                point(LocalDate.of(2025, 8, 21)), point(LocalDate.of(2025, 8, 22)));
+
+        when(trendCacheService.isCached(any())).thenReturn(false);
+        when(trendPointCacheService.getPoints(eq(request), anyList())).thenReturn(cachedPoints);
+        when(naverDataLabApiService.searchTrends(any())).thenReturn(mockNaverResponse);
+        when(trendTransformService.transformDataPoints(mockNaverResponse)).thenReturn(fetchedPoints);
+        when(trendTransformService.assembleResponse(eq(request), anyList(), eq("date"), eq("partial"), anyLong(), eq(1L), eq("available")))
+                .thenReturn(mockResponse);
+
+        // when
+        TrendSearchResponse result = trendSearchUseCase.searchTrends(request);
+
+        // then (누락 구간 8/21~8/22 를 기준 일자 8/20 과 겹치게 한 번 조회)
+        assertThat(result).isSameAs(mockResponse);
+        verify(naverDataLabApiService).searchTrends(argThat(subRequest ->
+                subRequest.startDate().equals(LocalDate.of(2025, 8, 20))
+                        && subRequest.endDate().equals(LocalDate.of(2025, 8, 22))));
+        verify(trendPersistenceService).saveFetchedPoints(any(TrendSearchRequest.class),
+                eq(List.of(LocalDate.of(2025, 8, 21), LocalDate.of(2025, 8, 22))), eq(fetchedPoints));
+        verify(trendTransformService).assembleResponse(eq(request), argThat(points -> points.size() == 22
+                && points.get(21).date().equals(LocalDate.of(2025, 8, 22))), anyString(), anyString(), anyLong(), anyLong(), anyString());
+        verify(trendCacheService).cacheSearchResult(request, mockResponse);
+    }
+
+    @Test
+    @DisplayName("누락 구간 조회 값은 겹치는 기준 일자 비율로 환산해 캐시 구간과 이어지게 조립한다")
+    void searchTrendsKeepsStitchedValuesContinuous() {
+        // given (캐시: 8/1~8/20 은 20, 8/21 은 30 / 8/22 만 누락)
+        Map<LocalDate, Optional<TrendDataPoint>> cachedPoints = new HashMap<>();
+        LocalDate.of(2025, 8, 1).datesUntil(LocalDate.of(2025, 8, 21))
+                .forEach(date -> cachedPoints.put(date, Optional.of(point(date, "20"))));
+        cachedPoints.put(LocalDate.of(2025, 8, 21), Optional.of(point(LocalDate.of(2025, 8, 21), "30")));
+        // 8/21~8/22 만 조회하면 DataLab 은 그 구간 최댓값(8/22)을 100 으로 다시 정규화함
+        List<TrendDataPoint> fetchedPoints = List.of(point(LocalDate.of(2025, 8, 21), "66.6667"),
+                point(LocalDate.of(2025, 8, 22), "100"));
+
+        when(trendCacheService.isCached(any())).thenReturn(false);
+        when(trendPointCacheService.getPoints(eq(request), anyList())).thenReturn(cachedPoints);
+        when(naverDataLabApiService.searchTrends(any())).thenReturn(mockNaverResponse);
+        when(trendTransformService.transformDataPoints(mockNaverResponse)).thenReturn(fetchedPoints);
+        when(trendTransformService.assembleResponse(eq(request), anyList(), eq("date"), eq("partial"), anyLong(), eq(1L), eq("available")))
+                .thenReturn(mockResponse);
+
+        // when
+        trendSearchUseCase.searchTrends(request);
+
+        // then (8/22 는 8/21 의 1.5배, 8/1 은 8/21 의 2/3 를 유지하고 구간 최댓값은 100)
+        ArgumentCaptor<List<TrendDataPoint>> captor = ArgumentCaptor.forClass(List.class);
+        verify(trendTransformService).assembleResponse(eq(request), captor.capture(), anyString(), anyString(),
+                anyLong(), anyLong(), anyString());
+        List<TrendDataPoint> points = captor.getValue();
+        assertThat(points).hasSize(22);
+        BigDecimal first = points.get(0).ratio();
+        BigDecimal day21 = points.get(20).ratio();
+        BigDecimal day22 = points.get(21).ratio();
+        assertThat(day22).isEqualByComparingTo("100");
+        assertThat(day22.divide(day21, 3, RoundingMode.HALF_UP)).isEqualByComparingTo("1.500");
+        assertThat(first.divide(day21, 3, RoundingMode.HALF_UP)).isEqualByComparingTo("0.667");
+    }
+
+    @Test
+    @DisplayName("DB에 저장된 구간은 데이터랩 API 호출 없이 응답하고 포인트 캐시에 다시 올린다")
+    void searchTrendsServesStoredRangeWithoutApiCall() {
+        // given
+        Map<LocalDate, Optional<TrendDataPoint>> storedPoints = new HashMap<>();
+        LocalDate.of(2025, 8, 1).datesUntil(LocalDate.of(2025, 8, 23))
+                .forEach(date -> storedPoints.put(date, Optional.of(point(date))));
+        storedPoints.put(LocalDate.of(2025, 8, 15), Optional.empty());
+
+        when(trendCacheService.isCached(any())).thenReturn(false);
+        when(trendPointCacheService.getPoints(eq(request), anyList())).thenReturn(Map.of());
+        when(trendPersistenceService.findStoredPoints(eq(request), anyList())).thenReturn(storedPoints);
+        when(trendTransformService.assembleResponse(eq(request), anyList(), eq("date"), eq("cached"), anyLong(), eq(0L), eq("available")))
+                .thenReturn(mockResponse);
+
+        // when
+        TrendSearchResponse result = trendSearchUseCase.searchTrends(request);
+
+        // then
+        assertThat(result).isSameAs(mockResponse);
+        verify(naverDataLabApiService, never()).searchTrends(any());
+        verify(trendPersistenceService, never()).saveFetchedPoints(any(), anyList(), anyList());
+        verify(trendTransformService).assembleResponse(eq(request), argThat(points -> points.size() == 21),
+                anyString(), anyString(), anyLong(), anyLong(), anyString());
+        verify(trendPointCacheService).cachePoints(eq(request), argThat(dates -> dates.size() == 22),
+                argThat(points -> points.size() == 21));
+    }
+
+    private static TrendDataPoint point(LocalDate date) {
+        return new TrendDataPoint(date, BigDecimal.TEN, 100L, null, null, null);
+    }
+
+    private static TrendDataPoint point(LocalDate date, String ratio) {
+        return new TrendDataPoint(date, new BigDecimal(ratio), 100L, null, null, null);
+    }
 }
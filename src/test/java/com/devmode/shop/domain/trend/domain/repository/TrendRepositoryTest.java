@@ -0,0 +1,122 @@
+package com.devmode.shop.domain.trend.domain.repository;
+
+import com.devmode.shop.domain.trend.domain.entity.Trend;
+import com.devmode.shop.domain.trend.domain.entity.TrendDemographics;
+import com.devmode.shop.domain.trend.domain.repository.projection.DemographicShare;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TrendRepositoryTest {
+
+    private static final String VARIANT = "||111";
+    private static final LocalDate START = LocalDate.of(2025, 8, 1);
+
+    @Autowired
+    private TrendRepository trendRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    @DisplayName("기간 평균 분포를 키워드별 한 행으로 DB에서 집계한다")
+    void aggregateDemographicsAveragesInDatabase() {
+        // given
+        save("laptop", VARIANT, START, "10", demographics("60", "40", "55"));
+        save("laptop", VARIANT, START.plusDays(1), "20", demographics("80", "20", "45"));
+        save("laptop", VARIANT, START.plusDays(2), "30", null);  // 분포 없는 일자는 평균에서 제외
+        save("laptop", VARIANT, START.plusDays(3), null, null);  // 빈 행은 집계 제외
+        save("laptop", "|laptop|000", START, "10", demographics("0", "100", "0")); // 다른 조건
+        save("tablet", VARIANT, START, "50", demographics("90", "10", "50"));
+
+        // when
+        List<DemographicShare> shares = trendRepository.aggregateDemographics(
+                List.of("laptop", "tablet"), VARIANT, START, START.plusDays(3));
+
+        // then
+        assertThat(shares).extracting(DemographicShare::keyword).containsExactly("laptop", "tablet");
+        DemographicShare laptop = shares.get(0);
+        assertThat(laptop.sampleCount()).isEqualTo(3L);
+        assertThat(laptop.deviceMobile()).isCloseTo(70d, within(1e-6));
+        assertThat(laptop.devicePc()).isCloseTo(30d, within(1e-6));
+        assertThat(laptop.genderMale()).isCloseTo(50d, within(1e-6));
+        assertThat(laptop.deviceTablet()).isNull();
+        assertThat(laptop.age20s()).isNull();
+    }
+
+    @Test
+    @DisplayName("일자별 상위 K 는 한 조건의 행만 읽어 다른 조건 행이 자리를 차지하지 않는다")
+    void findTopTrendsByDateReadsOneVariant() {
+        // given
+        save("laptop", VARIANT, START, "40", null);
+        save("laptop", "|laptop,tablet|111", START, "100", null); // 묶음 호출 값은 순위 기준이 다름
+        save("laptop", "|laptop,phone|111", START, "90", null);
+        save("tablet", VARIANT, START, "30", null);
+        save("phone", VARIANT, START, "20", null);
+
+        // when
+        List<Trend> top = trendRepository.findTopTrendsByDate(START, VARIANT, 2);
+
+        // then
+        assertThat(top).extracting(Trend::getKeyword).containsExactly("laptop", "tablet");
+        assertThat(top.get(0).getRatio()).isEqualByComparingTo("40");
+    }
+
+    @Test
+    @DisplayName("분포는 숫자 컬럼으로 저장되고 다시 읽을 때 그룹별로 복원된다")
+    void demographicsRoundTrip() {
+        // given
+        Trend saved = save("laptop", VARIANT, START, "10", demographics("60.1234", "39.8766", "55"));
+
+        entityManager.clear();
+
+        // when
+        Trend found = trendRepository.findById(saved.getId()).orElseThrow();
+
+        // then
+        assertThat(found.getDemographics().hasDevice()).isTrue();
+        assertThat(found.getDemographics().hasGender()).isTrue();
+        assertThat(found.getDemographics().hasAge()).isFalse();
+        assertThat(found.getDemographics().getDeviceMobile()).isEqualByComparingTo("60.1234");
+        assertThat(TrendDemographics.isSame(found.getDemographics(), demographics("60.1234", "39.8766", "55.0000"))).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 키워드/조건/일자의 행은 하나만 저장된다")
+    void keywordVariantDateIsUnique() {
+        // given
+        save("laptop", VARIANT, START, "10", null);
+        save("laptop", "|laptop|000", START, "20", null); // 다른 조건은 별도 행
+
+        // when & then
+        assertThatThrownBy(() -> save("laptop", VARIANT, START, "30", null))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    private Trend save(String keyword, String variant, LocalDate date, String ratio, TrendDemographics demographics) {
+        return trendRepository.saveAndFlush(Trend.create(date, keyword, variant, null, null,
+                ratio != null ? new BigDecimal(ratio) : null, null, demographics, "naver_datalab"));
+    }
+
+    private static TrendDemographics demographics(String mobile, String pc, String male) {
+        return TrendDemographics.builder()
+                .deviceMobile(new BigDecimal(mobile))
+                .devicePc(new BigDecimal(pc))
+                .genderMale(new BigDecimal(male))
+                .build();
+    }
+}
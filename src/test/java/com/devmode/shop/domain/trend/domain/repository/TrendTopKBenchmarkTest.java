@@ -0,0 +1,94 @@
+package com.devmode.shop.domain.trend.domain.repository;
+
+import com.devmode.shop.domain.trend.domain.entity.Trend;
+import com.devmode.shop.domain.trend.domain.service.TrendVariant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 일자별 상위 K 조회 측정 (./gradlew benchmark)
+ * 100일 x 10,000 키워드 = 1,000,000 행에서 idx_trends_date_variant_ratio 역순 스캔과 인덱스를 쓰지 못하는 정렬을 비교한다.
+ * 기본은 테스트 H2, -Dspring.datasource.url=jdbc:postgresql://... 로 PostgreSQL 측정 가능
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TrendBulkRepository.class)
+class TrendTopKBenchmarkTest {
+
+    private static final int DAYS = 100;
+    private static final int KEYWORDS = 10_000;
+    private static final int K = 10;
+    private static final int ROUNDS = 50;
+    private static final LocalDate START = LocalDate.of(2025, 1, 1);
+
+    // ratio + 0 은 인덱스 컬럼 그대로가 아니므로 일자 범위의 모든 행을 정렬
+    private static final String UNINDEXED_SQL = "SELECT keyword FROM trends WHERE search_date = ? AND variant = ? AND ratio IS NOT NULL " +
+            "ORDER BY ratio + 0 DESC LIMIT ?";
+
+    @Autowired
+    private TrendBulkRepository trendBulkRepository;
+
+    @Autowired
+    private TrendRepository trendRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("100만 행에서 인덱스 기반 상위 K 조회와 전체 정렬 조회의 지연 시간 비교")
+    void measureTopKLatency() {
+        // given
+        long loadStart = System.nanoTime();
+        for (int day = 0; day < DAYS; day++) {
+            LocalDate date = START.plusDays(day);
+            List<Trend> trends = new ArrayList<>(KEYWORDS);
+            for (int k = 0; k < KEYWORDS; k++) {
+                // 키워드/일자마다 다른 값이 나오도록 섞음
+                int ratio = (int) Math.floorMod((long) k * 7919 + day * 104729L, 1_000_000L);
+                trends.add(Trend.create(date, "keyword-" + k, TrendVariant.DEFAULT, null, null,
+                        BigDecimal.valueOf(ratio, 4), null, null, "benchmark"));
+            }
+            trendBulkRepository.insertAll(trends);
+        }
+        System.out.printf("[Benchmark] load %,d rows: %d ms%n", (long) DAYS * KEYWORDS,
+                (System.nanoTime() - loadStart) / 1_000_000);
+        LocalDate target = START.plusDays(DAYS / 2);
+
+        // when
+        List<String> indexed = trendRepository.findTopTrendsByDate(target, TrendVariant.DEFAULT, K).stream().map(Trend::getKeyword).toList();
+        List<String> unindexed = jdbcTemplate.queryForList(UNINDEXED_SQL, String.class, Date.valueOf(target), TrendVariant.DEFAULT, K);
+
+        long indexedNanos = 0L;
+        long unindexedNanos = 0L;
+        for (int i = 0; i < ROUNDS; i++) {
+            LocalDate date = START.plusDays(i % DAYS);
+            long start = System.nanoTime();
+            trendRepository.findTopTrendsByDate(date, TrendVariant.DEFAULT, K);
+            indexedNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            jdbcTemplate.queryForList(UNINDEXED_SQL, String.class, Date.valueOf(date), TrendVariant.DEFAULT, K);
+            unindexedNanos += System.nanoTime() - start;
+        }
+
+        // then
+        System.out.printf("[Benchmark] top-%d by index (search_date, variant, ratio): %,d us/query%n", K, indexedNanos / ROUNDS / 1000);
+        System.out.printf("[Benchmark] top-%d by full sort: %,d us/query%n", K, unindexedNanos / ROUNDS / 1000);
+        assertThat(indexed).hasSize(K).containsExactlyElementsOf(unindexed);
+    }
+}
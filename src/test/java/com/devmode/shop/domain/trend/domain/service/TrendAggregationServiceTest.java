@@ -0,0 +1,146 @@
+package com.devmode.shop.domain.trend.domain.service;
+
+import com.devmode.shop.domain.trend.domain.entity.Trend;
+import com.devmode.shop.domain.trend.domain.entity.TrendAggregation;
+import com.devmode.shop.domain.trend.domain.entity.TrendAggregation.AggregationType;
+import com.devmode.shop.domain.trend.domain.entity.TrendAggregation.TrendDirection;
+import com.devmode.shop.domain.trend.domain.repository.TrendAggregationRepository;
+import com.devmode.shop.domain.trend.domain.repository.TrendRepository;
+import com.devmode.shop.domain.trend.domain.service.TrendAggregationService.BackfillResult;
+import com.devmode.shop.domain.trend.domain.service.TrendAggregationService.TrendSampleChange;
+import com.devmode.shop.global.config.properties.TrendAggregationProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({TrendAggregationService.class, TrendAggregationProperties.class})
+class TrendAggregationServiceTest {
+
+    private static final String KEYWORD = "laptop";
+    private static final String VARIANT = "|노트북|111";
+    private static final LocalDate MONDAY = LocalDate.of(2025, 8, 4);
+
+    @Autowired
+    private TrendAggregationService trendAggregationService;
+
+    @Autowired
+    private TrendRepository trendRepository;
+
+    @Autowired
+    private TrendAggregationRepository trendAggregationRepository;
+
+    @Test
+    @DisplayName("새 일자가 저장되면 해당 주간/월간 버킷의 합계/건수/최소/최대/방향이 갱신된다")
+    void applyInsertsUpdatesWeeklyAndMonthlyBuckets() {
+        // given
+        List<TrendSampleChange> changes = saveWeek();
+
+        // when
+        trendAggregationService.apply(KEYWORD, VARIANT, null, null, changes);
+
+        // then
+        TrendAggregation weekly = bucket(AggregationType.WEEKLY, MONDAY);
+        assertThat(weekly.getSampleCount()).isEqualTo(7);
+        assertThat(weekly.getTotalRatio()).isEqualByComparingTo("280");
+        assertThat(weekly.getAvgRatio()).isEqualByComparingTo("40");
+        assertThat(weekly.getMinRatio()).isEqualByComparingTo("10");
+        assertThat(weekly.getMaxRatio()).isEqualByComparingTo("70");
+        assertThat(weekly.getTotalClickCount()).isEqualTo(700L);
+        assertThat(weekly.getTrendDirection()).isEqualTo(TrendDirection.RISING);
+
+        TrendAggregation monthly = bucket(AggregationType.MONTHLY, LocalDate.of(2025, 8, 1));
+        assertThat(monthly.getSampleCount()).isEqualTo(7);
+        assertThat(bucket(AggregationType.DAILY, MONDAY.plusDays(1)).getTrendDirection()).isEqualTo(TrendDirection.RISING);
+    }
+
+    @Test
+    @DisplayName("최대값이던 일자의 값이 줄어들면 해당 버킷만 원본으로 다시 계산한다")
+    void applyReplacementRecomputesOnlyAffectedBucket() {
+        // given
+        trendAggregationService.apply(KEYWORD, VARIANT, null, null, saveWeek());
+        Trend sunday = trendRepository.findByKeywordAndVariantAndDateRange(
+                KEYWORD, VARIANT, MONDAY.plusDays(6), MONDAY.plusDays(6)).get(0);
+        sunday.updateTrendData(new BigDecimal("5"), 100L, null);
+
+        // when
+        trendAggregationService.apply(KEYWORD, VARIANT, null, null, List.of(
+                new TrendSampleChange(MONDAY.plusDays(6), new BigDecimal("70"), 100L, new BigDecimal("5"), 100L)));
+
+        // then
+        TrendAggregation weekly = bucket(AggregationType.WEEKLY, MONDAY);
+        assertThat(weekly.getSampleCount()).isEqualTo(7);
+        assertThat(weekly.getTotalRatio()).isEqualByComparingTo("215");
+        assertThat(weekly.getMaxRatio()).isEqualByComparingTo("60");
+        assertThat(weekly.getMinRatio()).isEqualByComparingTo("5");
+        assertThat(weekly.getTrendDirection()).isEqualTo(TrendDirection.FALLING);
+        assertThat(bucket(AggregationType.DAILY, MONDAY.plusDays(6)).getTrendDirection()).isEqualTo(TrendDirection.FALLING);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 재계산은 별도 스레드/트랜잭션에서 실행되므로 데이터를 커밋
+    @DisplayName("재계산은 유형별 버킷 경계 안의 행만 다시 집계하고 범위 밖 버킷은 건드리지 않는다")
+    void backfillRebuildsEachTypeWithinItsOwnRange() {
+        // given (7/28 월요일부터 2주, 주간 버킷 하나가 7월과 8월에 걸친다)
+        String keyword = "backfill";
+        LocalDate start = LocalDate.of(2025, 7, 28);
+        List<TrendSampleChange> changes = new ArrayList<>();
+        for (int i = 0; i < 14; i++) {
+            LocalDate date = start.plusDays(i);
+            trendRepository.save(Trend.create(date, keyword, VARIANT, null, null, BigDecimal.TEN, 100L,
+                    null, "naver_datalab"));
+            changes.add(new TrendSampleChange(date, null, null, BigDecimal.TEN, 100L));
+        }
+        trendAggregationService.apply(keyword, VARIANT, null, null, changes);
+
+        try {
+            // when
+            BackfillResult result = trendAggregationService.backfill(LocalDate.of(2025, 8, 4), LocalDate.of(2025, 8, 10));
+
+            // then
+            assertThat(result.failedChunks()).isZero();
+            assertThat(bucket(keyword, AggregationType.WEEKLY, start).getSampleCount()).isEqualTo(7);
+            assertThat(bucket(keyword, AggregationType.WEEKLY, LocalDate.of(2025, 8, 4)).getSampleCount()).isEqualTo(7);
+            assertThat(bucket(keyword, AggregationType.MONTHLY, LocalDate.of(2025, 7, 1)).getSampleCount()).isEqualTo(4);
+            assertThat(bucket(keyword, AggregationType.MONTHLY, LocalDate.of(2025, 8, 1)).getSampleCount()).isEqualTo(10);
+            assertThat(bucket(keyword, AggregationType.MONTHLY, LocalDate.of(2025, 8, 1)).getTotalRatio())
+                    .isEqualByComparingTo("100");
+        } finally {
+            trendAggregationRepository.deleteAll();
+            trendRepository.deleteAll();
+        }
+    }
+
+    private List<TrendSampleChange> saveWeek() {
+        List<TrendSampleChange> changes = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            LocalDate date = MONDAY.plusDays(i);
+            BigDecimal ratio = BigDecimal.valueOf(10L * (i + 1));
+            trendRepository.save(Trend.create(date, KEYWORD, VARIANT, null, null, ratio, 100L,
+                    null, "naver_datalab"));
+            changes.add(new TrendSampleChange(date, null, null, ratio, 100L));
+        }
+        return changes;
+    }
+
+    private TrendAggregation bucket(AggregationType type, LocalDate date) {
+        return bucket(KEYWORD, type, date);
+    }
+
+    private TrendAggregation bucket(String keyword, AggregationType type, LocalDate date) {
+        return trendAggregationRepository.findBuckets(keyword, VARIANT, type, date, date).get(0);
+    }
+}
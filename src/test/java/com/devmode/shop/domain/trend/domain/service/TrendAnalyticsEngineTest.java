@@ -0,0 +1,79 @@
+package com.devmode.shop.domain.trend.domain.service;
+
+import com.devmode.shop.domain.trend.domain.service.TrendAnalyticsEngine.AnomalyMethod;
+import com.devmode.shop.domain.trend.domain.service.TrendAnalyticsEngine.Options;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TrendAnalyticsEngineTest {
+
+    private static final double[] WEEKLY_PATTERN = {4d, 2d, 0d, -1d, -2d, -3d, 0d};
+
+    @Test
+    @DisplayName("상승 추세 + 주간 패턴 시리즈에서 회귀/계절성/이상치를 한 번에 계산한다")
+    void analyzeDetectsTrendSeasonalityAndAnomaly() {
+        // given
+        int n = 56;
+        int spikeIndex = 40;
+        long origin = LocalDate.of(2025, 6, 2).toEpochDay(); // 월요일
+        long[] epochDays = new long[n];
+        double[] ratios = new double[n];
+        for (int i = 0; i < n; i++) {
+            epochDays[i] = origin + i;
+            ratios[i] = 20d + 0.5d * i + WEEKLY_PATTERN[i % 7] + (i % 3 - 1) * 0.3d;
+        }
+        ratios[spikeIndex] += 30d;
+
+        // when
+        TrendAnalytics analytics = TrendAnalyticsEngine.analyze(
+                TrendSeries.of(epochDays, ratios, n), new Options(7, 7, AnomalyMethod.MAD, 3.5));
+
+        // then
+        assertThat(analytics.fit().direction()).isEqualTo("RISING");
+        assertThat(analytics.fit().slopeLower()).isPositive();
+        assertThat(analytics.weekdayIndex()[0]).isGreaterThan(analytics.weekdayIndex()[5]);
+        assertThat(analytics.seasonalStrength()).isPositive();
+        assertThat(analytics.anomalyIndexes()).containsExactly(spikeIndex);
+        assertThat(analytics.anomalyScores()[0]).isGreaterThan(3.5d);
+        assertThat(analytics.sma()[6]).isCloseTo(average(ratios, 0, 7), within(1e-9));
+        assertThat(analytics.ema()[0]).isEqualTo(ratios[0]);
+    }
+
+    @Test
+    @DisplayName("변화가 없는 시리즈는 STABLE 이고 이상치가 없다")
+    void flatSeriesIsStable() {
+        // given
+        long[] epochDays = {0L, 1L, 2L, 3L, 4L};
+        double[] ratios = {10d, 10d, 10d, 10d, 10d};
+
+        // when
+        TrendAnalytics analytics = TrendAnalyticsEngine.analyze(
+                TrendSeries.of(epochDays, ratios, 5), Options.defaults());
+
+        // then
+        assertThat(analytics.fit().direction()).isEqualTo("STABLE");
+        assertThat(analytics.anomalyCount()).isZero();
+        assertThat(analytics.seasonalStrength()).isZero();
+    }
+
+    @Test
+    @DisplayName("quickselect 중앙값은 정렬 결과와 같다")
+    void medianMatchesSortedMedian() {
+        assertThat(TrendAnalyticsEngine.median(new double[]{5d, 1d, 9d, 3d, 7d})).isEqualTo(5d);
+        assertThat(TrendAnalyticsEngine.median(new double[]{4d, 1d, 3d, 2d})).isEqualTo(2.5d);
+        assertThat(TrendAnalyticsEngine.median(new double[]{2d, 2d, 2d, 1d})).isEqualTo(2d);
+    }
+
+    private static double average(double[] values, int from, int to) {
+        double sum = 0d;
+        for (int i = from; i < to; i++) {
+            sum += values[i];
+        }
+        return sum / (to - from);
+    }
+}
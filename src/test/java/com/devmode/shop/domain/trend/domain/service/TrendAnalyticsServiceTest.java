@@ -0,0 +1,68 @@
+package com.devmode.shop.domain.trend.domain.service;
+
+import com.devmode.shop.domain.trend.application.dto.response.analytics.TrendAnalyticsResponse;
+import com.devmode.shop.domain.trend.domain.repository.TrendBulkRepository;
+import com.devmode.shop.domain.trend.domain.service.TrendAnalyticsService.BatchResult;
+import com.devmode.shop.global.config.properties.TrendAnalyticsProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrendAnalyticsServiceTest {
+
+    private static final LocalDate END = LocalDate.of(2025, 8, 31);
+    private static final String VARIANT = "||111";
+
+    @Mock
+    private TrendBulkRepository trendBulkRepository;
+
+    @Mock
+    private TrendCacheService trendCacheService;
+
+    private TrendAnalyticsService trendAnalyticsService;
+
+    @BeforeEach
+    void setUp() {
+        trendAnalyticsService = new TrendAnalyticsService(trendBulkRepository, trendCacheService, new TrendAnalyticsProperties());
+    }
+
+    @Test
+    @DisplayName("가장 긴 구간을 한 번 읽어 구간별로 잘라 분석하고, 단건 요청과 같은 '최근 N일' 키로 캐시한다")
+    @SuppressWarnings("unchecked")
+    void analyzeStoredCachesEachWindowUnderRequestKeys() {
+        // given
+        LocalDate loadStart = END.minusDays(29);
+        long[] epochDays = new long[30];
+        double[] ratios = new double[30];
+        for (int i = 0; i < 30; i++) {
+            epochDays[i] = loadStart.plusDays(i).toEpochDay();
+            ratios[i] = 10 + i;
+        }
+        when(trendBulkRepository.loadRatioSeries(loadStart, END)).thenReturn(Map.of(
+                new TrendSeriesKey("laptop", VARIANT, loadStart, END), TrendSeries.of(epochDays, ratios, 30)));
+
+        // when
+        BatchResult result = trendAnalyticsService.analyzeStored(END, List.of(30, 7));
+
+        // then
+        ArgumentCaptor<Map<TrendSeriesKey, TrendAnalyticsResponse>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(trendCacheService).cacheAnalytics(captor.capture());
+        assertThat(result.series()).isEqualTo(1);
+        assertThat(captor.getValue()).containsOnlyKeys(
+                new TrendSeriesKey("laptop", VARIANT, END.minusDays(6), END),
+                new TrendSeriesKey("laptop", VARIANT, END.minusDays(29), END));
+        verify(trendBulkRepository, times(1)).loadRatioSeries(loadStart, END);
+    }
+}
@@ -0,0 +1,144 @@
+package com.devmode.shop.domain.trend.domain.service;
+
+import com.devmode.shop.domain.trend.application.dto.request.TrendSearchRequest;
+import com.devmode.shop.domain.trend.application.dto.response.trend.TrendDataPoint;
+import com.devmode.shop.domain.trend.domain.entity.Trend;
+import com.devmode.shop.domain.trend.domain.repository.TrendBulkRepository;
+import com.devmode.shop.domain.trend.domain.repository.TrendRepository;
+import com.devmode.shop.global.config.properties.DataLabApiProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TrendPersistenceServiceTest {
+
+    private static final LocalDate DAY1 = LocalDate.of(2025, 8, 1);
+    private static final LocalDate DAY2 = LocalDate.of(2025, 8, 2);
+    private static final LocalDate DAY3 = LocalDate.of(2025, 8, 3);
+
+    @Mock
+    private TrendRepository trendRepository;
+
+    @Mock
+    private TrendBulkRepository trendBulkRepository;
+
+    @Mock
+    private TrendAggregationService trendAggregationService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TrendPersistenceService trendPersistenceService;
+    private TrendSearchRequest request;
+
+    @BeforeEach
+    void setUp() {
+        trendPersistenceService = new TrendPersistenceService(trendRepository, trendBulkRepository,
+                trendAggregationService, new DataLabApiProperties(), transactionManager);
+        request = new TrendSearchRequest("laptop", DAY1, DAY3, null, null, "date", true, true, true);
+    }
+
+    @Test
+    @DisplayName("구간 안의 저장된 확정 일자 비율로 환산해 새 일자를 시리즈 기준으로 저장한다")
+    void savesNewDatesOnStoredScale() {
+        // given (저장 값 20, 20 / 이번 호출은 DAY3 가 최댓값이라 50, 50, 100 으로 정규화됨)
+        when(trendRepository.findByKeywordAndVariantAndDateRange("laptop", TrendVariant.DEFAULT, DAY1, DAY3))
+                .thenReturn(List.of(stored(DAY1, "20"), stored(DAY2, "20")));
+
+        // when
+        Optional<List<TrendDataPoint>> saved = trendPersistenceService.saveFetchedPoints(request, List.of(DAY3),
+                List.of(point(DAY1, "50"), point(DAY2, "50"), point(DAY3, "100")));
+
+        // then
+        assertThat(saved).isPresent();
+        assertThat(saved.get()).singleElement()
+                .satisfies(point -> assertThat(point.ratio()).isEqualByComparingTo("40"));
+        verify(trendBulkRepository).insertAll(argThat(trends -> trends.size() == 1
+                && trends.get(0).getRatio().compareTo(new BigDecimal("40")) == 0));
+    }
+
+    @Test
+    @DisplayName("다른 구간으로 다시 조회해도 저장된 확정 일자는 덮어쓰지 않는다")
+    void keepsStoredFinalDates() {
+        // given
+        Trend day1 = stored(DAY1, "20");
+        when(trendRepository.findByKeywordAndVariantAndDateRange("laptop", TrendVariant.DEFAULT, DAY1, DAY3))
+                .thenReturn(List.of(day1, stored(DAY2, "20")));
+
+        // when
+        Optional<List<TrendDataPoint>> saved = trendPersistenceService.saveFetchedPoints(request, List.of(DAY1, DAY2),
+                List.of(point(DAY1, "50"), point(DAY2, "50"), point(DAY3, "100")));
+
+        // then
+        assertThat(saved).isPresent();
+        assertThat(saved.get()).extracting(TrendDataPoint::ratio)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("20"), new BigDecimal("20"));
+        assertThat(day1.getRatio()).isEqualByComparingTo("20");
+        verify(trendAggregationService, never()).apply(anyString(), anyString(), any(), any(), anyList());
+    }
+
+    @Test
+    @DisplayName("시리즈에 저장된 값이 있는데 구간이 겹치지 않으면 기준을 맞출 수 없으므로 저장하지 않는다")
+    void refusesUnanchoredFetchForExistingSeries() {
+        // given
+        when(trendRepository.findByKeywordAndVariantAndDateRange("laptop", TrendVariant.DEFAULT, DAY1, DAY3))
+                .thenReturn(List.of());
+        when(trendRepository.existsByKeywordAndVariantAndRatioIsNotNull("laptop", TrendVariant.DEFAULT)).thenReturn(true);
+
+        // when
+        Optional<List<TrendDataPoint>> saved = trendPersistenceService.saveFetchedPoints(request, List.of(DAY1, DAY2, DAY3),
+                List.of(point(DAY1, "50"), point(DAY2, "50"), point(DAY3, "100")));
+
+        // then
+        assertThat(saved).isEmpty();
+        verify(trendBulkRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("처음 저장하는 시리즈는 이번 호출의 값을 그대로 기준으로 삼는다")
+    void firstFetchDefinesSeriesScale() {
+        // given
+        when(trendRepository.findByKeywordAndVariantAndDateRange("laptop", TrendVariant.DEFAULT, DAY1, DAY3))
+                .thenReturn(List.of());
+        when(trendRepository.existsByKeywordAndVariantAndRatioIsNotNull("laptop", TrendVariant.DEFAULT)).thenReturn(false);
+
+        // when
+        Optional<List<TrendDataPoint>> saved = trendPersistenceService.saveFetchedPoints(request, List.of(DAY1, DAY2, DAY3),
+                List.of(point(DAY1, "50"), point(DAY2, "50"), point(DAY3, "100")));
+
+        // then
+        assertThat(saved).isPresent();
+        assertThat(saved.get()).extracting(TrendDataPoint::ratio)
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("50"), new BigDecimal("50"), new BigDecimal("100"));
+        verify(trendAggregationService).apply(eq("laptop"), eq(TrendVariant.DEFAULT), any(), any(),
+                argThat(changes -> changes.size() == 3));
+    }
+
+    private static Trend stored(LocalDate date, String ratio) {
+        return Trend.create(date, "laptop", TrendVariant.DEFAULT, null, null, new BigDecimal(ratio), null, null, "naver_datalab");
+    }
+
+    private static TrendDataPoint point(LocalDate date, String ratio) {
+        return new TrendDataPoint(date, new BigDecimal(ratio), null, null, null, null);
+    }
+}
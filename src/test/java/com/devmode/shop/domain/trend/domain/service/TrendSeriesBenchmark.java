@@ -0,0 +1,101 @@
+package com.devmode.shop.domain.trend.domain.service;
+
+import com.devmode.shop.domain.trend.application.dto.request.TrendSearchRequest;
+import com.devmode.shop.domain.trend.application.dto.response.datalab.DataLabDataPoint;
+import com.devmode.shop.domain.trend.application.dto.response.datalab.DataLabDistribution;
+import com.devmode.shop.domain.trend.application.dto.response.datalab.DataLabResult;
+import com.devmode.shop.domain.trend.application.dto.response.datalab.NaverDataLabResponse;
+import com.devmode.shop.domain.trend.application.dto.response.trend.TrendDataPoint;
+import com.devmode.shop.domain.trend.application.dto.response.trend.TrendSearchResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 5년치 일 단위 트렌드(1,826개 포인트) 요약 계산 비교
+ * 실행: ./gradlew jmh -PjmhArgs="TrendSeriesBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrendSeriesBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2020, 1, 1);
+    private static final LocalDate END = LocalDate.of(2024, 12, 31);
+
+    private final TrendTransformService transformService = new TrendTransformService();
+
+    private NaverDataLabResponse naverResponse;
+    private List<TrendDataPoint> dataPoints;
+    private TrendSeries series;
+    private TrendSearchRequest request;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        List<DataLabDataPoint> data = new ArrayList<>();
+        for (LocalDate date = START; !date.isAfter(END); date = date.plusDays(1)) {
+            data.add(new DataLabDataPoint(
+                    date.toString(),
+                    BigDecimal.valueOf(random.nextInt(10_000_000), 5),
+                    (long) random.nextInt(10_000),
+                    List.of(distribution("mo", random), distribution("pc", random)),
+                    List.of(distribution("m", random), distribution("f", random)),
+                    List.of(distribution("10", random), distribution("20", random), distribution("30", random),
+                            distribution("40", random), distribution("50", random), distribution("60", random))
+            ));
+        }
+        naverResponse = new NaverDataLabResponse(START.toString(), END.toString(), "date",
+                List.of(new DataLabResult("laptop", data)));
+        series = TrendSeries.fromDataLab(naverResponse.results().get(0));
+        dataPoints = series.toDataPoints();
+        request = new TrendSearchRequest("laptop", START, END, null, null, "date", true, true, true);
+    }
+
+    /**
+     * 기존 방식: 포인트마다 BigDecimal add/max/min 후 divide
+     */
+    @Benchmark
+    public Object bigDecimalSummary() {
+        BigDecimal totalRatio = BigDecimal.ZERO;
+        BigDecimal maxRatio = BigDecimal.ZERO;
+        BigDecimal minRatio = dataPoints.get(0).ratio();
+        long totalClickCount = 0L;
+        for (TrendDataPoint point : dataPoints) {
+            totalRatio = totalRatio.add(point.ratio());
+            maxRatio = maxRatio.max(point.ratio());
+            minRatio = minRatio.min(point.ratio());
+            totalClickCount += point.clickCount();
+        }
+        BigDecimal avgRatio = totalRatio.divide(BigDecimal.valueOf(dataPoints.size()), 4, RoundingMode.HALF_UP);
+        return new Object[]{avgRatio, maxRatio, minRatio, totalClickCount};
+    }
+
+    @Benchmark
+    public TrendSeries.Summary columnarSummary() {
+        return series.summarize();
+    }
+
+    @Benchmark
+    public TrendSeries.Summary columnarFromDataLab() {
+        return TrendSeries.fromDataLab(naverResponse.results().get(0)).summarize();
+    }
+
+    @Benchmark
+    public TrendSearchResponse transformToResponse() {
+        return transformService.transformToTrendSearchResponse(naverResponse, request, "fresh", 0L, 1L, "available");
+    }
+
+    private static DataLabDistribution distribution(String key, Random random) {
+        return new DataLabDistribution(key, BigDecimal.valueOf(random.nextInt(100_000), 3));
+    }
+}
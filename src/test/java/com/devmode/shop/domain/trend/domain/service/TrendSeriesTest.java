@@ -0,0 +1,106 @@
+package com.devmode.shop.domain.trend.domain.service;
+
+import com.devmode.shop.domain.trend.application.dto.response.datalab.DataLabDataPoint;
+import com.devmode.shop.domain.trend.application.dto.response.datalab.DataLabDistribution;
+import com.devmode.shop.domain.trend.application.dto.response.datalab.DataLabResult;
+import com.devmode.shop.domain.trend.application.dto.response.trend.TrendDataPoint;
+import com.devmode.shop.domain.trend.application.dto.response.trend.TrendSummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrendSeriesTest {
+
+    @Test
+    @DisplayName("한 번의 순회로 평균/최대/최소/클릭수/회귀 추세를 계산한다")
+    void summarizeComputesStatisticsInOnePass() {
+        // given
+        TrendSeries series = TrendSeries.fromDataLab(new DataLabResult("laptop", List.of(
+                point("2025-08-01", "36.47837", 10L),
+                point("2025-08-02", "12.5", null),
+                point("2025-08-03", "50.25", 5L)
+        )));
+
+        // when
+        TrendSummary summary = series.summarize().toTrendSummary();
+
+        // then
+        assertThat(summary.avgRatio()).isEqualByComparingTo("33.0761");
+        assertThat(summary.maxRatio()).isEqualByComparingTo("50.25");
+        assertThat(summary.minRatio()).isEqualByComparingTo("12.5");
+        assertThat(summary.totalClickCount()).isEqualTo(15L);
+        // 3개 포인트는 기울기 신뢰구간이 0을 포함하므로 방향을 단정하지 않음
+        assertThat(summary.trendDirection()).isEqualTo("STABLE");
+        assertThat(summary.trendStrength()).isEqualByComparingTo("13.7716");
+    }
+
+    @Test
+    @DisplayName("응답용 포인트로 변환할 때 원래 값과 분포가 그대로 복원된다")
+    void toDataPointsRestoresOriginalValues() {
+        // given
+        DataLabDataPoint source = new DataLabDataPoint("2025-08-01", new BigDecimal("36.47837"), null,
+                List.of(new DataLabDistribution("mo", new BigDecimal("70.1")), new DataLabDistribution("pc", new BigDecimal("29.9"))),
+                List.of(new DataLabDistribution("f", new BigDecimal("55"))),
+                null);
+
+        // when
+        TrendDataPoint point = TrendSeries.fromDataLab(new DataLabResult("laptop", List.of(source))).toDataPoints().get(0);
+
+        // then
+        assertThat(point.date()).isEqualTo(LocalDate.of(2025, 8, 1));
+        assertThat(point.ratio()).isEqualTo(new BigDecimal("36.47837"));
+        assertThat(point.clickCount()).isNull();
+        assertThat(point.deviceDistribution().mobileRatio()).isEqualByComparingTo("70.1");
+        assertThat(point.deviceDistribution().pcRatio()).isEqualByComparingTo("29.9");
+        assertThat(point.deviceDistribution().tabletRatio()).isEqualByComparingTo("0");
+        assertThat(point.genderDistribution().femaleRatio()).isEqualByComparingTo("55");
+        assertThat(point.genderDistribution().maleRatio()).isEqualByComparingTo("0");
+        assertThat(point.ageDistribution()).isNull();
+    }
+
+    @Test
+    @DisplayName("요청하지 않은 분포 그룹과 분포가 빠진 일자는 0 대신 null 로 응답한다")
+    void toDataPointsKeepsMissingDistributionsNull() {
+        // given
+        DataLabDataPoint withDevice = new DataLabDataPoint("2025-08-01", new BigDecimal("10"), null,
+                List.of(new DataLabDistribution("mo", new BigDecimal("70"))), null, null);
+        DataLabDataPoint withoutDevice = new DataLabDataPoint("2025-08-02", new BigDecimal("20"), null, null, null, null);
+
+        // when
+        List<TrendDataPoint> points = TrendSeries.fromDataLab(
+                new DataLabResult("laptop", List.of(withDevice, withoutDevice))).toDataPoints();
+
+        // then
+        assertThat(points.get(0).deviceDistribution().mobileRatio()).isEqualByComparingTo("70");
+        assertThat(points.get(0).genderDistribution()).isNull();
+        assertThat(points.get(0).ageDistribution()).isNull();
+        assertThat(points.get(1).deviceDistribution()).isNull();
+    }
+
+    @Test
+    @DisplayName("since 는 시작일 이후 포인트만 잘라낸다")
+    void sinceKeepsPointsFromStartDay() {
+        // given
+        long day = LocalDate.of(2025, 8, 1).toEpochDay();
+        TrendSeries series = TrendSeries.of(new long[]{day, day + 2, day + 3, 0L}, new double[]{1d, 2d, 3d, 0d}, 3);
+
+        // when
+        TrendSeries tail = series.since(day + 1);
+
+        // then
+        assertThat(tail.size()).isEqualTo(2);
+        assertThat(tail.epochDayAt(0)).isEqualTo(day + 2);
+        assertThat(tail.ratioAt(1)).isEqualTo(3d);
+        assertThat(series.since(day)).isSameAs(series);
+        assertThat(series.since(day + 10).size()).isZero();
+    }
+
+    private static DataLabDataPoint point(String period, String ratio, Long clickCount) {
+        return new DataLabDataPoint(period, new BigDecimal(ratio), clickCount, null, null, null);
+    }
+}
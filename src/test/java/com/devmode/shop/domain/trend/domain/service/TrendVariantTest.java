@@ -0,0 +1,44 @@
+package com.devmode.shop.domain.trend.domain.service;
+
+import com.devmode.shop.domain.trend.application.dto.request.TrendSearchRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrendVariantTest {
+
+    @Test
+    @DisplayName("32비트 해시가 같은 조건도 서로 다른 캐시 키를 만든다")
+    void cacheKeyDistinguishesHashCodeCollisions() {
+        // given ("Aa" 와 "BB" 는 String.hashCode 가 같다)
+        String first = "Aa|" + "|111";
+        String second = "BB|" + "|111";
+
+        // when & then
+        assertThat(first.hashCode()).isEqualTo(second.hashCode());
+        assertThat(TrendVariant.cacheKey(first)).isNotEqualTo(TrendVariant.cacheKey(second));
+        assertThat(TrendVariant.cacheKey(first)).hasSize(43);
+    }
+
+    @Test
+    @DisplayName("조건 문자열은 기본 조건과 분포 필터를 구분하고, 길면 다이제스트로 줄인다")
+    void ofNormalizesVariant() {
+        // given
+        TrendSearchRequest basic = request(null, null);
+        TrendSearchRequest longKeywords = request(List.of("노트북"), Collections.nCopies(10, "아주 긴 비교 키워드 이름입니다 (세부 모델명 포함)"));
+
+        // when & then
+        assertThat(TrendVariant.of(basic)).isEqualTo(TrendVariant.DEFAULT);
+        assertThat(TrendVariant.of(longKeywords)).hasSize(64);
+    }
+
+    private static TrendSearchRequest request(List<String> categories, List<String> keywords) {
+        return new TrendSearchRequest("노트북", LocalDate.of(2026, 1, 1), LocalDate.of(2026, 1, 31),
+                categories, keywords, "date", null, null, null);
+    }
+}
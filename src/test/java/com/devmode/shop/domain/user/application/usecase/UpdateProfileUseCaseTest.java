@@ -9,19 +9,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.devmode.shop.domain.user.application.dto.request.UpdateProfileRequest;
 import com.devmode.shop.domain.user.application.dto.response.ProfileResponse;
 import com.devmode.shop.domain.user.domain.entity.User;
 import com.devmode.shop.domain.user.domain.service.UserService;
 import com.devmode.shop.global.exception.RestApiException;
+import com.devmode.shop.global.security.PasswordHasher;
 
 @ExtendWith(MockitoExtension.class)
 class UpdateProfileUseCaseTest {
 
 	@Mock private UserService userService;
-	@Mock private PasswordEncoder passwordEncoder;
+	@Mock private PasswordHasher passwordHasher;
 	@InjectMocks private UpdateProfileUseCase useCase;
 
 	@Test
@@ -35,6 +35,10 @@ class UpdateProfileUseCaseTest {
 				.birth("1990-01-01")
 				.build();
 		when(userService.findUser("testuser")).thenReturn(user);
+		when(userService.updateProfile("testuser", "New Name", "1990-01-01", null)).thenAnswer(invocation -> {
+			user.updateProfile("New Name", "1990-01-01", null);
+			return user;
+		});
 		UpdateProfileRequest req = new UpdateProfileRequest("New Name", "test@example.com", "1990-01-01", null, null);
 
 		ProfileResponse res = useCase.update("testuser", req);
@@ -52,7 +56,7 @@ class UpdateProfileUseCaseTest {
 				.birth("1990-01-01")
 				.build();
 		when(userService.findUser("testuser")).thenReturn(user);
-		when(passwordEncoder.matches("wrong", "encoded")).thenReturn(false);
+		when(passwordHasher.matches("wrong", "encoded")).thenReturn(false);
 		UpdateProfileRequest req = new UpdateProfileRequest("New Name", "test@example.com", "1990-01-01", "wrong", "newpass");
 
 		assertThrows(RestApiException.class, () -> useCase.update("testuser", req));
@@ -69,11 +73,16 @@ class UpdateProfileUseCaseTest {
 				.birth("1990-01-01")
 				.build();
 		when(userService.findUser("testuser")).thenReturn(user);
-		when(passwordEncoder.matches("current", "encoded")).thenReturn(true);
-		when(passwordEncoder.encode("newpass")).thenReturn("encoded-new");
+		when(passwordHasher.matches("current", "encoded")).thenReturn(true);
+		when(passwordHasher.encode("newpass")).thenReturn("encoded-new");
+		when(userService.updateProfile("testuser", "New Name", "1990-01-01", "encoded-new")).thenAnswer(invocation -> {
+			user.updateProfile("New Name", "1990-01-01", "encoded-new");
+			return user;
+		});
 		UpdateProfileRequest req = new UpdateProfileRequest("New Name", "test@example.com", "1990-01-01", "current", "newpass");
 
 		ProfileResponse res = useCase.update("testuser", req);
 		assertEquals("New Name", res.name());
+		assertEquals("encoded-new", user.getPassword());
 	}
 }
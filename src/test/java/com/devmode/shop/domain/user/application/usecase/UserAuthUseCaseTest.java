@@ -7,10 +7,13 @@ import com.devmode.shop.domain.user.application.dto.response.LoginResponse;
 import com.devmode.shop.domain.user.application.dto.response.TokenReissueResponse;
 import com.devmode.shop.domain.user.domain.entity.User;
 import com.devmode.shop.domain.user.domain.service.RefreshTokenService;
+import com.devmode.shop.domain.user.domain.service.RefreshTokenService.RotationResult;
 import com.devmode.shop.domain.user.domain.service.TokenBlacklistService;
-import com.devmode.shop.domain.user.domain.service.TokenWhitelistService;
 import com.devmode.shop.domain.user.domain.service.UserService;
 import com.devmode.shop.global.exception.RestApiException;
+import com.devmode.shop.global.exception.code.status.AuthErrorStatus;
+import com.devmode.shop.global.exception.code.status.GlobalErrorStatus;
+import com.devmode.shop.global.security.PasswordHasher;
 import com.devmode.shop.global.security.TokenProvider;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -19,7 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.time.Duration;
 
@@ -36,7 +39,7 @@ class UserAuthUseCaseTest {
     private UserService userService;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordHasher passwordHasher;
 
     @Mock
     private TokenProvider tokenProvider;
@@ -44,9 +47,6 @@ class UserAuthUseCaseTest {
     @Mock
     private RefreshTokenService refreshTokenService;
 
-    @Mock
-    private TokenWhitelistService tokenWhitelistService;
-
     @Mock
     private TokenBlacklistService tokenBlacklistService;
 
@@ -88,16 +88,12 @@ class UserAuthUseCaseTest {
     @DisplayName("회원가입을 성공적으로 처리할 수 있다")
     void signUpSuccess() {
         // given
-        when(userService.isAlreadyRegistered(anyString())).thenReturn(false);
-        when(userService.isUserIdAlreadyRegistered(anyString())).thenReturn(false);
         when(userService.save(any(SignUpRequest.class))).thenReturn(mockUser);
 
         // when
         userAuthUseCase.signUp(signUpRequest);
 
         // then
-        verify(userService).isAlreadyRegistered("test@example.com");
-        verify(userService).isUserIdAlreadyRegistered("testuser");
         verify(userService).save(signUpRequest);
     }
 
@@ -105,30 +101,28 @@ class UserAuthUseCaseTest {
     @DisplayName("이미 존재하는 이메일로 회원가입 시 예외를 던진다")
     void signUpThrowsExceptionWhenEmailExists() {
         // given
-        when(userService.isAlreadyRegistered(anyString())).thenReturn(true);
+        when(userService.save(any(SignUpRequest.class)))
+                .thenThrow(new RestApiException(AuthErrorStatus.ALREADY_REGISTERED_EMAIL));
 
         // when & then
         assertThatThrownBy(() -> userAuthUseCase.signUp(signUpRequest))
-                .isInstanceOf(RestApiException.class);
-
-        verify(userService).isAlreadyRegistered("test@example.com");
-        verify(userService, never()).save(any());
+                .isInstanceOf(RestApiException.class)
+                .extracting(e -> ((RestApiException) e).getErrorCode())
+                .isEqualTo(AuthErrorStatus.ALREADY_REGISTERED_EMAIL.getCode());
     }
 
     @Test
     @DisplayName("이미 존재하는 사용자 ID로 회원가입 시 예외를 던진다")
     void signUpThrowsExceptionWhenUserIdExists() {
         // given
-        when(userService.isAlreadyRegistered(anyString())).thenReturn(false);
-        when(userService.isUserIdAlreadyRegistered(anyString())).thenReturn(true);
+        when(userService.save(any(SignUpRequest.class)))
+                .thenThrow(new RestApiException(AuthErrorStatus.ALREADY_REGISTERED_USER_ID));
 
         // when & then
         assertThatThrownBy(() -> userAuthUseCase.signUp(signUpRequest))
-                .isInstanceOf(RestApiException.class);
-
-        verify(userService).isAlreadyRegistered("test@example.com");
-        verify(userService).isUserIdAlreadyRegistered("testuser");
-        verify(userService, never()).save(any());
+                .isInstanceOf(RestApiException.class)
+                .extracting(e -> ((RestApiException) e).getErrorCode())
+                .isEqualTo(AuthErrorStatus.ALREADY_REGISTERED_USER_ID.getCode());
     }
 
     @Test
@@ -136,7 +130,7 @@ class UserAuthUseCaseTest {
     void loginSuccess() {
         // given
         when(userService.findByUserId(anyString())).thenReturn(mockUser);
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordHasher.matches(anyString(), anyString())).thenReturn(true);
         when(tokenProvider.createAccessToken(anyString())).thenReturn("accessToken123");
         when(tokenProvider.createRefreshToken(anyString())).thenReturn("refreshToken123");
         when(tokenProvider.getRemainingDuration(anyString())).thenReturn(java.util.Optional.of(Duration.ofDays(14)));
@@ -149,25 +143,87 @@ class UserAuthUseCaseTest {
         assertThat(result.accessToken()).isEqualTo("accessToken123");
         assertThat(result.refreshToken()).isEqualTo("refreshToken123");
         verify(userService).findByUserId("testuser");
-        verify(passwordEncoder).matches("password123", "encodedPassword");
+        verify(passwordHasher).matches("password123", "encodedPassword");
         verify(tokenProvider).createAccessToken("testuser");
         verify(tokenProvider).createRefreshToken("testuser");
         verify(refreshTokenService).saveRefreshToken("testuser", "refreshToken123", Duration.ofDays(14));
     }
 
+    @Test
+    @DisplayName("저장된 해시의 cost 가 설정보다 낮으면 로그인 시 재해시한다")
+    void loginRehashesWhenCostIncreased() {
+        // given
+        when(userService.findByUserId(anyString())).thenReturn(mockUser);
+        when(passwordHasher.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordHasher.upgradeEncoding("encodedPassword")).thenReturn(true);
+        when(passwordHasher.encode("password123")).thenReturn("rehashedPassword");
+        when(tokenProvider.createAccessToken(anyString())).thenReturn("accessToken123");
+        when(tokenProvider.createRefreshToken(anyString())).thenReturn("refreshToken123");
+        when(tokenProvider.getRemainingDuration(anyString())).thenReturn(java.util.Optional.of(Duration.ofDays(14)));
+
+        // when
+        userAuthUseCase.login(loginRequest);
+
+        // then
+        verify(userService).updatePassword("testuser", "rehashedPassword");
+    }
+
+    @Test
+    @DisplayName("재해시가 거절되어도 로그인은 성공한다")
+    void loginSucceedsWhenRehashIsShed() {
+        // given
+        when(userService.findByUserId(anyString())).thenReturn(mockUser);
+        when(passwordHasher.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordHasher.upgradeEncoding("encodedPassword")).thenReturn(true);
+        when(passwordHasher.encode("password123"))
+                .thenThrow(new RestApiException(GlobalErrorStatus._TOO_MANY_REQUEST));
+        when(tokenProvider.createAccessToken(anyString())).thenReturn("accessToken123");
+        when(tokenProvider.createRefreshToken(anyString())).thenReturn("refreshToken123");
+        when(tokenProvider.getRemainingDuration(anyString())).thenReturn(java.util.Optional.of(Duration.ofDays(14)));
+
+        // when
+        LoginResponse result = userAuthUseCase.login(loginRequest);
+
+        // then
+        assertThat(result.accessToken()).isEqualTo("accessToken123");
+        verify(userService, never()).updatePassword(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("재해시 저장에 실패해도 로그인은 성공한다")
+    void loginSucceedsWhenRehashSaveFails() {
+        // given
+        when(userService.findByUserId(anyString())).thenReturn(mockUser);
+        when(passwordHasher.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordHasher.upgradeEncoding("encodedPassword")).thenReturn(true);
+        when(passwordHasher.encode("password123")).thenReturn("rehashedPassword");
+        doThrow(new ObjectOptimisticLockingFailureException(User.class, "testuser"))
+                .when(userService).updatePassword("testuser", "rehashedPassword");
+        when(tokenProvider.createAccessToken(anyString())).thenReturn("accessToken123");
+        when(tokenProvider.createRefreshToken(anyString())).thenReturn("refreshToken123");
+        when(tokenProvider.getRemainingDuration(anyString())).thenReturn(java.util.Optional.of(Duration.ofDays(14)));
+
+        // when
+        LoginResponse result = userAuthUseCase.login(loginRequest);
+
+        // then
+        assertThat(result.accessToken()).isEqualTo("accessToken123");
+        verify(refreshTokenService).saveRefreshToken("testuser", "refreshToken123", Duration.ofDays(14));
+    }
+
     @Test
     @DisplayName("잘못된 비밀번호로 로그인 시 예외를 던진다")
     void loginThrowsExceptionWhenPasswordMismatch() {
         // given
         when(userService.findByUserId(anyString())).thenReturn(mockUser);
-        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(false);
+        when(passwordHasher.matches(anyString(), anyString())).thenReturn(false);
 
         // when & then
         assertThatThrownBy(() -> userAuthUseCase.login(loginRequest))
                 .isInstanceOf(RestApiException.class);
 
         verify(userService).findByUserId("testuser");
-        verify(passwordEncoder).matches("password123", "encodedPassword");
+        verify(passwordHasher).matches("password123", "encodedPassword");
         verify(tokenProvider, never()).createAccessToken(anyString());
     }
 
@@ -177,10 +233,11 @@ class UserAuthUseCaseTest {
         // given
         when(tokenProvider.validateToken(anyString())).thenReturn(true);
         when(tokenProvider.getId(anyString())).thenReturn(java.util.Optional.of("testuser"));
-        when(refreshTokenService.findByUserId(anyString())).thenReturn("refreshToken123");
         when(tokenProvider.getRemainingDuration(anyString())).thenReturn(java.util.Optional.of(Duration.ofDays(14)));
         when(tokenProvider.createAccessToken(anyString())).thenReturn("newAccessToken123");
         when(tokenProvider.createRefreshToken(anyString())).thenReturn("newRefreshToken123");
+        when(refreshTokenService.rotate("testuser", "refreshToken123", "newRefreshToken123",
+                Duration.ofDays(14), Duration.ofDays(14))).thenReturn(RotationResult.ROTATED);
 
         // when
         TokenReissueResponse result = userAuthUseCase.reissueToken(tokenReissueRequest);
@@ -191,9 +248,28 @@ class UserAuthUseCaseTest {
         assertThat(result.refreshToken()).isEqualTo("newRefreshToken123");
         verify(tokenProvider).validateToken("refreshToken123");
         verify(tokenProvider).getId("refreshToken123");
-        verify(refreshTokenService).findByUserId("testuser");
         verify(tokenProvider).createAccessToken("testuser");
         verify(tokenProvider).createRefreshToken("testuser");
+        verify(tokenBlacklistService).revokeLocally("refreshToken123");
+        verify(refreshTokenService, never()).deleteRefreshToken(anyString());
+    }
+
+    @Test
+    @DisplayName("이미 교체된 리프레시 토큰으로 재발급 시 예외를 던진다")
+    void reissueTokenThrowsExceptionWhenAlreadyRotated() {
+        // given
+        when(tokenProvider.validateToken(anyString())).thenReturn(true);
+        when(tokenProvider.getId(anyString())).thenReturn(java.util.Optional.of("testuser"));
+        when(tokenProvider.getRemainingDuration(anyString())).thenReturn(java.util.Optional.of(Duration.ofDays(14)));
+        when(tokenProvider.createAccessToken(anyString())).thenReturn("newAccessToken123");
+        when(tokenProvider.createRefreshToken(anyString())).thenReturn("newRefreshToken123");
+        when(refreshTokenService.rotate(anyString(), anyString(), anyString(), any(Duration.class), any(Duration.class)))
+                .thenReturn(RotationResult.MISMATCH);
+
+        // when & then
+        assertThatThrownBy(() -> userAuthUseCase.reissueToken(tokenReissueRequest))
+                .isInstanceOf(RestApiException.class);
+        verify(tokenBlacklistService, never()).revokeLocally(anyString());
     }
 
     @Test
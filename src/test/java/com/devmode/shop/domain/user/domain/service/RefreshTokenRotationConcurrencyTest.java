@@ -0,0 +1,131 @@
+package com.devmode.shop.domain.user.domain.service;
+
+import com.devmode.shop.domain.user.domain.service.RefreshTokenService.RotationResult;
+import com.devmode.shop.global.config.properties.TokenCacheProperties;
+import com.devmode.shop.global.config.properties.TokenStoreProperties;
+import com.devmode.shop.global.security.TokenBlacklistFilter;
+import com.devmode.shop.global.security.TokenHash;
+import com.devmode.shop.global.security.TokenStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 같은 리프레시 토큰으로 동시에 재발급할 때 회전이 한 번만 성공하는지 확인
+ * 로컬 Redis(-Dbenchmark.redis.host, 기본 localhost:6379)가 필요하므로 ./gradlew benchmark 로 실행하고, 없으면 건너뛴다.
+ * 확인 후에는 이 테스트가 쓴 키만 지운다 (DB 를 비우지 않음).
+ */
+@Tag("benchmark")
+class RefreshTokenRotationConcurrencyTest {
+
+    private static final int DATABASE = 15;
+    private static final int ATTEMPTS = 32;
+    private static final String USER_ID = "rotation-test-user";
+    private static final String MISSING_USER_ID = "rotation-test-nobody";
+    private static final String CURRENT_TOKEN = "rotation-test-refresh-token-current";
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                System.getProperty("benchmark.redis.host", "localhost"),
+                Integer.getInteger("benchmark.redis.port", 6379));
+        connectionFactory.setDatabase(DATABASE);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection -> connection.ping());
+        } catch (Exception e) {
+            connectionFactory.destroy();
+            connectionFactory = null;
+            assumeTrue(false, "Redis 에 연결할 수 없어 건너뜀");
+        }
+        refreshTokenService = new RefreshTokenService(redisTemplate, new TokenStoreProperties(), new TokenCacheProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (connectionFactory == null) {
+            return;
+        }
+        redisTemplate.delete(List.of(
+                RefreshTokenService.refreshTokenPrefix + USER_ID,
+                RefreshTokenService.refreshTokenPrefix + MISSING_USER_ID,
+                TokenStore.key(TokenBlacklistService.BLACKLIST_NAMESPACE, CURRENT_TOKEN)));
+        redisTemplate.opsForZSet().remove(TokenBlacklistFilter.INDEX_KEY, TokenHash.of(CURRENT_TOKEN));
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 동시에 회전하면 하나만 성공하고 나머지는 불일치")
+    void onlyOneConcurrentRotationSucceeds() throws Exception {
+        // given
+        String current = CURRENT_TOKEN;
+        refreshTokenService.saveRefreshToken(USER_ID, current, Duration.ofDays(14));
+        ExecutorService executor = Executors.newFixedThreadPool(ATTEMPTS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<RotationResult>> futures = new ArrayList<>();
+        for (int i = 0; i < ATTEMPTS; i++) {
+            String next = "refresh-token-next-" + i;
+            futures.add(executor.submit(() -> {
+                start.await();
+                return refreshTokenService.rotate(USER_ID, current, next, Duration.ofDays(14), Duration.ofMinutes(30));
+            }));
+        }
+        start.countDown();
+        List<RotationResult> results = new ArrayList<>();
+        for (Future<RotationResult> future : futures) {
+            results.add(future.get());
+        }
+        executor.shutdown();
+
+        // then
+        Map<RotationResult, Long> counts = results.stream()
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+        assertThat(counts.get(RotationResult.ROTATED)).isEqualTo(1L);
+        assertThat(counts.get(RotationResult.MISMATCH)).isEqualTo(ATTEMPTS - 1L);
+
+        String saved = redisTemplate.opsForValue().get(RefreshTokenService.refreshTokenPrefix + USER_ID);
+        assertThat(saved).isNotEqualTo(TokenHash.of(current)).hasSize(43);
+        assertThat(refreshTokenService.isExist(current, USER_ID)).isFalse();
+        assertThat(redisTemplate.hasKey(TokenStore.key(TokenBlacklistService.BLACKLIST_NAMESPACE, current))).isTrue();
+        assertThat(redisTemplate.opsForZSet().score(TokenBlacklistFilter.INDEX_KEY, TokenHash.of(current))).isNotNull();
+    }
+
+    @Test
+    @DisplayName("저장된 토큰이 없으면 회전하지 않음")
+    void rotationWithoutStoredTokenIsRejected() {
+        // when
+        RotationResult result = refreshTokenService.rotate(MISSING_USER_ID, CURRENT_TOKEN, "refresh-token-next",
+                Duration.ofDays(14), Duration.ofMinutes(30));
+
+        // then
+        assertThat(result).isEqualTo(RotationResult.NOT_FOUND);
+        assertThat(redisTemplate.hasKey(RefreshTokenService.refreshTokenPrefix + MISSING_USER_ID)).isFalse();
+        assertThat(redisTemplate.hasKey(TokenStore.key(TokenBlacklistService.BLACKLIST_NAMESPACE, CURRENT_TOKEN))).isFalse();
+    }
+}
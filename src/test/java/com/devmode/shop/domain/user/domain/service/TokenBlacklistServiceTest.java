@@ -0,0 +1,69 @@
+package com.devmode.shop.domain.user.domain.service;
+
+import com.devmode.shop.global.config.properties.TokenCacheProperties;
+import com.devmode.shop.global.config.properties.TokenStoreProperties;
+import com.devmode.shop.global.security.TokenBlacklistFilter;
+import com.devmode.shop.global.security.TokenStore;
+import com.devmode.shop.global.security.VerifiedTokenCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBlacklistServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private TokenStore tokenStore;
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @Mock
+    private TokenBlacklistFilter tokenBlacklistFilter;
+
+    private TokenBlacklistService tokenBlacklistService;
+
+    @BeforeEach
+    void setUp() {
+        tokenBlacklistService = new TokenBlacklistService(redisTemplate, tokenStore, verifiedTokenCache,
+                tokenBlacklistFilter, new TokenCacheProperties(), new TokenStoreProperties());
+    }
+
+    @Test
+    @DisplayName("필터가 음성이면 Redis 를 조회하지 않고 블랙리스트가 아니라고 판단한다")
+    void filterNegativeSkipsRedis() {
+        // given
+        when(tokenBlacklistFilter.mightBeBlacklisted("clean-token")).thenReturn(false);
+
+        // when
+        boolean blacklisted = tokenBlacklistService.isBlacklistToken("clean-token");
+
+        // then
+        assertThat(blacklisted).isFalse();
+        verifyNoInteractions(tokenStore, redisTemplate);
+    }
+
+    @Test
+    @DisplayName("필터가 양성(또는 첫 재생성 전)이면 Redis 표식으로 확인한다")
+    void filterPositiveChecksRedis() {
+        // given
+        when(tokenBlacklistFilter.mightBeBlacklisted("revoked-token")).thenReturn(true);
+        when(tokenStore.isMarked(TokenBlacklistService.BLACKLIST_NAMESPACE, "revoked-token")).thenReturn(true);
+
+        // when
+        boolean blacklisted = tokenBlacklistService.isBlacklistToken("revoked-token");
+
+        // then
+        assertThat(blacklisted).isTrue();
+    }
+}
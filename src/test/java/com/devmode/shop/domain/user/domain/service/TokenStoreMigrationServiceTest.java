@@ -0,0 +1,120 @@
+package com.devmode.shop.domain.user.domain.service;
+
+import com.devmode.shop.global.config.properties.TokenStoreProperties;
+import com.devmode.shop.global.security.TokenBlacklistFilter;
+import com.devmode.shop.global.security.TokenStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenStoreMigrationServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private Cursor<String> cursor;
+
+    @Mock
+    private TokenStore tokenStore;
+
+    @Mock
+    private TokenBlacklistFilter tokenBlacklistFilter;
+
+    private TokenStoreMigrationService migrationService;
+
+    @BeforeEach
+    void setUp() {
+        migrationService = new TokenStoreMigrationService(redisTemplate, tokenStore, tokenBlacklistFilter,
+                new TokenStoreProperties());
+    }
+
+    @Test
+    @DisplayName("완료 표식이 있으면 재시작해도 SCAN 하지 않는다")
+    void skipsWhenAlreadyMigrated() {
+        // given
+        when(redisTemplate.hasKey(TokenStoreMigrationService.MIGRATED_KEY)).thenReturn(true);
+
+        // when
+        migrationService.migrateOnStartup();
+
+        // then
+        verify(redisTemplate, never()).scan(any());
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("이전을 끝까지 마치면 완료 표식을 남긴다")
+    void marksCompletionAfterMigration() {
+        // given
+        when(redisTemplate.hasKey(TokenStoreMigrationService.MIGRATED_KEY)).thenReturn(false);
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        when(cursor.hasNext()).thenReturn(false);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        migrationService.migrateOnStartup();
+
+        // then
+        verify(redisTemplate, times(2)).scan(any(ScanOptions.class));
+        verify(valueOperations).set(eq(TokenStoreMigrationService.MIGRATED_KEY), anyString());
+    }
+
+    @Test
+    @DisplayName("블랙리스트는 다이제스트 키만 쓰고 원문 키는 구버전 노드가 계속 읽도록 지우지 않는다")
+    void migrateBlacklistKeepsLegacyKeys() {
+        // given
+        String token = "header.payload.signature";
+        String legacyKey = TokenBlacklistService.LEGACY_BLACKLIST_PREFIX + token;
+        String persistentKey = TokenBlacklistService.LEGACY_BLACKLIST_PREFIX + "other.payload.signature";
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        when(cursor.hasNext()).thenReturn(true, true, false);
+        when(cursor.next()).thenReturn(legacyKey, persistentKey);
+        when(redisTemplate.getExpire(legacyKey, TimeUnit.MILLISECONDS)).thenReturn(60_000L);
+        when(redisTemplate.getExpire(persistentKey, TimeUnit.MILLISECONDS)).thenReturn(-1L);
+
+        // when
+        long migrated = migrationService.migrateBlacklist();
+
+        // then
+        assertThat(migrated).isEqualTo(1L);
+        verify(tokenStore).mark(TokenBlacklistService.BLACKLIST_NAMESPACE, token, Duration.ofMinutes(1));
+        verify(tokenBlacklistFilter).record(token, Duration.ofMinutes(1));
+        verify(redisTemplate, never()).unlink(anyString());
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("이전 중 실패하면 완료 표식을 남기지 않아 다음 기동에서 다시 시도한다")
+    void doesNotMarkCompletionOnFailure() {
+        // given
+        when(redisTemplate.hasKey(TokenStoreMigrationService.MIGRATED_KEY)).thenReturn(false);
+        when(redisTemplate.scan(any(ScanOptions.class))).thenThrow(new IllegalStateException("connection lost"));
+
+        // when
+        migrationService.migrateOnStartup();
+
+        // then
+        verify(redisTemplate, never()).opsForValue();
+    }
+}
@@ -0,0 +1,155 @@
+package com.devmode.shop.domain.user.domain.service;
+
+import com.devmode.shop.domain.user.domain.repository.projection.UserProfile;
+import com.devmode.shop.global.config.properties.UserProfileCacheProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserProfileCacheTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private static final List<String> KEYS = List.of("USER_PROFILE:testuser", "USER_PROFILE_VERSION:testuser");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final UserProfile profile = new UserProfile("testuser", "테스트유저", "test@example.com", "1990-01-01");
+    private UserProfileCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new UserProfileCache(redisTemplate, objectMapper, new UserProfileCacheProperties());
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("미스 시 DB 에서 읽어 Redis 와 로컬에 저장하고, 다음 조회는 로컬에서 응답")
+    void loadsOnceThenServesFromLocal() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        Optional<UserProfile> first = cache.get("testuser", () -> {
+            loads.incrementAndGet();
+            return Optional.of(profile);
+        });
+        Optional<UserProfile> second = cache.get("testuser", () -> {
+            loads.incrementAndGet();
+            return Optional.of(profile);
+        });
+
+        // then
+        assertThat(first).contains(profile);
+        assertThat(second).contains(profile);
+        assertThat(loads).hasValue(1);
+        verify(valueOperations, times(1)).get("USER_PROFILE:testuser");
+        verify(redisTemplate).execute(any(RedisScript.class), eq(KEYS), eq(""),
+                eq(objectMapper.writeValueAsString(profile)), eq("600"));
+    }
+
+    @Test
+    @DisplayName("Redis 에 있으면 DB 를 조회하지 않음")
+    void servesFromRedis() throws Exception {
+        // given
+        when(valueOperations.get("USER_PROFILE:testuser")).thenReturn(objectMapper.writeValueAsString(profile));
+
+        // when
+        Optional<UserProfile> result = cache.get("testuser", () -> {
+            throw new AssertionError("DB should not be queried");
+        });
+
+        // then
+        assertThat(result).contains(profile);
+    }
+
+    @Test
+    @DisplayName("무효화하면 로컬/Redis 항목을 지우고 다른 인스턴스에 전파")
+    void evictClearsBothTiersAndPublishes() {
+        // given
+        cache.get("testuser", () -> Optional.of(profile));
+
+        // when
+        cache.evict("testuser");
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("testuser", () -> {
+            loads.incrementAndGet();
+            return Optional.of(profile);
+        });
+
+        // then
+        verify(valueOperations).increment("USER_PROFILE_VERSION:testuser");
+        verify(redisTemplate).delete("USER_PROFILE:testuser");
+        verify(redisTemplate).convertAndSend("user_profile_invalidation", "testuser");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 캐시하지 않음")
+    void doesNotCacheMissingUser() {
+        // when
+        Optional<UserProfile> result = cache.get("nobody", Optional::empty);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("DB 조회 도중 무효화되면 읽기 전 버전으로 조건부 저장하고, 로컬에는 저장하지 않음")
+    void loadRacingWithEvictionIsNotCached() throws Exception {
+        // given
+        when(valueOperations.get("USER_PROFILE_VERSION:testuser")).thenReturn("3");
+        AtomicInteger loads = new AtomicInteger();
+
+        // when (변경 전 값을 읽은 직후 변경 트랜잭션이 커밋되어 무효화)
+        cache.get("testuser", () -> {
+            loads.incrementAndGet();
+            cache.evict("testuser");
+            return Optional.of(profile);
+        });
+        cache.get("testuser", () -> {
+            loads.incrementAndGet();
+            return Optional.of(profile);
+        });
+
+        // then
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), eq(KEYS), eq("3"),
+                eq(objectMapper.writeValueAsString(profile)), eq("600"));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Redis 조회에 실패하면 버전을 알 수 없으므로 Redis 에 저장하지 않음")
+    void skipsRedisWriteWhenVersionUnknown() {
+        // given
+        when(valueOperations.get("USER_PROFILE:testuser")).thenThrow(new IllegalStateException("connection refused"));
+
+        // when
+        Optional<UserProfile> result = cache.get("testuser", () -> Optional.of(profile));
+
+        // then
+        assertThat(result).contains(profile);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+}
@@ -0,0 +1,137 @@
+package com.devmode.shop.domain.user.domain.service;
+
+import com.devmode.shop.domain.user.application.dto.request.SignUpRequest;
+import com.devmode.shop.domain.user.domain.repository.UserRepository;
+import com.devmode.shop.global.exception.RestApiException;
+import com.devmode.shop.global.exception.code.status.AuthErrorStatus;
+import com.devmode.shop.global.security.PasswordHasher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 가입은 INSERT 한 번으로 처리하고 중복은 제약 조건 위반으로 분류
+ * 테스트 트랜잭션 없이 스레드마다 각자 커밋하여 동시 가입을 재현한다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UserServiceSignUpConcurrencyTest {
+
+    private static final int ATTEMPTS = 16;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        PasswordHasher passwordHasher = mock(PasswordHasher.class);
+        when(passwordHasher.encode(anyString())).thenReturn("encodedPassword");
+        userService = new UserService(userRepository, passwordHasher, mock(UserProfileCache.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("이미 있는 아이디/이메일로 가입하면 각각의 오류로 분류하고 기존 사용자는 바뀌지 않는다")
+    void classifiesDuplicateUserIdAndEmail() {
+        // given
+        userService.save(request("testuser", "test@example.com"));
+
+        // when & then
+        assertThatThrownBy(() -> userService.save(request("testuser", "other@example.com")))
+                .isInstanceOf(RestApiException.class)
+                .extracting(e -> ((RestApiException) e).getErrorCode())
+                .isEqualTo(AuthErrorStatus.ALREADY_REGISTERED_USER_ID.getCode());
+        assertThatThrownBy(() -> userService.save(request("otheruser", "test@example.com")))
+                .isInstanceOf(RestApiException.class)
+                .extracting(e -> ((RestApiException) e).getErrorCode())
+                .isEqualTo(AuthErrorStatus.ALREADY_REGISTERED_EMAIL.getCode());
+        assertThat(userRepository.findByUserId("testuser")).get()
+                .extracting(user -> user.getEmail()).isEqualTo("test@example.com");
+        assertThat(userRepository.count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("같은 아이디로 동시에 가입하면 하나만 성공하고 나머지는 아이디 중복")
+    void concurrentSignUpsWithSameUserId() throws Exception {
+        // when
+        List<Object> results = signUpConcurrently(i -> request("sameuser", "user" + i + "@example.com"));
+
+        // then
+        assertThat(results).filteredOn("OK"::equals).hasSize(1);
+        assertThat(results).filteredOn(AuthErrorStatus.ALREADY_REGISTERED_USER_ID.getCode()::equals)
+                .hasSize(ATTEMPTS - 1);
+        assertThat(userRepository.count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("같은 이메일로 동시에 가입하면 하나만 성공하고 나머지는 이메일 중복")
+    void concurrentSignUpsWithSameEmail() throws Exception {
+        // when
+        List<Object> results = signUpConcurrently(i -> request("user" + i, "same@example.com"));
+
+        // then
+        assertThat(results).filteredOn("OK"::equals).hasSize(1);
+        assertThat(results).filteredOn(AuthErrorStatus.ALREADY_REGISTERED_EMAIL.getCode()::equals)
+                .hasSize(ATTEMPTS - 1);
+        assertThat(userRepository.count()).isEqualTo(1L);
+    }
+
+    /**
+     * 결과: 성공 시 "OK", 실패 시 오류 코드(BaseCode)
+     */
+    private List<Object> signUpConcurrently(IntFunction<SignUpRequest> requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(ATTEMPTS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> futures = new ArrayList<>();
+        for (int i = 0; i < ATTEMPTS; i++) {
+            SignUpRequest request = requests.apply(i);
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    userService.save(request);
+                    return "OK";
+                } catch (RestApiException e) {
+                    return e.getErrorCode();
+                }
+            }));
+        }
+        start.countDown();
+        List<Object> results = new ArrayList<>();
+        for (Future<Object> future : futures) {
+            results.add(future.get());
+        }
+        executor.shutdown();
+        return results;
+    }
+
+    private static SignUpRequest request(String userId, String email) {
+        return new SignUpRequest(email, userId, "password123", "테스트유저", "1990-01-01");
+    }
+}
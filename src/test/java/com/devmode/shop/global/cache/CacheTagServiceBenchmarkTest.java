@@ -0,0 +1,140 @@
+package com.devmode.shop.global.cache;
+
+import com.devmode.shop.global.config.properties.CacheInvalidationProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 키 1,000,000개가 있는 Redis 에서 무효화 중 다른 요청의 지연 측정 (./gradlew benchmark)
+ * KEYS 는 전체 키 공간을 한 번에 훑는 동안 다른 명령을 막고, 태그 무효화는 태그 집합만 나눠 읽는다.
+ * 로컬 Redis(-Dbenchmark.redis.host, 기본 localhost:6379)가 없으면 건너뛴다. 측정 후 사용한 DB 를 비운다.
+ */
+@Tag("benchmark")
+class CacheTagServiceBenchmarkTest {
+
+    private static final int TOTAL_KEYS = 1_000_000;
+    private static final int TAGGED_KEYS = 1_000;
+    private static final int LOAD_BATCH = 10_000;
+    private static final int DATABASE = 15;
+
+    private LettuceConnectionFactory connectionFactory;
+    private StringRedisTemplate redisTemplate;
+    private CacheTagService cacheTagService;
+
+    @BeforeEach
+    void setUp() {
+        connectionFactory = new LettuceConnectionFactory(
+                System.getProperty("benchmark.redis.host", "localhost"),
+                Integer.getInteger("benchmark.redis.port", 6379));
+        connectionFactory.setDatabase(DATABASE);
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        try {
+            redisTemplate.execute((RedisCallback<String>) connection -> connection.ping());
+        } catch (Exception e) {
+            connectionFactory.destroy();
+            assumeTrue(false, "Redis 에 연결할 수 없어 측정을 건너뜀");
+        }
+        cacheTagService = new CacheTagService(redisTemplate, new CacheInvalidationProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+        connectionFactory.destroy();
+    }
+
+    @Test
+    @DisplayName("100만 키에서 KEYS 삭제 중과 태그 무효화 중의 다른 요청 지연 비교")
+    void measureLatencyDuringInvalidation() throws Exception {
+        // given
+        load("keys-path");
+        load("tag-path");
+        List<String> tagged = taggedKeys("tag-path");
+        for (int i = 0; i < tagged.size(); i += 100) {
+            cacheTagService.tag("trend_search:tag-path", tagged.subList(i, Math.min(i + 100, tagged.size())));
+        }
+
+        // when
+        long keysMaxMicros = probeWhile(() -> {
+            Set<String> keys = redisTemplate.keys("trend_search:keys-path:*");
+            redisTemplate.delete(keys);
+        });
+        long tagMaxMicros = probeWhile(() -> cacheTagService.invalidateTag("trend_search:tag-path"));
+
+        // then
+        System.out.printf("[Benchmark] probe max latency - KEYS+DEL: %,d us, tag UNLINK: %,d us%n",
+                keysMaxMicros, tagMaxMicros);
+        assertThat(redisTemplate.hasKey(tagged.get(0))).isFalse();
+        assertThat(redisTemplate.hasKey("trend_search:keys-path:0")).isFalse();
+        assertThat(tagMaxMicros).isLessThan(keysMaxMicros);
+    }
+
+    /**
+     * 키워드 1개의 캐시 키(TAGGED_KEYS)와 나머지 키를 합쳐 TOTAL_KEYS/2 개를 파이프라인으로 저장
+     */
+    private void load(String keyword) {
+        StringRedisSerializer serializer = StringRedisSerializer.UTF_8;
+        byte[] value = serializer.serialize("{\"cached\":true}");
+        for (int start = 0; start < TOTAL_KEYS / 2; start += LOAD_BATCH) {
+            int from = start;
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (int i = from; i < from + LOAD_BATCH; i++) {
+                    String key = i < TAGGED_KEYS
+                            ? "trend_search:" + keyword + ":" + i
+                            : "trend_search:other-" + keyword + "-" + i + ":0";
+                    connection.stringCommands().set(serializer.serialize(key), value);
+                }
+                return null;
+            });
+        }
+    }
+
+    private List<String> taggedKeys(String keyword) {
+        List<String> keys = new ArrayList<>(TAGGED_KEYS);
+        for (int i = 0; i < TAGGED_KEYS; i++) {
+            keys.add("trend_search:" + keyword + ":" + i);
+        }
+        return keys;
+    }
+
+    /**
+     * 무효화 작업을 실행하는 동안 별도 스레드에서 GET 을 반복하며 최대 지연(us) 기록
+     */
+    private long probeWhile(Runnable invalidation) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        long[] maxNanos = new long[1];
+        Thread probe = new Thread(() -> {
+            while (running.get()) {
+                long start = System.nanoTime();
+                redisTemplate.opsForValue().get("trend_search:probe");
+                maxNanos[0] = Math.max(maxNanos[0], System.nanoTime() - start);
+            }
+        });
+        probe.start();
+        Thread.sleep(50);
+        invalidation.run();
+        Thread.sleep(50);
+        running.set(false);
+        probe.join();
+        return maxNanos[0] / 1_000;
+    }
+}
@@ -0,0 +1,93 @@
+package com.devmode.shop.global.cache;
+
+import com.devmode.shop.global.config.properties.CacheInvalidationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SetOperations;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheTagServiceTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private Cursor<String> cursor;
+
+    private CacheInvalidationProperties properties;
+    private CacheTagService cacheTagService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheInvalidationProperties();
+        cacheTagService = new CacheTagService(redisTemplate, properties);
+    }
+
+    @Test
+    @DisplayName("태그 집합을 임시 키로 옮긴 뒤 그 키만 읽어 삭제하므로 읽는 동안 새로 기록된 태그는 남는다")
+    void invalidateTagDrainsRenamedSet() {
+        // given
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(setOperations.scan(anyString(), any(ScanOptions.class))).thenReturn(cursor);
+        when(cursor.hasNext()).thenReturn(true, true, false);
+        when(cursor.next()).thenReturn("trend_search:laptop:1", "trend_search:laptop:2");
+
+        // when
+        long removed = cacheTagService.invalidateTag("trend_search:laptop");
+
+        // then
+        ArgumentCaptor<String> drainKey = ArgumentCaptor.forClass(String.class);
+        InOrder inOrder = inOrder(redisTemplate, setOperations);
+        inOrder.verify(redisTemplate).rename(eq("cache_tag:trend_search:laptop"), drainKey.capture());
+        inOrder.verify(setOperations).scan(eq(drainKey.getValue()), any(ScanOptions.class));
+        inOrder.verify(redisTemplate).unlink(List.of("trend_search:laptop:1", "trend_search:laptop:2"));
+        inOrder.verify(redisTemplate).unlink(drainKey.getValue());
+        verify(redisTemplate, never()).unlink("cache_tag:trend_search:laptop");
+        assertThat(drainKey.getValue()).startsWith("cache_tag:trend_search:laptop:draining:");
+        assertThat(removed).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("태그 집합이 없으면 아무 키도 지우지 않고, 기본값에서는 SCAN 정리를 하지 않는다")
+    void invalidateWithoutTagSkipsLegacyScanByDefault() {
+        // given
+        doThrow(new RedisSystemException("ERR no such key", null)).when(redisTemplate).rename(anyString(), anyString());
+        when(redisTemplate.hasKey("cache_tag:trend_search:laptop")).thenReturn(false);
+
+        // when
+        long removed = cacheTagService.invalidate("trend_search:laptop", "trend_search:laptop:");
+
+        // then
+        assertThat(removed).isZero();
+        verify(redisTemplate, never()).scan(any());
+    }
+
+    @Test
+    @DisplayName("키워드에 포함된 glob 문자는 SCAN MATCH 에서 문자 그대로 매칭되도록 이스케이프한다")
+    void escapeGlobEscapesPatternCharacters() {
+        assertThat(CacheTagService.escapeGlob("trend_search:a*b?[c]\\d:"))
+                .isEqualTo("trend_search:a\\*b\\?\\[c\\]\\\\d:");
+        assertThat(CacheTagService.escapeGlob("노트북")).isEqualTo("노트북");
+    }
+}
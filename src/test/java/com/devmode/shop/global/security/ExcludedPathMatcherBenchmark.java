@@ -0,0 +1,74 @@
+package com.devmode.shop.global.security;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터의 제외 경로 판단 비용 비교 (설정된 16개 규칙)
+ * legacy: 요청마다 모든 패턴을 파싱하고 HttpMethod 변환
+ * compiled: 기동 시 컴파일한 RequestPathMatcher
+ * 실행: ./gradlew jmh -PjmhArgs="ExcludedPathMatcherBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExcludedPathMatcherBenchmark {
+
+    private static final List<RequestPathMatcher.Rule> RULES = List.of(
+            new RequestPathMatcher.Rule("/api/users/signup", "POST"),
+            new RequestPathMatcher.Rule("/api/users/login", "POST"),
+            new RequestPathMatcher.Rule("/api/products/search", "GET"),
+            new RequestPathMatcher.Rule("/api/products/*/price-history", "GET"),
+            new RequestPathMatcher.Rule("/api/products/*/lowest-price", "GET"),
+            new RequestPathMatcher.Rule("/api/products/health", "GET"),
+            new RequestPathMatcher.Rule("/api/trends/health", "GET"),
+            new RequestPathMatcher.Rule("/swagger-ui.html", "GET"),
+            new RequestPathMatcher.Rule("/swagger-ui/index.html", "GET"),
+            new RequestPathMatcher.Rule("/swagger-ui/**", "GET"),
+            new RequestPathMatcher.Rule("/v3/api-docs", "GET"),
+            new RequestPathMatcher.Rule("/v3/api-docs/swagger-config", "GET"),
+            new RequestPathMatcher.Rule("/webjars", "GET"),
+            new RequestPathMatcher.Rule("/api/batch/transcript/execute", "POST"),
+            new RequestPathMatcher.Rule("/actuator/**", "GET"),
+            new RequestPathMatcher.Rule("/**", "OPTIONS")
+    );
+
+    @Param({"POST /api/trends/search", "GET /api/products/123/price-history"})
+    public String request;
+
+    private final PathPatternParser pathPatternParser = new PathPatternParser();
+    private RequestPathMatcher matcher;
+    private String method;
+    private String path;
+
+    @Setup
+    public void setUp() {
+        matcher = RequestPathMatcher.compile(RULES);
+        method = request.substring(0, request.indexOf(' '));
+        path = request.substring(request.indexOf(' ') + 1);
+    }
+
+    @Benchmark
+    public boolean legacy() {
+        HttpMethod requestMethod = HttpMethod.valueOf(method);
+        return RULES.stream()
+                .anyMatch(rule ->
+                        pathPatternParser.parse(rule.pathPattern())
+                                .matches(PathContainer.parsePath(path))
+                        && requestMethod.equals(HttpMethod.valueOf(rule.method()))
+                );
+    }
+
+    @Benchmark
+    public boolean compiled() {
+        return matcher.matches(method, path);
+    }
+}
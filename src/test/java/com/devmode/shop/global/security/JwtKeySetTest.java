@@ -0,0 +1,118 @@
+package com.devmode.shop.global.security;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.util.Base64;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.devmode.shop.global.config.properties.JwtKeySetProperties;
+import com.devmode.shop.global.config.properties.TokenCacheProperties;
+
+class JwtKeySetTest {
+
+	private static KeyPair oldKeys;
+	private static KeyPair newKeys;
+
+	@BeforeAll
+	static void generateKeys() throws Exception {
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		oldKeys = generator.generateKeyPair();
+		newKeys = generator.generateKeyPair();
+	}
+
+	@Test
+	@DisplayName("RS256 서명 노드가 발급한 토큰을 공개키만 가진 검증 노드가 검증")
+	void verificationOnlyNodeAcceptsSignedToken() {
+		// given
+		TokenProvider signer = provider("RS256", "k1", entry("k1", oldKeys, true));
+		TokenProvider verifier = provider("RS256", null, entry("k1", oldKeys, false));
+
+		// when
+		String token = signer.createAccessToken("testuser");
+
+		// then
+		assertEquals("testuser", verifier.getId(token).orElse(null));
+		assertThrows(IllegalStateException.class, () -> verifier.createAccessToken("testuser"));
+	}
+
+	@Test
+	@DisplayName("키 교체 후에도 이전 kid 로 서명한 토큰은 키가 남아 있는 동안 검증")
+	void rotatedKeyKeepsOldTokensValid() {
+		// given
+		String oldToken = provider("RS256", "k1", entry("k1", oldKeys, true)).createAccessToken("olduser");
+		String newToken = provider("RS256", "k2", entry("k1", oldKeys, false), entry("k2", newKeys, true))
+				.createAccessToken("newuser");
+
+		// when
+		TokenProvider verifier = provider("RS256", null, entry("k1", oldKeys, false), entry("k2", newKeys, false));
+		TokenProvider retiredVerifier = provider("RS256", null, entry("k2", newKeys, false));
+
+		// then
+		assertEquals("olduser", verifier.getId(oldToken).orElse(null));
+		assertEquals("newuser", verifier.getId(newToken).orElse(null));
+		assertFalse(retiredVerifier.validateToken(oldToken));
+		assertTrue(retiredVerifier.validateToken(newToken));
+	}
+
+	@Test
+	@DisplayName("모르는 kid 나 HS256 으로 서명한 토큰은 RS256 노드에서 거부")
+	void rejectsUnknownKidAndAlgorithmMismatch() {
+		// given
+		TokenProvider verifier = provider("RS256", null, entry("k1", oldKeys, false));
+		String unknownKid = provider("RS256", "k9", entry("k9", oldKeys, true)).createAccessToken("testuser");
+		String hmacToken = provider("HS256", null).createAccessToken("testuser");
+
+		// when & then
+		assertFalse(verifier.validateToken(unknownKid));
+		assertFalse(verifier.validateToken(hmacToken));
+	}
+
+	@Test
+	@DisplayName("active-kid 가 키 목록에 없으면 기동 실패")
+	void failsWhenActiveKidIsMissing() {
+		JwtKeySetProperties properties = keySetProperties("RS256", "k2", entry("k1", oldKeys, true));
+
+		assertThrows(IllegalStateException.class, () -> new JwtKeySet(jwtProperties(), properties));
+	}
+
+	private static TokenProvider provider(String algorithm, String activeKid, JwtKeySetProperties.KeyEntry... entries) {
+		JwtProperties jwtProperties = jwtProperties();
+		return new TokenProvider(jwtProperties,
+				new JwtKeySet(jwtProperties, keySetProperties(algorithm, activeKid, entries)),
+				new VerifiedTokenCache(new TokenCacheProperties()));
+	}
+
+	private static JwtKeySetProperties keySetProperties(String algorithm, String activeKid,
+			JwtKeySetProperties.KeyEntry... entries) {
+		JwtKeySetProperties properties = new JwtKeySetProperties();
+		properties.setAlgorithm(algorithm);
+		properties.setActiveKid(activeKid);
+		properties.setKeys(List.of(entries));
+		return properties;
+	}
+
+	private static JwtProperties jwtProperties() {
+		JwtProperties props = new JwtProperties();
+		props.setKey("0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef");
+		props.setAccessTokenExpirationPeriodDay(86400000L);
+		props.setRefreshTokenExpirationPeriodDay(1209600000L);
+		return props;
+	}
+
+	private static JwtKeySetProperties.KeyEntry entry(String kid, KeyPair keyPair, boolean withPrivateKey) {
+		JwtKeySetProperties.KeyEntry entry = new JwtKeySetProperties.KeyEntry();
+		entry.setKid(kid);
+		entry.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+		if (withPrivateKey) {
+			entry.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+		}
+		return entry;
+	}
+}
@@ -0,0 +1,121 @@
+package com.devmode.shop.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.devmode.shop.global.config.PasswordHashingExecutorConfig;
+import com.devmode.shop.global.config.properties.PasswordHashingProperties;
+import com.devmode.shop.global.exception.RestApiException;
+import com.devmode.shop.global.exception.code.status.GlobalErrorStatus;
+
+class PasswordHasherTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private ThreadPoolTaskExecutor executor;
+
+	@AfterEach
+	void tearDown() {
+		if (executor != null) {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	@DisplayName("동시 실행 수와 대기열이 가득 차면 즉시 429 로 거절")
+	void shedsWhenSaturated() throws Exception {
+		// given
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		PasswordHasher hasher = hasher(new BlockingEncoder(started, release), 1, 0, 5000L);
+		CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> hasher.matches("pw", "hash"));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		// when & then
+		assertThatThrownBy(() -> hasher.matches("pw", "hash"))
+				.isInstanceOf(RestApiException.class)
+				.extracting(e -> ((RestApiException) e).getErrorCode())
+				.isEqualTo(GlobalErrorStatus._TOO_MANY_REQUEST.getCode());
+		assertThat(hasher.stats().rejected()).isEqualTo(1L);
+		assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1d);
+		assertThat(meterRegistry.get("password.hashing.active").gauge().value()).isEqualTo(1d);
+
+		release.countDown();
+		assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	@DisplayName("제한 시간 안에 해시하지 못하면 429 로 거절")
+	void timesOutWhileWaiting() throws Exception {
+		// given
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		PasswordHasher hasher = hasher(new BlockingEncoder(started, release), 1, 1, 50L);
+
+		// when & then
+		assertThatThrownBy(() -> hasher.matches("pw", "hash")).isInstanceOf(RestApiException.class);
+		assertThat(hasher.stats().timedOut()).isEqualTo(1L);
+		assertThat(meterRegistry.get("password.hashing.timeouts").counter().count()).isEqualTo(1d);
+		release.countDown();
+	}
+
+	@Test
+	@DisplayName("저장된 해시의 cost 가 설정보다 낮으면 재해시 대상")
+	void detectsLowerCost() {
+		// given
+		String oldHash = new BCryptPasswordEncoder(4).encode("password");
+		PasswordHasher hasher = hasher(new BCryptPasswordEncoder(5), 1, 4, 5000L);
+
+		// when
+		String newHash = hasher.encode("password");
+
+		// then
+		assertThat(hasher.upgradeEncoding(oldHash)).isTrue();
+		assertThat(hasher.upgradeEncoding(newHash)).isFalse();
+		assertThat(hasher.matches("password", oldHash)).isTrue();
+		assertThat(hasher.matches("password", newHash)).isTrue();
+	}
+
+	private PasswordHasher hasher(PasswordEncoder encoder, int concurrency, int queueCapacity, long timeoutMs) {
+		PasswordHashingProperties properties = new PasswordHashingProperties();
+		properties.setConcurrency(concurrency);
+		properties.setQueueCapacity(queueCapacity);
+		properties.setTimeoutMs(timeoutMs);
+		executor = new PasswordHashingExecutorConfig(properties).passwordHashingExecutor();
+		return new PasswordHasher(encoder, executor, properties, meterRegistry);
+	}
+
+	/**
+	 * release 될 때까지 해시를 붙잡고 있는 인코더
+	 */
+	private record BlockingEncoder(CountDownLatch started, CountDownLatch release) implements PasswordEncoder {
+
+		@Override
+		public String encode(CharSequence rawPassword) {
+			return "hash";
+		}
+
+		@Override
+		public boolean matches(CharSequence rawPassword, String encodedPassword) {
+			started.countDown();
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,256 @@
+package com.devmode.shop.global.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.devmode.shop.domain.product.application.dto.request.ProductSearchRequest;
+import com.devmode.shop.domain.product.domain.entity.Product;
+import com.devmode.shop.domain.product.domain.repository.ProductBulkRepository;
+import com.devmode.shop.domain.product.domain.repository.ProductLocalSearchRepository;
+import com.devmode.shop.domain.product.domain.service.ProductLocalSearchService;
+import com.devmode.shop.domain.product.domain.service.ProductNormalizationService;
+import com.devmode.shop.domain.user.application.dto.request.LoginRequest;
+import com.devmode.shop.domain.user.application.usecase.UserAuthUseCase;
+import com.devmode.shop.domain.user.domain.entity.User;
+import com.devmode.shop.domain.user.domain.repository.UserRepository;
+import com.devmode.shop.domain.user.domain.service.RefreshTokenService;
+import com.devmode.shop.domain.user.domain.service.TokenBlacklistService;
+import com.devmode.shop.domain.user.domain.service.UserProfileCache;
+import com.devmode.shop.domain.user.domain.service.UserService;
+import com.devmode.shop.global.config.PasswordHashingExecutorConfig;
+import com.devmode.shop.global.config.properties.JwtKeySetProperties;
+import com.devmode.shop.global.config.properties.PasswordHashingProperties;
+import com.devmode.shop.global.config.properties.TokenCacheProperties;
+import com.devmode.shop.global.exception.RestApiException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 로그인 폭주 중 검색 지연 측정 (./gradlew benchmark)
+ * 요청 스레드 풀(Tomcat 대용)에 실제 로그인(UserAuthUseCase.login: 사용자 조회, BCrypt 비교, JWT 발급)과
+ * 실제 카탈로그 검색(ProductLocalSearchService.searchProducts)을 섞어 넣고,
+ * 요청 스레드에서 바로 해시하는 경우와 PasswordHasher 전용 풀로 넘기는 경우의 검색 p50/p99 를 비교한다.
+ * refresh token 저장(Redis)만 mock 으로 대체한다.
+ */
+@Tag("benchmark")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ProductBulkRepository.class, ProductLocalSearchRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PasswordHashingLoadTest {
+
+	private static final int REQUEST_THREADS = 64;
+	private static final int USERS = 50;
+	private static final int PRODUCTS = 5_000;
+	private static final int LOGINS = 400;
+	private static final int SEARCHES = 4000;
+	private static final int BCRYPT_COST = 10;
+	private static final String PASSWORD = "password123";
+	private static final String JWT_KEY = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+	private static final List<String> KEYWORDS = List.of("노트북", "갤럭시북", "그램", "무선 마우스", "lg", "삼성");
+	private static final List<String> BRANDS = List.of("삼성", "LG", "로지텍", "애플", "레노버");
+	private static final List<String> NAMES = List.of("갤럭시북3 프로 노트북", "그램 16 노트북", "무선 마우스",
+			"맥북 에어 노트북", "씽크패드 노트북", "게이밍 키보드");
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private ProductBulkRepository productBulkRepository;
+
+	@Autowired
+	private ProductLocalSearchRepository productLocalSearchRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(BCRYPT_COST);
+	private ProductLocalSearchService searchService;
+	private TokenProvider tokenProvider;
+
+	@BeforeEach
+	void setUp() {
+		String encoded = encoder.encode(PASSWORD);
+		userRepository.saveAll(IntStream.range(0, USERS)
+				.mapToObj(i -> User.builder()
+						.userId("loaduser" + i)
+						.email("loaduser" + i + "@example.com")
+						.password(encoded)
+						.name("부하테스트")
+						.birth("1990-01-01")
+						.build())
+				.toList());
+		productBulkRepository.upsertAll(IntStream.range(0, PRODUCTS).mapToObj(PasswordHashingLoadTest::product).toList());
+		searchService = new ProductLocalSearchService(productLocalSearchRepository, new ProductNormalizationService());
+
+		JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.setKey(JWT_KEY);
+		jwtProperties.setAccessTokenExpirationPeriodDay(3_600_000L);
+		jwtProperties.setRefreshTokenExpirationPeriodDay(1_209_600_000L);
+		tokenProvider = new TokenProvider(jwtProperties, new JwtKeySet(jwtProperties, new JwtKeySetProperties()),
+				new VerifiedTokenCache(new TokenCacheProperties()));
+	}
+
+	@AfterEach
+	void tearDown() {
+		userRepository.deleteAll();
+		jdbcTemplate.update("DELETE FROM products");
+	}
+
+	@Test
+	@DisplayName("로그인과 검색을 섞은 부하에서 전용 해시 풀이 검색 지연을 줄이는지 측정")
+	void measureSearchLatencyDuringLoginBurst() throws Exception {
+		// given
+		PasswordHashingProperties properties = new PasswordHashingProperties();
+		properties.setStrength(BCRYPT_COST);
+		ThreadPoolTaskExecutor hashingExecutor = new PasswordHashingExecutorConfig(properties).passwordHashingExecutor();
+		PasswordHasher pooled = new PasswordHasher(encoder, hashingExecutor, properties, new SimpleMeterRegistry());
+		PasswordHasher direct = new RequestThreadHasher(encoder, hashingExecutor, properties);
+		UserAuthUseCase directAuth = userAuthUseCase(direct);
+		UserAuthUseCase pooledAuth = userAuthUseCase(pooled);
+		run("warm-up", directAuth);
+
+		// when
+		Result directResult = run("request thread", directAuth);
+		Result pooledResult = run("hashing pool", pooledAuth);
+		hashingExecutor.shutdown();
+
+		// then
+		System.out.printf("[Benchmark] hashing pool stats: %s%n", pooled.stats());
+		assertThat(directResult.searchLatencies()).hasSize(SEARCHES);
+		assertThat(directResult.loginsOk()).isEqualTo(LOGINS);
+		assertThat(pooledResult.searchLatencies()).hasSize(SEARCHES);
+		assertThat(pooledResult.loginsOk() + pooledResult.loginsShed()).isEqualTo(LOGINS);
+	}
+
+	private UserAuthUseCase userAuthUseCase(PasswordHasher passwordHasher) {
+		UserService userService = new UserService(userRepository, passwordHasher, mock(UserProfileCache.class));
+		return new UserAuthUseCase(userService, passwordHasher, tokenProvider,
+				mock(RefreshTokenService.class), mock(TokenBlacklistService.class));
+	}
+
+	private Result run(String label, UserAuthUseCase userAuthUseCase) throws Exception {
+		ExecutorService requestThreads = Executors.newFixedThreadPool(REQUEST_THREADS);
+		long[] searchLatencies = new long[SEARCHES];
+		AtomicInteger searchIndex = new AtomicInteger();
+		AtomicInteger loginsOk = new AtomicInteger();
+		AtomicInteger loginsShed = new AtomicInteger();
+
+		// 검색 10건마다 로그인 1건 비율로 섞음
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		long start = System.nanoTime();
+		for (int i = 0, logins = 0; i < SEARCHES; i++) {
+			if (i % (SEARCHES / LOGINS) == 0 && logins < LOGINS) {
+				LoginRequest request = new LoginRequest("loaduser" + (logins++ % USERS), PASSWORD);
+				futures.add(CompletableFuture.runAsync(() -> {
+					try {
+						userAuthUseCase.login(request);
+						loginsOk.incrementAndGet();
+					} catch (RestApiException e) {
+						loginsShed.incrementAndGet();
+					}
+				}, requestThreads));
+			}
+			ProductSearchRequest request = ProductSearchRequest.of(KEYWORDS.get(i % KEYWORDS.size()));
+			long submitted = System.nanoTime();
+			futures.add(CompletableFuture.runAsync(() -> {
+				searchService.searchProducts(request);
+				searchLatencies[searchIndex.getAndIncrement()] = System.nanoTime() - submitted;
+			}, requestThreads));
+		}
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+		requestThreads.shutdown();
+
+		long[] sorted = searchLatencies.clone();
+		Arrays.sort(sorted);
+		System.out.printf("[Benchmark] %-14s total %,d ms, search p50 %,d us, p99 %,d us, logins ok %d, shed %d%n",
+				label, elapsedMs, sorted[sorted.length / 2] / 1000, sorted[sorted.length * 99 / 100] / 1000,
+				loginsOk.get(), loginsShed.get());
+		return new Result(searchLatencies, loginsOk.get(), loginsShed.get());
+	}
+
+	private static Product product(int i) {
+		String brand = BRANDS.get(i % BRANDS.size());
+		String naverProductId = "load" + i;
+		int price = 30_000 + (i % 100) * 20_000;
+		return Product.builder()
+				.title(brand + " " + NAMES.get(i % NAMES.size()) + " " + i)
+				.link("https://shopping.naver.com/" + naverProductId)
+				.image("")
+				.lprice(BigDecimal.valueOf(price))
+				.hprice(BigDecimal.valueOf(price))
+				.mallName("네이버")
+				.productId(naverProductId)
+				.productType("신상품")
+				.brand(brand)
+				.maker(brand)
+				.category1("디지털/가전")
+				.category2("")
+				.category3("")
+				.category4("")
+				.searchKeyword("노트북")
+				.naverProductId(naverProductId)
+				.isUsed(false)
+				.isRental(false)
+				.isOverseas(false)
+				.isNPay(false)
+				.reviewCount(i % 500)
+				.rating(4.5)
+				.shippingInfo("무료배송")
+				.additionalInfo("")
+				.build();
+	}
+
+	/**
+	 * 비교 기준: 전용 풀 없이 요청 스레드에서 바로 해시
+	 */
+	private static class RequestThreadHasher extends PasswordHasher {
+
+		private final BCryptPasswordEncoder encoder;
+
+		RequestThreadHasher(BCryptPasswordEncoder encoder, ThreadPoolTaskExecutor executor,
+				PasswordHashingProperties properties) {
+			super(encoder, executor, properties, new SimpleMeterRegistry());
+			this.encoder = encoder;
+		}
+
+		@Override
+		public boolean matches(CharSequence rawPassword, String encodedPassword) {
+			return encoder.matches(rawPassword, encodedPassword);
+		}
+
+		@Override
+		public String encode(CharSequence rawPassword) {
+			return encoder.encode(rawPassword);
+		}
+	}
+
+	private record Result(long[] searchLatencies, int loginsOk, int loginsShed) {
+	}
+}
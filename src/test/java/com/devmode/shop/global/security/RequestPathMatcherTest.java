@@ -0,0 +1,51 @@
+package com.devmode.shop.global.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RequestPathMatcherTest {
+
+    private RequestPathMatcher matcher;
+
+    @BeforeEach
+    void setUp() {
+        matcher = RequestPathMatcher.compile(List.of(
+                new RequestPathMatcher.Rule("/api/users/login", "POST"),
+                new RequestPathMatcher.Rule("/api/products/*/price-history", "GET"),
+                new RequestPathMatcher.Rule("/swagger-ui/**", "get"),
+                new RequestPathMatcher.Rule("/**", "OPTIONS")
+        ));
+    }
+
+    @Test
+    @DisplayName("고정 경로는 메서드까지 일치해야 함")
+    void literalPathRequiresSameMethod() {
+        // when & then
+        assertThat(matcher.matches("POST", "/api/users/login")).isTrue();
+        assertThat(matcher.matches("GET", "/api/users/login")).isFalse();
+        assertThat(matcher.matches("POST", "/api/users/login/extra")).isFalse();
+    }
+
+    @Test
+    @DisplayName("와일드카드 패턴은 컴파일된 PathPattern 으로 확인")
+    void wildcardPatterns() {
+        // when & then
+        assertThat(matcher.matches("GET", "/api/products/123/price-history")).isTrue();
+        assertThat(matcher.matches("GET", "/api/products/123/456/price-history")).isFalse();
+        assertThat(matcher.matches("GET", "/swagger-ui/index.html")).isTrue();
+        assertThat(matcher.matches("DELETE", "/swagger-ui/index.html")).isFalse();
+    }
+
+    @Test
+    @DisplayName("OPTIONS /** 는 OPTIONS 요청만 제외")
+    void catchAllOnlyForConfiguredMethod() {
+        // when & then
+        assertThat(matcher.matches("OPTIONS", "/api/trends/search")).isTrue();
+        assertThat(matcher.matches("POST", "/api/trends/search")).isFalse();
+    }
+}
@@ -0,0 +1,81 @@
+package com.devmode.shop.global.security;
+
+import com.devmode.shop.global.config.properties.JwtKeySetProperties;
+import com.devmode.shop.global.config.properties.TokenCacheProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 요청 1건의 토큰 처리 비용 비교
+ * before: 호출마다 키/파서를 새로 만들고 필터(validate 2회) + getAuthentication + @CurrentUser 에서 4번 파싱
+ * after: 생성 시 만든 파서로 요청당 1번 검증하고 request attribute 로 재사용
+ * cached: 블랙리스트 확인까지 통과해 로컬 캐시에 있는 토큰 (해시 계산 + 맵 조회만)
+ * 실행: ./gradlew jmh -PjmhArgs="TokenAuthBenchmark -prof gc"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenAuthBenchmark {
+
+    private static final String KEY = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+
+    private TokenProvider tokenProvider;
+    private TokenProvider cachedTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setKey(KEY);
+        properties.setAccessTokenExpirationPeriodDay(86400000L);
+        properties.setRefreshTokenExpirationPeriodDay(1209600000L);
+        tokenProvider = new TokenProvider(properties, new JwtKeySet(properties, new JwtKeySetProperties()), new VerifiedTokenCache(new TokenCacheProperties()));
+        token = tokenProvider.createAccessToken("benchmark-user");
+
+        VerifiedTokenCache cache = new VerifiedTokenCache(new TokenCacheProperties());
+        cachedTokenProvider = new TokenProvider(properties, new JwtKeySet(properties, new JwtKeySetProperties()), cache);
+        cache.put(cachedTokenProvider.verify(token).orElseThrow());
+    }
+
+    @Benchmark
+    public String perRequestParsing() {
+        // 필터 validateToken, setAuthentication 의 validateToken, getAuthentication, @CurrentUser 의 getId
+        legacyClaims(token);
+        legacyClaims(token);
+        legacyClaims(token).get("id", String.class);
+        return legacyClaims(token).get("id", String.class);
+    }
+
+    @Benchmark
+    public String requestScopedVerification() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        // 필터, @CurrentUser 리졸버
+        tokenProvider.getAuthentication(tokenProvider.resolve(request).orElseThrow());
+        return tokenProvider.resolve(request).orElseThrow().id();
+    }
+
+    @Benchmark
+    public String cachedVerification() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        cachedTokenProvider.getAuthentication(cachedTokenProvider.resolve(request).orElseThrow());
+        return cachedTokenProvider.resolve(request).orElseThrow().id();
+    }
+
+    private static Claims legacyClaims(String token) {
+        return Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(KEY.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
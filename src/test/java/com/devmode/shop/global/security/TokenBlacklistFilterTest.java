@@ -0,0 +1,137 @@
+package com.devmode.shop.global.security;
+
+import com.devmode.shop.global.config.properties.TokenCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenBlacklistFilterTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private Cursor<TypedTuple<String>> indexCursor;
+
+    @Mock
+    private Cursor<String> legacyCursor;
+
+    private TokenCacheProperties properties;
+    private TokenBlacklistFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TokenCacheProperties();
+        properties.setBlacklistExpectedInsertions(1000L);
+        filter = new TokenBlacklistFilter(redisTemplate, properties);
+    }
+
+    @Test
+    @DisplayName("첫 재생성 전에는 모든 토큰에 '있을 수 있음'으로 응답해 Redis 로 확인하게 한다")
+    void answersMaybeBeforeFirstBuild() {
+        // when & then
+        assertThat(filter.mightBeBlacklisted("any-token")).isTrue();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("인덱스와 기존 BLACKLIST:* 키로 필터를 만들고, 목록에 없는 토큰은 음성으로 응답한다")
+    void rebuildLoadsIndexAndLegacyKeys() {
+        // given
+        givenIndex("revoked-a");
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(legacyCursor);
+        when(legacyCursor.hasNext()).thenReturn(true, false);
+        when(legacyCursor.next()).thenReturn("BLACKLIST:legacy-token");
+
+        // when
+        filter.rebuild();
+
+        // then
+        assertThat(filter.mightBeBlacklisted("revoked-a")).isTrue();
+        assertThat(filter.mightBeBlacklisted("legacy-token")).isTrue();
+        assertThat(filter.mightBeBlacklisted("clean-token")).isFalse();
+        verify(zSetOperations).removeRangeByScore(eq(TokenBlacklistFilter.INDEX_KEY), eq(0d), anyDouble());
+    }
+
+    @Test
+    @DisplayName("재생성 중에 전파된 폐기 해시도 새 필터에 합쳐진다")
+    void rebuildMergesHashesAddedDuringRebuild() {
+        // given (인덱스를 읽는 도중 다른 인스턴스의 폐기가 pub/sub 으로 도착)
+        givenIndex("revoked-a");
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(legacyCursor);
+        when(legacyCursor.hasNext()).thenAnswer(invocation -> {
+            filter.addHash(TokenHash.of("revoked-during-rebuild"));
+            return false;
+        });
+
+        // when
+        filter.rebuild();
+
+        // then
+        assertThat(filter.mightBeBlacklisted("revoked-during-rebuild")).isTrue();
+        assertThat(filter.mightBeBlacklisted("revoked-a")).isTrue();
+    }
+
+    @Test
+    @DisplayName("재생성 후 기록한 폐기 토큰은 인덱스에 만료 시각으로 저장되고 필터에 바로 반영된다")
+    void recordAddsToIndexAndFilter() {
+        // given
+        givenIndex(null);
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(legacyCursor);
+        when(legacyCursor.hasNext()).thenReturn(false);
+        filter.rebuild();
+
+        // when
+        filter.record("revoked-b", Duration.ofMinutes(5));
+
+        // then
+        assertThat(filter.mightBeBlacklisted("revoked-b")).isTrue();
+        verify(zSetOperations).add(eq(TokenBlacklistFilter.INDEX_KEY), eq(TokenHash.of("revoked-b")), anyDouble());
+    }
+
+    @Test
+    @DisplayName("필터를 끄면 재생성하지 않고 항상 Redis 로 확인한다")
+    void disabledFilterAlwaysAnswersMaybe() {
+        // given
+        properties.setBlacklistFilterEnabled(false);
+
+        // when
+        filter.rebuild();
+
+        // then
+        assertThat(filter.mightBeBlacklisted("clean-token")).isTrue();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    private void givenIndex(String token) {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.scan(eq(TokenBlacklistFilter.INDEX_KEY), any(ScanOptions.class))).thenReturn(indexCursor);
+        if (token == null) {
+            when(indexCursor.hasNext()).thenReturn(false);
+            return;
+        }
+        when(indexCursor.hasNext()).thenReturn(true, false);
+        when(indexCursor.next()).thenReturn(new DefaultTypedTuple<>(TokenHash.of(token), 0d));
+    }
+}
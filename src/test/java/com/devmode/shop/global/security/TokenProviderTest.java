@@ -8,6 +8,10 @@ import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.devmode.shop.global.config.properties.JwtKeySetProperties;
+import com.devmode.shop.global.config.properties.TokenCacheProperties;
 
 class TokenProviderTest {
 
@@ -19,11 +23,54 @@ class TokenProviderTest {
 		props.setAccessTokenExpirationPeriodDay(86400000L); // 1일을 밀리초로
 		props.setRefreshTokenExpirationPeriodDay(1209600000L); // 14일을 밀리초로
 
-		TokenProvider provider = new TokenProvider(props);
+		TokenProvider provider = new TokenProvider(props, new JwtKeySet(props, new JwtKeySetProperties()), new VerifiedTokenCache(new TokenCacheProperties()));
 		String token = provider.createAccessToken("testuser");
 		assertNotNull(token);
 		assertTrue(provider.validateToken(token));
 		assertEquals("testuser", provider.getId(token).orElse(null));
 		assertTrue(provider.getRemainingDuration(token).orElse(Duration.ZERO).toMillis() > 0);
 	}
+
+	@Test
+	@DisplayName("요청의 토큰은 한 번 검증한 결과를 재사용")
+	void resolveVerifiesOncePerRequest() {
+		JwtProperties props = new JwtProperties();
+		props.setKey("0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef");
+		props.setAccessTokenExpirationPeriodDay(86400000L);
+		props.setRefreshTokenExpirationPeriodDay(1209600000L);
+
+		TokenProvider provider = Mockito.spy(new TokenProvider(props, new JwtKeySet(props, new JwtKeySetProperties()), new VerifiedTokenCache(new TokenCacheProperties())));
+		String token = provider.createAccessToken("testuser");
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("Authorization", "Bearer " + token);
+
+		VerifiedToken first = provider.resolve(request).orElseThrow();
+		VerifiedToken second = provider.resolve(request).orElseThrow();
+
+		assertSame(first, second);
+		assertEquals("testuser", first.id());
+		assertTrue(first.isAccessToken());
+		Mockito.verify(provider, Mockito.times(1)).verify(token);
+	}
+
+	@Test
+	@DisplayName("다른 키로 서명한 토큰은 검증 실패")
+	void resolveRejectsTokenSignedWithOtherKey() {
+		JwtProperties props = new JwtProperties();
+		props.setKey("0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef");
+		props.setAccessTokenExpirationPeriodDay(86400000L);
+		props.setRefreshTokenExpirationPeriodDay(1209600000L);
+		JwtProperties otherProps = new JwtProperties();
+		otherProps.setKey("fedcba9876543210fedcba9876543210fedcba9876543210fedcba9876543210");
+		otherProps.setAccessTokenExpirationPeriodDay(86400000L);
+		otherProps.setRefreshTokenExpirationPeriodDay(1209600000L);
+
+		TokenProvider provider = new TokenProvider(props, new JwtKeySet(props, new JwtKeySetProperties()), new VerifiedTokenCache(new TokenCacheProperties()));
+		String forged = new TokenProvider(otherProps, new JwtKeySet(otherProps, new JwtKeySetProperties()), new VerifiedTokenCache(new TokenCacheProperties())).createAccessToken("testuser");
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.addHeader("Authorization", "Bearer " + forged);
+
+		assertTrue(provider.resolve(request).isEmpty());
+		assertFalse(provider.validateToken(forged));
+	}
 }
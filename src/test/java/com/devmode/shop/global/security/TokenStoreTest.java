@@ -0,0 +1,89 @@
+package com.devmode.shop.global.security;
+
+import com.devmode.shop.global.config.properties.JwtKeySetProperties;
+import com.devmode.shop.global.config.properties.TokenCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenStoreTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private TokenStore tokenStore;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        tokenStore = new TokenStore(redisTemplate);
+        JwtProperties properties = new JwtProperties();
+        properties.setKey("0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef");
+        properties.setAccessTokenExpirationPeriodDay(86400000L);
+        properties.setRefreshTokenExpirationPeriodDay(1209600000L);
+        token = new TokenProvider(properties, new JwtKeySet(properties, new JwtKeySetProperties()), new VerifiedTokenCache(new TokenCacheProperties()))
+                .createAccessToken("testuser");
+    }
+
+    @Test
+    @DisplayName("토큰 다이제스트를 키로 표식만 저장")
+    void markStoresDigestKeyAndMarker() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<String> value = ArgumentCaptor.forClass(String.class);
+
+        // when
+        tokenStore.mark("TOKEN_BLACKLIST", token, Duration.ofMinutes(30));
+
+        // then
+        verify(valueOperations).set(key.capture(), value.capture(), eq(Duration.ofMinutes(30)));
+        assertThat(key.getValue()).isEqualTo("TOKEN_BLACKLIST:" + TokenHash.of(token)).doesNotContain(token);
+        assertThat(TokenHash.of(token)).hasSize(43);
+
+        // 기존 BLACKLIST:<jwt> → <jwt> 대비 키+값 바이트
+        int legacyBytes = ("BLACKLIST:" + token).getBytes(StandardCharsets.UTF_8).length
+                + token.getBytes(StandardCharsets.UTF_8).length;
+        int compactBytes = key.getValue().getBytes(StandardCharsets.UTF_8).length
+                + value.getValue().getBytes(StandardCharsets.UTF_8).length;
+        assertThat(legacyBytes).isGreaterThan(compactBytes * 5);
+    }
+
+    @Test
+    @DisplayName("같은 토큰이면 표식 조회, 다른 토큰은 다른 키")
+    void isMarkedUsesSameDigestKey() {
+        // given
+        when(redisTemplate.hasKey("TOKEN_BLACKLIST:" + TokenHash.of(token))).thenReturn(true);
+
+        // when & then
+        assertThat(tokenStore.isMarked("TOKEN_BLACKLIST", token)).isTrue();
+        assertThat(TokenStore.key("TOKEN_BLACKLIST", token + "x")).isNotEqualTo(TokenStore.key("TOKEN_BLACKLIST", token));
+    }
+
+    @Test
+    @DisplayName("저장된 다이제스트와 토큰 비교")
+    void matchesDigest() {
+        // when & then
+        assertThat(TokenHash.matches(TokenHash.of(token), token)).isTrue();
+        assertThat(TokenHash.matches(TokenHash.of(token), token + "x")).isFalse();
+        assertThat(TokenHash.matches(null, token)).isFalse();
+    }
+}
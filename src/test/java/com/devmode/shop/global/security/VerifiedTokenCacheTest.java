@@ -0,0 +1,104 @@
+package com.devmode.shop.global.security;
+
+import com.devmode.shop.global.config.properties.TokenCacheProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTest {
+
+    private TokenCacheProperties properties;
+    private VerifiedTokenCache cache;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TokenCacheProperties();
+        properties.setMaxSize(100);
+        properties.setTtlSeconds(60L);
+        cache = new VerifiedTokenCache(properties);
+    }
+
+    @Test
+    @DisplayName("검증한 토큰을 해시 키로 보관하고 조회")
+    void putAndGet() {
+        // given
+        VerifiedToken token = token("token-a", Instant.now().plusSeconds(3600));
+
+        // when
+        cache.put(token);
+
+        // then
+        assertThat(cache.get("token-a")).contains(token);
+        assertThat(cache.get("token-b")).isEmpty();
+        assertThat(TokenHash.of("token-a")).doesNotContain("token-a").hasSize(43);
+    }
+
+    @Test
+    @DisplayName("토큰 만료가 TTL 보다 빠르면 토큰 만료 시각에 제거")
+    void expiresAtTokenExpiration() {
+        // given
+        cache.put(token("expired", Instant.now().minusSeconds(1)));
+        properties.setTtlSeconds(0L);
+        cache.put(token("no-ttl", Instant.now().plusSeconds(3600)));
+
+        // when & then
+        assertThat(cache.get("expired")).isEmpty();
+        assertThat(cache.get("no-ttl")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 전파된 폐기 해시로 제거")
+    void evictByPublishedHash() {
+        // given
+        cache.put(token("revoked", Instant.now().plusSeconds(3600)));
+        TokenRevocationListener listener = new TokenRevocationListener(cache);
+
+        // when
+        listener.onMessage(new DefaultMessage(
+                "token_revocation".getBytes(), TokenHash.of("revoked").getBytes()), null);
+
+        // then
+        assertThat(cache.get("revoked")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("블랙리스트 확인 후 폐기가 먼저 전파되면 뒤늦은 put 은 캐시하지 않음")
+    void putAfterRevocationIsIgnored() {
+        // given (검증을 통과한 직후 다른 인스턴스에서 폐기가 전파됨)
+        VerifiedToken token = token("revoked-late", Instant.now().plusSeconds(3600));
+        cache.evictHash(TokenHash.of("revoked-late"));
+
+        // when
+        cache.put(token);
+
+        // then
+        assertThat(cache.get("revoked-late")).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상한을 넘으면 일부를 비워 크기를 유지")
+    void boundedSize() {
+        // given
+        Instant expiration = Instant.now().plusSeconds(3600);
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            cache.put(token("token-" + i, expiration));
+        }
+
+        // then
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+        assertThat(cache.get("token-999")).isPresent();
+    }
+
+    private static VerifiedToken token(String raw, Instant expiration) {
+        return new VerifiedToken(raw, "user", TokenProvider.ACCESS_TOKEN_SUBJECT, expiration);
+    }
+}
@@ -0,0 +1,65 @@
+package com.devmode.shop.global.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("추가한 값은 항상 양성 (거짓 음성 없음)")
+    void noFalseNegatives() throws Exception {
+        // given
+        BloomFilter filter = BloomFilter.create(10_000, 0.001);
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(sha256("blacklisted-" + i));
+        }
+
+        // then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain(sha256("blacklisted-" + i))).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("거짓 양성 비율은 지정한 확률 수준")
+    void falsePositiveRateWithinBound() throws Exception {
+        // given
+        BloomFilter filter = BloomFilter.create(10_000, 0.001);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(sha256("blacklisted-" + i));
+        }
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(sha256("valid-" + i))) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        assertThat(falsePositives / 100_000d).isLessThan(0.003);
+        assertThat(filter.hashCount()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("빈 필터는 모두 음성")
+    void emptyFilterIsNegative() throws Exception {
+        // given
+        BloomFilter filter = BloomFilter.create(100, 0.01);
+
+        // when & then
+        assertThat(filter.mightContain(sha256("anything"))).isFalse();
+    }
+
+    private static byte[] sha256(String value) throws Exception {
+        return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+    }
+}